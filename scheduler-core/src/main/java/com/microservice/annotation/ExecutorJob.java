@@ -28,4 +28,19 @@ public @interface ExecutorJob {
      * destroy handler, invoked when executorJobHandler destroy
      */
     String destroy() default "";
+
+    /**
+     * worker threads of this handler, 0 uses executorJobConcurrency
+     */
+    int concurrency() default 0;
+
+    /**
+     * tasks waiting for a worker thread of this handler, -1 uses executorJobQueueSize
+     */
+    int queueSize() default -1;
+
+    /**
+     * what to do when workers and queue are full: ABORT, DISCARD_OLDEST, empty uses executorJobRejection
+     */
+    String rejection() default "";
 }
@@ -0,0 +1,48 @@
+package com.microservice.bean;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 执行器上一个任务处理器的负载, 随执行回写带给服务端
+ */
+@Data
+@NoArgsConstructor
+@Accessors(chain = true)
+public class JobHandlerLoad implements Serializable {
+
+    private static final long serialVersionUID = 5148275631926603291L;
+    private String jobHandler;
+    /**
+     * 执行线程数
+     */
+    private int concurrency;
+    /**
+     * 执行中的任务数
+     */
+    private int active;
+    /**
+     * 等待队列容量
+     */
+    private int queueCapacity;
+    /**
+     * 等待中的任务数
+     */
+    private int queued;
+    /**
+     * 累计拒绝的任务数
+     */
+    private long rejected;
+
+    /**
+     * 执行线程与等待队列都已满, 新任务会被拒绝
+     */
+    public boolean saturated() {
+        return active >= concurrency && queued >= queueCapacity;
+    }
+}
@@ -1,6 +1,9 @@
 package com.microservice.bean;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.microservice.enums.ExecutorLoadBalanceEnum;
+import com.microservice.enums.JobRejectionEnum;
+import com.microservice.enums.ProtocolCompressionEnum;
 import lombok.Data;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -30,7 +33,26 @@ public class SchedulerConfigurationProperties implements Serializable {
      * Server boot port
      */
     private int serverPort = 9999;
-    private int serverThreads = 128;
+    /**
+     * Event loop threads accepting executor connections
+     */
+    private int serverBossThreads = 1;
+    /**
+     * Event loop threads serving executor connections, 0 means twice the number of cores
+     */
+    private int serverThreads = 0;
+    /**
+     * Pending connection queue of the executor server, the kernel caps it at net.core.somaxconn
+     */
+    private int serverBacklog = 1024;
+    /**
+     * Event loop threads of the executor client, it keeps a single connection to the cluster
+     */
+    private int clientThreads = 1;
+    /**
+     * Executor server and client use the linux native epoll transport when it is available, otherwise nio
+     */
+    private boolean nativeTransport = true;
 
     /**
      * Cluster registered address, ip:port;ip:port...
@@ -58,14 +80,118 @@ public class SchedulerConfigurationProperties implements Serializable {
      * Unit second
      */
     private long clusterCronTaskScanningCycle = 1;
+    /**
+     * Missed cron fires older than this are dropped instead of replayed, Unit second
+     */
+    private long clusterCronMisfireThreshold = 60;
     /**
      * Unit second
      */
     private long clusterGivenTaskScanningCycle = 5;
+    /**
+     * Page size of the due given task query
+     */
+    private int clusterGivenTaskScanningBatchSize = 500;
+    /**
+     * Pending given tasks are claimed from a redis sorted set instead of the MySQL due-time index
+     */
+    private boolean clusterGivenTaskRedisQueue = false;
     /**
      * Unit second
      */
     private long clusterActuatorStatusScanningCycle = 10;
+    /**
+     * Tasks are dispatched through per-actuator redis streams with consumer group acknowledgements instead of pub/sub
+     */
+    private boolean clusterDispatchStream = false;
+    /**
+     * Approximate maximum length of each dispatch stream
+     */
+    private long clusterDispatchStreamMaxLen = 100000;
+    /**
+     * Unacknowledged dispatch stream entries idle longer than this are reclaimed and delivered again, Unit second
+     */
+    private long clusterDispatchStreamPendingTimeout = 60;
+    /**
+     * Unit millisecond
+     */
+    private long clusterDispatchStreamPollInterval = 200;
+    /**
+     * Shards that have not called back this long after dispatch, on top of the task's own timeout, are failed so the task does not stay executing, Unit second
+     */
+    private long clusterShardTimeout = 3600;
+    /**
+     * Maximum number of compiled cron expressions kept in memory
+     */
+    private long cronExpressionCacheSize = 10000;
+    /**
+     * Tables larger than this are not kept in the in-process entity cache and are read from redis every time
+     */
+    private int entityCacheLocalMaxSize = 100000;
+    /**
+     * In-process entity cache is revalidated against redis after this even without an invalidation message, Unit second
+     */
+    private long entityCacheLocalExpire = 30;
+    /**
+     * Executors register and exchange scheduler messages as typed protobuf payloads, disable when connecting to servers that only accept json content
+     */
+    private boolean protocolTypedPayload = true;
+    /**
+     * Compression of typed messages between executor and server: NONE, LZ4, SNAPPY. Executors request it at registration, a server set to NONE refuses compression
+     */
+    private ProtocolCompressionEnum protocolCompression = ProtocolCompressionEnum.NONE;
+    /**
+     * Only messages larger than this are compressed once compression is negotiated, Unit byte
+     */
+    private int protocolCompressionThreshold = 1024;
+    /**
+     * How a task picks one of the connected instances of the same executor app: ROUND_ROBIN, LEAST_IN_FLIGHT, CONSISTENT_HASH
+     */
+    private ExecutorLoadBalanceEnum executorLoadBalance = ExecutorLoadBalanceEnum.ROUND_ROBIN;
+    /**
+     * Maximum tasks sent to one executor instance and not yet called back, 0 means unlimited
+     */
+    private int executorMaxInFlight = 100;
+    /**
+     * Tasks waiting for one executor instance beyond the in-flight limit, further tasks are kept in the executor's redis stream
+     */
+    private int executorPendingQueueSize = 1000;
+    /**
+     * Executor channel stops taking tasks when its outbound buffer exceeds this, Unit byte
+     */
+    private int executorWriteBufferHighWaterMark = 64 * 1024;
+    /**
+     * Executor channel takes tasks again when its outbound buffer drops below this, Unit byte
+     */
+    private int executorWriteBufferLowWaterMark = 32 * 1024;
+    /**
+     * Executor channels flush at most once per this many writes while reading, and once per event loop turn otherwise, 0 flushes every write
+     */
+    private int executorFlushConsolidation = 256;
+    /**
+     * Maximum tasks carried in one batch frame to an executor instance that accepts batches, 1 sends every task in its own frame
+     */
+    private int executorDispatchBatchSize = 64;
+    /**
+     * Executor waits up to this long to coalesce task callbacks into one batch frame to a server that accepts batches, 0 sends every callback at once, Unit millisecond
+     */
+    private int executorCallbackLinger = 5;
+    /**
+     * Maximum task callbacks carried in one batch frame, a full batch is sent without waiting for the linger, 1 sends every callback in its own frame
+     */
+    private int executorCallbackBatchSize = 64;
+    /**
+     * Worker threads of one @ExecutorJob handler on the executor, unless the annotation sets concurrency
+     */
+    private int executorJobConcurrency = 4;
+    /**
+     * Tasks waiting for a worker thread of one @ExecutorJob handler, unless the annotation sets queueSize
+     */
+    private int executorJobQueueSize = 100;
+    /**
+     * What a handler does when its workers and queue are full, unless the annotation sets rejection: ABORT, DISCARD_OLDEST
+     */
+    private JobRejectionEnum executorJobRejection = JobRejectionEnum.ABORT;
 
     /**
      * Client read timeout, Unit second
@@ -0,0 +1,37 @@
+package com.microservice.bean;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 终止执行器上正在执行的任务
+ */
+@Data
+@NoArgsConstructor
+@Accessors(chain = true)
+public class SchedulerTaskKill implements Serializable {
+
+    private static final long serialVersionUID = 3329214896520730518L;
+    /**
+     * 执行器应用
+     */
+    private String actuatorKey;
+    /**
+     * 是表达式任务
+     */
+    private boolean cron;
+    /**
+     * 表达式任务或指定时间任务的主键
+     */
+    private Integer taskId;
+    private String jobHandler;
+    /**
+     * 终止原因, 随回写记入调度日志
+     */
+    private String reason;
+}
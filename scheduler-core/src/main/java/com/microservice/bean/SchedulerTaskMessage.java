@@ -30,6 +30,10 @@ public class SchedulerTaskMessage implements Serializable {
      * cron 表达式执行
      */
     private String schedulerCron;
+    /**
+     * cron 本次计划触发时间, epoch millis
+     */
+    private long schedulerFireTime;
     /**
      * 特定执行时间
      */
@@ -56,6 +60,23 @@ public class SchedulerTaskMessage implements Serializable {
      * 执行参数
      */
     private String jobHandlerParam;
+    /**
+     * 通过 redis stream 指派时的条目 id, 执行器回写时原样带回, 用于确认条目
+     */
+    private String dispatchId;
+    /**
+     * 分片广播时本实例的分片序号, 从 0 开始
+     */
+    private int shardIndex;
+    /**
+     * 分片广播时的分片总数, 即在线实例数; 0: 未分片
+     */
+    private int shardTotal;
+
+    /**
+     * 执行器回写时带回该任务处理器的负载
+     */
+    private JobHandlerLoad handlerLoad;
 
     private SchedulerTaskCronRequestDto taskCronDto;
     private SchedulerTaskGivenRequestDto taskGivenDto;
@@ -0,0 +1,117 @@
+package com.microservice.client;
+
+import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.utils.MessageProtocolCodec;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 执行结果批量回写
+ * <p>
+ * 服务端在注册确认中声明接受批量回写后, 同一连接上的回写先放入待发送列表, 第一条回写到达后最多等待 executorCallbackLinger 毫秒,
+ * 攒满 executorCallbackBatchSize 条时立即发送; 在连接的 event loop 中合成一帧 TaskCallbackBatch, 服务端一个事务处理一批.
+ * json 回写、旧版本服务端、linger 为 0 时逐条发送
+ */
+@Component
+@Slf4j
+public class ExecutorCallbackBatcher {
+
+    /**
+     * 连接上等待合并发送的回写
+     */
+    private static final AttributeKey<Pending> PENDING = AttributeKey.valueOf("schedulerPendingCallbacks");
+
+    @Autowired
+    private SchedulerConfigurationProperties properties;
+
+    /**
+     * 回写执行结果, 可在任意线程调用
+     *
+     * @param channel
+     * @param task
+     * @param typed   是否使用类型化载荷回写
+     */
+    public void send(Channel channel, SchedulerTaskMessage task, boolean typed) {
+        int linger = properties.getExecutorCallbackLinger();
+        int batchSize = properties.getExecutorCallbackBatchSize();
+        if (!typed || linger <= 0 || batchSize <= 1 || !MessageProtocolCodec.batch(channel)) {
+            channel.writeAndFlush(MessageProtocolCodec.callbackRequest(task, typed));
+            return;
+        }
+
+        Pending pending = pending(channel);
+        boolean full;
+        boolean schedule;
+        synchronized (pending) {
+            pending.tasks.add(task);
+            full = pending.tasks.size() >= batchSize;
+            schedule = !full && !pending.scheduled;
+            if (schedule) {
+                pending.scheduled = true;
+            }
+        }
+        if (full) {
+            channel.eventLoop().execute(() -> flush(channel, pending, batchSize));
+        } else if (schedule) {
+            channel.eventLoop().schedule(() -> flush(channel, pending, batchSize), linger, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Pending pending(Channel channel) {
+        Pending pending = channel.attr(PENDING).get();
+        if (pending == null) {
+            Pending created = new Pending();
+            pending = channel.attr(PENDING).setIfAbsent(created);
+            if (pending == null) {
+                pending = created;
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * 取出全部待发送的回写, 超过批量上限时拆成多帧, 只有一条时按单条回写发送
+     */
+    private static void flush(Channel channel, Pending pending, int batchSize) {
+        List<SchedulerTaskMessage> tasks;
+        synchronized (pending) {
+            pending.scheduled = false;
+            if (pending.tasks.isEmpty()) {
+                return;
+            }
+            tasks = pending.tasks;
+            pending.tasks = new ArrayList<>();
+        }
+
+        if (tasks.size() == 1) {
+            channel.writeAndFlush(MessageProtocolCodec.callbackRequest(tasks.get(0), true));
+            return;
+        }
+        for (int from = 0; from < tasks.size(); from += batchSize) {
+            List<SchedulerTaskMessage> batch = tasks.subList(from, Math.min(tasks.size(), from + batchSize));
+            channel.write(MessageProtocolCodec.callbackBatchRequest(batch));
+        }
+        channel.flush();
+        log.info(">>> 客户端批量回写执行结果, 回写数: {}", tasks.size());
+    }
+
+    private static class Pending {
+
+        private List<SchedulerTaskMessage> tasks = new ArrayList<>();
+
+        /**
+         * 已安排 linger 到期发送
+         */
+        private boolean scheduled;
+    }
+}
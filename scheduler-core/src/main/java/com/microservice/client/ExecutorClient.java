@@ -5,13 +5,14 @@ import com.microservice.bean.SchedulerConfigurationProperties;
 import com.microservice.handler.ExecutorJobManagerHandler;
 import com.microservice.handler.retry.RetryPolicy;
 import com.microservice.redis.RedisDefaultClientHandler;
+import com.microservice.utils.NettyTransportUtils;
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import lombok.Data;
@@ -81,13 +82,19 @@ public class ExecutorClient {
         if (Objects.isNull(this.retryPolicy)) {
             throw new RuntimeException("RetryPolicy class is null...");
         }
-        group = Objects.nonNull(group) ? group : new NioEventLoopGroup();
+        // 重连时沿用已创建的 group, 传输类型与 group 保持一致
+        boolean epoll = Objects.nonNull(group) ? group instanceof EpollEventLoopGroup
+                : NettyTransportUtils.epoll(properties.isNativeTransport());
+        group = Objects.nonNull(group) ? group
+                : NettyTransportUtils.eventLoopGroup(epoll, properties.getClientThreads(), "scheduler-client");
 
         try {
             bootstrap = new Bootstrap();
             bootstrap.group(group)
-                    .channel(NioSocketChannel.class)
+                    .channel(NettyTransportUtils.channelClass(epoll))
                     .option(ChannelOption.SO_KEEPALIVE, true)
+                    .option(ChannelOption.TCP_NODELAY, true)
+                    .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                     .handler(new LoggingHandler(LogLevel.INFO))
                     .handler(new ExecutorClientChannelInitializer(this));
 
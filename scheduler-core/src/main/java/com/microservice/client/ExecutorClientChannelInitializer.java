@@ -1,6 +1,8 @@
 package com.microservice.client;
 
+import com.microservice.bean.SchedulerConfigurationProperties;
 import com.microservice.proto.MessageProtocolPoJo;
+import com.microservice.utils.ApplicationContextUtil;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
@@ -8,8 +10,11 @@ import io.netty.handler.codec.protobuf.ProtobufDecoder;
 import io.netty.handler.codec.protobuf.ProtobufEncoder;
 import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
 import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Objects;
+
 /**
  * @author zhangwei
  * @date 2020-09-19
@@ -34,20 +39,30 @@ public class ExecutorClientChannelInitializer extends ChannelInitializer<SocketC
     protected void initChannel(SocketChannel ch) throws Exception {
 
         ChannelPipeline pipeline = ch.pipeline();
+        // 合并刷新: 一次读取中产生的回写在读取完成后一起刷新
+        SchedulerConfigurationProperties properties = ApplicationContextUtil.getBean(SchedulerConfigurationProperties.class);
+        int flushConsolidation = Objects.isNull(properties) ? 0 : properties.getExecutorFlushConsolidation();
+        if (flushConsolidation > 0) {
+            pipeline.addLast(new FlushConsolidationHandler(flushConsolidation));
+        }
         pipeline.addLast(new ReconnectHandler(executorClient));
         pipeline.addLast(new ProtobufVarint32LengthFieldPrepender());
         pipeline.addLast(new ProtobufVarint32FrameDecoder());
         pipeline.addLast(new ProtobufEncoder());
         pipeline.addLast(new ProtobufDecoder(MessageProtocolPoJo.MessageProtocol.getDefaultInstance()));
+        int compressionThreshold = Objects.isNull(properties) ? 1024 : properties.getProtocolCompressionThreshold();
+        pipeline.addLast(new ProtocolCompressionHandler(compressionThreshold));
         pipeline.addLast(new ExecutorClientHandler());
 
         log.info("----------------------------------------ExecutorClientChannelInitializer----------------------------------------");
+        log.info("addLast => {}, explicitFlushAfterFlushes: {}", FlushConsolidationHandler.class.getSimpleName(), flushConsolidation);
         log.info("addLast => {}", ReconnectHandler.class.getSimpleName());
         log.info("addLast => {}", ProtobufVarint32LengthFieldPrepender.class.getSimpleName());
         log.info("addLast => {}", ProtobufVarint32FrameDecoder.class.getSimpleName());
         log.info("addLast => {}", ProtobufEncoder.class.getSimpleName());
         log.info("addLast => {}", ProtobufDecoder.class.getSimpleName());
         log.info("addLast => {}", MessageProtocolPoJo.MessageProtocol.class.getSimpleName());
+        log.info("addLast => {}, threshold: {}", ProtocolCompressionHandler.class.getSimpleName(), compressionThreshold);
         log.info("----------------------------------------ExecutorClientChannelInitializer----------------------------------------");
     }
 }
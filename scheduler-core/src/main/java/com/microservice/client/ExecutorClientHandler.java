@@ -1,13 +1,15 @@
 package com.microservice.client;
 
 import com.microservice.bean.*;
+import com.microservice.enums.ProtocolCompressionEnum;
 import com.microservice.handler.ExecutorJobManagerHandler;
 import com.microservice.proto.MessageProtocolPoJo;
 import com.microservice.protocol.ActuatorRequest;
 import com.microservice.utils.ApplicationContextUtil;
 import com.microservice.utils.JsonUtils;
+import com.microservice.utils.MessageProtocolCodec;
 import com.microservice.utils.PingPongUtils;
-import com.microservice.utils.ProtoUtils;
+import com.microservice.utils.ProtocolCompressionUtils;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
@@ -27,6 +29,8 @@ public class ExecutorClientHandler extends SimpleChannelInboundHandler<MessagePr
 
     private int count;
 
+    private ProtocolDispatcher protocolDispatcher;
+
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
         log.info("------------------------ client channelActive ------------------------");
@@ -38,7 +42,7 @@ public class ExecutorClientHandler extends SimpleChannelInboundHandler<MessagePr
             // 自动注册执行器
             executorJobHandler.registerExecutor(channel, properties);
         } finally {
-            // 自动初始化 executorJob 注解任务
+            // 自动初始化 executorJob 注解任务, 启动时已注册过, 重连时直接返回
             executorJobHandler.initExecutorJobHandlerMethodRepository();
             ApplicationContext applicationContext = ApplicationContextUtil.APPLICATION_CONTEXT;
             assert applicationContext != null;
@@ -54,19 +58,28 @@ public class ExecutorClientHandler extends SimpleChannelInboundHandler<MessagePr
         String content = messageProtocol.getContent();
         Channel channel = ctx.channel();
 
-        if (Objects.deepEquals(content, PingPongUtils.PING)) {
+        if (messageProtocol.hasHeartbeat() && messageProtocol.getHeartbeat().getPong()) {
+            // 服务端确认了注册: 请求的压缩方式与批量回写
+            if (messageProtocol.getHeartbeat().getCompression() != MessageProtocolPoJo.Compression.NONE) {
+                ProtocolCompressionUtils.mark(channel, ProtocolCompressionEnum.of(messageProtocol.getHeartbeat().getCompression()));
+            }
+            MessageProtocolCodec.markBatchCallback(channel, messageProtocol);
+            return;
+        }
+
+        if (MessageProtocolCodec.isPing(messageProtocol)) {
             // 1. 心跳检测，直接回复即可，无需其它处理
-            pong(channel);
+            pong(channel, messageProtocol.hasHeartbeat());
             return;
         }
 
         String protocolType = messageProtocol.getProtocol();
         if (Objects.nonNull(protocolType) && StringUtils.isNotBlank(protocolType)) {
             // 2. 存在协议，使用协议处理机制
-            ApplicationContext applicationContext = ApplicationContextUtil.APPLICATION_CONTEXT;
-            assert applicationContext != null;
-            BaseProtocol protocol = ProtoUtils.protocol(protocolType, applicationContext);
-            protocol.process(messageProtocol, channel);
+            if (Objects.isNull(protocolDispatcher)) {
+                protocolDispatcher = ApplicationContextUtil.getBean(ProtocolDispatcher.class);
+            }
+            protocolDispatcher.dispatch(messageProtocol, channel);
         }
 
 //        if (!StringUtils.contains(content, PingPongUtils.PONG)) {
@@ -120,12 +133,8 @@ public class ExecutorClientHandler extends SimpleChannelInboundHandler<MessagePr
         log.info("------------------------ client channelWritabilityChanged ------------------------");
     }
 
-    private void pong(Channel channel) {
-        MessageProtocolPoJo.MessageProtocol message = MessageProtocolPoJo.MessageProtocol
-                .newBuilder()
-                .setLen(PingPongUtils.PONG.getBytes(PingPongUtils.CHARSET).length)
-                .setContent(PingPongUtils.PONG)
-                .build();
+    private void pong(Channel channel, boolean typed) {
+        MessageProtocolPoJo.MessageProtocol message = MessageProtocolCodec.pong(typed);
         channel.writeAndFlush(message);
     }
 }
@@ -0,0 +1,34 @@
+package com.microservice.client;
+
+import com.microservice.proto.MessageProtocolPoJo;
+import com.microservice.utils.ProtocolCompressionUtils;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageCodec;
+
+import java.util.List;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p>
+ * 消息压缩, 位于 protobuf 编解码与业务处理之间:
+ * 收到的压缩消息解压后交给业务处理; 发出的消息按连接协商好的压缩方式, 超过阈值时压缩
+ */
+public class ProtocolCompressionHandler extends MessageToMessageCodec<MessageProtocolPoJo.MessageProtocol, MessageProtocolPoJo.MessageProtocol> {
+
+    private final int threshold;
+
+    public ProtocolCompressionHandler(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, MessageProtocolPoJo.MessageProtocol msg, List<Object> out) throws Exception {
+        out.add(ProtocolCompressionUtils.compress(msg, ProtocolCompressionUtils.compression(ctx.channel()), threshold));
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, MessageProtocolPoJo.MessageProtocol msg, List<Object> out) throws Exception {
+        out.add(ProtocolCompressionUtils.decompress(msg));
+    }
+}
@@ -0,0 +1,104 @@
+package com.microservice.client;
+
+import com.microservice.enums.ProtocolStausEnum;
+import com.microservice.proto.MessageProtocolPoJo;
+import com.microservice.utils.ProtoUtils;
+import com.microservice.utils.ProtocolCompressionUtils;
+import io.netty.channel.Channel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 协议分发表
+ * <p>
+ * 启动时将当前应用中的协议处理 bean 按 {@link ProtocolStausEnum#getId()} 放入数组, 收到消息时按 protocolId 下标取出,
+ * 不再每条消息通过 ApplicationContext 按名称查找 bean;
+ * 旧版本只发送协议名称, 按名称从启动时建好的表中查找
+ */
+@Component
+@Slf4j
+public class ProtocolDispatcher {
+
+    @Resource
+    private ApplicationContext applicationContext;
+
+    private BaseProtocol[] protocols = new BaseProtocol[0];
+    private Map<String, BaseProtocol> protocolNames = Collections.emptyMap();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        int max = Arrays.stream(ProtocolStausEnum.values()).mapToInt(ProtocolStausEnum::getId).max().orElse(0);
+        BaseProtocol[] table = new BaseProtocol[max + 1];
+        Map<String, BaseProtocol> names = new HashMap<>(16);
+
+        for (ProtocolStausEnum protocol : ProtocolStausEnum.values()) {
+            // 服务端与执行器各自只有部分协议的处理
+            String beanName = ProtoUtils.protoToClass(protocol.name());
+            if (!applicationContext.containsBean(beanName)) {
+                continue;
+            }
+            Object bean = applicationContext.getBean(beanName);
+            if (!(bean instanceof BaseProtocol)) {
+                continue;
+            }
+            table[protocol.getId()] = (BaseProtocol) bean;
+            names.put(protocol.name(), (BaseProtocol) bean);
+        }
+
+        this.protocols = table;
+        this.protocolNames = names;
+        log.info(">>> 协议分发表初始化完成, 协议: {}", names.keySet());
+    }
+
+    /**
+     * 查找协议处理, 未知协议返回 null
+     *
+     * @param messageProtocol
+     * @return
+     */
+    public BaseProtocol find(MessageProtocolPoJo.MessageProtocol messageProtocol) {
+        int id = messageProtocol.getProtocolId();
+        BaseProtocol protocol = id > 0 && id < protocols.length
+                ? protocols[id]
+                : protocolNames.get(messageProtocol.getProtocol());
+        if (Objects.isNull(protocol)) {
+            rejectedCount.increment();
+        }
+        return protocol;
+    }
+
+    /**
+     * 处理消息, 未知协议直接丢弃
+     *
+     * @param messageProtocol
+     * @param channel
+     * @return 是否找到协议处理
+     */
+    public boolean dispatch(MessageProtocolPoJo.MessageProtocol messageProtocol, Channel channel) {
+        BaseProtocol protocol = this.find(messageProtocol);
+        if (Objects.isNull(protocol)) {
+            log.warn(">>> 协议: {}({}), 不存在", messageProtocol.getProtocol(), messageProtocol.getProtocolId());
+            return false;
+        }
+        protocol.process(messageProtocol, channel);
+        return true;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("protocols", new TreeSet<>(protocolNames.keySet()));
+        map.put("rejectedCount", rejectedCount.sum());
+        map.put("compression", ProtocolCompressionUtils.stats());
+        return map;
+    }
+}
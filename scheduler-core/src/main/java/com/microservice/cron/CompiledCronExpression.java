@@ -0,0 +1,439 @@
+package com.microservice.cron;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.TreeSet;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-02
+ * <p> 编译后的 cron 表达式
+ * <p>
+ * 由 {@link CronExpression} 解析结果编译而来, 秒/分/时使用 long 位掩码, 日/月/周使用 int 位掩码,
+ * 年份使用有序数组. 计算下次触发时间时只做整数运算, 不创建 Calendar/Date 等任何对象,
+ * 实例不可变, 可以在多个扫描线程之间共享.
+ * <p>
+ * 'nW' 的 n 大于 28 时, 目标日在短月份中不存在, CronExpression 的结果取决于从哪一天开始查找,
+ * 这类表达式直接使用 {@link CronExpression#getTimeAfter(Date)}, 保证两者结果一致
+ */
+public final class CompiledCronExpression {
+
+    /**
+     * 没有下次触发时间
+     */
+    public static final long NO_NEXT_FIRE_TIME = -1L;
+
+    private static final long SECOND_MILLIS = 1000L;
+    private static final long MINUTE_MILLIS = 60 * SECOND_MILLIS;
+    private static final long HOUR_MILLIS = 60 * MINUTE_MILLIS;
+    private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+
+    /**
+     * 本地时间换算 UTC 时的探测窗口, 需要覆盖最大的夏令时偏移
+     */
+    private static final long OFFSET_PROBE_MILLIS = 6 * HOUR_MILLIS;
+
+    private final String cronExpression;
+    private final TimeZone timeZone;
+
+    private final long secondMask;
+    private final long minuteMask;
+    private final long hourMask;
+    /**
+     * bit 1 ~ 31
+     */
+    private final int dayOfMonthMask;
+    /**
+     * bit 1 ~ 12
+     */
+    private final int monthMask;
+    /**
+     * bit 1 ~ 7, 1: SUN ... 7: SAT
+     */
+    private final int dayOfWeekMask;
+    private final int[] years;
+
+    private final int firstSecond;
+    private final int firstMinute;
+
+    /**
+     * true: 使用 day-of-month 匹配, false: 使用 day-of-week 匹配
+     */
+    private final boolean dayOfMonthSpec;
+    private final boolean lastDayOfMonth;
+    private final int lastDayOffset;
+    private final boolean nearestWeekday;
+    private final boolean lastDayOfWeek;
+    private final int nthDayOfWeek;
+    /**
+     * 'W', 'L', '#' 只使用第一个值
+     */
+    private final int firstDayOfMonth;
+    private final int firstDayOfWeek;
+
+    /**
+     * 不能编译的表达式, 其余时为 null
+     */
+    private final CronExpression fallback;
+
+    public CompiledCronExpression(CronExpression expression) {
+        this.cronExpression = expression.getCronExpression();
+        this.timeZone = (TimeZone) expression.getTimeZone().clone();
+
+        this.secondMask = toLongMask(expression.seconds, 59);
+        this.minuteMask = toLongMask(expression.minutes, 59);
+        this.hourMask = toLongMask(expression.hours, 23);
+        this.dayOfMonthMask = toIntMask(expression.daysOfMonth, 1, 31);
+        this.monthMask = toIntMask(expression.months, 1, 12);
+        this.dayOfWeekMask = toIntMask(expression.daysOfWeek, 1, 7);
+        this.years = toYears(expression.years);
+
+        this.firstSecond = Long.numberOfTrailingZeros(secondMask);
+        this.firstMinute = Long.numberOfTrailingZeros(minuteMask);
+
+        this.dayOfMonthSpec = !expression.daysOfMonth.contains(CronExpression.NO_SPEC);
+        this.lastDayOfMonth = expression.lastdayOfMonth;
+        this.lastDayOffset = expression.lastdayOffset;
+        this.nearestWeekday = expression.nearestWeekday;
+        this.lastDayOfWeek = expression.lastdayOfWeek;
+        this.nthDayOfWeek = expression.nthdayOfWeek;
+        this.firstDayOfMonth = dayOfMonthMask == 0 ? 0 : Integer.numberOfTrailingZeros(dayOfMonthMask);
+        this.firstDayOfWeek = dayOfWeekMask == 0 ? 0 : Integer.numberOfTrailingZeros(dayOfWeekMask);
+        this.fallback = dayOfMonthSpec && nearestWeekday && !lastDayOfMonth && firstDayOfMonth > 28
+                ? new CronExpression(expression) : null;
+    }
+
+    /**
+     * 编译表达式, 使用默认时区
+     *
+     * @param cronExpression
+     * @return
+     * @throws ParseException
+     */
+    public static CompiledCronExpression compile(String cronExpression) throws ParseException {
+        return new CompiledCronExpression(new CronExpression(cronExpression));
+    }
+
+    /**
+     * 编译表达式, 使用指定时区
+     *
+     * @param cronExpression
+     * @param timeZone
+     * @return
+     * @throws ParseException
+     */
+    public static CompiledCronExpression compile(String cronExpression, TimeZone timeZone) throws ParseException {
+        CronExpression expression = new CronExpression(cronExpression);
+        if (timeZone != null) {
+            expression.setTimeZone(timeZone);
+        }
+        return new CompiledCronExpression(expression);
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public TimeZone getTimeZone() {
+        return (TimeZone) timeZone.clone();
+    }
+
+    /**
+     * 指定时间(精确到秒)是否满足表达式, 毫秒忽略
+     *
+     * @param epochMillis
+     * @return
+     */
+    public boolean isSatisfiedBy(long epochMillis) {
+        long second = Math.floorDiv(epochMillis, SECOND_MILLIS) * SECOND_MILLIS;
+        return nextFireTime(second - SECOND_MILLIS) == second;
+    }
+
+    /**
+     * 枚举半开区间 (afterEpochMillis, untilEpochMillis] 内的所有触发时间, 按时间升序写入 out
+     *
+     * @param afterEpochMillis 开始时间(不包含)
+     * @param untilEpochMillis 结束时间(包含)
+     * @param out              触发时间, 最多写入 out.length 个
+     * @return 写入的触发时间个数
+     */
+    public int fireTimesBetween(long afterEpochMillis, long untilEpochMillis, long[] out) {
+        int count = 0;
+        long fireTime = nextFireTime(afterEpochMillis);
+        while (fireTime != NO_NEXT_FIRE_TIME && fireTime <= untilEpochMillis && count < out.length) {
+            out[count++] = fireTime;
+            fireTime = nextFireTime(fireTime);
+        }
+        return count;
+    }
+
+    /**
+     * 返回给定时间 <I>之后</I> 的下次触发时间
+     *
+     * @param afterEpochMillis 开始时间, epoch millis
+     * @return 下次触发时间 epoch millis, 没有返回 {@link #NO_NEXT_FIRE_TIME}
+     */
+    public long nextFireTime(long afterEpochMillis) {
+        if (fallback != null) {
+            Date next = fallback.getTimeAfter(new Date(afterEpochMillis));
+            return next == null ? NO_NEXT_FIRE_TIME : next.getTime();
+        }
+
+        // 与 CronExpression.getTimeAfter 一致: 先前进一秒, 再舍去毫秒
+        long utc = Math.floorDiv(afterEpochMillis + SECOND_MILLIS, SECOND_MILLIS) * SECOND_MILLIS;
+        long local = utc + timeZone.getOffset(utc);
+
+        while (true) {
+            long epochDay = Math.floorDiv(local, DAY_MILLIS);
+            int millisOfDay = (int) (local - epochDay * DAY_MILLIS);
+
+            // 年 月 日 ...................................................
+            long z = epochDay + 719468;
+            long era = Math.floorDiv(z, 146097);
+            int doe = (int) (z - era * 146097);
+            int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+            int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+            int mp = (5 * doy + 2) / 153;
+            int day = doy - (153 * mp + 2) / 5 + 1;
+            int month = mp < 10 ? mp + 3 : mp - 9;
+            int year = (int) (yoe + era * 400) + (month <= 2 ? 1 : 0);
+
+            int nextYear = nextYear(year);
+            if (nextYear < 0) {
+                return NO_NEXT_FIRE_TIME;
+            }
+            if (nextYear != year) {
+                local = daysFromCivil(nextYear, 1, 1) * DAY_MILLIS;
+                continue;
+            }
+
+            int nextMonth = nextBit(monthMask, month);
+            if (nextMonth < 0) {
+                local = daysFromCivil(year + 1, 1, 1) * DAY_MILLIS;
+                continue;
+            }
+            if (nextMonth != month) {
+                local = daysFromCivil(year, nextMonth, 1) * DAY_MILLIS;
+                continue;
+            }
+
+            if (!dayMatches(year, month, day, epochDay)) {
+                local = (epochDay + 1) * DAY_MILLIS;
+                continue;
+            }
+
+            // 时 分 秒 ...................................................
+            int hour = millisOfDay / (int) HOUR_MILLIS;
+            int minute = millisOfDay / (int) MINUTE_MILLIS % 60;
+            int second = millisOfDay / (int) SECOND_MILLIS % 60;
+
+            int h = nextBit(hourMask, hour);
+            if (h < 0) {
+                local = (epochDay + 1) * DAY_MILLIS;
+                continue;
+            }
+            int m;
+            int s;
+            if (h != hour) {
+                m = firstMinute;
+                s = firstSecond;
+            } else {
+                m = nextBit(minuteMask, minute);
+                if (m < 0) {
+                    h = nextBit(hourMask, hour + 1);
+                    m = firstMinute;
+                    s = firstSecond;
+                } else if (m != minute) {
+                    s = firstSecond;
+                } else {
+                    s = nextBit(secondMask, second);
+                    if (s < 0) {
+                        m = nextBit(minuteMask, minute + 1);
+                        if (m < 0) {
+                            h = nextBit(hourMask, hour + 1);
+                            m = firstMinute;
+                        }
+                        s = firstSecond;
+                    }
+                }
+                if (h < 0) {
+                    local = (epochDay + 1) * DAY_MILLIS;
+                    continue;
+                }
+            }
+
+            long candidate = epochDay * DAY_MILLIS + h * HOUR_MILLIS + m * MINUTE_MILLIS + s * SECOND_MILLIS;
+            long fireTime = localToUtc(candidate, afterEpochMillis);
+            if (fireTime != NO_NEXT_FIRE_TIME) {
+                return fireTime;
+            }
+            // 本地时间不存在(夏令时跳变)或已经过去, 继续向后查找
+            local = candidate + SECOND_MILLIS;
+        }
+    }
+
+    /**
+     * 本地时间换算为 UTC, 本地时间不存在或不晚于 afterUtc 时返回 {@link #NO_NEXT_FIRE_TIME}.
+     * 夏令时回拨导致本地时间重复时, 与 GregorianCalendar 一致取标准时间(较晚的时刻)
+     */
+    private long localToUtc(long local, long afterUtc) {
+        long raw = timeZone.getRawOffset();
+        int before = timeZone.getOffset(local - raw - OFFSET_PROBE_MILLIS);
+        int after = timeZone.getOffset(local - raw + OFFSET_PROBE_MILLIS);
+
+        long best = NO_NEXT_FIRE_TIME;
+        long utc = local - before;
+        if (timeZone.getOffset(utc) == before) {
+            best = utc;
+        }
+        if (after != before) {
+            utc = local - after;
+            if (timeZone.getOffset(utc) == after && utc > best) {
+                best = utc;
+            }
+        }
+        return best > afterUtc ? best : NO_NEXT_FIRE_TIME;
+    }
+
+    private boolean dayMatches(int year, int month, int day, long epochDay) {
+        int lastDay = lengthOfMonth(year, month);
+        if (dayOfMonthSpec) {
+            if (lastDayOfMonth) {
+                int target = lastDay - lastDayOffset;
+                if (target < 1) {
+                    return false;
+                }
+                return day == (nearestWeekday ? nearestWeekday(target, lastDay, epochDay - day + target) : target);
+            }
+            if (nearestWeekday) {
+                int target = firstDayOfMonth;
+                if (target < 1 || target > lastDay) {
+                    return false;
+                }
+                return day == nearestWeekday(target, lastDay, epochDay - day + target);
+            }
+            return (dayOfMonthMask & (1 << day)) != 0;
+        }
+
+        int dayOfWeek = dayOfWeek(epochDay);
+        if (lastDayOfWeek) {
+            return dayOfWeek == firstDayOfWeek && day + 7 > lastDay;
+        }
+        if (nthDayOfWeek != 0) {
+            return dayOfWeek == firstDayOfWeek && (day - 1) / 7 + 1 == nthDayOfWeek;
+        }
+        return (dayOfWeekMask & (1 << dayOfWeek)) != 0;
+    }
+
+    /**
+     * 离 target 最近的工作日, 不跨月
+     */
+    private static int nearestWeekday(int target, int lastDay, long targetEpochDay) {
+        int dayOfWeek = dayOfWeek(targetEpochDay);
+        if (dayOfWeek == 7) {
+            // 周六
+            return target == 1 ? 3 : target - 1;
+        }
+        if (dayOfWeek == 1) {
+            // 周日
+            return target == lastDay ? target - 2 : target + 1;
+        }
+        return target;
+    }
+
+    /**
+     * 1: SUN ... 7: SAT, 1970-01-01 为周四
+     */
+    private static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + 4, 7L) + 1;
+    }
+
+    private int nextYear(int year) {
+        int low = 0;
+        int high = years.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (years[mid] < year) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low < years.length ? years[low] : -1;
+    }
+
+    private static int nextBit(long mask, int from) {
+        if (from > 63) {
+            return -1;
+        }
+        long bits = mask & (-1L << from);
+        return bits == 0 ? -1 : Long.numberOfTrailingZeros(bits);
+    }
+
+    private static int nextBit(int mask, int from) {
+        if (from > 31) {
+            return -1;
+        }
+        int bits = mask & (-1 << from);
+        return bits == 0 ? -1 : Integer.numberOfTrailingZeros(bits);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * 公历日期转 epoch day
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        int yoe = (int) (y - era * 400);
+        int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    private static long toLongMask(TreeSet<Integer> values, int max) {
+        long mask = 0L;
+        for (Integer value : values) {
+            if (value >= 0 && value <= max) {
+                mask |= 1L << value;
+            }
+        }
+        return mask;
+    }
+
+    private static int toIntMask(TreeSet<Integer> values, int min, int max) {
+        int mask = 0;
+        for (Integer value : values) {
+            if (value >= min && value <= max) {
+                mask |= 1 << value;
+            }
+        }
+        return mask;
+    }
+
+    private static int[] toYears(TreeSet<Integer> values) {
+        return values.stream()
+                .filter(f -> f >= 1970 && f <= CronExpression.MAX_YEAR)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    @Override
+    public String toString() {
+        return cronExpression;
+    }
+}
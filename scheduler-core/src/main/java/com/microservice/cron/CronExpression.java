@@ -179,6 +179,16 @@ public final class CronExpression implements Serializable, Cloneable {
         return isSatisfiedBy(date);
     }
 
+    /**
+     * Compiles this expression into an allocation-free bit mask representation,
+     * see {@link CompiledCronExpression}.
+     *
+     * @return the compiled expression, bound to this expression's time zone
+     */
+    public CompiledCronExpression compile() {
+        return new CompiledCronExpression(this);
+    }
+
     /**
      * Returns the next date/time <I>after</I> the given date/time which
      * satisfies the cron expression.
@@ -191,6 +201,25 @@ public final class CronExpression implements Serializable, Cloneable {
         return getTimeAfter(date);
     }
 
+    /**
+     * Returns all date/times in the half-open interval <I>(after, until]</I>
+     * which satisfy the cron expression, in ascending order.
+     *
+     * @param after    exclusive start of the interval
+     * @param until    inclusive end of the interval
+     * @param maxCount maximum number of date/times to return
+     * @return the valid date/times, never null
+     */
+    public List<Date> getTimesBetween(Date after, Date until, int maxCount) {
+        List<Date> times = new ArrayList<>();
+        Date time = getTimeAfter(after);
+        while (time != null && !time.after(until) && times.size() < maxCount) {
+            times.add(time);
+            time = getTimeAfter(time);
+        }
+        return times;
+    }
+
     /**
      * Returns the next date/time <I>after</I> the given date/time which does
      * <I>not</I> satisfy the expression
@@ -0,0 +1,144 @@
+package com.microservice.cron;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.microservice.bean.SchedulerConfigurationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-03
+ * <p> 已编译 cron 表达式缓存
+ * <p>
+ * 以 表达式 + 时区 为 key, 多个扫描周期共享, 避免每次扫描都重新解析表达式;
+ * 容量有上限, 线程安全, 并记录命中率
+ */
+@Component
+@Slf4j
+public class CronExpressionCache {
+
+    private final Cache<Key, CompiledCronExpression> cache;
+
+    @Autowired
+    public CronExpressionCache(SchedulerConfigurationProperties properties) {
+        this(properties.getCronExpressionCacheSize());
+    }
+
+    public CronExpressionCache(long maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 获取默认时区下的已编译表达式, 不存在时解析并放入缓存
+     *
+     * @param cronExpression
+     * @return
+     * @throws ParseException 表达式不合法, 不合法的表达式不会被缓存
+     */
+    public CompiledCronExpression get(String cronExpression) throws ParseException {
+        return get(cronExpression, TimeZone.getDefault());
+    }
+
+    /**
+     * 获取指定时区下的已编译表达式, 不存在时解析并放入缓存
+     *
+     * @param cronExpression
+     * @param timeZone
+     * @return
+     * @throws ParseException 表达式不合法, 不合法的表达式不会被缓存
+     */
+    public CompiledCronExpression get(String cronExpression, TimeZone timeZone) throws ParseException {
+        if (Objects.isNull(cronExpression)) {
+            throw new IllegalArgumentException("cronExpression cannot be null");
+        }
+        try {
+            return cache.get(new Key(cronExpression, timeZone.getID()),
+                    () -> CompiledCronExpression.compile(cronExpression, timeZone));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 表达式变更或删除时调用, 移除该表达式在所有时区下的缓存
+     *
+     * @param cronExpression
+     */
+    public void invalidate(String cronExpression) {
+        if (Objects.isNull(cronExpression)) {
+            return;
+        }
+        cache.asMap().keySet().removeIf(key -> key.expression.equals(cronExpression));
+        log.debug(">>> cron 表达式缓存失效: {}", cronExpression);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * 缓存命中统计
+     *
+     * @return
+     */
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("size", cache.size());
+        map.put("hitCount", stats.hitCount());
+        map.put("missCount", stats.missCount());
+        map.put("hitRate", stats.hitRate());
+        map.put("loadExceptionCount", stats.loadExceptionCount());
+        map.put("evictionCount", stats.evictionCount());
+        return map;
+    }
+
+    private static final class Key {
+        private final String expression;
+        private final String timeZoneId;
+        private final int hash;
+
+        private Key(String expression, String timeZoneId) {
+            this.expression = expression;
+            this.timeZoneId = timeZoneId;
+            this.hash = 31 * expression.hashCode() + timeZoneId.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return expression.equals(key.expression) && timeZoneId.equals(key.timeZoneId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.microservice.cron;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-04
+ * <p> cron 任务触发队列
+ * <p>
+ * 以任务下次触发时间为 key 的小顶堆, 每个任务只在触发后或任务变更后重新计算下次触发时间,
+ * 每次扫描只需处理到期的任务: O(到期任务数 * log n), 与任务总数无关
+ * <p>
+ * 线程安全, 所有方法都以当前实例加锁
+ *
+ * @param <K> 任务唯一标识
+ * @param <T> 任务
+ */
+public class CronTriggerQueue<K, T> {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private final Map<K, Entry<K, T>> entries = new HashMap<>();
+    private Entry<K, T>[] heap;
+    private int size;
+
+    public CronTriggerQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CronTriggerQueue(int initialCapacity) {
+        @SuppressWarnings("unchecked")
+        Entry<K, T>[] heap = (Entry<K, T>[]) new Entry<?, ?>[Math.max(initialCapacity, 1)];
+        this.heap = heap;
+    }
+
+    /**
+     * 添加或替换任务, 下次触发时间从 afterEpochMillis 之后开始计算
+     *
+     * @param key
+     * @param task
+     * @param cronExpression
+     * @param afterEpochMillis
+     * @return 下次触发时间, 表达式不会再触发时返回 {@link CompiledCronExpression#NO_NEXT_FIRE_TIME} 且任务不入队
+     */
+    public synchronized long schedule(K key, T task, CompiledCronExpression cronExpression, long afterEpochMillis) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(cronExpression, "cronExpression");
+
+        long nextFireTime = cronExpression.nextFireTime(afterEpochMillis);
+        Entry<K, T> entry = entries.get(key);
+        if (nextFireTime == CompiledCronExpression.NO_NEXT_FIRE_TIME) {
+            if (entry != null) {
+                removeEntry(entry);
+            }
+            return nextFireTime;
+        }
+
+        if (entry == null) {
+            entry = new Entry<>(key);
+            entries.put(key, entry);
+            entry.task = task;
+            entry.cronExpression = cronExpression;
+            entry.nextFireTime = nextFireTime;
+            offer(entry);
+        } else {
+            long previous = entry.nextFireTime;
+            entry.task = task;
+            entry.cronExpression = cronExpression;
+            entry.nextFireTime = nextFireTime;
+            if (nextFireTime < previous) {
+                siftUp(entry.index);
+            } else {
+                siftDown(entry.index);
+            }
+        }
+        return nextFireTime;
+    }
+
+    /**
+     * 移除任务
+     *
+     * @param key
+     * @return 任务存在返回 true
+     */
+    public synchronized boolean remove(K key) {
+        Entry<K, T> entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        removeEntry(entry);
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * 取出所有触发时间 <= nowEpochMillis 的任务放入 due, 并将其重新按 nowEpochMillis 之后的下次触发时间入队
+     * <p>
+     * 扫描延迟时, 同一任务错过的多次触发只会返回一次
+     *
+     * @param nowEpochMillis
+     * @param due
+     * @return 本次到期的任务数
+     */
+    public int pollDue(long nowEpochMillis, List<? super T> due) {
+        return pollDue(nowEpochMillis, 1, (task, fireTime) -> due.add(task));
+    }
+
+    /**
+     * 按时间顺序回调所有触发时间 <= nowEpochMillis 的触发, 并将任务重新按 nowEpochMillis 之后的下次触发时间入队
+     * <p>
+     * 扫描延迟时, 同一任务在 (上次触发, nowEpochMillis] 内错过的每个触发时间都会回调一次,
+     * 超过 maxFiresPerTask 的部分丢弃
+     *
+     * @param nowEpochMillis
+     * @param maxFiresPerTask 每个任务本次最多回调次数
+     * @param listener
+     * @return 本次回调的触发次数
+     */
+    public synchronized int pollDue(long nowEpochMillis, int maxFiresPerTask, FireListener<? super T> listener) {
+        int count = 0;
+        while (size > 0 && heap[0].nextFireTime <= nowEpochMillis) {
+            Entry<K, T> head = heap[0];
+            long fireTime = head.nextFireTime;
+            int fires = 0;
+            while (fireTime != CompiledCronExpression.NO_NEXT_FIRE_TIME && fireTime <= nowEpochMillis && fires < maxFiresPerTask) {
+                listener.onFire(head.task, fireTime);
+                fires++;
+                fireTime = head.cronExpression.nextFireTime(fireTime);
+            }
+            count += fires;
+            if (fireTime != CompiledCronExpression.NO_NEXT_FIRE_TIME && fireTime <= nowEpochMillis) {
+                fireTime = head.cronExpression.nextFireTime(nowEpochMillis);
+            }
+
+            if (fireTime == CompiledCronExpression.NO_NEXT_FIRE_TIME) {
+                removeEntry(head);
+            } else {
+                head.nextFireTime = fireTime;
+                siftDown(0);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 最近一次触发时间, 队列为空时返回 {@link CompiledCronExpression#NO_NEXT_FIRE_TIME}
+     *
+     * @return
+     */
+    public synchronized long peekNextFireTime() {
+        return size == 0 ? CompiledCronExpression.NO_NEXT_FIRE_TIME : heap[0].nextFireTime;
+    }
+
+    /**
+     * 指定任务的下次触发时间, 任务不存在时返回 {@link CompiledCronExpression#NO_NEXT_FIRE_TIME}
+     *
+     * @param key
+     * @return
+     */
+    public synchronized long nextFireTime(K key) {
+        Entry<K, T> entry = entries.get(key);
+        return entry == null ? CompiledCronExpression.NO_NEXT_FIRE_TIME : entry.nextFireTime;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        size = 0;
+        entries.clear();
+    }
+
+    private void offer(Entry<K, T> entry) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+        entry.index = size;
+        heap[size++] = entry;
+        siftUp(entry.index);
+    }
+
+    private void removeEntry(Entry<K, T> entry) {
+        entries.remove(entry.key);
+        int index = entry.index;
+        Entry<K, T> last = heap[--size];
+        heap[size] = null;
+        entry.index = -1;
+        if (last != entry) {
+            heap[index] = last;
+            last.index = index;
+            siftDown(index);
+            if (heap[index] == last) {
+                siftUp(index);
+            }
+        }
+    }
+
+    private void siftUp(int index) {
+        Entry<K, T> entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            Entry<K, T> p = heap[parent];
+            if (p.nextFireTime <= entry.nextFireTime) {
+                break;
+            }
+            heap[index] = p;
+            p.index = index;
+            index = parent;
+        }
+        heap[index] = entry;
+        entry.index = index;
+    }
+
+    private void siftDown(int index) {
+        Entry<K, T> entry = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && heap[right].nextFireTime < heap[child].nextFireTime) {
+                child = right;
+            }
+            Entry<K, T> c = heap[child];
+            if (entry.nextFireTime <= c.nextFireTime) {
+                break;
+            }
+            heap[index] = c;
+            c.index = index;
+            index = child;
+        }
+        heap[index] = entry;
+        entry.index = index;
+    }
+
+    /**
+     * 触发回调
+     *
+     * @param <T>
+     */
+    @FunctionalInterface
+    public interface FireListener<T> {
+        /**
+         * 任务触发
+         *
+         * @param task
+         * @param fireTime 本次触发的计划时间, epoch millis
+         */
+        void onFire(T task, long fireTime);
+    }
+
+    private static final class Entry<K, T> {
+        private final K key;
+        private T task;
+        private CompiledCronExpression cronExpression;
+        private long nextFireTime;
+        private int index;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -72,6 +72,16 @@ public class SchedulerTaskCronRequestDto extends BasePage implements Serializabl
      */
     private String taskCronWriteLog;
 
+    /**
+     * 0: 单实例执行 1: 分片广播
+     */
+    private String taskCronShard;
+
+    /**
+     * 执行超时秒数, 0: 不限制
+     */
+    private Integer taskCronTimeout;
+
     /**
      * ----------------------------------------------- 回写执行状态信息 -------------------------------------
      */
@@ -0,0 +1,24 @@
+package com.microservice.enums;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 同一执行器应用多个实例时的指派策略
+ */
+public enum ExecutorLoadBalanceEnum {
+
+    /**
+     * 轮询
+     */
+    ROUND_ROBIN,
+
+    /**
+     * 执行中任务最少
+     */
+    LEAST_IN_FLIGHT,
+
+    /**
+     * 按任务 id 一致性哈希
+     */
+    CONSISTENT_HASH;
+}
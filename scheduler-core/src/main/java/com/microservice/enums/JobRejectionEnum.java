@@ -0,0 +1,21 @@
+package com.microservice.enums;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 任务处理器的执行线程与等待队列都满时, 新任务的处理方式
+ * <p>
+ * 任务在执行器连接的 event loop 中接收, 不提供在接收线程中直接执行的方式, 否则会阻塞心跳与回写
+ */
+public enum JobRejectionEnum {
+
+    /**
+     * 拒绝新任务, 立即回写 429, 由服务端按失败重试
+     */
+    ABORT,
+
+    /**
+     * 丢弃等待最久的任务并回写失败, 新任务进入队列
+     */
+    DISCARD_OLDEST;
+}
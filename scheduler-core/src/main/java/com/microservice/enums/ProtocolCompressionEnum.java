@@ -0,0 +1,45 @@
+package com.microservice.enums;
+
+import com.microservice.proto.MessageProtocolPoJo;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 执行器与服务端之间的消息压缩方式, 与 MessageProtocol.Compression 一一对应
+ */
+public enum ProtocolCompressionEnum {
+
+    /**
+     * 不压缩
+     */
+    NONE(MessageProtocolPoJo.Compression.NONE),
+
+    /**
+     * lz4, 压缩与解压都快, 压缩率一般
+     */
+    LZ4(MessageProtocolPoJo.Compression.LZ4),
+
+    /**
+     * snappy, 使用 netty 自带实现, 不需要其他依赖
+     */
+    SNAPPY(MessageProtocolPoJo.Compression.SNAPPY);
+
+    private final MessageProtocolPoJo.Compression proto;
+
+    ProtocolCompressionEnum(MessageProtocolPoJo.Compression proto) {
+        this.proto = proto;
+    }
+
+    public MessageProtocolPoJo.Compression getProto() {
+        return proto;
+    }
+
+    public static ProtocolCompressionEnum of(MessageProtocolPoJo.Compression proto) {
+        for (ProtocolCompressionEnum value : values()) {
+            if (value.proto == proto) {
+                return value;
+            }
+        }
+        return NONE;
+    }
+}
@@ -4,12 +4,27 @@ package com.microservice.enums;
  * @author zw
  * @date 2020-10-02
  * <p> 协议枚举
+ * <p>
+ * id 随 MessageProtocol.protocolId 发送, 用于按数组下标查找协议处理; 已发布的 id 不能修改或复用, 0 表示未设置
  */
 public enum ProtocolStausEnum {
-    registerRequest,
-    deregisterRequest,
-    actuatorRequest,
-    callbackGivenStatusRequest,
-    registryCronTaskRequest,
-    registryGivenTaskRequest;
+    registerRequest(1),
+    deregisterRequest(2),
+    actuatorRequest(3),
+    callbackGivenStatusRequest(4),
+    registryCronTaskRequest(5),
+    registryGivenTaskRequest(6),
+    actuatorBatchRequest(7),
+    killRequest(8),
+    callbackBatchRequest(9);
+
+    private final int id;
+
+    ProtocolStausEnum(int id) {
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
 }
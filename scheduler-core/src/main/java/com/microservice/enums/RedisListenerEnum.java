@@ -35,7 +35,17 @@ public enum RedisListenerEnum {
     /**
      * 同步客户端消息通知
      */
-    SYNC_CLIENT_MESSAGE("scheduler_sync_client_message");
+    SYNC_CLIENT_MESSAGE("scheduler_sync_client_message"),
+
+    /**
+     * 实体缓存变更通知
+     */
+    ENTITY_CACHE_INVALIDATE("scheduler_entity_cache_invalidate"),
+
+    /**
+     * 终止任务通知
+     */
+    TASK_KILL("scheduler_task_kill");
 
     private String type;
 
@@ -15,6 +15,19 @@ public abstract class AbstractJobHandler {
 
     public abstract ReturnT<String> execute(String param) throws Exception;
 
+    /**
+     * 分片广播执行, 不关心分片的任务执行全部数据
+     *
+     * @param param
+     * @param shardIndex 本实例的分片序号, 从 0 开始
+     * @param shardTotal 分片总数
+     * @return
+     * @throws Exception
+     */
+    public ReturnT<String> execute(String param, int shardIndex, int shardTotal) throws Exception {
+        return execute(param);
+    }
+
     public void init() throws InvocationTargetException, IllegalAccessException {
     }
 
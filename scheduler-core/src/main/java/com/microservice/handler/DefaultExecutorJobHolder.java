@@ -1,9 +1,13 @@
 package com.microservice.handler;
 
+import com.microservice.bean.JobHandlerLoad;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * @author zhangwei
@@ -18,6 +22,11 @@ public class DefaultExecutorJobHolder {
      */
     private static ConcurrentMap<String, AbstractJobHandler> jobHandlerRepository = new ConcurrentHashMap<>();
 
+    /**
+     * job handler bulkhead repository
+     */
+    private static ConcurrentMap<String, JobHandlerBulkhead> bulkheadRepository = new ConcurrentHashMap<>();
+
     /**
      * 注册执行器执行任务的方法
      *
@@ -43,4 +52,38 @@ public class DefaultExecutorJobHolder {
     public static AbstractJobHandler loadExecutorJobHandler(String jobName) {
         return jobHandlerRepository.get(jobName);
     }
+
+    /**
+     * 注册任务处理器的执行隔离, 重连后再次注册时沿用已有的线程池
+     *
+     * @param jobName
+     * @param bulkhead
+     * @return
+     */
+    public static JobHandlerBulkhead registBulkhead(String jobName, Function<String, JobHandlerBulkhead> bulkhead) {
+        return bulkheadRepository.computeIfAbsent(jobName, bulkhead);
+    }
+
+    /**
+     * 找出任务处理器的执行隔离
+     *
+     * @param jobName
+     * @return
+     */
+    public static JobHandlerBulkhead loadBulkhead(String jobName) {
+        return bulkheadRepository.get(jobName);
+    }
+
+    /**
+     * 所有任务处理器的负载
+     *
+     * @return
+     */
+    public static List<JobHandlerLoad> loads() {
+        return bulkheadRepository.values().stream().map(JobHandlerBulkhead::load).collect(Collectors.toList());
+    }
+
+    public static void shutdownBulkheads() {
+        bulkheadRepository.values().forEach(JobHandlerBulkhead::shutdown);
+    }
 }
@@ -5,35 +5,50 @@ import com.microservice.annotation.ExecutorJob;
 import com.microservice.bean.SchedulerConfigurationProperties;
 import com.microservice.bean.ExecutorJobMessage;
 import com.microservice.dto.ReturnT;
-import com.microservice.enums.ProtocolStausEnum;
+import com.microservice.enums.JobRejectionEnum;
 import com.microservice.proto.MessageProtocolPoJo;
-import com.microservice.utils.JsonUtils;
-import com.microservice.utils.PingPongUtils;
+import com.microservice.utils.MessageProtocolCodec;
 import io.netty.channel.Channel;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.MethodIntrospector;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 import java.lang.reflect.Method;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.SocketAddress;
-import java.util.Map;
-import java.util.Objects;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 
 /**
  * @author zhangwei
  * @date 2020-09-20
  * <p>
+ * 任务处理器在容器初始化完成后注册一次, 执行器重连时不再查找;
+ * 有编译时生成的索引 {@link #JOB_INDEX} (scheduler-processor) 时, 带索引的 jar 或目录中的类只检查索引中的类,
+ * 其他位置 (未使用 scheduler-processor 编译) 的 bean 仍然遍历查找, 没有索引时遍历所有 bean
  */
 @Component
 @ConditionalOnBean(annotation = EnableExecutorClient.class)
 @Slf4j
-public class ExecutorJobManagerHandler {
+public class ExecutorJobManagerHandler implements SmartInitializingSingleton {
+
+    /**
+     * 每行一个方法: 类的二进制名#方法名
+     */
+    public static final String JOB_INDEX = "META-INF/scheduler-executor-jobs";
 
     @Resource
     private ApplicationContext applicationContext;
@@ -41,6 +56,21 @@ public class ExecutorJobManagerHandler {
     @Resource
     private Environment environment;
 
+    @Resource
+    private SchedulerConfigurationProperties configurationProperties;
+
+    private volatile boolean initialized;
+
+    @PreDestroy
+    public void destroy() {
+        DefaultExecutorJobHolder.shutdownBulkheads();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.initExecutorJobHandlerMethodRepository();
+    }
+
     /**
      * 注册执行器 applicationName + ip + no
      *
@@ -64,16 +94,9 @@ public class ExecutorJobManagerHandler {
         executorJobMessage.setPort(port);
         executorJobMessage.setProperties(properties);
         executorJobMessage.setAppName(appName);
-        String json = JsonUtils.toJson(executorJobMessage);
-
-        assert json != null;
-        MessageProtocolPoJo.MessageProtocol messageProtocol = MessageProtocolPoJo.MessageProtocol
-                .newBuilder()
-                // 写死协议名即可，开发对应关系创建即注定了
-                .setProtocol(ProtocolStausEnum.registerRequest.name())
-                .setLen(json.getBytes(PingPongUtils.CHARSET).length)
-                .setContent(json)
-                .build();
+        // 连接旧版本服务端时关闭 protocolTypedPayload, 使用 json 注册
+        MessageProtocolPoJo.MessageProtocol messageProtocol = MessageProtocolCodec.registerRequest(executorJobMessage,
+                properties.isProtocolTypedPayload());
 
         channel.writeAndFlush(messageProtocol);
         log.info(">>> registerExecutor 自动注册执行器成功, 执行器信息[{}]", address);
@@ -81,68 +104,186 @@ public class ExecutorJobManagerHandler {
 
 
     /**
-     * 执行器初次运行时加载所有 executorJob 注解任务
+     * 执行器初次运行时加载所有 executorJob 注解任务, 只加载一次
      */
     public void initExecutorJobHandlerMethodRepository() {
-        String[] beanDefinitionNames = applicationContext.getBeanNamesForType(Object.class, false, true);
+        if (initialized) {
+            return;
+        }
+        synchronized (this) {
+            if (initialized) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            Map<String, Set<String>> index = new LinkedHashMap<>();
+            Set<String> indexedRoots = this.loadJobIndex(index);
+            index.forEach(this::registerIndexedJobHandlers);
+
+            int scanned = 0;
+            for (String beanDefinitionName : applicationContext.getBeanNamesForType(Object.class, false, true)) {
+                if (this.indexed(beanDefinitionName, index, indexedRoots)) {
+                    continue;
+                }
+                this.registerJobHandlers(applicationContext.getBean(beanDefinitionName), null);
+                scanned++;
+            }
+            initialized = true;
+            log.info(">>> 任务处理器注册完成, 索引类: {}, 遍历 bean: {}, 耗时: {} ms", index.size(), scanned,
+                    System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 读取所有 jar 与目录中的索引
+     *
+     * @param index 类名 -> 方法名
+     * @return 带索引的 jar 或目录, 没有索引或读取失败时为空, 所有 bean 都需遍历
+     */
+    private Set<String> loadJobIndex(Map<String, Set<String>> index) {
+        try {
+            Enumeration<URL> resources = applicationContext.getClassLoader().getResources(JOB_INDEX);
+            Set<String> roots = new HashSet<>();
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                String location = url.toString();
+                roots.add(location.substring(0, location.length() - JOB_INDEX.length()));
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int split = line.indexOf('#');
+                        if (split > 0) {
+                            index.computeIfAbsent(line.substring(0, split).trim(), k -> new HashSet<>())
+                                    .add(line.substring(split + 1).trim());
+                        }
+                    }
+                }
+            }
+            return roots;
+        } catch (IOException e) {
+            log.warn(">>> 读取任务处理器索引失败, 遍历 bean 查找, 原因: {}", e.getLocalizedMessage());
+            index.clear();
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * bean 的类已由索引覆盖: 类在索引中, 或类所在的 jar / 目录带有索引 (编译时已检查过, 没有任务处理器)
+     */
+    private boolean indexed(String beanName, Map<String, Set<String>> index, Set<String> indexedRoots) {
+        if (indexedRoots.isEmpty()) {
+            return false;
+        }
+        Class<?> type = applicationContext.getType(beanName);
+        if (Objects.isNull(type)) {
+            return false;
+        }
+        type = ClassUtils.getUserClass(type);
+        if (index.containsKey(type.getName())) {
+            return true;
+        }
+        String resource = ClassUtils.convertClassNameToResourcePath(type.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+        URL url = applicationContext.getClassLoader().getResource(resource);
+        if (Objects.isNull(url)) {
+            return false;
+        }
+        String location = url.toString();
+        return indexedRoots.contains(location.substring(0, location.length() - resource.length()));
+    }
+
+    /**
+     * 注册索引中一个类的任务处理器, 类不存在或没有对应 bean 时跳过
+     */
+    private void registerIndexedJobHandlers(String className, Set<String> methodNames) {
+        Class<?> type;
+        try {
+            type = ClassUtils.forName(className, applicationContext.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn(">>> 任务处理器索引中的类: {} 不存在, 跳过", className);
+            return;
+        }
+        String[] beanNames = applicationContext.getBeanNamesForType(type, false, true);
+        if (beanNames.length == 0) {
+            log.warn(">>> 任务处理器索引中的类: {} 没有对应的 bean, 跳过", className);
+            return;
+        }
+        for (String beanName : beanNames) {
+            this.registerJobHandlers(applicationContext.getBean(beanName), methodNames);
+        }
+    }
 
-        for (String beanDefinitionName : beanDefinitionNames) {
-            Object bean = applicationContext.getBean(beanDefinitionName);
-            Map<Method, ExecutorJob> annotatedMethods = MethodIntrospector.selectMethods(bean.getClass(),
-                    (MethodIntrospector.MetadataLookup<ExecutorJob>) method -> AnnotatedElementUtils.findMergedAnnotation(method, ExecutorJob.class));
+    /**
+     * 注册 bean 上的 executorJob 注解任务
+     *
+     * @param bean
+     * @param methodNames 只检查这些方法, null 检查所有方法
+     */
+    private void registerJobHandlers(Object bean, Set<String> methodNames) {
+        Map<Method, ExecutorJob> annotatedMethods = MethodIntrospector.selectMethods(bean.getClass(),
+                (MethodIntrospector.MetadataLookup<ExecutorJob>) method -> Objects.isNull(methodNames) || methodNames.contains(method.getName())
+                        ? AnnotatedElementUtils.findMergedAnnotation(method, ExecutorJob.class) : null);
 
-            if (annotatedMethods.isEmpty()) {
+        if (annotatedMethods.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<Method, ExecutorJob> methodExecutorJobEntry : annotatedMethods.entrySet()) {
+            Method method = methodExecutorJobEntry.getKey();
+            ExecutorJob executorJob = methodExecutorJobEntry.getValue();
+
+            if (Objects.isNull(executorJob)) {
                 continue;
             }
 
-            for (Map.Entry<Method, ExecutorJob> methodExecutorJobEntry : annotatedMethods.entrySet()) {
-                Method method = methodExecutorJobEntry.getKey();
-                ExecutorJob executorJob = methodExecutorJobEntry.getValue();
+            String jobName = executorJob.value();
+            if (jobName.trim().length() == 0) {
+                throw new RuntimeException("ExecutorJob method-jobhandler jobName invalid, for[" + bean.getClass() + "#" + method.getName() + "] .");
+            }
 
-                if (Objects.isNull(executorJob)) {
-                    continue;
-                }
+            // execute method, 分片广播任务可声明分片参数
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            boolean single = parameterTypes.length == 1 && parameterTypes[0].isAssignableFrom(String.class);
+            boolean sharding = parameterTypes.length == 3 && parameterTypes[0].isAssignableFrom(String.class)
+                    && parameterTypes[1] == int.class && parameterTypes[2] == int.class;
+            if (!single && !sharding) {
+                throw new RuntimeException("xxl-job method-jobhandler param-classtype invalid, for[" + bean.getClass() + "#" + method.getName() + "] , " +
+                        "The correct method format like \" public ReturnT<String> execute(String param) \" " +
+                        "or \" public ReturnT<String> execute(String param, int shardIndex, int shardTotal) \" .");
+            }
+            if (!method.getReturnType().isAssignableFrom(ReturnT.class)) {
+                throw new RuntimeException("xxl-job method-jobhandler return-classtype invalid, for[" + bean.getClass() + "#" + method.getName() + "] , " +
+                        "The correct method format like \" public ReturnT<String> execute(String param) \" .");
+            }
+            method.setAccessible(true);
 
-                String jobName = executorJob.value();
-                if (jobName.trim().length() == 0) {
-                    throw new RuntimeException("ExecutorJob method-jobhandler jobName invalid, for[" + bean.getClass() + "#" + method.getName() + "] .");
-                }
+            // init and destory
+            Method initMethod = null;
+            Method destroyMethod = null;
 
-                // execute method
-                if (!(method.getParameterTypes().length == 1 && method.getParameterTypes()[0].isAssignableFrom(String.class))) {
-                    throw new RuntimeException("xxl-job method-jobhandler param-classtype invalid, for[" + bean.getClass() + "#" + method.getName() + "] , " +
-                            "The correct method format like \" public ReturnT<String> execute(String param) \" .");
+            if (executorJob.init().trim().length() > 0) {
+                try {
+                    initMethod = bean.getClass().getDeclaredMethod(executorJob.init());
+                    initMethod.setAccessible(true);
+                } catch (NoSuchMethodException e) {
+                    throw new RuntimeException("xxl-job method-jobhandler initMethod invalid, for[" + bean.getClass() + "#" + method.getName() + "] .");
                 }
-                if (!method.getReturnType().isAssignableFrom(ReturnT.class)) {
-                    throw new RuntimeException("xxl-job method-jobhandler return-classtype invalid, for[" + bean.getClass() + "#" + method.getName() + "] , " +
-                            "The correct method format like \" public ReturnT<String> execute(String param) \" .");
-                }
-                method.setAccessible(true);
-
-                // init and destory
-                Method initMethod = null;
-                Method destroyMethod = null;
-
-                if (executorJob.init().trim().length() > 0) {
-                    try {
-                        initMethod = bean.getClass().getDeclaredMethod(executorJob.init());
-                        initMethod.setAccessible(true);
-                    } catch (NoSuchMethodException e) {
-                        throw new RuntimeException("xxl-job method-jobhandler initMethod invalid, for[" + bean.getClass() + "#" + method.getName() + "] .");
-                    }
-                }
-                if (executorJob.destroy().trim().length() > 0) {
-                    try {
-                        destroyMethod = bean.getClass().getDeclaredMethod(executorJob.destroy());
-                        destroyMethod.setAccessible(true);
-                    } catch (NoSuchMethodException e) {
-                        throw new RuntimeException("xxl-job method-jobhandler destroyMethod invalid, for[" + bean.getClass() + "#" + method.getName() + "] .");
-                    }
+            }
+            if (executorJob.destroy().trim().length() > 0) {
+                try {
+                    destroyMethod = bean.getClass().getDeclaredMethod(executorJob.destroy());
+                    destroyMethod.setAccessible(true);
+                } catch (NoSuchMethodException e) {
+                    throw new RuntimeException("xxl-job method-jobhandler destroyMethod invalid, for[" + bean.getClass() + "#" + method.getName() + "] .");
                 }
-
-                // registry jobhandler
-                DefaultExecutorJobHolder.registExecutorJobHandler(jobName, new MethodJobHandler(bean, method, initMethod, destroyMethod));
             }
+
+            // registry jobhandler
+            DefaultExecutorJobHolder.registExecutorJobHandler(jobName, new MethodJobHandler(bean, method, initMethod, destroyMethod));
+            // 每个处理器一个有界线程池, 注解未配置时使用全局配置
+            DefaultExecutorJobHolder.registBulkhead(jobName, name -> new JobHandlerBulkhead(name,
+                    executorJob.concurrency() > 0 ? executorJob.concurrency() : configurationProperties.getExecutorJobConcurrency(),
+                    executorJob.queueSize() >= 0 ? executorJob.queueSize() : configurationProperties.getExecutorJobQueueSize(),
+                    StringUtils.isBlank(executorJob.rejection()) ? configurationProperties.getExecutorJobRejection()
+                            : JobRejectionEnum.valueOf(executorJob.rejection().trim().toUpperCase())));
         }
     }
 }
@@ -0,0 +1,218 @@
+package com.microservice.handler;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.microservice.bean.SchedulerTaskMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 执行器上等待执行与正在执行的任务
+ * <p>
+ * 任务提交到 {@link JobHandlerBulkhead} 时登记, 开始执行时按任务的执行超时秒数计时;
+ * 超时或服务端发来终止时中断执行线程, 并立即回写, 服务端随即释放该实例执行中的任务数.
+ * 不响应中断的任务继续占用执行线程, 隔离线程池临时补充一个执行线程, 该任务结束后收回;
+ * 任务结束后不再回写
+ */
+@Slf4j
+public class JobExecutionTracker {
+
+    public enum State {
+        QUEUED, RUNNING, DONE, TIMED_OUT, KILLED
+    }
+
+    /**
+     * 任务 -> 执行, 同一任务可能同时有多次执行(分片、表达式任务的相邻触发)
+     */
+    private static final ConcurrentMap<String, Set<Execution>> EXECUTIONS = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("scheduler-job-timeout-%d").setDaemon(true).build());
+
+    private JobExecutionTracker() {
+    }
+
+    /**
+     * 登记提交到隔离线程池的任务
+     *
+     * @param task
+     * @param bulkhead
+     * @param aborted  超时或被终止时回写, 参数为终止后的状态与原因
+     * @return
+     */
+    public static Execution queued(SchedulerTaskMessage task, JobHandlerBulkhead bulkhead, BiConsumer<State, String> aborted) {
+        Execution execution = new Execution(key(task.isCron(), taskId(task)), timeout(task), bulkhead, aborted);
+        EXECUTIONS.compute(execution.key, (k, v) -> {
+            Set<Execution> executions = Objects.isNull(v) ? ConcurrentHashMap.newKeySet() : v;
+            executions.add(execution);
+            return executions;
+        });
+        return execution;
+    }
+
+    /**
+     * 终止任务的所有执行
+     *
+     * @param cron
+     * @param taskId
+     * @param reason
+     * @return 终止的执行数
+     */
+    public static int kill(boolean cron, Integer taskId, String reason) {
+        Set<Execution> executions = EXECUTIONS.get(key(cron, taskId));
+        if (Objects.isNull(executions)) {
+            return 0;
+        }
+        int killed = 0;
+        for (Execution execution : executions) {
+            if (execution.abort(State.KILLED, reason)) {
+                killed++;
+            }
+        }
+        return killed;
+    }
+
+    public static int size() {
+        return EXECUTIONS.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private static String key(boolean cron, Integer taskId) {
+        return (cron ? "cron:" : "given:") + taskId;
+    }
+
+    private static Integer taskId(SchedulerTaskMessage task) {
+        if (task.isCron()) {
+            return Objects.isNull(task.getTaskCronDto()) ? null : task.getTaskCronDto().getTaskCronId();
+        }
+        return Objects.isNull(task.getTaskGivenDto()) ? null : task.getTaskGivenDto().getTaskGivenId();
+    }
+
+    private static int timeout(SchedulerTaskMessage task) {
+        Integer timeout = null;
+        if (task.isCron() && Objects.nonNull(task.getTaskCronDto())) {
+            timeout = task.getTaskCronDto().getTaskCronTimeout();
+        } else if (!task.isCron() && Objects.nonNull(task.getTaskGivenDto())) {
+            timeout = task.getTaskGivenDto().getTaskGivenTimeout();
+        }
+        return Objects.isNull(timeout) ? 0 : Math.max(0, timeout);
+    }
+
+    /**
+     * 一次执行
+     */
+    public static class Execution {
+
+        private final String key;
+        private final int timeout;
+        private final JobHandlerBulkhead bulkhead;
+        private final BiConsumer<State, String> aborted;
+        private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+
+        private volatile Thread worker;
+        private volatile ScheduledFuture<?> timer;
+
+        private Execution(String key, int timeout, JobHandlerBulkhead bulkhead, BiConsumer<State, String> aborted) {
+            this.key = key;
+            this.timeout = timeout;
+            this.bulkhead = bulkhead;
+            this.aborted = aborted;
+        }
+
+        /**
+         * 执行线程开始执行
+         *
+         * @return 等待中已被终止时返回 false, 不再执行
+         */
+        public boolean start() {
+            synchronized (this) {
+                if (!state.compareAndSet(State.QUEUED, State.RUNNING)) {
+                    return false;
+                }
+                worker = Thread.currentThread();
+            }
+            if (timeout > 0) {
+                timer = TIMER.schedule(() -> this.abort(State.TIMED_OUT, "执行超过 " + timeout + " 秒"), timeout, TimeUnit.SECONDS);
+            }
+            return true;
+        }
+
+        /**
+         * 执行线程执行结束
+         *
+         * @return 是否需要回写, 超时或被终止的已经回写过
+         */
+        public boolean finish() {
+            this.cancelTimer();
+            this.remove();
+            synchronized (this) {
+                if (state.compareAndSet(State.RUNNING, State.DONE)) {
+                    return true;
+                }
+                // 执行中被终止: 清除中断标记, 执行线程归还给线程池
+                Thread.interrupted();
+            }
+            if (Objects.nonNull(bulkhead)) {
+                bulkhead.returned();
+            }
+            log.info(">>> 任务: {} 已{}, 执行线程结束", key, state.get() == State.TIMED_OUT ? "超时" : "终止");
+            return false;
+        }
+
+        /**
+         * 被隔离线程池拒绝, 不会执行
+         */
+        public void discard() {
+            state.compareAndSet(State.QUEUED, State.DONE);
+            this.remove();
+        }
+
+        /**
+         * 超时或被终止, 中断执行线程并回写
+         *
+         * @param target
+         * @param reason
+         * @return 是否终止了执行, 已结束的返回 false
+         */
+        public boolean abort(State target, String reason) {
+            State previous;
+            synchronized (this) {
+                previous = state.get();
+                if ((previous != State.QUEUED && previous != State.RUNNING) || !state.compareAndSet(previous, target)) {
+                    return false;
+                }
+                if (previous == State.RUNNING) {
+                    worker.interrupt();
+                    // 执行线程可能不响应中断, 先补充执行线程, 回写的负载中不再计入; 在 finish 归还之前
+                    if (Objects.nonNull(bulkhead)) {
+                        bulkhead.abandon();
+                    }
+                }
+            }
+            this.cancelTimer();
+            this.remove();
+            log.warn(">>> 任务: {} {}, 原因: {}", key, target == State.TIMED_OUT ? "执行超时" : "被终止", reason);
+            aborted.accept(target, reason);
+            return true;
+        }
+
+        private void cancelTimer() {
+            ScheduledFuture<?> future = timer;
+            if (Objects.nonNull(future)) {
+                future.cancel(false);
+            }
+        }
+
+        private void remove() {
+            EXECUTIONS.computeIfPresent(key, (k, v) -> {
+                v.remove(this);
+                return v.isEmpty() ? null : v;
+            });
+        }
+    }
+}
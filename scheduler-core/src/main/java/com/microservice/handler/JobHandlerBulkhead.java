@@ -0,0 +1,153 @@
+package com.microservice.handler;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.microservice.bean.JobHandlerLoad;
+import com.microservice.enums.JobRejectionEnum;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 任务处理器的执行隔离
+ * <p>
+ * 每个 @ExecutorJob 一个有界线程池, 任务不在执行器连接的 event loop 中执行, 一个处理器执行慢不影响心跳、回写与其他处理器;
+ * 执行线程与等待队列都满时按 {@link JobRejectionEnum} 处理, 被拒绝的任务通过 {@link Job#reject(String)} 回写失败;
+ * 超时或被终止但不响应中断的任务仍占用执行线程, 期间线程池多开一个线程补足执行线程数
+ */
+@Slf4j
+public class JobHandlerBulkhead {
+
+    /**
+     * 提交到隔离线程池的任务
+     */
+    public interface Job extends Runnable {
+
+        /**
+         * 任务被拒绝, 不会再执行
+         *
+         * @param reason
+         */
+        void reject(String reason);
+    }
+
+    private final String jobHandler;
+    private final int concurrency;
+    private final int queueCapacity;
+    private final JobRejectionEnum rejection;
+    private final ThreadPoolExecutor pool;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * 已终止但执行线程还未结束的任务数
+     */
+    private volatile int abandoned;
+
+    /**
+     * 当前线程所属的隔离线程池, 执行线程中统计负载时不计入自己
+     */
+    private static final ThreadLocal<JobHandlerBulkhead> WORKER = new ThreadLocal<>();
+
+    public JobHandlerBulkhead(String jobHandler, int concurrency, int queueCapacity, JobRejectionEnum rejection) {
+        this.jobHandler = jobHandler;
+        this.concurrency = Math.max(1, concurrency);
+        this.queueCapacity = Math.max(0, queueCapacity);
+        this.rejection = rejection;
+
+        BlockingQueue<Runnable> queue = this.queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(this.queueCapacity);
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("scheduler-job-" + jobHandler + "-%d")
+                .setDaemon(true)
+                .build();
+        this.pool = new ThreadPoolExecutor(this.concurrency, this.concurrency, 60L, TimeUnit.SECONDS, queue,
+                runnable -> threadFactory.newThread(() -> {
+                    WORKER.set(this);
+                    runnable.run();
+                }),
+                this::rejected);
+        // 空闲的处理器不占用线程
+        this.pool.allowCoreThreadTimeOut(true);
+        log.info(">>> 任务处理器: {}, 执行线程: {}, 等待队列: {}, 拒绝策略: {}", jobHandler, this.concurrency, this.queueCapacity, rejection);
+    }
+
+    public void submit(Job job) {
+        pool.execute(job);
+    }
+
+    /**
+     * 在执行线程中调用时(任务执行完成回写), 当前任务视为已结束
+     *
+     * @return
+     */
+    public JobHandlerLoad load() {
+        int active = pool.getActiveCount() - abandoned - (WORKER.get() == this ? 1 : 0);
+        return new JobHandlerLoad()
+                .setJobHandler(jobHandler)
+                .setConcurrency(concurrency)
+                .setActive(Math.max(0, active))
+                .setQueueCapacity(queueCapacity)
+                .setQueued(pool.getQueue().size())
+                .setRejected(rejectedCount.sum());
+    }
+
+    /**
+     * 执行中的任务已终止, 执行线程还未结束
+     */
+    public synchronized void abandon() {
+        abandoned++;
+        this.resize();
+    }
+
+    /**
+     * 已终止任务的执行线程结束
+     */
+    public synchronized void returned() {
+        abandoned = Math.max(0, abandoned - 1);
+        this.resize();
+    }
+
+    private void resize() {
+        int size = concurrency + abandoned;
+        if (size > pool.getMaximumPoolSize()) {
+            pool.setMaximumPoolSize(size);
+            pool.setCorePoolSize(size);
+        } else {
+            pool.setCorePoolSize(size);
+            pool.setMaximumPoolSize(size);
+        }
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private void rejected(Runnable runnable, ThreadPoolExecutor executor) {
+        Job job = (Job) runnable;
+        if (executor.isShutdown()) {
+            this.reject(job, "执行器正在关闭");
+            return;
+        }
+        switch (rejection) {
+            case DISCARD_OLDEST:
+                Runnable oldest = executor.getQueue().poll();
+                if (oldest instanceof Job) {
+                    this.reject((Job) oldest, "等待队列已满, 等待最久的任务被丢弃");
+                }
+                if (!executor.getQueue().offer(job)) {
+                    this.reject(job, "等待队列已满");
+                }
+                break;
+            default:
+                this.reject(job, "执行线程与等待队列已满");
+        }
+    }
+
+    private void reject(Job job, String reason) {
+        rejectedCount.increment();
+        log.warn(">>> 任务处理器: {} 拒绝任务, 原因: {}", jobHandler, reason);
+        job.reject(reason);
+    }
+}
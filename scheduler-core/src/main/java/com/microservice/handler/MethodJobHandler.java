@@ -1,24 +1,59 @@
 package com.microservice.handler;
 
 import com.microservice.dto.ReturnT;
+import lombok.extern.slf4j.Slf4j;
 
+import java.lang.invoke.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 /**
  * @author zhangwei
  * @date 2020-09-20
+ * <p>
+ * 注册时为任务方法生成调用器, 执行时直接调用, 不再每次通过 Method.invoke 反射(参数数组、装箱、访问检查);
+ * 公开类的公开实例方法通过 LambdaMetafactory 生成实现类, 其他(非公开、静态、代理类、返回类型不是 ReturnT、
+ * 类加载器不可见)使用绑定了目标对象的 MethodHandle
  */
+@Slf4j
 public class MethodJobHandler extends AbstractJobHandler {
 
+    /**
+     * (String param)
+     */
+    @FunctionalInterface
+    public interface SingleInvoker {
+        ReturnT<String> invoke(String param) throws Throwable;
+    }
+
+    /**
+     * (String param, int shardIndex, int shardTotal)
+     */
+    @FunctionalInterface
+    public interface ShardInvoker {
+        ReturnT<String> invoke(String param, int shardIndex, int shardTotal) throws Throwable;
+    }
+
     private final Object target;
     private final Method method;
+    /**
+     * 方法声明了分片参数: (String param, int shardIndex, int shardTotal)
+     */
+    private final boolean sharding;
+    private final SingleInvoker singleInvoker;
+    private final ShardInvoker shardInvoker;
     private Method initMethod;
     private Method destroyMethod;
 
     public MethodJobHandler(Object target, Method method, Method initMethod, Method destroyMethod) {
         this.target = target;
         this.method = method;
+        this.sharding = method.getParameterTypes().length == 3;
+
+        MethodHandle handle = handle(target, method);
+        this.singleInvoker = sharding ? null : singleInvoker(target, method, handle);
+        this.shardInvoker = sharding ? shardInvoker(target, method, handle) : null;
 
         this.initMethod = initMethod;
         this.destroyMethod = destroyMethod;
@@ -26,7 +61,20 @@ public class MethodJobHandler extends AbstractJobHandler {
 
     @Override
     public ReturnT<String> execute(String param) throws Exception {
-        return (ReturnT<String>) method.invoke(target, new Object[]{param});
+        // 未分片时相当于只有一个分片
+        return this.execute(param, 0, 1);
+    }
+
+    @Override
+    public ReturnT<String> execute(String param, int shardIndex, int shardTotal) throws Exception {
+        try {
+            return sharding ? shardInvoker.invoke(param, shardIndex, shardTotal) : singleInvoker.invoke(param);
+        } catch (Exception e) {
+            throw e;
+        } catch (Throwable e) {
+            // 与反射调用一致, Error 包装后交给调用方按执行失败处理
+            throw new InvocationTargetException(e, e.toString());
+        }
     }
 
     @Override
@@ -47,4 +95,74 @@ public class MethodJobHandler extends AbstractJobHandler {
     public String toString() {
         return super.toString() + "[" + target.getClass() + "#" + method.getName() + "]";
     }
+
+    /**
+     * @return 已绑定目标对象的方法句柄, 静态方法不绑定
+     */
+    private static MethodHandle handle(Object target, Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            return Modifier.isStatic(method.getModifiers()) ? handle : handle.bindTo(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("ExecutorJob method not accessible: " + method, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SingleInvoker singleInvoker(Object target, Method method, MethodHandle handle) {
+        if (metafactory(method)) {
+            try {
+                return (SingleInvoker) metafactory(method, SingleInvoker.class,
+                        MethodType.methodType(ReturnT.class, String.class)).invoke(target);
+            } catch (Throwable e) {
+                log.warn(">>> 任务方法: {} 生成调用器失败, 使用 MethodHandle, 原因: {}", method, e.toString());
+            }
+        }
+        MethodHandle exact = handle.asType(MethodType.methodType(ReturnT.class, String.class));
+        return param -> (ReturnT<String>) exact.invokeExact(param);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ShardInvoker shardInvoker(Object target, Method method, MethodHandle handle) {
+        if (metafactory(method)) {
+            try {
+                return (ShardInvoker) metafactory(method, ShardInvoker.class,
+                        MethodType.methodType(ReturnT.class, String.class, int.class, int.class)).invoke(target);
+            } catch (Throwable e) {
+                log.warn(">>> 任务方法: {} 生成调用器失败, 使用 MethodHandle, 原因: {}", method, e.toString());
+            }
+        }
+        MethodHandle exact = handle.asType(MethodType.methodType(ReturnT.class, String.class, int.class, int.class));
+        return (param, shardIndex, shardTotal) -> (ReturnT<String>) exact.invokeExact(param, shardIndex, shardTotal);
+    }
+
+    /**
+     * 生成的实现类与本类在同一个类加载器中, 直接调用任务方法, 因此方法与所在类都必须公开且可见
+     */
+    private static boolean metafactory(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (Modifier.isStatic(method.getModifiers())
+                || !Modifier.isPublic(method.getModifiers())
+                || !Modifier.isPublic(declaringClass.getModifiers())
+                || method.getReturnType() != ReturnT.class) {
+            return false;
+        }
+        try {
+            return Class.forName(declaringClass.getName(), false, MethodJobHandler.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return 以目标对象为参数、返回调用器的工厂
+     */
+    private static MethodHandle metafactory(Method method, Class<?> invokerType, MethodType samType) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        CallSite site = LambdaMetafactory.metafactory(lookup, "invoke",
+                MethodType.methodType(invokerType, method.getDeclaringClass()),
+                samType, lookup.unreflect(method), samType);
+        return site.getTarget();
+    }
 }
@@ -14,6 +14,117 @@ public final class MessageProtocolPoJo {
     registerAllExtensions(
         (com.google.protobuf.ExtensionRegistryLite) registry);
   }
+  /**
+   * <pre>
+   * 消息压缩方式
+   * </pre>
+   *
+   * Protobuf enum {@code Compression}
+   */
+  public enum Compression
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>NONE = 0;</code>
+     */
+    NONE(0),
+    /**
+     * <code>LZ4 = 1;</code>
+     */
+    LZ4(1),
+    /**
+     * <code>SNAPPY = 2;</code>
+     */
+    SNAPPY(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>NONE = 0;</code>
+     */
+    public static final int NONE_VALUE = 0;
+    /**
+     * <code>LZ4 = 1;</code>
+     */
+    public static final int LZ4_VALUE = 1;
+    /**
+     * <code>SNAPPY = 2;</code>
+     */
+    public static final int SNAPPY_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Compression valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static Compression forNumber(int value) {
+      switch (value) {
+        case 0: return NONE;
+        case 1: return LZ4;
+        case 2: return SNAPPY;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Compression>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Compression> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Compression>() {
+            public Compression findValueByNumber(int number) {
+              return Compression.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.microservice.proto.MessageProtocolPoJo.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final Compression[] VALUES = values();
+
+    public static Compression valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Compression(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:Compression)
+  }
+
   public interface MessageProtocolOrBuilder extends
       // @@protoc_insertion_point(interface_extends:MessageProtocol)
       com.google.protobuf.MessageOrBuilder {
@@ -72,6 +183,44 @@ public final class MessageProtocolPoJo {
      */
     com.microservice.proto.MessageProtocolPoJo.MessageProtocol.DataType getDataType();
 
+    /**
+     * <pre>
+     * 协议编号, 见 ProtocolStausEnum; 旧版本只发送 protocol 名称
+     * </pre>
+     *
+     * <code>int32 protocolId = 13;</code>
+     */
+    int getProtocolId();
+
+    /**
+     * <pre>
+     * 压缩后的消息: compressedBody 为整个 MessageProtocol 压缩后的字节, rawSize 为压缩前字节数;
+     * 只发给注册时协商了压缩方式的对端
+     * </pre>
+     *
+     * <code>.Compression compression = 15;</code>
+     */
+    int getCompressionValue();
+    /**
+     * <pre>
+     * 压缩后的消息: compressedBody 为整个 MessageProtocol 压缩后的字节, rawSize 为压缩前字节数;
+     * 只发给注册时协商了压缩方式的对端
+     * </pre>
+     *
+     * <code>.Compression compression = 15;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.Compression getCompression();
+
+    /**
+     * <code>bytes compressedBody = 16;</code>
+     */
+    com.google.protobuf.ByteString getCompressedBody();
+
+    /**
+     * <code>int32 rawSize = 17;</code>
+     */
+    int getRawSize();
+
     /**
      * <code>.Student student = 7;</code>
      */
@@ -98,6 +247,97 @@ public final class MessageProtocolPoJo {
      */
     com.microservice.proto.MessageProtocolPoJo.WorkerOrBuilder getWorkerOrBuilder();
 
+    /**
+     * <code>.TaskDispatch dispatch = 9;</code>
+     */
+    boolean hasDispatch();
+    /**
+     * <code>.TaskDispatch dispatch = 9;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskDispatch getDispatch();
+    /**
+     * <code>.TaskDispatch dispatch = 9;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder getDispatchOrBuilder();
+
+    /**
+     * <code>.TaskCallback callback = 10;</code>
+     */
+    boolean hasCallback();
+    /**
+     * <code>.TaskCallback callback = 10;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskCallback getCallback();
+    /**
+     * <code>.TaskCallback callback = 10;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder getCallbackOrBuilder();
+
+    /**
+     * <code>.ExecutorRegister register = 11;</code>
+     */
+    boolean hasRegister();
+    /**
+     * <code>.ExecutorRegister register = 11;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.ExecutorRegister getRegister();
+    /**
+     * <code>.ExecutorRegister register = 11;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.ExecutorRegisterOrBuilder getRegisterOrBuilder();
+
+    /**
+     * <code>.Heartbeat heartbeat = 12;</code>
+     */
+    boolean hasHeartbeat();
+    /**
+     * <code>.Heartbeat heartbeat = 12;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.Heartbeat getHeartbeat();
+    /**
+     * <code>.Heartbeat heartbeat = 12;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.HeartbeatOrBuilder getHeartbeatOrBuilder();
+
+    /**
+     * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+     */
+    boolean hasDispatchBatch();
+    /**
+     * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch getDispatchBatch();
+    /**
+     * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatchOrBuilder getDispatchBatchOrBuilder();
+
+    /**
+     * <code>.TaskKill kill = 18;</code>
+     */
+    boolean hasKill();
+    /**
+     * <code>.TaskKill kill = 18;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskKill getKill();
+    /**
+     * <code>.TaskKill kill = 18;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskKillOrBuilder getKillOrBuilder();
+
+    /**
+     * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+     */
+    boolean hasCallbackBatch();
+    /**
+     * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch getCallbackBatch();
+    /**
+     * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatchOrBuilder getCallbackBatchOrBuilder();
+
     public com.microservice.proto.MessageProtocolPoJo.MessageProtocol.DataBodyCase getDataBodyCase();
   }
   /**
@@ -119,6 +359,10 @@ public final class MessageProtocolPoJo {
       clientKey_ = "";
       channelKey_ = "";
       dataType_ = 0;
+      protocolId_ = 0;
+      compression_ = 0;
+      compressedBody_ = com.google.protobuf.ByteString.EMPTY;
+      rawSize_ = 0;
     }
 
     @java.lang.Override
@@ -208,6 +452,125 @@ public final class MessageProtocolPoJo {
               dataBodyCase_ = 8;
               break;
             }
+            case 74: {
+              com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder subBuilder = null;
+              if (dataBodyCase_ == 9) {
+                subBuilder = ((com.microservice.proto.MessageProtocolPoJo.TaskDispatch) dataBody_).toBuilder();
+              }
+              dataBody_ =
+                  input.readMessage(com.microservice.proto.MessageProtocolPoJo.TaskDispatch.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.microservice.proto.MessageProtocolPoJo.TaskDispatch) dataBody_);
+                dataBody_ = subBuilder.buildPartial();
+              }
+              dataBodyCase_ = 9;
+              break;
+            }
+            case 82: {
+              com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder subBuilder = null;
+              if (dataBodyCase_ == 10) {
+                subBuilder = ((com.microservice.proto.MessageProtocolPoJo.TaskCallback) dataBody_).toBuilder();
+              }
+              dataBody_ =
+                  input.readMessage(com.microservice.proto.MessageProtocolPoJo.TaskCallback.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.microservice.proto.MessageProtocolPoJo.TaskCallback) dataBody_);
+                dataBody_ = subBuilder.buildPartial();
+              }
+              dataBodyCase_ = 10;
+              break;
+            }
+            case 90: {
+              com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.Builder subBuilder = null;
+              if (dataBodyCase_ == 11) {
+                subBuilder = ((com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) dataBody_).toBuilder();
+              }
+              dataBody_ =
+                  input.readMessage(com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) dataBody_);
+                dataBody_ = subBuilder.buildPartial();
+              }
+              dataBodyCase_ = 11;
+              break;
+            }
+            case 98: {
+              com.microservice.proto.MessageProtocolPoJo.Heartbeat.Builder subBuilder = null;
+              if (dataBodyCase_ == 12) {
+                subBuilder = ((com.microservice.proto.MessageProtocolPoJo.Heartbeat) dataBody_).toBuilder();
+              }
+              dataBody_ =
+                  input.readMessage(com.microservice.proto.MessageProtocolPoJo.Heartbeat.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.microservice.proto.MessageProtocolPoJo.Heartbeat) dataBody_);
+                dataBody_ = subBuilder.buildPartial();
+              }
+              dataBodyCase_ = 12;
+              break;
+            }
+            case 104: {
+
+              protocolId_ = input.readInt32();
+              break;
+            }
+            case 114: {
+              com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.Builder subBuilder = null;
+              if (dataBodyCase_ == 14) {
+                subBuilder = ((com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) dataBody_).toBuilder();
+              }
+              dataBody_ =
+                  input.readMessage(com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) dataBody_);
+                dataBody_ = subBuilder.buildPartial();
+              }
+              dataBodyCase_ = 14;
+              break;
+            }
+            case 120: {
+              int rawValue = input.readEnum();
+
+              compression_ = rawValue;
+              break;
+            }
+            case 130: {
+
+              compressedBody_ = input.readBytes();
+              break;
+            }
+            case 136: {
+
+              rawSize_ = input.readInt32();
+              break;
+            }
+            case 146: {
+              com.microservice.proto.MessageProtocolPoJo.TaskKill.Builder subBuilder = null;
+              if (dataBodyCase_ == 18) {
+                subBuilder = ((com.microservice.proto.MessageProtocolPoJo.TaskKill) dataBody_).toBuilder();
+              }
+              dataBody_ =
+                  input.readMessage(com.microservice.proto.MessageProtocolPoJo.TaskKill.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.microservice.proto.MessageProtocolPoJo.TaskKill) dataBody_);
+                dataBody_ = subBuilder.buildPartial();
+              }
+              dataBodyCase_ = 18;
+              break;
+            }
+            case 154: {
+              com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.Builder subBuilder = null;
+              if (dataBodyCase_ == 19) {
+                subBuilder = ((com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) dataBody_).toBuilder();
+              }
+              dataBody_ =
+                  input.readMessage(com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) dataBody_);
+                dataBody_ = subBuilder.buildPartial();
+              }
+              dataBodyCase_ = 19;
+              break;
+            }
             default: {
               if (!parseUnknownFieldProto3(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -344,6 +707,13 @@ public final class MessageProtocolPoJo {
         implements com.google.protobuf.Internal.EnumLite {
       STUDENT(7),
       WORKER(8),
+      DISPATCH(9),
+      CALLBACK(10),
+      REGISTER(11),
+      HEARTBEAT(12),
+      DISPATCHBATCH(14),
+      KILL(18),
+      CALLBACKBATCH(19),
       DATABODY_NOT_SET(0);
       private final int value;
       private DataBodyCase(int value) {
@@ -361,6 +731,13 @@ public final class MessageProtocolPoJo {
         switch (value) {
           case 7: return STUDENT;
           case 8: return WORKER;
+          case 9: return DISPATCH;
+          case 10: return CALLBACK;
+          case 11: return REGISTER;
+          case 12: return HEARTBEAT;
+          case 14: return DISPATCHBATCH;
+          case 18: return KILL;
+          case 19: return CALLBACKBATCH;
           case 0: return DATABODY_NOT_SET;
           default: return null;
         }
@@ -538,6 +915,64 @@ public final class MessageProtocolPoJo {
       return result == null ? com.microservice.proto.MessageProtocolPoJo.MessageProtocol.DataType.UNRECOGNIZED : result;
     }
 
+    public static final int PROTOCOLID_FIELD_NUMBER = 13;
+    private int protocolId_;
+    /**
+     * <pre>
+     * 协议编号, 见 ProtocolStausEnum; 旧版本只发送 protocol 名称
+     * </pre>
+     *
+     * <code>int32 protocolId = 13;</code>
+     */
+    public int getProtocolId() {
+      return protocolId_;
+    }
+
+    public static final int COMPRESSION_FIELD_NUMBER = 15;
+    private int compression_;
+    /**
+     * <pre>
+     * 压缩后的消息: compressedBody 为整个 MessageProtocol 压缩后的字节, rawSize 为压缩前字节数;
+     * 只发给注册时协商了压缩方式的对端
+     * </pre>
+     *
+     * <code>.Compression compression = 15;</code>
+     */
+    public int getCompressionValue() {
+      return compression_;
+    }
+    /**
+     * <pre>
+     * 压缩后的消息: compressedBody 为整个 MessageProtocol 压缩后的字节, rawSize 为压缩前字节数;
+     * 只发给注册时协商了压缩方式的对端
+     * </pre>
+     *
+     * <code>.Compression compression = 15;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.Compression getCompression() {
+      @SuppressWarnings("deprecation")
+      com.microservice.proto.MessageProtocolPoJo.Compression result = com.microservice.proto.MessageProtocolPoJo.Compression.valueOf(compression_);
+      return result == null ? com.microservice.proto.MessageProtocolPoJo.Compression.UNRECOGNIZED : result;
+    }
+
+    public static final int COMPRESSEDBODY_FIELD_NUMBER = 16;
+    private com.google.protobuf.ByteString compressedBody_;
+    /**
+     * <code>bytes compressedBody = 16;</code>
+     */
+    public com.google.protobuf.ByteString getCompressedBody() {
+      return compressedBody_;
+    }
+
+    public static final int RAWSIZE_FIELD_NUMBER = 17;
+    private int rawSize_;
+    /**
+     * <code>int32 rawSize = 17;</code>
+     */
+    public int getRawSize() {
+      return rawSize_;
+    }
+
     public static final int STUDENT_FIELD_NUMBER = 7;
     /**
      * <code>.Student student = 7;</code>
@@ -590,36 +1025,218 @@ public final class MessageProtocolPoJo {
       return com.microservice.proto.MessageProtocolPoJo.Worker.getDefaultInstance();
     }
 
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
+    public static final int DISPATCH_FIELD_NUMBER = 9;
+    /**
+     * <code>.TaskDispatch dispatch = 9;</code>
+     */
+    public boolean hasDispatch() {
+      return dataBodyCase_ == 9;
     }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (len_ != 0) {
-        output.writeInt32(1, len_);
+    /**
+     * <code>.TaskDispatch dispatch = 9;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskDispatch getDispatch() {
+      if (dataBodyCase_ == 9) {
+         return (com.microservice.proto.MessageProtocolPoJo.TaskDispatch) dataBody_;
       }
-      if (!getContentBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, content_);
+      return com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance();
+    }
+    /**
+     * <code>.TaskDispatch dispatch = 9;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder getDispatchOrBuilder() {
+      if (dataBodyCase_ == 9) {
+         return (com.microservice.proto.MessageProtocolPoJo.TaskDispatch) dataBody_;
       }
-      if (!getProtocolBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, protocol_);
+      return com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance();
+    }
+
+    public static final int CALLBACK_FIELD_NUMBER = 10;
+    /**
+     * <code>.TaskCallback callback = 10;</code>
+     */
+    public boolean hasCallback() {
+      return dataBodyCase_ == 10;
+    }
+    /**
+     * <code>.TaskCallback callback = 10;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskCallback getCallback() {
+      if (dataBodyCase_ == 10) {
+         return (com.microservice.proto.MessageProtocolPoJo.TaskCallback) dataBody_;
       }
-      if (!getClientKeyBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, clientKey_);
+      return com.microservice.proto.MessageProtocolPoJo.TaskCallback.getDefaultInstance();
+    }
+    /**
+     * <code>.TaskCallback callback = 10;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder getCallbackOrBuilder() {
+      if (dataBodyCase_ == 10) {
+         return (com.microservice.proto.MessageProtocolPoJo.TaskCallback) dataBody_;
       }
-      if (!getChannelKeyBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, channelKey_);
+      return com.microservice.proto.MessageProtocolPoJo.TaskCallback.getDefaultInstance();
+    }
+
+    public static final int REGISTER_FIELD_NUMBER = 11;
+    /**
+     * <code>.ExecutorRegister register = 11;</code>
+     */
+    public boolean hasRegister() {
+      return dataBodyCase_ == 11;
+    }
+    /**
+     * <code>.ExecutorRegister register = 11;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.ExecutorRegister getRegister() {
+      if (dataBodyCase_ == 11) {
+         return (com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) dataBody_;
       }
-      if (dataType_ != com.microservice.proto.MessageProtocolPoJo.MessageProtocol.DataType.StudentType.getNumber()) {
+      return com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.getDefaultInstance();
+    }
+    /**
+     * <code>.ExecutorRegister register = 11;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.ExecutorRegisterOrBuilder getRegisterOrBuilder() {
+      if (dataBodyCase_ == 11) {
+         return (com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) dataBody_;
+      }
+      return com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.getDefaultInstance();
+    }
+
+    public static final int HEARTBEAT_FIELD_NUMBER = 12;
+    /**
+     * <code>.Heartbeat heartbeat = 12;</code>
+     */
+    public boolean hasHeartbeat() {
+      return dataBodyCase_ == 12;
+    }
+    /**
+     * <code>.Heartbeat heartbeat = 12;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.Heartbeat getHeartbeat() {
+      if (dataBodyCase_ == 12) {
+         return (com.microservice.proto.MessageProtocolPoJo.Heartbeat) dataBody_;
+      }
+      return com.microservice.proto.MessageProtocolPoJo.Heartbeat.getDefaultInstance();
+    }
+    /**
+     * <code>.Heartbeat heartbeat = 12;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.HeartbeatOrBuilder getHeartbeatOrBuilder() {
+      if (dataBodyCase_ == 12) {
+         return (com.microservice.proto.MessageProtocolPoJo.Heartbeat) dataBody_;
+      }
+      return com.microservice.proto.MessageProtocolPoJo.Heartbeat.getDefaultInstance();
+    }
+
+    public static final int DISPATCHBATCH_FIELD_NUMBER = 14;
+    /**
+     * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+     */
+    public boolean hasDispatchBatch() {
+      return dataBodyCase_ == 14;
+    }
+    /**
+     * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch getDispatchBatch() {
+      if (dataBodyCase_ == 14) {
+         return (com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) dataBody_;
+      }
+      return com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.getDefaultInstance();
+    }
+    /**
+     * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatchOrBuilder getDispatchBatchOrBuilder() {
+      if (dataBodyCase_ == 14) {
+         return (com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) dataBody_;
+      }
+      return com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.getDefaultInstance();
+    }
+
+    public static final int KILL_FIELD_NUMBER = 18;
+    /**
+     * <code>.TaskKill kill = 18;</code>
+     */
+    public boolean hasKill() {
+      return dataBodyCase_ == 18;
+    }
+    /**
+     * <code>.TaskKill kill = 18;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskKill getKill() {
+      if (dataBodyCase_ == 18) {
+         return (com.microservice.proto.MessageProtocolPoJo.TaskKill) dataBody_;
+      }
+      return com.microservice.proto.MessageProtocolPoJo.TaskKill.getDefaultInstance();
+    }
+    /**
+     * <code>.TaskKill kill = 18;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskKillOrBuilder getKillOrBuilder() {
+      if (dataBodyCase_ == 18) {
+         return (com.microservice.proto.MessageProtocolPoJo.TaskKill) dataBody_;
+      }
+      return com.microservice.proto.MessageProtocolPoJo.TaskKill.getDefaultInstance();
+    }
+
+    public static final int CALLBACKBATCH_FIELD_NUMBER = 19;
+    /**
+     * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+     */
+    public boolean hasCallbackBatch() {
+      return dataBodyCase_ == 19;
+    }
+    /**
+     * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch getCallbackBatch() {
+      if (dataBodyCase_ == 19) {
+         return (com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) dataBody_;
+      }
+      return com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.getDefaultInstance();
+    }
+    /**
+     * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatchOrBuilder getCallbackBatchOrBuilder() {
+      if (dataBodyCase_ == 19) {
+         return (com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) dataBody_;
+      }
+      return com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (len_ != 0) {
+        output.writeInt32(1, len_);
+      }
+      if (!getContentBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, content_);
+      }
+      if (!getProtocolBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, protocol_);
+      }
+      if (!getClientKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, clientKey_);
+      }
+      if (!getChannelKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, channelKey_);
+      }
+      if (dataType_ != com.microservice.proto.MessageProtocolPoJo.MessageProtocol.DataType.StudentType.getNumber()) {
         output.writeEnum(6, dataType_);
       }
       if (dataBodyCase_ == 7) {
@@ -628,6 +1245,39 @@ public final class MessageProtocolPoJo {
       if (dataBodyCase_ == 8) {
         output.writeMessage(8, (com.microservice.proto.MessageProtocolPoJo.Worker) dataBody_);
       }
+      if (dataBodyCase_ == 9) {
+        output.writeMessage(9, (com.microservice.proto.MessageProtocolPoJo.TaskDispatch) dataBody_);
+      }
+      if (dataBodyCase_ == 10) {
+        output.writeMessage(10, (com.microservice.proto.MessageProtocolPoJo.TaskCallback) dataBody_);
+      }
+      if (dataBodyCase_ == 11) {
+        output.writeMessage(11, (com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) dataBody_);
+      }
+      if (dataBodyCase_ == 12) {
+        output.writeMessage(12, (com.microservice.proto.MessageProtocolPoJo.Heartbeat) dataBody_);
+      }
+      if (protocolId_ != 0) {
+        output.writeInt32(13, protocolId_);
+      }
+      if (dataBodyCase_ == 14) {
+        output.writeMessage(14, (com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) dataBody_);
+      }
+      if (compression_ != com.microservice.proto.MessageProtocolPoJo.Compression.NONE.getNumber()) {
+        output.writeEnum(15, compression_);
+      }
+      if (!compressedBody_.isEmpty()) {
+        output.writeBytes(16, compressedBody_);
+      }
+      if (rawSize_ != 0) {
+        output.writeInt32(17, rawSize_);
+      }
+      if (dataBodyCase_ == 18) {
+        output.writeMessage(18, (com.microservice.proto.MessageProtocolPoJo.TaskKill) dataBody_);
+      }
+      if (dataBodyCase_ == 19) {
+        output.writeMessage(19, (com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) dataBody_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -665,6 +1315,50 @@ public final class MessageProtocolPoJo {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(8, (com.microservice.proto.MessageProtocolPoJo.Worker) dataBody_);
       }
+      if (dataBodyCase_ == 9) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, (com.microservice.proto.MessageProtocolPoJo.TaskDispatch) dataBody_);
+      }
+      if (dataBodyCase_ == 10) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, (com.microservice.proto.MessageProtocolPoJo.TaskCallback) dataBody_);
+      }
+      if (dataBodyCase_ == 11) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, (com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) dataBody_);
+      }
+      if (dataBodyCase_ == 12) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, (com.microservice.proto.MessageProtocolPoJo.Heartbeat) dataBody_);
+      }
+      if (protocolId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(13, protocolId_);
+      }
+      if (dataBodyCase_ == 14) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(14, (com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) dataBody_);
+      }
+      if (compression_ != com.microservice.proto.MessageProtocolPoJo.Compression.NONE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(15, compression_);
+      }
+      if (!compressedBody_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(16, compressedBody_);
+      }
+      if (rawSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(17, rawSize_);
+      }
+      if (dataBodyCase_ == 18) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(18, (com.microservice.proto.MessageProtocolPoJo.TaskKill) dataBody_);
+      }
+      if (dataBodyCase_ == 19) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(19, (com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) dataBody_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -692,6 +1386,13 @@ public final class MessageProtocolPoJo {
       result = result && getChannelKey()
           .equals(other.getChannelKey());
       result = result && dataType_ == other.dataType_;
+      result = result && (getProtocolId()
+          == other.getProtocolId());
+      result = result && compression_ == other.compression_;
+      result = result && getCompressedBody()
+          .equals(other.getCompressedBody());
+      result = result && (getRawSize()
+          == other.getRawSize());
       result = result && getDataBodyCase().equals(
           other.getDataBodyCase());
       if (!result) return false;
@@ -704,6 +1405,34 @@ public final class MessageProtocolPoJo {
           result = result && getWorker()
               .equals(other.getWorker());
           break;
+        case 9:
+          result = result && getDispatch()
+              .equals(other.getDispatch());
+          break;
+        case 10:
+          result = result && getCallback()
+              .equals(other.getCallback());
+          break;
+        case 11:
+          result = result && getRegister()
+              .equals(other.getRegister());
+          break;
+        case 12:
+          result = result && getHeartbeat()
+              .equals(other.getHeartbeat());
+          break;
+        case 14:
+          result = result && getDispatchBatch()
+              .equals(other.getDispatchBatch());
+          break;
+        case 18:
+          result = result && getKill()
+              .equals(other.getKill());
+          break;
+        case 19:
+          result = result && getCallbackBatch()
+              .equals(other.getCallbackBatch());
+          break;
         case 0:
         default:
       }
@@ -730,6 +1459,14 @@ public final class MessageProtocolPoJo {
       hash = (53 * hash) + getChannelKey().hashCode();
       hash = (37 * hash) + DATA_TYPE_FIELD_NUMBER;
       hash = (53 * hash) + dataType_;
+      hash = (37 * hash) + PROTOCOLID_FIELD_NUMBER;
+      hash = (53 * hash) + getProtocolId();
+      hash = (37 * hash) + COMPRESSION_FIELD_NUMBER;
+      hash = (53 * hash) + compression_;
+      hash = (37 * hash) + COMPRESSEDBODY_FIELD_NUMBER;
+      hash = (53 * hash) + getCompressedBody().hashCode();
+      hash = (37 * hash) + RAWSIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getRawSize();
       switch (dataBodyCase_) {
         case 7:
           hash = (37 * hash) + STUDENT_FIELD_NUMBER;
@@ -739,6 +1476,34 @@ public final class MessageProtocolPoJo {
           hash = (37 * hash) + WORKER_FIELD_NUMBER;
           hash = (53 * hash) + getWorker().hashCode();
           break;
+        case 9:
+          hash = (37 * hash) + DISPATCH_FIELD_NUMBER;
+          hash = (53 * hash) + getDispatch().hashCode();
+          break;
+        case 10:
+          hash = (37 * hash) + CALLBACK_FIELD_NUMBER;
+          hash = (53 * hash) + getCallback().hashCode();
+          break;
+        case 11:
+          hash = (37 * hash) + REGISTER_FIELD_NUMBER;
+          hash = (53 * hash) + getRegister().hashCode();
+          break;
+        case 12:
+          hash = (37 * hash) + HEARTBEAT_FIELD_NUMBER;
+          hash = (53 * hash) + getHeartbeat().hashCode();
+          break;
+        case 14:
+          hash = (37 * hash) + DISPATCHBATCH_FIELD_NUMBER;
+          hash = (53 * hash) + getDispatchBatch().hashCode();
+          break;
+        case 18:
+          hash = (37 * hash) + KILL_FIELD_NUMBER;
+          hash = (53 * hash) + getKill().hashCode();
+          break;
+        case 19:
+          hash = (37 * hash) + CALLBACKBATCH_FIELD_NUMBER;
+          hash = (53 * hash) + getCallbackBatch().hashCode();
+          break;
         case 0:
         default:
       }
@@ -887,6 +1652,14 @@ public final class MessageProtocolPoJo {
 
         dataType_ = 0;
 
+        protocolId_ = 0;
+
+        compression_ = 0;
+
+        compressedBody_ = com.google.protobuf.ByteString.EMPTY;
+
+        rawSize_ = 0;
+
         dataBodyCase_ = 0;
         dataBody_ = null;
         return this;
@@ -921,6 +1694,10 @@ public final class MessageProtocolPoJo {
         result.clientKey_ = clientKey_;
         result.channelKey_ = channelKey_;
         result.dataType_ = dataType_;
+        result.protocolId_ = protocolId_;
+        result.compression_ = compression_;
+        result.compressedBody_ = compressedBody_;
+        result.rawSize_ = rawSize_;
         if (dataBodyCase_ == 7) {
           if (studentBuilder_ == null) {
             result.dataBody_ = dataBody_;
@@ -935,6 +1712,55 @@ public final class MessageProtocolPoJo {
             result.dataBody_ = workerBuilder_.build();
           }
         }
+        if (dataBodyCase_ == 9) {
+          if (dispatchBuilder_ == null) {
+            result.dataBody_ = dataBody_;
+          } else {
+            result.dataBody_ = dispatchBuilder_.build();
+          }
+        }
+        if (dataBodyCase_ == 10) {
+          if (callbackBuilder_ == null) {
+            result.dataBody_ = dataBody_;
+          } else {
+            result.dataBody_ = callbackBuilder_.build();
+          }
+        }
+        if (dataBodyCase_ == 11) {
+          if (registerBuilder_ == null) {
+            result.dataBody_ = dataBody_;
+          } else {
+            result.dataBody_ = registerBuilder_.build();
+          }
+        }
+        if (dataBodyCase_ == 12) {
+          if (heartbeatBuilder_ == null) {
+            result.dataBody_ = dataBody_;
+          } else {
+            result.dataBody_ = heartbeatBuilder_.build();
+          }
+        }
+        if (dataBodyCase_ == 14) {
+          if (dispatchBatchBuilder_ == null) {
+            result.dataBody_ = dataBody_;
+          } else {
+            result.dataBody_ = dispatchBatchBuilder_.build();
+          }
+        }
+        if (dataBodyCase_ == 18) {
+          if (killBuilder_ == null) {
+            result.dataBody_ = dataBody_;
+          } else {
+            result.dataBody_ = killBuilder_.build();
+          }
+        }
+        if (dataBodyCase_ == 19) {
+          if (callbackBatchBuilder_ == null) {
+            result.dataBody_ = dataBody_;
+          } else {
+            result.dataBody_ = callbackBatchBuilder_.build();
+          }
+        }
         result.dataBodyCase_ = dataBodyCase_;
         onBuilt();
         return result;
@@ -1006,6 +1832,18 @@ public final class MessageProtocolPoJo {
         if (other.dataType_ != 0) {
           setDataTypeValue(other.getDataTypeValue());
         }
+        if (other.getProtocolId() != 0) {
+          setProtocolId(other.getProtocolId());
+        }
+        if (other.compression_ != 0) {
+          setCompressionValue(other.getCompressionValue());
+        }
+        if (other.getCompressedBody() != com.google.protobuf.ByteString.EMPTY) {
+          setCompressedBody(other.getCompressedBody());
+        }
+        if (other.getRawSize() != 0) {
+          setRawSize(other.getRawSize());
+        }
         switch (other.getDataBodyCase()) {
           case STUDENT: {
             mergeStudent(other.getStudent());
@@ -1015,6 +1853,34 @@ public final class MessageProtocolPoJo {
             mergeWorker(other.getWorker());
             break;
           }
+          case DISPATCH: {
+            mergeDispatch(other.getDispatch());
+            break;
+          }
+          case CALLBACK: {
+            mergeCallback(other.getCallback());
+            break;
+          }
+          case REGISTER: {
+            mergeRegister(other.getRegister());
+            break;
+          }
+          case HEARTBEAT: {
+            mergeHeartbeat(other.getHeartbeat());
+            break;
+          }
+          case DISPATCHBATCH: {
+            mergeDispatchBatch(other.getDispatchBatch());
+            break;
+          }
+          case KILL: {
+            mergeKill(other.getKill());
+            break;
+          }
+          case CALLBACKBATCH: {
+            mergeCallbackBatch(other.getCallbackBatch());
+            break;
+          }
           case DATABODY_NOT_SET: {
             break;
           }
@@ -1410,69 +2276,232 @@ public final class MessageProtocolPoJo {
         return this;
       }
 
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.microservice.proto.MessageProtocolPoJo.Student, com.microservice.proto.MessageProtocolPoJo.Student.Builder, com.microservice.proto.MessageProtocolPoJo.StudentOrBuilder> studentBuilder_;
+      private int protocolId_ ;
       /**
-       * <code>.Student student = 7;</code>
+       * <pre>
+       * 协议编号, 见 ProtocolStausEnum; 旧版本只发送 protocol 名称
+       * </pre>
+       *
+       * <code>int32 protocolId = 13;</code>
        */
-      public boolean hasStudent() {
-        return dataBodyCase_ == 7;
+      public int getProtocolId() {
+        return protocolId_;
       }
       /**
-       * <code>.Student student = 7;</code>
+       * <pre>
+       * 协议编号, 见 ProtocolStausEnum; 旧版本只发送 protocol 名称
+       * </pre>
+       *
+       * <code>int32 protocolId = 13;</code>
        */
-      public com.microservice.proto.MessageProtocolPoJo.Student getStudent() {
-        if (studentBuilder_ == null) {
-          if (dataBodyCase_ == 7) {
-            return (com.microservice.proto.MessageProtocolPoJo.Student) dataBody_;
-          }
-          return com.microservice.proto.MessageProtocolPoJo.Student.getDefaultInstance();
-        } else {
-          if (dataBodyCase_ == 7) {
-            return studentBuilder_.getMessage();
-          }
-          return com.microservice.proto.MessageProtocolPoJo.Student.getDefaultInstance();
-        }
+      public Builder setProtocolId(int value) {
+        
+        protocolId_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>.Student student = 7;</code>
+       * <pre>
+       * 协议编号, 见 ProtocolStausEnum; 旧版本只发送 protocol 名称
+       * </pre>
+       *
+       * <code>int32 protocolId = 13;</code>
        */
-      public Builder setStudent(com.microservice.proto.MessageProtocolPoJo.Student value) {
-        if (studentBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          dataBody_ = value;
-          onChanged();
-        } else {
-          studentBuilder_.setMessage(value);
-        }
-        dataBodyCase_ = 7;
+      public Builder clearProtocolId() {
+        
+        protocolId_ = 0;
+        onChanged();
         return this;
       }
+
+      private int compression_ = 0;
       /**
-       * <code>.Student student = 7;</code>
+       * <pre>
+       * 压缩后的消息: compressedBody 为整个 MessageProtocol 压缩后的字节, rawSize 为压缩前字节数;
+       * 只发给注册时协商了压缩方式的对端
+       * </pre>
+       *
+       * <code>.Compression compression = 15;</code>
        */
-      public Builder setStudent(
-          com.microservice.proto.MessageProtocolPoJo.Student.Builder builderForValue) {
-        if (studentBuilder_ == null) {
-          dataBody_ = builderForValue.build();
-          onChanged();
-        } else {
-          studentBuilder_.setMessage(builderForValue.build());
-        }
-        dataBodyCase_ = 7;
+      public int getCompressionValue() {
+        return compression_;
+      }
+      /**
+       * <pre>
+       * 压缩后的消息: compressedBody 为整个 MessageProtocol 压缩后的字节, rawSize 为压缩前字节数;
+       * 只发给注册时协商了压缩方式的对端
+       * </pre>
+       *
+       * <code>.Compression compression = 15;</code>
+       */
+      public Builder setCompressionValue(int value) {
+        compression_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>.Student student = 7;</code>
+       * <pre>
+       * 压缩后的消息: compressedBody 为整个 MessageProtocol 压缩后的字节, rawSize 为压缩前字节数;
+       * 只发给注册时协商了压缩方式的对端
+       * </pre>
+       *
+       * <code>.Compression compression = 15;</code>
        */
-      public Builder mergeStudent(com.microservice.proto.MessageProtocolPoJo.Student value) {
-        if (studentBuilder_ == null) {
-          if (dataBodyCase_ == 7 &&
-              dataBody_ != com.microservice.proto.MessageProtocolPoJo.Student.getDefaultInstance()) {
-            dataBody_ = com.microservice.proto.MessageProtocolPoJo.Student.newBuilder((com.microservice.proto.MessageProtocolPoJo.Student) dataBody_)
-                .mergeFrom(value).buildPartial();
+      public com.microservice.proto.MessageProtocolPoJo.Compression getCompression() {
+        @SuppressWarnings("deprecation")
+        com.microservice.proto.MessageProtocolPoJo.Compression result = com.microservice.proto.MessageProtocolPoJo.Compression.valueOf(compression_);
+        return result == null ? com.microservice.proto.MessageProtocolPoJo.Compression.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * 压缩后的消息: compressedBody 为整个 MessageProtocol 压缩后的字节, rawSize 为压缩前字节数;
+       * 只发给注册时协商了压缩方式的对端
+       * </pre>
+       *
+       * <code>.Compression compression = 15;</code>
+       */
+      public Builder setCompression(com.microservice.proto.MessageProtocolPoJo.Compression value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        compression_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 压缩后的消息: compressedBody 为整个 MessageProtocol 压缩后的字节, rawSize 为压缩前字节数;
+       * 只发给注册时协商了压缩方式的对端
+       * </pre>
+       *
+       * <code>.Compression compression = 15;</code>
+       */
+      public Builder clearCompression() {
+        
+        compression_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString compressedBody_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes compressedBody = 16;</code>
+       */
+      public com.google.protobuf.ByteString getCompressedBody() {
+        return compressedBody_;
+      }
+      /**
+       * <code>bytes compressedBody = 16;</code>
+       */
+      public Builder setCompressedBody(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        compressedBody_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes compressedBody = 16;</code>
+       */
+      public Builder clearCompressedBody() {
+        
+        compressedBody_ = getDefaultInstance().getCompressedBody();
+        onChanged();
+        return this;
+      }
+
+      private int rawSize_ ;
+      /**
+       * <code>int32 rawSize = 17;</code>
+       */
+      public int getRawSize() {
+        return rawSize_;
+      }
+      /**
+       * <code>int32 rawSize = 17;</code>
+       */
+      public Builder setRawSize(int value) {
+        
+        rawSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 rawSize = 17;</code>
+       */
+      public Builder clearRawSize() {
+        
+        rawSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.Student, com.microservice.proto.MessageProtocolPoJo.Student.Builder, com.microservice.proto.MessageProtocolPoJo.StudentOrBuilder> studentBuilder_;
+      /**
+       * <code>.Student student = 7;</code>
+       */
+      public boolean hasStudent() {
+        return dataBodyCase_ == 7;
+      }
+      /**
+       * <code>.Student student = 7;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.Student getStudent() {
+        if (studentBuilder_ == null) {
+          if (dataBodyCase_ == 7) {
+            return (com.microservice.proto.MessageProtocolPoJo.Student) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.Student.getDefaultInstance();
+        } else {
+          if (dataBodyCase_ == 7) {
+            return studentBuilder_.getMessage();
+          }
+          return com.microservice.proto.MessageProtocolPoJo.Student.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.Student student = 7;</code>
+       */
+      public Builder setStudent(com.microservice.proto.MessageProtocolPoJo.Student value) {
+        if (studentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dataBody_ = value;
+          onChanged();
+        } else {
+          studentBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.Student student = 7;</code>
+       */
+      public Builder setStudent(
+          com.microservice.proto.MessageProtocolPoJo.Student.Builder builderForValue) {
+        if (studentBuilder_ == null) {
+          dataBody_ = builderForValue.build();
+          onChanged();
+        } else {
+          studentBuilder_.setMessage(builderForValue.build());
+        }
+        dataBodyCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.Student student = 7;</code>
+       */
+      public Builder mergeStudent(com.microservice.proto.MessageProtocolPoJo.Student value) {
+        if (studentBuilder_ == null) {
+          if (dataBodyCase_ == 7 &&
+              dataBody_ != com.microservice.proto.MessageProtocolPoJo.Student.getDefaultInstance()) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.Student.newBuilder((com.microservice.proto.MessageProtocolPoJo.Student) dataBody_)
+                .mergeFrom(value).buildPartial();
           } else {
             dataBody_ = value;
           }
@@ -1681,134 +2710,9365 @@ public final class MessageProtocolPoJo {
         onChanged();;
         return workerBuilder_;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder> dispatchBuilder_;
+      /**
+       * <code>.TaskDispatch dispatch = 9;</code>
+       */
+      public boolean hasDispatch() {
+        return dataBodyCase_ == 9;
       }
-
-
-      // @@protoc_insertion_point(builder_scope:MessageProtocol)
-    }
-
-    // @@protoc_insertion_point(class_scope:MessageProtocol)
-    private static final com.microservice.proto.MessageProtocolPoJo.MessageProtocol DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.MessageProtocol();
-    }
-
-    public static com.microservice.proto.MessageProtocolPoJo.MessageProtocol getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<MessageProtocol>
-        PARSER = new com.google.protobuf.AbstractParser<MessageProtocol>() {
-      @java.lang.Override
-      public MessageProtocol parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new MessageProtocol(input, extensionRegistry);
+      /**
+       * <code>.TaskDispatch dispatch = 9;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatch getDispatch() {
+        if (dispatchBuilder_ == null) {
+          if (dataBodyCase_ == 9) {
+            return (com.microservice.proto.MessageProtocolPoJo.TaskDispatch) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance();
+        } else {
+          if (dataBodyCase_ == 9) {
+            return dispatchBuilder_.getMessage();
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance();
+        }
       }
-    };
-
-    public static com.google.protobuf.Parser<MessageProtocol> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<MessageProtocol> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.microservice.proto.MessageProtocolPoJo.MessageProtocol getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface StudentOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Student)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>int32 id = 1;</code>
-     */
-    int getId();
-
-    /**
-     * <pre>
-     * </pre>
-     *
-     * <code>string name = 2;</code>
-     */
-    java.lang.String getName();
-    /**
-     * <pre>
-     * </pre>
-     *
-     * <code>string name = 2;</code>
-     */
-    com.google.protobuf.ByteString
-        getNameBytes();
-  }
-  /**
-   * Protobuf type {@code Student}
-   */
-  public  static final class Student extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:Student)
-      StudentOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use Student.newBuilder() to construct.
-    private Student(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private Student() {
-      id_ = 0;
-      name_ = "";
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private Student(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
+      /**
+       * <code>.TaskDispatch dispatch = 9;</code>
+       */
+      public Builder setDispatch(com.microservice.proto.MessageProtocolPoJo.TaskDispatch value) {
+        if (dispatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dataBody_ = value;
+          onChanged();
+        } else {
+          dispatchBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 9;
+        return this;
       }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
+      /**
+       * <code>.TaskDispatch dispatch = 9;</code>
+       */
+      public Builder setDispatch(
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder builderForValue) {
+        if (dispatchBuilder_ == null) {
+          dataBody_ = builderForValue.build();
+          onChanged();
+        } else {
+          dispatchBuilder_.setMessage(builderForValue.build());
+        }
+        dataBodyCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.TaskDispatch dispatch = 9;</code>
+       */
+      public Builder mergeDispatch(com.microservice.proto.MessageProtocolPoJo.TaskDispatch value) {
+        if (dispatchBuilder_ == null) {
+          if (dataBodyCase_ == 9 &&
+              dataBody_ != com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance()) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.TaskDispatch.newBuilder((com.microservice.proto.MessageProtocolPoJo.TaskDispatch) dataBody_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            dataBody_ = value;
+          }
+          onChanged();
+        } else {
+          if (dataBodyCase_ == 9) {
+            dispatchBuilder_.mergeFrom(value);
+          }
+          dispatchBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.TaskDispatch dispatch = 9;</code>
+       */
+      public Builder clearDispatch() {
+        if (dispatchBuilder_ == null) {
+          if (dataBodyCase_ == 9) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+            onChanged();
+          }
+        } else {
+          if (dataBodyCase_ == 9) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+          }
+          dispatchBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.TaskDispatch dispatch = 9;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder getDispatchBuilder() {
+        return getDispatchFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.TaskDispatch dispatch = 9;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder getDispatchOrBuilder() {
+        if ((dataBodyCase_ == 9) && (dispatchBuilder_ != null)) {
+          return dispatchBuilder_.getMessageOrBuilder();
+        } else {
+          if (dataBodyCase_ == 9) {
+            return (com.microservice.proto.MessageProtocolPoJo.TaskDispatch) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.TaskDispatch dispatch = 9;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder> 
+          getDispatchFieldBuilder() {
+        if (dispatchBuilder_ == null) {
+          if (!(dataBodyCase_ == 9)) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance();
+          }
+          dispatchBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.microservice.proto.MessageProtocolPoJo.TaskDispatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder>(
+                  (com.microservice.proto.MessageProtocolPoJo.TaskDispatch) dataBody_,
+                  getParentForChildren(),
+                  isClean());
+          dataBody_ = null;
+        }
+        dataBodyCase_ = 9;
+        onChanged();;
+        return dispatchBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskCallback, com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder, com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder> callbackBuilder_;
+      /**
+       * <code>.TaskCallback callback = 10;</code>
+       */
+      public boolean hasCallback() {
+        return dataBodyCase_ == 10;
+      }
+      /**
+       * <code>.TaskCallback callback = 10;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallback getCallback() {
+        if (callbackBuilder_ == null) {
+          if (dataBodyCase_ == 10) {
+            return (com.microservice.proto.MessageProtocolPoJo.TaskCallback) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskCallback.getDefaultInstance();
+        } else {
+          if (dataBodyCase_ == 10) {
+            return callbackBuilder_.getMessage();
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskCallback.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.TaskCallback callback = 10;</code>
+       */
+      public Builder setCallback(com.microservice.proto.MessageProtocolPoJo.TaskCallback value) {
+        if (callbackBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dataBody_ = value;
+          onChanged();
+        } else {
+          callbackBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.TaskCallback callback = 10;</code>
+       */
+      public Builder setCallback(
+          com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder builderForValue) {
+        if (callbackBuilder_ == null) {
+          dataBody_ = builderForValue.build();
+          onChanged();
+        } else {
+          callbackBuilder_.setMessage(builderForValue.build());
+        }
+        dataBodyCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.TaskCallback callback = 10;</code>
+       */
+      public Builder mergeCallback(com.microservice.proto.MessageProtocolPoJo.TaskCallback value) {
+        if (callbackBuilder_ == null) {
+          if (dataBodyCase_ == 10 &&
+              dataBody_ != com.microservice.proto.MessageProtocolPoJo.TaskCallback.getDefaultInstance()) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.TaskCallback.newBuilder((com.microservice.proto.MessageProtocolPoJo.TaskCallback) dataBody_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            dataBody_ = value;
+          }
+          onChanged();
+        } else {
+          if (dataBodyCase_ == 10) {
+            callbackBuilder_.mergeFrom(value);
+          }
+          callbackBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.TaskCallback callback = 10;</code>
+       */
+      public Builder clearCallback() {
+        if (callbackBuilder_ == null) {
+          if (dataBodyCase_ == 10) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+            onChanged();
+          }
+        } else {
+          if (dataBodyCase_ == 10) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+          }
+          callbackBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.TaskCallback callback = 10;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder getCallbackBuilder() {
+        return getCallbackFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.TaskCallback callback = 10;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder getCallbackOrBuilder() {
+        if ((dataBodyCase_ == 10) && (callbackBuilder_ != null)) {
+          return callbackBuilder_.getMessageOrBuilder();
+        } else {
+          if (dataBodyCase_ == 10) {
+            return (com.microservice.proto.MessageProtocolPoJo.TaskCallback) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskCallback.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.TaskCallback callback = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskCallback, com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder, com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder> 
+          getCallbackFieldBuilder() {
+        if (callbackBuilder_ == null) {
+          if (!(dataBodyCase_ == 10)) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.TaskCallback.getDefaultInstance();
+          }
+          callbackBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.microservice.proto.MessageProtocolPoJo.TaskCallback, com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder, com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder>(
+                  (com.microservice.proto.MessageProtocolPoJo.TaskCallback) dataBody_,
+                  getParentForChildren(),
+                  isClean());
+          dataBody_ = null;
+        }
+        dataBodyCase_ = 10;
+        onChanged();;
+        return callbackBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.ExecutorRegister, com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.Builder, com.microservice.proto.MessageProtocolPoJo.ExecutorRegisterOrBuilder> registerBuilder_;
+      /**
+       * <code>.ExecutorRegister register = 11;</code>
+       */
+      public boolean hasRegister() {
+        return dataBodyCase_ == 11;
+      }
+      /**
+       * <code>.ExecutorRegister register = 11;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.ExecutorRegister getRegister() {
+        if (registerBuilder_ == null) {
+          if (dataBodyCase_ == 11) {
+            return (com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.getDefaultInstance();
+        } else {
+          if (dataBodyCase_ == 11) {
+            return registerBuilder_.getMessage();
+          }
+          return com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ExecutorRegister register = 11;</code>
+       */
+      public Builder setRegister(com.microservice.proto.MessageProtocolPoJo.ExecutorRegister value) {
+        if (registerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dataBody_ = value;
+          onChanged();
+        } else {
+          registerBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.ExecutorRegister register = 11;</code>
+       */
+      public Builder setRegister(
+          com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.Builder builderForValue) {
+        if (registerBuilder_ == null) {
+          dataBody_ = builderForValue.build();
+          onChanged();
+        } else {
+          registerBuilder_.setMessage(builderForValue.build());
+        }
+        dataBodyCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.ExecutorRegister register = 11;</code>
+       */
+      public Builder mergeRegister(com.microservice.proto.MessageProtocolPoJo.ExecutorRegister value) {
+        if (registerBuilder_ == null) {
+          if (dataBodyCase_ == 11 &&
+              dataBody_ != com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.getDefaultInstance()) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.newBuilder((com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) dataBody_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            dataBody_ = value;
+          }
+          onChanged();
+        } else {
+          if (dataBodyCase_ == 11) {
+            registerBuilder_.mergeFrom(value);
+          }
+          registerBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.ExecutorRegister register = 11;</code>
+       */
+      public Builder clearRegister() {
+        if (registerBuilder_ == null) {
+          if (dataBodyCase_ == 11) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+            onChanged();
+          }
+        } else {
+          if (dataBodyCase_ == 11) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+          }
+          registerBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ExecutorRegister register = 11;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.Builder getRegisterBuilder() {
+        return getRegisterFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ExecutorRegister register = 11;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.ExecutorRegisterOrBuilder getRegisterOrBuilder() {
+        if ((dataBodyCase_ == 11) && (registerBuilder_ != null)) {
+          return registerBuilder_.getMessageOrBuilder();
+        } else {
+          if (dataBodyCase_ == 11) {
+            return (com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ExecutorRegister register = 11;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.ExecutorRegister, com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.Builder, com.microservice.proto.MessageProtocolPoJo.ExecutorRegisterOrBuilder> 
+          getRegisterFieldBuilder() {
+        if (registerBuilder_ == null) {
+          if (!(dataBodyCase_ == 11)) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.getDefaultInstance();
+          }
+          registerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.microservice.proto.MessageProtocolPoJo.ExecutorRegister, com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.Builder, com.microservice.proto.MessageProtocolPoJo.ExecutorRegisterOrBuilder>(
+                  (com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) dataBody_,
+                  getParentForChildren(),
+                  isClean());
+          dataBody_ = null;
+        }
+        dataBodyCase_ = 11;
+        onChanged();;
+        return registerBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.Heartbeat, com.microservice.proto.MessageProtocolPoJo.Heartbeat.Builder, com.microservice.proto.MessageProtocolPoJo.HeartbeatOrBuilder> heartbeatBuilder_;
+      /**
+       * <code>.Heartbeat heartbeat = 12;</code>
+       */
+      public boolean hasHeartbeat() {
+        return dataBodyCase_ == 12;
+      }
+      /**
+       * <code>.Heartbeat heartbeat = 12;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.Heartbeat getHeartbeat() {
+        if (heartbeatBuilder_ == null) {
+          if (dataBodyCase_ == 12) {
+            return (com.microservice.proto.MessageProtocolPoJo.Heartbeat) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.Heartbeat.getDefaultInstance();
+        } else {
+          if (dataBodyCase_ == 12) {
+            return heartbeatBuilder_.getMessage();
+          }
+          return com.microservice.proto.MessageProtocolPoJo.Heartbeat.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.Heartbeat heartbeat = 12;</code>
+       */
+      public Builder setHeartbeat(com.microservice.proto.MessageProtocolPoJo.Heartbeat value) {
+        if (heartbeatBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dataBody_ = value;
+          onChanged();
+        } else {
+          heartbeatBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.Heartbeat heartbeat = 12;</code>
+       */
+      public Builder setHeartbeat(
+          com.microservice.proto.MessageProtocolPoJo.Heartbeat.Builder builderForValue) {
+        if (heartbeatBuilder_ == null) {
+          dataBody_ = builderForValue.build();
+          onChanged();
+        } else {
+          heartbeatBuilder_.setMessage(builderForValue.build());
+        }
+        dataBodyCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.Heartbeat heartbeat = 12;</code>
+       */
+      public Builder mergeHeartbeat(com.microservice.proto.MessageProtocolPoJo.Heartbeat value) {
+        if (heartbeatBuilder_ == null) {
+          if (dataBodyCase_ == 12 &&
+              dataBody_ != com.microservice.proto.MessageProtocolPoJo.Heartbeat.getDefaultInstance()) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.Heartbeat.newBuilder((com.microservice.proto.MessageProtocolPoJo.Heartbeat) dataBody_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            dataBody_ = value;
+          }
+          onChanged();
+        } else {
+          if (dataBodyCase_ == 12) {
+            heartbeatBuilder_.mergeFrom(value);
+          }
+          heartbeatBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.Heartbeat heartbeat = 12;</code>
+       */
+      public Builder clearHeartbeat() {
+        if (heartbeatBuilder_ == null) {
+          if (dataBodyCase_ == 12) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+            onChanged();
+          }
+        } else {
+          if (dataBodyCase_ == 12) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+          }
+          heartbeatBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.Heartbeat heartbeat = 12;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.Heartbeat.Builder getHeartbeatBuilder() {
+        return getHeartbeatFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.Heartbeat heartbeat = 12;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.HeartbeatOrBuilder getHeartbeatOrBuilder() {
+        if ((dataBodyCase_ == 12) && (heartbeatBuilder_ != null)) {
+          return heartbeatBuilder_.getMessageOrBuilder();
+        } else {
+          if (dataBodyCase_ == 12) {
+            return (com.microservice.proto.MessageProtocolPoJo.Heartbeat) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.Heartbeat.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.Heartbeat heartbeat = 12;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.Heartbeat, com.microservice.proto.MessageProtocolPoJo.Heartbeat.Builder, com.microservice.proto.MessageProtocolPoJo.HeartbeatOrBuilder> 
+          getHeartbeatFieldBuilder() {
+        if (heartbeatBuilder_ == null) {
+          if (!(dataBodyCase_ == 12)) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.Heartbeat.getDefaultInstance();
+          }
+          heartbeatBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.microservice.proto.MessageProtocolPoJo.Heartbeat, com.microservice.proto.MessageProtocolPoJo.Heartbeat.Builder, com.microservice.proto.MessageProtocolPoJo.HeartbeatOrBuilder>(
+                  (com.microservice.proto.MessageProtocolPoJo.Heartbeat) dataBody_,
+                  getParentForChildren(),
+                  isClean());
+          dataBody_ = null;
+        }
+        dataBodyCase_ = 12;
+        onChanged();;
+        return heartbeatBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatchOrBuilder> dispatchBatchBuilder_;
+      /**
+       * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+       */
+      public boolean hasDispatchBatch() {
+        return dataBodyCase_ == 14;
+      }
+      /**
+       * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch getDispatchBatch() {
+        if (dispatchBatchBuilder_ == null) {
+          if (dataBodyCase_ == 14) {
+            return (com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.getDefaultInstance();
+        } else {
+          if (dataBodyCase_ == 14) {
+            return dispatchBatchBuilder_.getMessage();
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+       */
+      public Builder setDispatchBatch(com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch value) {
+        if (dispatchBatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dataBody_ = value;
+          onChanged();
+        } else {
+          dispatchBatchBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 14;
+        return this;
+      }
+      /**
+       * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+       */
+      public Builder setDispatchBatch(
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.Builder builderForValue) {
+        if (dispatchBatchBuilder_ == null) {
+          dataBody_ = builderForValue.build();
+          onChanged();
+        } else {
+          dispatchBatchBuilder_.setMessage(builderForValue.build());
+        }
+        dataBodyCase_ = 14;
+        return this;
+      }
+      /**
+       * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+       */
+      public Builder mergeDispatchBatch(com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch value) {
+        if (dispatchBatchBuilder_ == null) {
+          if (dataBodyCase_ == 14 &&
+              dataBody_ != com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.getDefaultInstance()) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.newBuilder((com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) dataBody_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            dataBody_ = value;
+          }
+          onChanged();
+        } else {
+          if (dataBodyCase_ == 14) {
+            dispatchBatchBuilder_.mergeFrom(value);
+          }
+          dispatchBatchBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 14;
+        return this;
+      }
+      /**
+       * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+       */
+      public Builder clearDispatchBatch() {
+        if (dispatchBatchBuilder_ == null) {
+          if (dataBodyCase_ == 14) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+            onChanged();
+          }
+        } else {
+          if (dataBodyCase_ == 14) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+          }
+          dispatchBatchBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.Builder getDispatchBatchBuilder() {
+        return getDispatchBatchFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatchOrBuilder getDispatchBatchOrBuilder() {
+        if ((dataBodyCase_ == 14) && (dispatchBatchBuilder_ != null)) {
+          return dispatchBatchBuilder_.getMessageOrBuilder();
+        } else {
+          if (dataBodyCase_ == 14) {
+            return (com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.TaskDispatchBatch dispatchBatch = 14;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatchOrBuilder> 
+          getDispatchBatchFieldBuilder() {
+        if (dispatchBatchBuilder_ == null) {
+          if (!(dataBodyCase_ == 14)) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.getDefaultInstance();
+          }
+          dispatchBatchBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatchOrBuilder>(
+                  (com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) dataBody_,
+                  getParentForChildren(),
+                  isClean());
+          dataBody_ = null;
+        }
+        dataBodyCase_ = 14;
+        onChanged();;
+        return dispatchBatchBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskKill, com.microservice.proto.MessageProtocolPoJo.TaskKill.Builder, com.microservice.proto.MessageProtocolPoJo.TaskKillOrBuilder> killBuilder_;
+      /**
+       * <code>.TaskKill kill = 18;</code>
+       */
+      public boolean hasKill() {
+        return dataBodyCase_ == 18;
+      }
+      /**
+       * <code>.TaskKill kill = 18;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskKill getKill() {
+        if (killBuilder_ == null) {
+          if (dataBodyCase_ == 18) {
+            return (com.microservice.proto.MessageProtocolPoJo.TaskKill) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskKill.getDefaultInstance();
+        } else {
+          if (dataBodyCase_ == 18) {
+            return killBuilder_.getMessage();
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskKill.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.TaskKill kill = 18;</code>
+       */
+      public Builder setKill(com.microservice.proto.MessageProtocolPoJo.TaskKill value) {
+        if (killBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dataBody_ = value;
+          onChanged();
+        } else {
+          killBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>.TaskKill kill = 18;</code>
+       */
+      public Builder setKill(
+          com.microservice.proto.MessageProtocolPoJo.TaskKill.Builder builderForValue) {
+        if (killBuilder_ == null) {
+          dataBody_ = builderForValue.build();
+          onChanged();
+        } else {
+          killBuilder_.setMessage(builderForValue.build());
+        }
+        dataBodyCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>.TaskKill kill = 18;</code>
+       */
+      public Builder mergeKill(com.microservice.proto.MessageProtocolPoJo.TaskKill value) {
+        if (killBuilder_ == null) {
+          if (dataBodyCase_ == 18 &&
+              dataBody_ != com.microservice.proto.MessageProtocolPoJo.TaskKill.getDefaultInstance()) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.TaskKill.newBuilder((com.microservice.proto.MessageProtocolPoJo.TaskKill) dataBody_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            dataBody_ = value;
+          }
+          onChanged();
+        } else {
+          if (dataBodyCase_ == 18) {
+            killBuilder_.mergeFrom(value);
+          }
+          killBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>.TaskKill kill = 18;</code>
+       */
+      public Builder clearKill() {
+        if (killBuilder_ == null) {
+          if (dataBodyCase_ == 18) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+            onChanged();
+          }
+        } else {
+          if (dataBodyCase_ == 18) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+          }
+          killBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.TaskKill kill = 18;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskKill.Builder getKillBuilder() {
+        return getKillFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.TaskKill kill = 18;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskKillOrBuilder getKillOrBuilder() {
+        if ((dataBodyCase_ == 18) && (killBuilder_ != null)) {
+          return killBuilder_.getMessageOrBuilder();
+        } else {
+          if (dataBodyCase_ == 18) {
+            return (com.microservice.proto.MessageProtocolPoJo.TaskKill) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskKill.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.TaskKill kill = 18;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskKill, com.microservice.proto.MessageProtocolPoJo.TaskKill.Builder, com.microservice.proto.MessageProtocolPoJo.TaskKillOrBuilder> 
+          getKillFieldBuilder() {
+        if (killBuilder_ == null) {
+          if (!(dataBodyCase_ == 18)) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.TaskKill.getDefaultInstance();
+          }
+          killBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.microservice.proto.MessageProtocolPoJo.TaskKill, com.microservice.proto.MessageProtocolPoJo.TaskKill.Builder, com.microservice.proto.MessageProtocolPoJo.TaskKillOrBuilder>(
+                  (com.microservice.proto.MessageProtocolPoJo.TaskKill) dataBody_,
+                  getParentForChildren(),
+                  isClean());
+          dataBody_ = null;
+        }
+        dataBodyCase_ = 18;
+        onChanged();;
+        return killBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch, com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatchOrBuilder> callbackBatchBuilder_;
+      /**
+       * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+       */
+      public boolean hasCallbackBatch() {
+        return dataBodyCase_ == 19;
+      }
+      /**
+       * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch getCallbackBatch() {
+        if (callbackBatchBuilder_ == null) {
+          if (dataBodyCase_ == 19) {
+            return (com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.getDefaultInstance();
+        } else {
+          if (dataBodyCase_ == 19) {
+            return callbackBatchBuilder_.getMessage();
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+       */
+      public Builder setCallbackBatch(com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch value) {
+        if (callbackBatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dataBody_ = value;
+          onChanged();
+        } else {
+          callbackBatchBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 19;
+        return this;
+      }
+      /**
+       * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+       */
+      public Builder setCallbackBatch(
+          com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.Builder builderForValue) {
+        if (callbackBatchBuilder_ == null) {
+          dataBody_ = builderForValue.build();
+          onChanged();
+        } else {
+          callbackBatchBuilder_.setMessage(builderForValue.build());
+        }
+        dataBodyCase_ = 19;
+        return this;
+      }
+      /**
+       * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+       */
+      public Builder mergeCallbackBatch(com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch value) {
+        if (callbackBatchBuilder_ == null) {
+          if (dataBodyCase_ == 19 &&
+              dataBody_ != com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.getDefaultInstance()) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.newBuilder((com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) dataBody_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            dataBody_ = value;
+          }
+          onChanged();
+        } else {
+          if (dataBodyCase_ == 19) {
+            callbackBatchBuilder_.mergeFrom(value);
+          }
+          callbackBatchBuilder_.setMessage(value);
+        }
+        dataBodyCase_ = 19;
+        return this;
+      }
+      /**
+       * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+       */
+      public Builder clearCallbackBatch() {
+        if (callbackBatchBuilder_ == null) {
+          if (dataBodyCase_ == 19) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+            onChanged();
+          }
+        } else {
+          if (dataBodyCase_ == 19) {
+            dataBodyCase_ = 0;
+            dataBody_ = null;
+          }
+          callbackBatchBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.Builder getCallbackBatchBuilder() {
+        return getCallbackBatchFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatchOrBuilder getCallbackBatchOrBuilder() {
+        if ((dataBodyCase_ == 19) && (callbackBatchBuilder_ != null)) {
+          return callbackBatchBuilder_.getMessageOrBuilder();
+        } else {
+          if (dataBodyCase_ == 19) {
+            return (com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) dataBody_;
+          }
+          return com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.TaskCallbackBatch callbackBatch = 19;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch, com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatchOrBuilder> 
+          getCallbackBatchFieldBuilder() {
+        if (callbackBatchBuilder_ == null) {
+          if (!(dataBodyCase_ == 19)) {
+            dataBody_ = com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.getDefaultInstance();
+          }
+          callbackBatchBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch, com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatchOrBuilder>(
+                  (com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) dataBody_,
+                  getParentForChildren(),
+                  isClean());
+          dataBody_ = null;
+        }
+        dataBodyCase_ = 19;
+        onChanged();;
+        return callbackBatchBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:MessageProtocol)
+    }
+
+    // @@protoc_insertion_point(class_scope:MessageProtocol)
+    private static final com.microservice.proto.MessageProtocolPoJo.MessageProtocol DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.MessageProtocol();
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.MessageProtocol getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<MessageProtocol>
+        PARSER = new com.google.protobuf.AbstractParser<MessageProtocol>() {
+      @java.lang.Override
+      public MessageProtocol parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MessageProtocol(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<MessageProtocol> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MessageProtocol> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.microservice.proto.MessageProtocolPoJo.MessageProtocol getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StudentOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Student)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 id = 1;</code>
+     */
+    int getId();
+
+    /**
+     * <pre>
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+  }
+  /**
+   * Protobuf type {@code Student}
+   */
+  public  static final class Student extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Student)
+      StudentOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Student.newBuilder() to construct.
+    private Student(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Student() {
+      id_ = 0;
+      name_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Student(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              id_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_Student_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_Student_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.microservice.proto.MessageProtocolPoJo.Student.class, com.microservice.proto.MessageProtocolPoJo.Student.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private int id_;
+    /**
+     * <code>int32 id = 1;</code>
+     */
+    public int getId() {
+      return id_;
+    }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object name_;
+    /**
+     * <pre>
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0) {
+        output.writeInt32(1, id_);
+      }
+      if (!getNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, id_);
+      }
+      if (!getNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.Student)) {
+        return super.equals(obj);
+      }
+      com.microservice.proto.MessageProtocolPoJo.Student other = (com.microservice.proto.MessageProtocolPoJo.Student) obj;
+
+      boolean result = true;
+      result = result && (getId()
+          == other.getId());
+      result = result && getName()
+          .equals(other.getName());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.Student prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Student}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Student)
+        com.microservice.proto.MessageProtocolPoJo.StudentOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_Student_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_Student_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.microservice.proto.MessageProtocolPoJo.Student.class, com.microservice.proto.MessageProtocolPoJo.Student.Builder.class);
+      }
+
+      // Construct using com.microservice.proto.MessageProtocolPoJo.Student.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        id_ = 0;
+
+        name_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_Student_descriptor;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.Student getDefaultInstanceForType() {
+        return com.microservice.proto.MessageProtocolPoJo.Student.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.Student build() {
+        com.microservice.proto.MessageProtocolPoJo.Student result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.Student buildPartial() {
+        com.microservice.proto.MessageProtocolPoJo.Student result = new com.microservice.proto.MessageProtocolPoJo.Student(this);
+        result.id_ = id_;
+        result.name_ = name_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.microservice.proto.MessageProtocolPoJo.Student) {
+          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.Student)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.Student other) {
+        if (other == com.microservice.proto.MessageProtocolPoJo.Student.getDefaultInstance()) return this;
+        if (other.getId() != 0) {
+          setId(other.getId());
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.microservice.proto.MessageProtocolPoJo.Student parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.Student) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int id_ ;
+      /**
+       * <code>int32 id = 1;</code>
+       */
+      public int getId() {
+        return id_;
+      }
+      /**
+       * <code>int32 id = 1;</code>
+       */
+      public Builder setId(int value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 id = 1;</code>
+       */
+      public Builder clearId() {
+        
+        id_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Student)
+    }
+
+    // @@protoc_insertion_point(class_scope:Student)
+    private static final com.microservice.proto.MessageProtocolPoJo.Student DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.Student();
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.Student getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Student>
+        PARSER = new com.google.protobuf.AbstractParser<Student>() {
+      @java.lang.Override
+      public Student parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Student(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Student> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Student> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.microservice.proto.MessageProtocolPoJo.Student getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WorkerOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Worker)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>int32 age = 2;</code>
+     */
+    int getAge();
+  }
+  /**
+   * Protobuf type {@code Worker}
+   */
+  public  static final class Worker extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Worker)
+      WorkerOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Worker.newBuilder() to construct.
+    private Worker(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Worker() {
+      name_ = "";
+      age_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Worker(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            case 16: {
+
+              age_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_Worker_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_Worker_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.microservice.proto.MessageProtocolPoJo.Worker.class, com.microservice.proto.MessageProtocolPoJo.Worker.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int AGE_FIELD_NUMBER = 2;
+    private int age_;
+    /**
+     * <code>int32 age = 2;</code>
+     */
+    public int getAge() {
+      return age_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (age_ != 0) {
+        output.writeInt32(2, age_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (age_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, age_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.Worker)) {
+        return super.equals(obj);
+      }
+      com.microservice.proto.MessageProtocolPoJo.Worker other = (com.microservice.proto.MessageProtocolPoJo.Worker) obj;
+
+      boolean result = true;
+      result = result && getName()
+          .equals(other.getName());
+      result = result && (getAge()
+          == other.getAge());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + AGE_FIELD_NUMBER;
+      hash = (53 * hash) + getAge();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.Worker prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Worker}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Worker)
+        com.microservice.proto.MessageProtocolPoJo.WorkerOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_Worker_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_Worker_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.microservice.proto.MessageProtocolPoJo.Worker.class, com.microservice.proto.MessageProtocolPoJo.Worker.Builder.class);
+      }
+
+      // Construct using com.microservice.proto.MessageProtocolPoJo.Worker.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+
+        age_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_Worker_descriptor;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.Worker getDefaultInstanceForType() {
+        return com.microservice.proto.MessageProtocolPoJo.Worker.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.Worker build() {
+        com.microservice.proto.MessageProtocolPoJo.Worker result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.Worker buildPartial() {
+        com.microservice.proto.MessageProtocolPoJo.Worker result = new com.microservice.proto.MessageProtocolPoJo.Worker(this);
+        result.name_ = name_;
+        result.age_ = age_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.microservice.proto.MessageProtocolPoJo.Worker) {
+          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.Worker)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.Worker other) {
+        if (other == com.microservice.proto.MessageProtocolPoJo.Worker.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.getAge() != 0) {
+          setAge(other.getAge());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.microservice.proto.MessageProtocolPoJo.Worker parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.Worker) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int age_ ;
+      /**
+       * <code>int32 age = 2;</code>
+       */
+      public int getAge() {
+        return age_;
+      }
+      /**
+       * <code>int32 age = 2;</code>
+       */
+      public Builder setAge(int value) {
+        
+        age_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 age = 2;</code>
+       */
+      public Builder clearAge() {
+        
+        age_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Worker)
+    }
+
+    // @@protoc_insertion_point(class_scope:Worker)
+    private static final com.microservice.proto.MessageProtocolPoJo.Worker DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.Worker();
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.Worker getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Worker>
+        PARSER = new com.google.protobuf.AbstractParser<Worker>() {
+      @java.lang.Override
+      public Worker parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Worker(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Worker> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Worker> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.microservice.proto.MessageProtocolPoJo.Worker getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskDispatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TaskDispatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool cron = 1;</code>
+     */
+    boolean getCron();
+
+    /**
+     * <code>string schedulerCron = 2;</code>
+     */
+    java.lang.String getSchedulerCron();
+    /**
+     * <code>string schedulerCron = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getSchedulerCronBytes();
+
+    /**
+     * <code>int64 schedulerFireTime = 3;</code>
+     */
+    long getSchedulerFireTime();
+
+    /**
+     * <code>int64 schedulerGivenTime = 4;</code>
+     */
+    long getSchedulerGivenTime();
+
+    /**
+     * <code>int64 schedulerGivenDelay = 5;</code>
+     */
+    long getSchedulerGivenDelay();
+
+    /**
+     * <code>string appName = 6;</code>
+     */
+    java.lang.String getAppName();
+    /**
+     * <code>string appName = 6;</code>
+     */
+    com.google.protobuf.ByteString
+        getAppNameBytes();
+
+    /**
+     * <code>string actuatorKey = 7;</code>
+     */
+    java.lang.String getActuatorKey();
+    /**
+     * <code>string actuatorKey = 7;</code>
+     */
+    com.google.protobuf.ByteString
+        getActuatorKeyBytes();
+
+    /**
+     * <code>string executorAddress = 8;</code>
+     */
+    java.lang.String getExecutorAddress();
+    /**
+     * <code>string executorAddress = 8;</code>
+     */
+    com.google.protobuf.ByteString
+        getExecutorAddressBytes();
+
+    /**
+     * <code>string jobHandler = 9;</code>
+     */
+    java.lang.String getJobHandler();
+    /**
+     * <code>string jobHandler = 9;</code>
+     */
+    com.google.protobuf.ByteString
+        getJobHandlerBytes();
+
+    /**
+     * <code>string jobHandlerParam = 10;</code>
+     */
+    java.lang.String getJobHandlerParam();
+    /**
+     * <code>string jobHandlerParam = 10;</code>
+     */
+    com.google.protobuf.ByteString
+        getJobHandlerParamBytes();
+
+    /**
+     * <code>string dispatchId = 11;</code>
+     */
+    java.lang.String getDispatchId();
+    /**
+     * <code>string dispatchId = 11;</code>
+     */
+    com.google.protobuf.ByteString
+        getDispatchIdBytes();
+
+    /**
+     * <code>int32 taskId = 12;</code>
+     */
+    int getTaskId();
+
+    /**
+     * <code>int32 retryCount = 13;</code>
+     */
+    int getRetryCount();
+
+    /**
+     * <code>string writeLog = 14;</code>
+     */
+    java.lang.String getWriteLog();
+    /**
+     * <code>string writeLog = 14;</code>
+     */
+    com.google.protobuf.ByteString
+        getWriteLogBytes();
+
+    /**
+     * <pre>
+     * 分片广播时本实例的分片序号与分片总数, 未分片时 shardTotal 为 0
+     * </pre>
+     *
+     * <code>int32 shardIndex = 15;</code>
+     */
+    int getShardIndex();
+
+    /**
+     * <code>int32 shardTotal = 16;</code>
+     */
+    int getShardTotal();
+
+    /**
+     * <pre>
+     * 执行超时秒数, 0 不限制
+     * </pre>
+     *
+     * <code>int32 timeout = 17;</code>
+     */
+    int getTimeout();
+  }
+  /**
+   * <pre>
+   * 任务指派, 时间为 LocalDateTime 按 UTC 换算的毫秒数
+   * </pre>
+   *
+   * Protobuf type {@code TaskDispatch}
+   */
+  public  static final class TaskDispatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TaskDispatch)
+      TaskDispatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskDispatch.newBuilder() to construct.
+    private TaskDispatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskDispatch() {
+      cron_ = false;
+      schedulerCron_ = "";
+      schedulerFireTime_ = 0L;
+      schedulerGivenTime_ = 0L;
+      schedulerGivenDelay_ = 0L;
+      appName_ = "";
+      actuatorKey_ = "";
+      executorAddress_ = "";
+      jobHandler_ = "";
+      jobHandlerParam_ = "";
+      dispatchId_ = "";
+      taskId_ = 0;
+      retryCount_ = 0;
+      writeLog_ = "";
+      shardIndex_ = 0;
+      shardTotal_ = 0;
+      timeout_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TaskDispatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              cron_ = input.readBool();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              schedulerCron_ = s;
+              break;
+            }
+            case 24: {
+
+              schedulerFireTime_ = input.readInt64();
+              break;
+            }
+            case 32: {
+
+              schedulerGivenTime_ = input.readInt64();
+              break;
+            }
+            case 40: {
+
+              schedulerGivenDelay_ = input.readInt64();
+              break;
+            }
+            case 50: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              appName_ = s;
+              break;
+            }
+            case 58: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              actuatorKey_ = s;
+              break;
+            }
+            case 66: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              executorAddress_ = s;
+              break;
+            }
+            case 74: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              jobHandler_ = s;
+              break;
+            }
+            case 82: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              jobHandlerParam_ = s;
+              break;
+            }
+            case 90: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              dispatchId_ = s;
+              break;
+            }
+            case 96: {
+
+              taskId_ = input.readInt32();
+              break;
+            }
+            case 104: {
+
+              retryCount_ = input.readInt32();
+              break;
+            }
+            case 114: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              writeLog_ = s;
+              break;
+            }
+            case 120: {
+
+              shardIndex_ = input.readInt32();
+              break;
+            }
+            case 128: {
+
+              shardTotal_ = input.readInt32();
+              break;
+            }
+            case 136: {
+
+              timeout_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskDispatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskDispatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.microservice.proto.MessageProtocolPoJo.TaskDispatch.class, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder.class);
+    }
+
+    public static final int CRON_FIELD_NUMBER = 1;
+    private boolean cron_;
+    /**
+     * <code>bool cron = 1;</code>
+     */
+    public boolean getCron() {
+      return cron_;
+    }
+
+    public static final int SCHEDULERCRON_FIELD_NUMBER = 2;
+    private volatile java.lang.Object schedulerCron_;
+    /**
+     * <code>string schedulerCron = 2;</code>
+     */
+    public java.lang.String getSchedulerCron() {
+      java.lang.Object ref = schedulerCron_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        schedulerCron_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string schedulerCron = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSchedulerCronBytes() {
+      java.lang.Object ref = schedulerCron_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        schedulerCron_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SCHEDULERFIRETIME_FIELD_NUMBER = 3;
+    private long schedulerFireTime_;
+    /**
+     * <code>int64 schedulerFireTime = 3;</code>
+     */
+    public long getSchedulerFireTime() {
+      return schedulerFireTime_;
+    }
+
+    public static final int SCHEDULERGIVENTIME_FIELD_NUMBER = 4;
+    private long schedulerGivenTime_;
+    /**
+     * <code>int64 schedulerGivenTime = 4;</code>
+     */
+    public long getSchedulerGivenTime() {
+      return schedulerGivenTime_;
+    }
+
+    public static final int SCHEDULERGIVENDELAY_FIELD_NUMBER = 5;
+    private long schedulerGivenDelay_;
+    /**
+     * <code>int64 schedulerGivenDelay = 5;</code>
+     */
+    public long getSchedulerGivenDelay() {
+      return schedulerGivenDelay_;
+    }
+
+    public static final int APPNAME_FIELD_NUMBER = 6;
+    private volatile java.lang.Object appName_;
+    /**
+     * <code>string appName = 6;</code>
+     */
+    public java.lang.String getAppName() {
+      java.lang.Object ref = appName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        appName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string appName = 6;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAppNameBytes() {
+      java.lang.Object ref = appName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        appName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ACTUATORKEY_FIELD_NUMBER = 7;
+    private volatile java.lang.Object actuatorKey_;
+    /**
+     * <code>string actuatorKey = 7;</code>
+     */
+    public java.lang.String getActuatorKey() {
+      java.lang.Object ref = actuatorKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        actuatorKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string actuatorKey = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+        getActuatorKeyBytes() {
+      java.lang.Object ref = actuatorKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        actuatorKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int EXECUTORADDRESS_FIELD_NUMBER = 8;
+    private volatile java.lang.Object executorAddress_;
+    /**
+     * <code>string executorAddress = 8;</code>
+     */
+    public java.lang.String getExecutorAddress() {
+      java.lang.Object ref = executorAddress_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        executorAddress_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string executorAddress = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getExecutorAddressBytes() {
+      java.lang.Object ref = executorAddress_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        executorAddress_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int JOBHANDLER_FIELD_NUMBER = 9;
+    private volatile java.lang.Object jobHandler_;
+    /**
+     * <code>string jobHandler = 9;</code>
+     */
+    public java.lang.String getJobHandler() {
+      java.lang.Object ref = jobHandler_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobHandler_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string jobHandler = 9;</code>
+     */
+    public com.google.protobuf.ByteString
+        getJobHandlerBytes() {
+      java.lang.Object ref = jobHandler_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobHandler_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int JOBHANDLERPARAM_FIELD_NUMBER = 10;
+    private volatile java.lang.Object jobHandlerParam_;
+    /**
+     * <code>string jobHandlerParam = 10;</code>
+     */
+    public java.lang.String getJobHandlerParam() {
+      java.lang.Object ref = jobHandlerParam_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobHandlerParam_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string jobHandlerParam = 10;</code>
+     */
+    public com.google.protobuf.ByteString
+        getJobHandlerParamBytes() {
+      java.lang.Object ref = jobHandlerParam_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobHandlerParam_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DISPATCHID_FIELD_NUMBER = 11;
+    private volatile java.lang.Object dispatchId_;
+    /**
+     * <code>string dispatchId = 11;</code>
+     */
+    public java.lang.String getDispatchId() {
+      java.lang.Object ref = dispatchId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dispatchId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dispatchId = 11;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDispatchIdBytes() {
+      java.lang.Object ref = dispatchId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dispatchId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TASKID_FIELD_NUMBER = 12;
+    private int taskId_;
+    /**
+     * <code>int32 taskId = 12;</code>
+     */
+    public int getTaskId() {
+      return taskId_;
+    }
+
+    public static final int RETRYCOUNT_FIELD_NUMBER = 13;
+    private int retryCount_;
+    /**
+     * <code>int32 retryCount = 13;</code>
+     */
+    public int getRetryCount() {
+      return retryCount_;
+    }
+
+    public static final int WRITELOG_FIELD_NUMBER = 14;
+    private volatile java.lang.Object writeLog_;
+    /**
+     * <code>string writeLog = 14;</code>
+     */
+    public java.lang.String getWriteLog() {
+      java.lang.Object ref = writeLog_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        writeLog_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string writeLog = 14;</code>
+     */
+    public com.google.protobuf.ByteString
+        getWriteLogBytes() {
+      java.lang.Object ref = writeLog_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        writeLog_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SHARDINDEX_FIELD_NUMBER = 15;
+    private int shardIndex_;
+    /**
+     * <pre>
+     * 分片广播时本实例的分片序号与分片总数, 未分片时 shardTotal 为 0
+     * </pre>
+     *
+     * <code>int32 shardIndex = 15;</code>
+     */
+    public int getShardIndex() {
+      return shardIndex_;
+    }
+
+    public static final int SHARDTOTAL_FIELD_NUMBER = 16;
+    private int shardTotal_;
+    /**
+     * <code>int32 shardTotal = 16;</code>
+     */
+    public int getShardTotal() {
+      return shardTotal_;
+    }
+
+    public static final int TIMEOUT_FIELD_NUMBER = 17;
+    private int timeout_;
+    /**
+     * <pre>
+     * 执行超时秒数, 0 不限制
+     * </pre>
+     *
+     * <code>int32 timeout = 17;</code>
+     */
+    public int getTimeout() {
+      return timeout_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (cron_ != false) {
+        output.writeBool(1, cron_);
+      }
+      if (!getSchedulerCronBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, schedulerCron_);
+      }
+      if (schedulerFireTime_ != 0L) {
+        output.writeInt64(3, schedulerFireTime_);
+      }
+      if (schedulerGivenTime_ != 0L) {
+        output.writeInt64(4, schedulerGivenTime_);
+      }
+      if (schedulerGivenDelay_ != 0L) {
+        output.writeInt64(5, schedulerGivenDelay_);
+      }
+      if (!getAppNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, appName_);
+      }
+      if (!getActuatorKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, actuatorKey_);
+      }
+      if (!getExecutorAddressBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 8, executorAddress_);
+      }
+      if (!getJobHandlerBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 9, jobHandler_);
+      }
+      if (!getJobHandlerParamBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 10, jobHandlerParam_);
+      }
+      if (!getDispatchIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 11, dispatchId_);
+      }
+      if (taskId_ != 0) {
+        output.writeInt32(12, taskId_);
+      }
+      if (retryCount_ != 0) {
+        output.writeInt32(13, retryCount_);
+      }
+      if (!getWriteLogBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 14, writeLog_);
+      }
+      if (shardIndex_ != 0) {
+        output.writeInt32(15, shardIndex_);
+      }
+      if (shardTotal_ != 0) {
+        output.writeInt32(16, shardTotal_);
+      }
+      if (timeout_ != 0) {
+        output.writeInt32(17, timeout_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (cron_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, cron_);
+      }
+      if (!getSchedulerCronBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, schedulerCron_);
+      }
+      if (schedulerFireTime_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, schedulerFireTime_);
+      }
+      if (schedulerGivenTime_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, schedulerGivenTime_);
+      }
+      if (schedulerGivenDelay_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, schedulerGivenDelay_);
+      }
+      if (!getAppNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, appName_);
+      }
+      if (!getActuatorKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, actuatorKey_);
+      }
+      if (!getExecutorAddressBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, executorAddress_);
+      }
+      if (!getJobHandlerBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(9, jobHandler_);
+      }
+      if (!getJobHandlerParamBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(10, jobHandlerParam_);
+      }
+      if (!getDispatchIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(11, dispatchId_);
+      }
+      if (taskId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(12, taskId_);
+      }
+      if (retryCount_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(13, retryCount_);
+      }
+      if (!getWriteLogBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(14, writeLog_);
+      }
+      if (shardIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(15, shardIndex_);
+      }
+      if (shardTotal_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(16, shardTotal_);
+      }
+      if (timeout_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(17, timeout_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.TaskDispatch)) {
+        return super.equals(obj);
+      }
+      com.microservice.proto.MessageProtocolPoJo.TaskDispatch other = (com.microservice.proto.MessageProtocolPoJo.TaskDispatch) obj;
+
+      boolean result = true;
+      result = result && (getCron()
+          == other.getCron());
+      result = result && getSchedulerCron()
+          .equals(other.getSchedulerCron());
+      result = result && (getSchedulerFireTime()
+          == other.getSchedulerFireTime());
+      result = result && (getSchedulerGivenTime()
+          == other.getSchedulerGivenTime());
+      result = result && (getSchedulerGivenDelay()
+          == other.getSchedulerGivenDelay());
+      result = result && getAppName()
+          .equals(other.getAppName());
+      result = result && getActuatorKey()
+          .equals(other.getActuatorKey());
+      result = result && getExecutorAddress()
+          .equals(other.getExecutorAddress());
+      result = result && getJobHandler()
+          .equals(other.getJobHandler());
+      result = result && getJobHandlerParam()
+          .equals(other.getJobHandlerParam());
+      result = result && getDispatchId()
+          .equals(other.getDispatchId());
+      result = result && (getTaskId()
+          == other.getTaskId());
+      result = result && (getRetryCount()
+          == other.getRetryCount());
+      result = result && getWriteLog()
+          .equals(other.getWriteLog());
+      result = result && (getShardIndex()
+          == other.getShardIndex());
+      result = result && (getShardTotal()
+          == other.getShardTotal());
+      result = result && (getTimeout()
+          == other.getTimeout());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CRON_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getCron());
+      hash = (37 * hash) + SCHEDULERCRON_FIELD_NUMBER;
+      hash = (53 * hash) + getSchedulerCron().hashCode();
+      hash = (37 * hash) + SCHEDULERFIRETIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSchedulerFireTime());
+      hash = (37 * hash) + SCHEDULERGIVENTIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSchedulerGivenTime());
+      hash = (37 * hash) + SCHEDULERGIVENDELAY_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSchedulerGivenDelay());
+      hash = (37 * hash) + APPNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getAppName().hashCode();
+      hash = (37 * hash) + ACTUATORKEY_FIELD_NUMBER;
+      hash = (53 * hash) + getActuatorKey().hashCode();
+      hash = (37 * hash) + EXECUTORADDRESS_FIELD_NUMBER;
+      hash = (53 * hash) + getExecutorAddress().hashCode();
+      hash = (37 * hash) + JOBHANDLER_FIELD_NUMBER;
+      hash = (53 * hash) + getJobHandler().hashCode();
+      hash = (37 * hash) + JOBHANDLERPARAM_FIELD_NUMBER;
+      hash = (53 * hash) + getJobHandlerParam().hashCode();
+      hash = (37 * hash) + DISPATCHID_FIELD_NUMBER;
+      hash = (53 * hash) + getDispatchId().hashCode();
+      hash = (37 * hash) + TASKID_FIELD_NUMBER;
+      hash = (53 * hash) + getTaskId();
+      hash = (37 * hash) + RETRYCOUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getRetryCount();
+      hash = (37 * hash) + WRITELOG_FIELD_NUMBER;
+      hash = (53 * hash) + getWriteLog().hashCode();
+      hash = (37 * hash) + SHARDINDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getShardIndex();
+      hash = (37 * hash) + SHARDTOTAL_FIELD_NUMBER;
+      hash = (53 * hash) + getShardTotal();
+      hash = (37 * hash) + TIMEOUT_FIELD_NUMBER;
+      hash = (53 * hash) + getTimeout();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.TaskDispatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 任务指派, 时间为 LocalDateTime 按 UTC 换算的毫秒数
+     * </pre>
+     *
+     * Protobuf type {@code TaskDispatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TaskDispatch)
+        com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskDispatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskDispatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.microservice.proto.MessageProtocolPoJo.TaskDispatch.class, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder.class);
+      }
+
+      // Construct using com.microservice.proto.MessageProtocolPoJo.TaskDispatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        cron_ = false;
+
+        schedulerCron_ = "";
+
+        schedulerFireTime_ = 0L;
+
+        schedulerGivenTime_ = 0L;
+
+        schedulerGivenDelay_ = 0L;
+
+        appName_ = "";
+
+        actuatorKey_ = "";
+
+        executorAddress_ = "";
+
+        jobHandler_ = "";
+
+        jobHandlerParam_ = "";
+
+        dispatchId_ = "";
+
+        taskId_ = 0;
+
+        retryCount_ = 0;
+
+        writeLog_ = "";
+
+        shardIndex_ = 0;
+
+        shardTotal_ = 0;
+
+        timeout_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskDispatch_descriptor;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatch getDefaultInstanceForType() {
+        return com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatch build() {
+        com.microservice.proto.MessageProtocolPoJo.TaskDispatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatch buildPartial() {
+        com.microservice.proto.MessageProtocolPoJo.TaskDispatch result = new com.microservice.proto.MessageProtocolPoJo.TaskDispatch(this);
+        result.cron_ = cron_;
+        result.schedulerCron_ = schedulerCron_;
+        result.schedulerFireTime_ = schedulerFireTime_;
+        result.schedulerGivenTime_ = schedulerGivenTime_;
+        result.schedulerGivenDelay_ = schedulerGivenDelay_;
+        result.appName_ = appName_;
+        result.actuatorKey_ = actuatorKey_;
+        result.executorAddress_ = executorAddress_;
+        result.jobHandler_ = jobHandler_;
+        result.jobHandlerParam_ = jobHandlerParam_;
+        result.dispatchId_ = dispatchId_;
+        result.taskId_ = taskId_;
+        result.retryCount_ = retryCount_;
+        result.writeLog_ = writeLog_;
+        result.shardIndex_ = shardIndex_;
+        result.shardTotal_ = shardTotal_;
+        result.timeout_ = timeout_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.microservice.proto.MessageProtocolPoJo.TaskDispatch) {
+          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.TaskDispatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.TaskDispatch other) {
+        if (other == com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance()) return this;
+        if (other.getCron() != false) {
+          setCron(other.getCron());
+        }
+        if (!other.getSchedulerCron().isEmpty()) {
+          schedulerCron_ = other.schedulerCron_;
+          onChanged();
+        }
+        if (other.getSchedulerFireTime() != 0L) {
+          setSchedulerFireTime(other.getSchedulerFireTime());
+        }
+        if (other.getSchedulerGivenTime() != 0L) {
+          setSchedulerGivenTime(other.getSchedulerGivenTime());
+        }
+        if (other.getSchedulerGivenDelay() != 0L) {
+          setSchedulerGivenDelay(other.getSchedulerGivenDelay());
+        }
+        if (!other.getAppName().isEmpty()) {
+          appName_ = other.appName_;
+          onChanged();
+        }
+        if (!other.getActuatorKey().isEmpty()) {
+          actuatorKey_ = other.actuatorKey_;
+          onChanged();
+        }
+        if (!other.getExecutorAddress().isEmpty()) {
+          executorAddress_ = other.executorAddress_;
+          onChanged();
+        }
+        if (!other.getJobHandler().isEmpty()) {
+          jobHandler_ = other.jobHandler_;
+          onChanged();
+        }
+        if (!other.getJobHandlerParam().isEmpty()) {
+          jobHandlerParam_ = other.jobHandlerParam_;
+          onChanged();
+        }
+        if (!other.getDispatchId().isEmpty()) {
+          dispatchId_ = other.dispatchId_;
+          onChanged();
+        }
+        if (other.getTaskId() != 0) {
+          setTaskId(other.getTaskId());
+        }
+        if (other.getRetryCount() != 0) {
+          setRetryCount(other.getRetryCount());
+        }
+        if (!other.getWriteLog().isEmpty()) {
+          writeLog_ = other.writeLog_;
+          onChanged();
+        }
+        if (other.getShardIndex() != 0) {
+          setShardIndex(other.getShardIndex());
+        }
+        if (other.getShardTotal() != 0) {
+          setShardTotal(other.getShardTotal());
+        }
+        if (other.getTimeout() != 0) {
+          setTimeout(other.getTimeout());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.microservice.proto.MessageProtocolPoJo.TaskDispatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.TaskDispatch) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private boolean cron_ ;
+      /**
+       * <code>bool cron = 1;</code>
+       */
+      public boolean getCron() {
+        return cron_;
+      }
+      /**
+       * <code>bool cron = 1;</code>
+       */
+      public Builder setCron(boolean value) {
+        
+        cron_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool cron = 1;</code>
+       */
+      public Builder clearCron() {
+        
+        cron_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object schedulerCron_ = "";
+      /**
+       * <code>string schedulerCron = 2;</code>
+       */
+      public java.lang.String getSchedulerCron() {
+        java.lang.Object ref = schedulerCron_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          schedulerCron_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string schedulerCron = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSchedulerCronBytes() {
+        java.lang.Object ref = schedulerCron_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          schedulerCron_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string schedulerCron = 2;</code>
+       */
+      public Builder setSchedulerCron(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        schedulerCron_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string schedulerCron = 2;</code>
+       */
+      public Builder clearSchedulerCron() {
+        
+        schedulerCron_ = getDefaultInstance().getSchedulerCron();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string schedulerCron = 2;</code>
+       */
+      public Builder setSchedulerCronBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        schedulerCron_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long schedulerFireTime_ ;
+      /**
+       * <code>int64 schedulerFireTime = 3;</code>
+       */
+      public long getSchedulerFireTime() {
+        return schedulerFireTime_;
+      }
+      /**
+       * <code>int64 schedulerFireTime = 3;</code>
+       */
+      public Builder setSchedulerFireTime(long value) {
+        
+        schedulerFireTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 schedulerFireTime = 3;</code>
+       */
+      public Builder clearSchedulerFireTime() {
+        
+        schedulerFireTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long schedulerGivenTime_ ;
+      /**
+       * <code>int64 schedulerGivenTime = 4;</code>
+       */
+      public long getSchedulerGivenTime() {
+        return schedulerGivenTime_;
+      }
+      /**
+       * <code>int64 schedulerGivenTime = 4;</code>
+       */
+      public Builder setSchedulerGivenTime(long value) {
+        
+        schedulerGivenTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 schedulerGivenTime = 4;</code>
+       */
+      public Builder clearSchedulerGivenTime() {
+        
+        schedulerGivenTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long schedulerGivenDelay_ ;
+      /**
+       * <code>int64 schedulerGivenDelay = 5;</code>
+       */
+      public long getSchedulerGivenDelay() {
+        return schedulerGivenDelay_;
+      }
+      /**
+       * <code>int64 schedulerGivenDelay = 5;</code>
+       */
+      public Builder setSchedulerGivenDelay(long value) {
+        
+        schedulerGivenDelay_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 schedulerGivenDelay = 5;</code>
+       */
+      public Builder clearSchedulerGivenDelay() {
+        
+        schedulerGivenDelay_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object appName_ = "";
+      /**
+       * <code>string appName = 6;</code>
+       */
+      public java.lang.String getAppName() {
+        java.lang.Object ref = appName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          appName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string appName = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAppNameBytes() {
+        java.lang.Object ref = appName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          appName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string appName = 6;</code>
+       */
+      public Builder setAppName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        appName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string appName = 6;</code>
+       */
+      public Builder clearAppName() {
+        
+        appName_ = getDefaultInstance().getAppName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string appName = 6;</code>
+       */
+      public Builder setAppNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        appName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object actuatorKey_ = "";
+      /**
+       * <code>string actuatorKey = 7;</code>
+       */
+      public java.lang.String getActuatorKey() {
+        java.lang.Object ref = actuatorKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          actuatorKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string actuatorKey = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getActuatorKeyBytes() {
+        java.lang.Object ref = actuatorKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          actuatorKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string actuatorKey = 7;</code>
+       */
+      public Builder setActuatorKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        actuatorKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string actuatorKey = 7;</code>
+       */
+      public Builder clearActuatorKey() {
+        
+        actuatorKey_ = getDefaultInstance().getActuatorKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string actuatorKey = 7;</code>
+       */
+      public Builder setActuatorKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        actuatorKey_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object executorAddress_ = "";
+      /**
+       * <code>string executorAddress = 8;</code>
+       */
+      public java.lang.String getExecutorAddress() {
+        java.lang.Object ref = executorAddress_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          executorAddress_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string executorAddress = 8;</code>
+       */
+      public com.google.protobuf.ByteString
+          getExecutorAddressBytes() {
+        java.lang.Object ref = executorAddress_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          executorAddress_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string executorAddress = 8;</code>
+       */
+      public Builder setExecutorAddress(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        executorAddress_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string executorAddress = 8;</code>
+       */
+      public Builder clearExecutorAddress() {
+        
+        executorAddress_ = getDefaultInstance().getExecutorAddress();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string executorAddress = 8;</code>
+       */
+      public Builder setExecutorAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        executorAddress_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object jobHandler_ = "";
+      /**
+       * <code>string jobHandler = 9;</code>
+       */
+      public java.lang.String getJobHandler() {
+        java.lang.Object ref = jobHandler_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobHandler_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string jobHandler = 9;</code>
+       */
+      public com.google.protobuf.ByteString
+          getJobHandlerBytes() {
+        java.lang.Object ref = jobHandler_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobHandler_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string jobHandler = 9;</code>
+       */
+      public Builder setJobHandler(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        jobHandler_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string jobHandler = 9;</code>
+       */
+      public Builder clearJobHandler() {
+        
+        jobHandler_ = getDefaultInstance().getJobHandler();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string jobHandler = 9;</code>
+       */
+      public Builder setJobHandlerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        jobHandler_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object jobHandlerParam_ = "";
+      /**
+       * <code>string jobHandlerParam = 10;</code>
+       */
+      public java.lang.String getJobHandlerParam() {
+        java.lang.Object ref = jobHandlerParam_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobHandlerParam_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string jobHandlerParam = 10;</code>
+       */
+      public com.google.protobuf.ByteString
+          getJobHandlerParamBytes() {
+        java.lang.Object ref = jobHandlerParam_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobHandlerParam_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string jobHandlerParam = 10;</code>
+       */
+      public Builder setJobHandlerParam(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        jobHandlerParam_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string jobHandlerParam = 10;</code>
+       */
+      public Builder clearJobHandlerParam() {
+        
+        jobHandlerParam_ = getDefaultInstance().getJobHandlerParam();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string jobHandlerParam = 10;</code>
+       */
+      public Builder setJobHandlerParamBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        jobHandlerParam_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dispatchId_ = "";
+      /**
+       * <code>string dispatchId = 11;</code>
+       */
+      public java.lang.String getDispatchId() {
+        java.lang.Object ref = dispatchId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dispatchId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dispatchId = 11;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDispatchIdBytes() {
+        java.lang.Object ref = dispatchId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dispatchId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dispatchId = 11;</code>
+       */
+      public Builder setDispatchId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        dispatchId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dispatchId = 11;</code>
+       */
+      public Builder clearDispatchId() {
+        
+        dispatchId_ = getDefaultInstance().getDispatchId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dispatchId = 11;</code>
+       */
+      public Builder setDispatchIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        dispatchId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int taskId_ ;
+      /**
+       * <code>int32 taskId = 12;</code>
+       */
+      public int getTaskId() {
+        return taskId_;
+      }
+      /**
+       * <code>int32 taskId = 12;</code>
+       */
+      public Builder setTaskId(int value) {
+        
+        taskId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 taskId = 12;</code>
+       */
+      public Builder clearTaskId() {
+        
+        taskId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int retryCount_ ;
+      /**
+       * <code>int32 retryCount = 13;</code>
+       */
+      public int getRetryCount() {
+        return retryCount_;
+      }
+      /**
+       * <code>int32 retryCount = 13;</code>
+       */
+      public Builder setRetryCount(int value) {
+        
+        retryCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 retryCount = 13;</code>
+       */
+      public Builder clearRetryCount() {
+        
+        retryCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object writeLog_ = "";
+      /**
+       * <code>string writeLog = 14;</code>
+       */
+      public java.lang.String getWriteLog() {
+        java.lang.Object ref = writeLog_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          writeLog_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string writeLog = 14;</code>
+       */
+      public com.google.protobuf.ByteString
+          getWriteLogBytes() {
+        java.lang.Object ref = writeLog_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          writeLog_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string writeLog = 14;</code>
+       */
+      public Builder setWriteLog(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        writeLog_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string writeLog = 14;</code>
+       */
+      public Builder clearWriteLog() {
+        
+        writeLog_ = getDefaultInstance().getWriteLog();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string writeLog = 14;</code>
+       */
+      public Builder setWriteLogBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        writeLog_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int shardIndex_ ;
+      /**
+       * <pre>
+       * 分片广播时本实例的分片序号与分片总数, 未分片时 shardTotal 为 0
+       * </pre>
+       *
+       * <code>int32 shardIndex = 15;</code>
+       */
+      public int getShardIndex() {
+        return shardIndex_;
+      }
+      /**
+       * <pre>
+       * 分片广播时本实例的分片序号与分片总数, 未分片时 shardTotal 为 0
+       * </pre>
+       *
+       * <code>int32 shardIndex = 15;</code>
+       */
+      public Builder setShardIndex(int value) {
+        
+        shardIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 分片广播时本实例的分片序号与分片总数, 未分片时 shardTotal 为 0
+       * </pre>
+       *
+       * <code>int32 shardIndex = 15;</code>
+       */
+      public Builder clearShardIndex() {
+        
+        shardIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int shardTotal_ ;
+      /**
+       * <code>int32 shardTotal = 16;</code>
+       */
+      public int getShardTotal() {
+        return shardTotal_;
+      }
+      /**
+       * <code>int32 shardTotal = 16;</code>
+       */
+      public Builder setShardTotal(int value) {
+        
+        shardTotal_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 shardTotal = 16;</code>
+       */
+      public Builder clearShardTotal() {
+        
+        shardTotal_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int timeout_ ;
+      /**
+       * <pre>
+       * 执行超时秒数, 0 不限制
+       * </pre>
+       *
+       * <code>int32 timeout = 17;</code>
+       */
+      public int getTimeout() {
+        return timeout_;
+      }
+      /**
+       * <pre>
+       * 执行超时秒数, 0 不限制
+       * </pre>
+       *
+       * <code>int32 timeout = 17;</code>
+       */
+      public Builder setTimeout(int value) {
+        
+        timeout_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 执行超时秒数, 0 不限制
+       * </pre>
+       *
+       * <code>int32 timeout = 17;</code>
+       */
+      public Builder clearTimeout() {
+        
+        timeout_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TaskDispatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:TaskDispatch)
+    private static final com.microservice.proto.MessageProtocolPoJo.TaskDispatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.TaskDispatch();
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskDispatch>
+        PARSER = new com.google.protobuf.AbstractParser<TaskDispatch>() {
+      @java.lang.Override
+      public TaskDispatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TaskDispatch(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskDispatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskDispatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.microservice.proto.MessageProtocolPoJo.TaskDispatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskDispatchBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TaskDispatchBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .TaskDispatch tasks = 1;</code>
+     */
+    java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskDispatch> 
+        getTasksList();
+    /**
+     * <code>repeated .TaskDispatch tasks = 1;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskDispatch getTasks(int index);
+    /**
+     * <code>repeated .TaskDispatch tasks = 1;</code>
+     */
+    int getTasksCount();
+    /**
+     * <code>repeated .TaskDispatch tasks = 1;</code>
+     */
+    java.util.List<? extends com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder> 
+        getTasksOrBuilderList();
+    /**
+     * <code>repeated .TaskDispatch tasks = 1;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder getTasksOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * 同一执行器实例的一批任务指派, 一帧发送
+   * </pre>
+   *
+   * Protobuf type {@code TaskDispatchBatch}
+   */
+  public  static final class TaskDispatchBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TaskDispatchBatch)
+      TaskDispatchBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskDispatchBatch.newBuilder() to construct.
+    private TaskDispatchBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskDispatchBatch() {
+      tasks_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TaskDispatchBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                tasks_ = new java.util.ArrayList<com.microservice.proto.MessageProtocolPoJo.TaskDispatch>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              tasks_.add(
+                  input.readMessage(com.microservice.proto.MessageProtocolPoJo.TaskDispatch.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          tasks_ = java.util.Collections.unmodifiableList(tasks_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskDispatchBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskDispatchBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.class, com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.Builder.class);
+    }
+
+    public static final int TASKS_FIELD_NUMBER = 1;
+    private java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskDispatch> tasks_;
+    /**
+     * <code>repeated .TaskDispatch tasks = 1;</code>
+     */
+    public java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskDispatch> getTasksList() {
+      return tasks_;
+    }
+    /**
+     * <code>repeated .TaskDispatch tasks = 1;</code>
+     */
+    public java.util.List<? extends com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder> 
+        getTasksOrBuilderList() {
+      return tasks_;
+    }
+    /**
+     * <code>repeated .TaskDispatch tasks = 1;</code>
+     */
+    public int getTasksCount() {
+      return tasks_.size();
+    }
+    /**
+     * <code>repeated .TaskDispatch tasks = 1;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskDispatch getTasks(int index) {
+      return tasks_.get(index);
+    }
+    /**
+     * <code>repeated .TaskDispatch tasks = 1;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder getTasksOrBuilder(
+        int index) {
+      return tasks_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < tasks_.size(); i++) {
+        output.writeMessage(1, tasks_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < tasks_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, tasks_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch)) {
+        return super.equals(obj);
+      }
+      com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch other = (com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) obj;
+
+      boolean result = true;
+      result = result && getTasksList()
+          .equals(other.getTasksList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getTasksCount() > 0) {
+        hash = (37 * hash) + TASKS_FIELD_NUMBER;
+        hash = (53 * hash) + getTasksList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 同一执行器实例的一批任务指派, 一帧发送
+     * </pre>
+     *
+     * Protobuf type {@code TaskDispatchBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TaskDispatchBatch)
+        com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskDispatchBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskDispatchBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.class, com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.Builder.class);
+      }
+
+      // Construct using com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTasksFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          tasksBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskDispatchBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch getDefaultInstanceForType() {
+        return com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch build() {
+        com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch buildPartial() {
+        com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch result = new com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (tasksBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            tasks_ = java.util.Collections.unmodifiableList(tasks_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.tasks_ = tasks_;
+        } else {
+          result.tasks_ = tasksBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) {
+          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch other) {
+        if (other == com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch.getDefaultInstance()) return this;
+        if (tasksBuilder_ == null) {
+          if (!other.tasks_.isEmpty()) {
+            if (tasks_.isEmpty()) {
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureTasksIsMutable();
+              tasks_.addAll(other.tasks_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tasks_.isEmpty()) {
+            if (tasksBuilder_.isEmpty()) {
+              tasksBuilder_.dispose();
+              tasksBuilder_ = null;
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              tasksBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTasksFieldBuilder() : null;
+            } else {
+              tasksBuilder_.addAllMessages(other.tasks_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskDispatch> tasks_ =
+        java.util.Collections.emptyList();
+      private void ensureTasksIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          tasks_ = new java.util.ArrayList<com.microservice.proto.MessageProtocolPoJo.TaskDispatch>(tasks_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder> tasksBuilder_;
+
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskDispatch> getTasksList() {
+        if (tasksBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tasks_);
+        } else {
+          return tasksBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public int getTasksCount() {
+        if (tasksBuilder_ == null) {
+          return tasks_.size();
+        } else {
+          return tasksBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatch getTasks(int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);
+        } else {
+          return tasksBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public Builder setTasks(
+          int index, com.microservice.proto.MessageProtocolPoJo.TaskDispatch value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.set(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public Builder setTasks(
+          int index, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public Builder addTasks(com.microservice.proto.MessageProtocolPoJo.TaskDispatch value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public Builder addTasks(
+          int index, com.microservice.proto.MessageProtocolPoJo.TaskDispatch value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public Builder addTasks(
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public Builder addTasks(
+          int index, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public Builder addAllTasks(
+          java.lang.Iterable<? extends com.microservice.proto.MessageProtocolPoJo.TaskDispatch> values) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, tasks_);
+          onChanged();
+        } else {
+          tasksBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public Builder clearTasks() {
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          tasksBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public Builder removeTasks(int index) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.remove(index);
+          onChanged();
+        } else {
+          tasksBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder getTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder getTasksOrBuilder(
+          int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);  } else {
+          return tasksBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public java.util.List<? extends com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder> 
+           getTasksOrBuilderList() {
+        if (tasksBuilder_ != null) {
+          return tasksBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tasks_);
+        }
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder addTasksBuilder() {
+        return getTasksFieldBuilder().addBuilder(
+            com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder addTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().addBuilder(
+            index, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TaskDispatch tasks = 1;</code>
+       */
+      public java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder> 
+           getTasksBuilderList() {
+        return getTasksFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder> 
+          getTasksFieldBuilder() {
+        if (tasksBuilder_ == null) {
+          tasksBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.microservice.proto.MessageProtocolPoJo.TaskDispatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder>(
+                  tasks_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          tasks_ = null;
+        }
+        return tasksBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TaskDispatchBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:TaskDispatchBatch)
+    private static final com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch();
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskDispatchBatch>
+        PARSER = new com.google.protobuf.AbstractParser<TaskDispatchBatch>() {
+      @java.lang.Override
+      public TaskDispatchBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TaskDispatchBatch(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskDispatchBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskDispatchBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.microservice.proto.MessageProtocolPoJo.TaskDispatchBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskCallbackOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TaskCallback)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.TaskDispatch task = 1;</code>
+     */
+    boolean hasTask();
+    /**
+     * <code>.TaskDispatch task = 1;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskDispatch getTask();
+    /**
+     * <code>.TaskDispatch task = 1;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder getTaskOrBuilder();
+
+    /**
+     * <code>int32 code = 2;</code>
+     */
+    int getCode();
+
+    /**
+     * <code>string msg = 3;</code>
+     */
+    java.lang.String getMsg();
+    /**
+     * <code>string msg = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getMsgBytes();
+
+    /**
+     * <code>string content = 4;</code>
+     */
+    java.lang.String getContent();
+    /**
+     * <code>string content = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getContentBytes();
+
+    /**
+     * <code>int64 executeTime = 5;</code>
+     */
+    long getExecuteTime();
+
+    /**
+     * <code>int64 triggerTime = 6;</code>
+     */
+    long getTriggerTime();
+
+    /**
+     * <code>int32 triggerCode = 7;</code>
+     */
+    int getTriggerCode();
+
+    /**
+     * <code>string triggerMsg = 8;</code>
+     */
+    java.lang.String getTriggerMsg();
+    /**
+     * <code>string triggerMsg = 8;</code>
+     */
+    com.google.protobuf.ByteString
+        getTriggerMsgBytes();
+
+    /**
+     * <pre>
+     * 任务处理器的负载
+     * </pre>
+     *
+     * <code>.HandlerLoad load = 9;</code>
+     */
+    boolean hasLoad();
+    /**
+     * <pre>
+     * 任务处理器的负载
+     * </pre>
+     *
+     * <code>.HandlerLoad load = 9;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.HandlerLoad getLoad();
+    /**
+     * <pre>
+     * 任务处理器的负载
+     * </pre>
+     *
+     * <code>.HandlerLoad load = 9;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.HandlerLoadOrBuilder getLoadOrBuilder();
+  }
+  /**
+   * <pre>
+   * 任务执行结果回写
+   * </pre>
+   *
+   * Protobuf type {@code TaskCallback}
+   */
+  public  static final class TaskCallback extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TaskCallback)
+      TaskCallbackOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskCallback.newBuilder() to construct.
+    private TaskCallback(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskCallback() {
+      code_ = 0;
+      msg_ = "";
+      content_ = "";
+      executeTime_ = 0L;
+      triggerTime_ = 0L;
+      triggerCode_ = 0;
+      triggerMsg_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TaskCallback(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder subBuilder = null;
+              if (task_ != null) {
+                subBuilder = task_.toBuilder();
+              }
+              task_ = input.readMessage(com.microservice.proto.MessageProtocolPoJo.TaskDispatch.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(task_);
+                task_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 16: {
+
+              code_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              msg_ = s;
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              content_ = s;
+              break;
+            }
+            case 40: {
+
+              executeTime_ = input.readInt64();
+              break;
+            }
+            case 48: {
+
+              triggerTime_ = input.readInt64();
+              break;
+            }
+            case 56: {
+
+              triggerCode_ = input.readInt32();
+              break;
+            }
+            case 66: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              triggerMsg_ = s;
+              break;
+            }
+            case 74: {
+              com.microservice.proto.MessageProtocolPoJo.HandlerLoad.Builder subBuilder = null;
+              if (load_ != null) {
+                subBuilder = load_.toBuilder();
+              }
+              load_ = input.readMessage(com.microservice.proto.MessageProtocolPoJo.HandlerLoad.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(load_);
+                load_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskCallback_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskCallback_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.microservice.proto.MessageProtocolPoJo.TaskCallback.class, com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder.class);
+    }
+
+    public static final int TASK_FIELD_NUMBER = 1;
+    private com.microservice.proto.MessageProtocolPoJo.TaskDispatch task_;
+    /**
+     * <code>.TaskDispatch task = 1;</code>
+     */
+    public boolean hasTask() {
+      return task_ != null;
+    }
+    /**
+     * <code>.TaskDispatch task = 1;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskDispatch getTask() {
+      return task_ == null ? com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance() : task_;
+    }
+    /**
+     * <code>.TaskDispatch task = 1;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder getTaskOrBuilder() {
+      return getTask();
+    }
+
+    public static final int CODE_FIELD_NUMBER = 2;
+    private int code_;
+    /**
+     * <code>int32 code = 2;</code>
+     */
+    public int getCode() {
+      return code_;
+    }
+
+    public static final int MSG_FIELD_NUMBER = 3;
+    private volatile java.lang.Object msg_;
+    /**
+     * <code>string msg = 3;</code>
+     */
+    public java.lang.String getMsg() {
+      java.lang.Object ref = msg_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        msg_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string msg = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getMsgBytes() {
+      java.lang.Object ref = msg_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        msg_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CONTENT_FIELD_NUMBER = 4;
+    private volatile java.lang.Object content_;
+    /**
+     * <code>string content = 4;</code>
+     */
+    public java.lang.String getContent() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        content_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string content = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getContentBytes() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        content_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int EXECUTETIME_FIELD_NUMBER = 5;
+    private long executeTime_;
+    /**
+     * <code>int64 executeTime = 5;</code>
+     */
+    public long getExecuteTime() {
+      return executeTime_;
+    }
+
+    public static final int TRIGGERTIME_FIELD_NUMBER = 6;
+    private long triggerTime_;
+    /**
+     * <code>int64 triggerTime = 6;</code>
+     */
+    public long getTriggerTime() {
+      return triggerTime_;
+    }
+
+    public static final int TRIGGERCODE_FIELD_NUMBER = 7;
+    private int triggerCode_;
+    /**
+     * <code>int32 triggerCode = 7;</code>
+     */
+    public int getTriggerCode() {
+      return triggerCode_;
+    }
+
+    public static final int TRIGGERMSG_FIELD_NUMBER = 8;
+    private volatile java.lang.Object triggerMsg_;
+    /**
+     * <code>string triggerMsg = 8;</code>
+     */
+    public java.lang.String getTriggerMsg() {
+      java.lang.Object ref = triggerMsg_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        triggerMsg_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string triggerMsg = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTriggerMsgBytes() {
+      java.lang.Object ref = triggerMsg_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        triggerMsg_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOAD_FIELD_NUMBER = 9;
+    private com.microservice.proto.MessageProtocolPoJo.HandlerLoad load_;
+    /**
+     * <pre>
+     * 任务处理器的负载
+     * </pre>
+     *
+     * <code>.HandlerLoad load = 9;</code>
+     */
+    public boolean hasLoad() {
+      return load_ != null;
+    }
+    /**
+     * <pre>
+     * 任务处理器的负载
+     * </pre>
+     *
+     * <code>.HandlerLoad load = 9;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.HandlerLoad getLoad() {
+      return load_ == null ? com.microservice.proto.MessageProtocolPoJo.HandlerLoad.getDefaultInstance() : load_;
+    }
+    /**
+     * <pre>
+     * 任务处理器的负载
+     * </pre>
+     *
+     * <code>.HandlerLoad load = 9;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.HandlerLoadOrBuilder getLoadOrBuilder() {
+      return getLoad();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (task_ != null) {
+        output.writeMessage(1, getTask());
+      }
+      if (code_ != 0) {
+        output.writeInt32(2, code_);
+      }
+      if (!getMsgBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, msg_);
+      }
+      if (!getContentBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, content_);
+      }
+      if (executeTime_ != 0L) {
+        output.writeInt64(5, executeTime_);
+      }
+      if (triggerTime_ != 0L) {
+        output.writeInt64(6, triggerTime_);
+      }
+      if (triggerCode_ != 0) {
+        output.writeInt32(7, triggerCode_);
+      }
+      if (!getTriggerMsgBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 8, triggerMsg_);
+      }
+      if (load_ != null) {
+        output.writeMessage(9, getLoad());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (task_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getTask());
+      }
+      if (code_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, code_);
+      }
+      if (!getMsgBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, msg_);
+      }
+      if (!getContentBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, content_);
+      }
+      if (executeTime_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, executeTime_);
+      }
+      if (triggerTime_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, triggerTime_);
+      }
+      if (triggerCode_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, triggerCode_);
+      }
+      if (!getTriggerMsgBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, triggerMsg_);
+      }
+      if (load_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, getLoad());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.TaskCallback)) {
+        return super.equals(obj);
+      }
+      com.microservice.proto.MessageProtocolPoJo.TaskCallback other = (com.microservice.proto.MessageProtocolPoJo.TaskCallback) obj;
+
+      boolean result = true;
+      result = result && (hasTask() == other.hasTask());
+      if (hasTask()) {
+        result = result && getTask()
+            .equals(other.getTask());
+      }
+      result = result && (getCode()
+          == other.getCode());
+      result = result && getMsg()
+          .equals(other.getMsg());
+      result = result && getContent()
+          .equals(other.getContent());
+      result = result && (getExecuteTime()
+          == other.getExecuteTime());
+      result = result && (getTriggerTime()
+          == other.getTriggerTime());
+      result = result && (getTriggerCode()
+          == other.getTriggerCode());
+      result = result && getTriggerMsg()
+          .equals(other.getTriggerMsg());
+      result = result && (hasLoad() == other.hasLoad());
+      if (hasLoad()) {
+        result = result && getLoad()
+            .equals(other.getLoad());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasTask()) {
+        hash = (37 * hash) + TASK_FIELD_NUMBER;
+        hash = (53 * hash) + getTask().hashCode();
+      }
+      hash = (37 * hash) + CODE_FIELD_NUMBER;
+      hash = (53 * hash) + getCode();
+      hash = (37 * hash) + MSG_FIELD_NUMBER;
+      hash = (53 * hash) + getMsg().hashCode();
+      hash = (37 * hash) + CONTENT_FIELD_NUMBER;
+      hash = (53 * hash) + getContent().hashCode();
+      hash = (37 * hash) + EXECUTETIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getExecuteTime());
+      hash = (37 * hash) + TRIGGERTIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTriggerTime());
+      hash = (37 * hash) + TRIGGERCODE_FIELD_NUMBER;
+      hash = (53 * hash) + getTriggerCode();
+      hash = (37 * hash) + TRIGGERMSG_FIELD_NUMBER;
+      hash = (53 * hash) + getTriggerMsg().hashCode();
+      if (hasLoad()) {
+        hash = (37 * hash) + LOAD_FIELD_NUMBER;
+        hash = (53 * hash) + getLoad().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.TaskCallback prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 任务执行结果回写
+     * </pre>
+     *
+     * Protobuf type {@code TaskCallback}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TaskCallback)
+        com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskCallback_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskCallback_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.microservice.proto.MessageProtocolPoJo.TaskCallback.class, com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder.class);
+      }
+
+      // Construct using com.microservice.proto.MessageProtocolPoJo.TaskCallback.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (taskBuilder_ == null) {
+          task_ = null;
+        } else {
+          task_ = null;
+          taskBuilder_ = null;
+        }
+        code_ = 0;
+
+        msg_ = "";
+
+        content_ = "";
+
+        executeTime_ = 0L;
+
+        triggerTime_ = 0L;
+
+        triggerCode_ = 0;
+
+        triggerMsg_ = "";
+
+        if (loadBuilder_ == null) {
+          load_ = null;
+        } else {
+          load_ = null;
+          loadBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskCallback_descriptor;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallback getDefaultInstanceForType() {
+        return com.microservice.proto.MessageProtocolPoJo.TaskCallback.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallback build() {
+        com.microservice.proto.MessageProtocolPoJo.TaskCallback result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallback buildPartial() {
+        com.microservice.proto.MessageProtocolPoJo.TaskCallback result = new com.microservice.proto.MessageProtocolPoJo.TaskCallback(this);
+        if (taskBuilder_ == null) {
+          result.task_ = task_;
+        } else {
+          result.task_ = taskBuilder_.build();
+        }
+        result.code_ = code_;
+        result.msg_ = msg_;
+        result.content_ = content_;
+        result.executeTime_ = executeTime_;
+        result.triggerTime_ = triggerTime_;
+        result.triggerCode_ = triggerCode_;
+        result.triggerMsg_ = triggerMsg_;
+        if (loadBuilder_ == null) {
+          result.load_ = load_;
+        } else {
+          result.load_ = loadBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.microservice.proto.MessageProtocolPoJo.TaskCallback) {
+          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.TaskCallback)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.TaskCallback other) {
+        if (other == com.microservice.proto.MessageProtocolPoJo.TaskCallback.getDefaultInstance()) return this;
+        if (other.hasTask()) {
+          mergeTask(other.getTask());
+        }
+        if (other.getCode() != 0) {
+          setCode(other.getCode());
+        }
+        if (!other.getMsg().isEmpty()) {
+          msg_ = other.msg_;
+          onChanged();
+        }
+        if (!other.getContent().isEmpty()) {
+          content_ = other.content_;
+          onChanged();
+        }
+        if (other.getExecuteTime() != 0L) {
+          setExecuteTime(other.getExecuteTime());
+        }
+        if (other.getTriggerTime() != 0L) {
+          setTriggerTime(other.getTriggerTime());
+        }
+        if (other.getTriggerCode() != 0) {
+          setTriggerCode(other.getTriggerCode());
+        }
+        if (!other.getTriggerMsg().isEmpty()) {
+          triggerMsg_ = other.triggerMsg_;
+          onChanged();
+        }
+        if (other.hasLoad()) {
+          mergeLoad(other.getLoad());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.microservice.proto.MessageProtocolPoJo.TaskCallback parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.TaskCallback) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.microservice.proto.MessageProtocolPoJo.TaskDispatch task_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder> taskBuilder_;
+      /**
+       * <code>.TaskDispatch task = 1;</code>
+       */
+      public boolean hasTask() {
+        return taskBuilder_ != null || task_ != null;
+      }
+      /**
+       * <code>.TaskDispatch task = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatch getTask() {
+        if (taskBuilder_ == null) {
+          return task_ == null ? com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance() : task_;
+        } else {
+          return taskBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.TaskDispatch task = 1;</code>
+       */
+      public Builder setTask(com.microservice.proto.MessageProtocolPoJo.TaskDispatch value) {
+        if (taskBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          task_ = value;
+          onChanged();
+        } else {
+          taskBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.TaskDispatch task = 1;</code>
+       */
+      public Builder setTask(
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder builderForValue) {
+        if (taskBuilder_ == null) {
+          task_ = builderForValue.build();
+          onChanged();
+        } else {
+          taskBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.TaskDispatch task = 1;</code>
+       */
+      public Builder mergeTask(com.microservice.proto.MessageProtocolPoJo.TaskDispatch value) {
+        if (taskBuilder_ == null) {
+          if (task_ != null) {
+            task_ =
+              com.microservice.proto.MessageProtocolPoJo.TaskDispatch.newBuilder(task_).mergeFrom(value).buildPartial();
+          } else {
+            task_ = value;
+          }
+          onChanged();
+        } else {
+          taskBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.TaskDispatch task = 1;</code>
+       */
+      public Builder clearTask() {
+        if (taskBuilder_ == null) {
+          task_ = null;
+          onChanged();
+        } else {
+          task_ = null;
+          taskBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.TaskDispatch task = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder getTaskBuilder() {
+        
+        onChanged();
+        return getTaskFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.TaskDispatch task = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder getTaskOrBuilder() {
+        if (taskBuilder_ != null) {
+          return taskBuilder_.getMessageOrBuilder();
+        } else {
+          return task_ == null ?
+              com.microservice.proto.MessageProtocolPoJo.TaskDispatch.getDefaultInstance() : task_;
+        }
+      }
+      /**
+       * <code>.TaskDispatch task = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskDispatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder> 
+          getTaskFieldBuilder() {
+        if (taskBuilder_ == null) {
+          taskBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.microservice.proto.MessageProtocolPoJo.TaskDispatch, com.microservice.proto.MessageProtocolPoJo.TaskDispatch.Builder, com.microservice.proto.MessageProtocolPoJo.TaskDispatchOrBuilder>(
+                  getTask(),
+                  getParentForChildren(),
+                  isClean());
+          task_ = null;
+        }
+        return taskBuilder_;
+      }
+
+      private int code_ ;
+      /**
+       * <code>int32 code = 2;</code>
+       */
+      public int getCode() {
+        return code_;
+      }
+      /**
+       * <code>int32 code = 2;</code>
+       */
+      public Builder setCode(int value) {
+        
+        code_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 code = 2;</code>
+       */
+      public Builder clearCode() {
+        
+        code_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object msg_ = "";
+      /**
+       * <code>string msg = 3;</code>
+       */
+      public java.lang.String getMsg() {
+        java.lang.Object ref = msg_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          msg_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string msg = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getMsgBytes() {
+        java.lang.Object ref = msg_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          msg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string msg = 3;</code>
+       */
+      public Builder setMsg(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        msg_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string msg = 3;</code>
+       */
+      public Builder clearMsg() {
+        
+        msg_ = getDefaultInstance().getMsg();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string msg = 3;</code>
+       */
+      public Builder setMsgBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        msg_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object content_ = "";
+      /**
+       * <code>string content = 4;</code>
+       */
+      public java.lang.String getContent() {
+        java.lang.Object ref = content_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          content_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string content = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getContentBytes() {
+        java.lang.Object ref = content_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          content_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string content = 4;</code>
+       */
+      public Builder setContent(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        content_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string content = 4;</code>
+       */
+      public Builder clearContent() {
+        
+        content_ = getDefaultInstance().getContent();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string content = 4;</code>
+       */
+      public Builder setContentBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        content_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long executeTime_ ;
+      /**
+       * <code>int64 executeTime = 5;</code>
+       */
+      public long getExecuteTime() {
+        return executeTime_;
+      }
+      /**
+       * <code>int64 executeTime = 5;</code>
+       */
+      public Builder setExecuteTime(long value) {
+        
+        executeTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 executeTime = 5;</code>
+       */
+      public Builder clearExecuteTime() {
+        
+        executeTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long triggerTime_ ;
+      /**
+       * <code>int64 triggerTime = 6;</code>
+       */
+      public long getTriggerTime() {
+        return triggerTime_;
+      }
+      /**
+       * <code>int64 triggerTime = 6;</code>
+       */
+      public Builder setTriggerTime(long value) {
+        
+        triggerTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 triggerTime = 6;</code>
+       */
+      public Builder clearTriggerTime() {
+        
+        triggerTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int triggerCode_ ;
+      /**
+       * <code>int32 triggerCode = 7;</code>
+       */
+      public int getTriggerCode() {
+        return triggerCode_;
+      }
+      /**
+       * <code>int32 triggerCode = 7;</code>
+       */
+      public Builder setTriggerCode(int value) {
+        
+        triggerCode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 triggerCode = 7;</code>
+       */
+      public Builder clearTriggerCode() {
+        
+        triggerCode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object triggerMsg_ = "";
+      /**
+       * <code>string triggerMsg = 8;</code>
+       */
+      public java.lang.String getTriggerMsg() {
+        java.lang.Object ref = triggerMsg_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          triggerMsg_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string triggerMsg = 8;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTriggerMsgBytes() {
+        java.lang.Object ref = triggerMsg_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          triggerMsg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string triggerMsg = 8;</code>
+       */
+      public Builder setTriggerMsg(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        triggerMsg_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string triggerMsg = 8;</code>
+       */
+      public Builder clearTriggerMsg() {
+        
+        triggerMsg_ = getDefaultInstance().getTriggerMsg();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string triggerMsg = 8;</code>
+       */
+      public Builder setTriggerMsgBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        triggerMsg_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.microservice.proto.MessageProtocolPoJo.HandlerLoad load_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.HandlerLoad, com.microservice.proto.MessageProtocolPoJo.HandlerLoad.Builder, com.microservice.proto.MessageProtocolPoJo.HandlerLoadOrBuilder> loadBuilder_;
+      /**
+       * <pre>
+       * 任务处理器的负载
+       * </pre>
+       *
+       * <code>.HandlerLoad load = 9;</code>
+       */
+      public boolean hasLoad() {
+        return loadBuilder_ != null || load_ != null;
+      }
+      /**
+       * <pre>
+       * 任务处理器的负载
+       * </pre>
+       *
+       * <code>.HandlerLoad load = 9;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.HandlerLoad getLoad() {
+        if (loadBuilder_ == null) {
+          return load_ == null ? com.microservice.proto.MessageProtocolPoJo.HandlerLoad.getDefaultInstance() : load_;
+        } else {
+          return loadBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * 任务处理器的负载
+       * </pre>
+       *
+       * <code>.HandlerLoad load = 9;</code>
+       */
+      public Builder setLoad(com.microservice.proto.MessageProtocolPoJo.HandlerLoad value) {
+        if (loadBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          load_ = value;
+          onChanged();
+        } else {
+          loadBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务处理器的负载
+       * </pre>
+       *
+       * <code>.HandlerLoad load = 9;</code>
+       */
+      public Builder setLoad(
+          com.microservice.proto.MessageProtocolPoJo.HandlerLoad.Builder builderForValue) {
+        if (loadBuilder_ == null) {
+          load_ = builderForValue.build();
+          onChanged();
+        } else {
+          loadBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务处理器的负载
+       * </pre>
+       *
+       * <code>.HandlerLoad load = 9;</code>
+       */
+      public Builder mergeLoad(com.microservice.proto.MessageProtocolPoJo.HandlerLoad value) {
+        if (loadBuilder_ == null) {
+          if (load_ != null) {
+            load_ =
+              com.microservice.proto.MessageProtocolPoJo.HandlerLoad.newBuilder(load_).mergeFrom(value).buildPartial();
+          } else {
+            load_ = value;
+          }
+          onChanged();
+        } else {
+          loadBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务处理器的负载
+       * </pre>
+       *
+       * <code>.HandlerLoad load = 9;</code>
+       */
+      public Builder clearLoad() {
+        if (loadBuilder_ == null) {
+          load_ = null;
+          onChanged();
+        } else {
+          load_ = null;
+          loadBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务处理器的负载
+       * </pre>
+       *
+       * <code>.HandlerLoad load = 9;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.HandlerLoad.Builder getLoadBuilder() {
+        
+        onChanged();
+        return getLoadFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * 任务处理器的负载
+       * </pre>
+       *
+       * <code>.HandlerLoad load = 9;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.HandlerLoadOrBuilder getLoadOrBuilder() {
+        if (loadBuilder_ != null) {
+          return loadBuilder_.getMessageOrBuilder();
+        } else {
+          return load_ == null ?
+              com.microservice.proto.MessageProtocolPoJo.HandlerLoad.getDefaultInstance() : load_;
+        }
+      }
+      /**
+       * <pre>
+       * 任务处理器的负载
+       * </pre>
+       *
+       * <code>.HandlerLoad load = 9;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.HandlerLoad, com.microservice.proto.MessageProtocolPoJo.HandlerLoad.Builder, com.microservice.proto.MessageProtocolPoJo.HandlerLoadOrBuilder> 
+          getLoadFieldBuilder() {
+        if (loadBuilder_ == null) {
+          loadBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.microservice.proto.MessageProtocolPoJo.HandlerLoad, com.microservice.proto.MessageProtocolPoJo.HandlerLoad.Builder, com.microservice.proto.MessageProtocolPoJo.HandlerLoadOrBuilder>(
+                  getLoad(),
+                  getParentForChildren(),
+                  isClean());
+          load_ = null;
+        }
+        return loadBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TaskCallback)
+    }
+
+    // @@protoc_insertion_point(class_scope:TaskCallback)
+    private static final com.microservice.proto.MessageProtocolPoJo.TaskCallback DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.TaskCallback();
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallback getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskCallback>
+        PARSER = new com.google.protobuf.AbstractParser<TaskCallback>() {
+      @java.lang.Override
+      public TaskCallback parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TaskCallback(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskCallback> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskCallback> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.microservice.proto.MessageProtocolPoJo.TaskCallback getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskCallbackBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TaskCallbackBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .TaskCallback callbacks = 1;</code>
+     */
+    java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskCallback> 
+        getCallbacksList();
+    /**
+     * <code>repeated .TaskCallback callbacks = 1;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskCallback getCallbacks(int index);
+    /**
+     * <code>repeated .TaskCallback callbacks = 1;</code>
+     */
+    int getCallbacksCount();
+    /**
+     * <code>repeated .TaskCallback callbacks = 1;</code>
+     */
+    java.util.List<? extends com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder> 
+        getCallbacksOrBuilderList();
+    /**
+     * <code>repeated .TaskCallback callbacks = 1;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder getCallbacksOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * 同一执行器实例的一批执行结果回写, 一帧发送
+   * </pre>
+   *
+   * Protobuf type {@code TaskCallbackBatch}
+   */
+  public  static final class TaskCallbackBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TaskCallbackBatch)
+      TaskCallbackBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskCallbackBatch.newBuilder() to construct.
+    private TaskCallbackBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskCallbackBatch() {
+      callbacks_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TaskCallbackBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                callbacks_ = new java.util.ArrayList<com.microservice.proto.MessageProtocolPoJo.TaskCallback>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              callbacks_.add(
+                  input.readMessage(com.microservice.proto.MessageProtocolPoJo.TaskCallback.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          callbacks_ = java.util.Collections.unmodifiableList(callbacks_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskCallbackBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskCallbackBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.class, com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.Builder.class);
+    }
+
+    public static final int CALLBACKS_FIELD_NUMBER = 1;
+    private java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskCallback> callbacks_;
+    /**
+     * <code>repeated .TaskCallback callbacks = 1;</code>
+     */
+    public java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskCallback> getCallbacksList() {
+      return callbacks_;
+    }
+    /**
+     * <code>repeated .TaskCallback callbacks = 1;</code>
+     */
+    public java.util.List<? extends com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder> 
+        getCallbacksOrBuilderList() {
+      return callbacks_;
+    }
+    /**
+     * <code>repeated .TaskCallback callbacks = 1;</code>
+     */
+    public int getCallbacksCount() {
+      return callbacks_.size();
+    }
+    /**
+     * <code>repeated .TaskCallback callbacks = 1;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskCallback getCallbacks(int index) {
+      return callbacks_.get(index);
+    }
+    /**
+     * <code>repeated .TaskCallback callbacks = 1;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder getCallbacksOrBuilder(
+        int index) {
+      return callbacks_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < callbacks_.size(); i++) {
+        output.writeMessage(1, callbacks_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < callbacks_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, callbacks_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch)) {
+        return super.equals(obj);
+      }
+      com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch other = (com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) obj;
+
+      boolean result = true;
+      result = result && getCallbacksList()
+          .equals(other.getCallbacksList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getCallbacksCount() > 0) {
+        hash = (37 * hash) + CALLBACKS_FIELD_NUMBER;
+        hash = (53 * hash) + getCallbacksList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 同一执行器实例的一批执行结果回写, 一帧发送
+     * </pre>
+     *
+     * Protobuf type {@code TaskCallbackBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TaskCallbackBatch)
+        com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskCallbackBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskCallbackBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.class, com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.Builder.class);
+      }
+
+      // Construct using com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getCallbacksFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (callbacksBuilder_ == null) {
+          callbacks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          callbacksBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskCallbackBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch getDefaultInstanceForType() {
+        return com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch build() {
+        com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch buildPartial() {
+        com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch result = new com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (callbacksBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            callbacks_ = java.util.Collections.unmodifiableList(callbacks_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.callbacks_ = callbacks_;
+        } else {
+          result.callbacks_ = callbacksBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) {
+          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch other) {
+        if (other == com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch.getDefaultInstance()) return this;
+        if (callbacksBuilder_ == null) {
+          if (!other.callbacks_.isEmpty()) {
+            if (callbacks_.isEmpty()) {
+              callbacks_ = other.callbacks_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureCallbacksIsMutable();
+              callbacks_.addAll(other.callbacks_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.callbacks_.isEmpty()) {
+            if (callbacksBuilder_.isEmpty()) {
+              callbacksBuilder_.dispose();
+              callbacksBuilder_ = null;
+              callbacks_ = other.callbacks_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              callbacksBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCallbacksFieldBuilder() : null;
+            } else {
+              callbacksBuilder_.addAllMessages(other.callbacks_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskCallback> callbacks_ =
+        java.util.Collections.emptyList();
+      private void ensureCallbacksIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          callbacks_ = new java.util.ArrayList<com.microservice.proto.MessageProtocolPoJo.TaskCallback>(callbacks_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskCallback, com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder, com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder> callbacksBuilder_;
+
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskCallback> getCallbacksList() {
+        if (callbacksBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(callbacks_);
+        } else {
+          return callbacksBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public int getCallbacksCount() {
+        if (callbacksBuilder_ == null) {
+          return callbacks_.size();
+        } else {
+          return callbacksBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallback getCallbacks(int index) {
+        if (callbacksBuilder_ == null) {
+          return callbacks_.get(index);
+        } else {
+          return callbacksBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public Builder setCallbacks(
+          int index, com.microservice.proto.MessageProtocolPoJo.TaskCallback value) {
+        if (callbacksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCallbacksIsMutable();
+          callbacks_.set(index, value);
+          onChanged();
+        } else {
+          callbacksBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public Builder setCallbacks(
+          int index, com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder builderForValue) {
+        if (callbacksBuilder_ == null) {
+          ensureCallbacksIsMutable();
+          callbacks_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          callbacksBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public Builder addCallbacks(com.microservice.proto.MessageProtocolPoJo.TaskCallback value) {
+        if (callbacksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCallbacksIsMutable();
+          callbacks_.add(value);
+          onChanged();
+        } else {
+          callbacksBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public Builder addCallbacks(
+          int index, com.microservice.proto.MessageProtocolPoJo.TaskCallback value) {
+        if (callbacksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCallbacksIsMutable();
+          callbacks_.add(index, value);
+          onChanged();
+        } else {
+          callbacksBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public Builder addCallbacks(
+          com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder builderForValue) {
+        if (callbacksBuilder_ == null) {
+          ensureCallbacksIsMutable();
+          callbacks_.add(builderForValue.build());
+          onChanged();
+        } else {
+          callbacksBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public Builder addCallbacks(
+          int index, com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder builderForValue) {
+        if (callbacksBuilder_ == null) {
+          ensureCallbacksIsMutable();
+          callbacks_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          callbacksBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public Builder addAllCallbacks(
+          java.lang.Iterable<? extends com.microservice.proto.MessageProtocolPoJo.TaskCallback> values) {
+        if (callbacksBuilder_ == null) {
+          ensureCallbacksIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, callbacks_);
+          onChanged();
+        } else {
+          callbacksBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public Builder clearCallbacks() {
+        if (callbacksBuilder_ == null) {
+          callbacks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          callbacksBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public Builder removeCallbacks(int index) {
+        if (callbacksBuilder_ == null) {
+          ensureCallbacksIsMutable();
+          callbacks_.remove(index);
+          onChanged();
+        } else {
+          callbacksBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder getCallbacksBuilder(
+          int index) {
+        return getCallbacksFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder getCallbacksOrBuilder(
+          int index) {
+        if (callbacksBuilder_ == null) {
+          return callbacks_.get(index);  } else {
+          return callbacksBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public java.util.List<? extends com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder> 
+           getCallbacksOrBuilderList() {
+        if (callbacksBuilder_ != null) {
+          return callbacksBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(callbacks_);
+        }
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder addCallbacksBuilder() {
+        return getCallbacksFieldBuilder().addBuilder(
+            com.microservice.proto.MessageProtocolPoJo.TaskCallback.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder addCallbacksBuilder(
+          int index) {
+        return getCallbacksFieldBuilder().addBuilder(
+            index, com.microservice.proto.MessageProtocolPoJo.TaskCallback.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TaskCallback callbacks = 1;</code>
+       */
+      public java.util.List<com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder> 
+           getCallbacksBuilderList() {
+        return getCallbacksFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.microservice.proto.MessageProtocolPoJo.TaskCallback, com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder, com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder> 
+          getCallbacksFieldBuilder() {
+        if (callbacksBuilder_ == null) {
+          callbacksBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.microservice.proto.MessageProtocolPoJo.TaskCallback, com.microservice.proto.MessageProtocolPoJo.TaskCallback.Builder, com.microservice.proto.MessageProtocolPoJo.TaskCallbackOrBuilder>(
+                  callbacks_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          callbacks_ = null;
+        }
+        return callbacksBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TaskCallbackBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:TaskCallbackBatch)
+    private static final com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch();
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskCallbackBatch>
+        PARSER = new com.google.protobuf.AbstractParser<TaskCallbackBatch>() {
+      @java.lang.Override
+      public TaskCallbackBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TaskCallbackBatch(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskCallbackBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskCallbackBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.microservice.proto.MessageProtocolPoJo.TaskCallbackBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskKillOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TaskKill)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool cron = 1;</code>
+     */
+    boolean getCron();
+
+    /**
+     * <code>int32 taskId = 2;</code>
+     */
+    int getTaskId();
+
+    /**
+     * <code>string jobHandler = 3;</code>
+     */
+    java.lang.String getJobHandler();
+    /**
+     * <code>string jobHandler = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getJobHandlerBytes();
+
+    /**
+     * <code>string reason = 4;</code>
+     */
+    java.lang.String getReason();
+    /**
+     * <code>string reason = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getReasonBytes();
+  }
+  /**
+   * <pre>
+   * 终止执行器上正在执行或等待执行的任务
+   * </pre>
+   *
+   * Protobuf type {@code TaskKill}
+   */
+  public  static final class TaskKill extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TaskKill)
+      TaskKillOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskKill.newBuilder() to construct.
+    private TaskKill(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskKill() {
+      cron_ = false;
+      taskId_ = 0;
+      jobHandler_ = "";
+      reason_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TaskKill(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
             case 8: {
 
-              id_ = input.readInt32();
+              cron_ = input.readBool();
+              break;
+            }
+            case 16: {
+
+              taskId_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              jobHandler_ = s;
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              reason_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskKill_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskKill_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.microservice.proto.MessageProtocolPoJo.TaskKill.class, com.microservice.proto.MessageProtocolPoJo.TaskKill.Builder.class);
+    }
+
+    public static final int CRON_FIELD_NUMBER = 1;
+    private boolean cron_;
+    /**
+     * <code>bool cron = 1;</code>
+     */
+    public boolean getCron() {
+      return cron_;
+    }
+
+    public static final int TASKID_FIELD_NUMBER = 2;
+    private int taskId_;
+    /**
+     * <code>int32 taskId = 2;</code>
+     */
+    public int getTaskId() {
+      return taskId_;
+    }
+
+    public static final int JOBHANDLER_FIELD_NUMBER = 3;
+    private volatile java.lang.Object jobHandler_;
+    /**
+     * <code>string jobHandler = 3;</code>
+     */
+    public java.lang.String getJobHandler() {
+      java.lang.Object ref = jobHandler_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobHandler_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string jobHandler = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getJobHandlerBytes() {
+      java.lang.Object ref = jobHandler_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobHandler_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REASON_FIELD_NUMBER = 4;
+    private volatile java.lang.Object reason_;
+    /**
+     * <code>string reason = 4;</code>
+     */
+    public java.lang.String getReason() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        reason_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string reason = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getReasonBytes() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        reason_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (cron_ != false) {
+        output.writeBool(1, cron_);
+      }
+      if (taskId_ != 0) {
+        output.writeInt32(2, taskId_);
+      }
+      if (!getJobHandlerBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, jobHandler_);
+      }
+      if (!getReasonBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, reason_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (cron_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, cron_);
+      }
+      if (taskId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, taskId_);
+      }
+      if (!getJobHandlerBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, jobHandler_);
+      }
+      if (!getReasonBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, reason_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.TaskKill)) {
+        return super.equals(obj);
+      }
+      com.microservice.proto.MessageProtocolPoJo.TaskKill other = (com.microservice.proto.MessageProtocolPoJo.TaskKill) obj;
+
+      boolean result = true;
+      result = result && (getCron()
+          == other.getCron());
+      result = result && (getTaskId()
+          == other.getTaskId());
+      result = result && getJobHandler()
+          .equals(other.getJobHandler());
+      result = result && getReason()
+          .equals(other.getReason());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CRON_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getCron());
+      hash = (37 * hash) + TASKID_FIELD_NUMBER;
+      hash = (53 * hash) + getTaskId();
+      hash = (37 * hash) + JOBHANDLER_FIELD_NUMBER;
+      hash = (53 * hash) + getJobHandler().hashCode();
+      hash = (37 * hash) + REASON_FIELD_NUMBER;
+      hash = (53 * hash) + getReason().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.TaskKill prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 终止执行器上正在执行或等待执行的任务
+     * </pre>
+     *
+     * Protobuf type {@code TaskKill}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TaskKill)
+        com.microservice.proto.MessageProtocolPoJo.TaskKillOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskKill_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskKill_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.microservice.proto.MessageProtocolPoJo.TaskKill.class, com.microservice.proto.MessageProtocolPoJo.TaskKill.Builder.class);
+      }
+
+      // Construct using com.microservice.proto.MessageProtocolPoJo.TaskKill.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        cron_ = false;
+
+        taskId_ = 0;
+
+        jobHandler_ = "";
+
+        reason_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_TaskKill_descriptor;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskKill getDefaultInstanceForType() {
+        return com.microservice.proto.MessageProtocolPoJo.TaskKill.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskKill build() {
+        com.microservice.proto.MessageProtocolPoJo.TaskKill result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.TaskKill buildPartial() {
+        com.microservice.proto.MessageProtocolPoJo.TaskKill result = new com.microservice.proto.MessageProtocolPoJo.TaskKill(this);
+        result.cron_ = cron_;
+        result.taskId_ = taskId_;
+        result.jobHandler_ = jobHandler_;
+        result.reason_ = reason_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.microservice.proto.MessageProtocolPoJo.TaskKill) {
+          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.TaskKill)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.TaskKill other) {
+        if (other == com.microservice.proto.MessageProtocolPoJo.TaskKill.getDefaultInstance()) return this;
+        if (other.getCron() != false) {
+          setCron(other.getCron());
+        }
+        if (other.getTaskId() != 0) {
+          setTaskId(other.getTaskId());
+        }
+        if (!other.getJobHandler().isEmpty()) {
+          jobHandler_ = other.jobHandler_;
+          onChanged();
+        }
+        if (!other.getReason().isEmpty()) {
+          reason_ = other.reason_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.microservice.proto.MessageProtocolPoJo.TaskKill parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.TaskKill) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private boolean cron_ ;
+      /**
+       * <code>bool cron = 1;</code>
+       */
+      public boolean getCron() {
+        return cron_;
+      }
+      /**
+       * <code>bool cron = 1;</code>
+       */
+      public Builder setCron(boolean value) {
+        
+        cron_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool cron = 1;</code>
+       */
+      public Builder clearCron() {
+        
+        cron_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int taskId_ ;
+      /**
+       * <code>int32 taskId = 2;</code>
+       */
+      public int getTaskId() {
+        return taskId_;
+      }
+      /**
+       * <code>int32 taskId = 2;</code>
+       */
+      public Builder setTaskId(int value) {
+        
+        taskId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 taskId = 2;</code>
+       */
+      public Builder clearTaskId() {
+        
+        taskId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object jobHandler_ = "";
+      /**
+       * <code>string jobHandler = 3;</code>
+       */
+      public java.lang.String getJobHandler() {
+        java.lang.Object ref = jobHandler_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobHandler_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string jobHandler = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getJobHandlerBytes() {
+        java.lang.Object ref = jobHandler_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobHandler_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string jobHandler = 3;</code>
+       */
+      public Builder setJobHandler(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        jobHandler_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string jobHandler = 3;</code>
+       */
+      public Builder clearJobHandler() {
+        
+        jobHandler_ = getDefaultInstance().getJobHandler();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string jobHandler = 3;</code>
+       */
+      public Builder setJobHandlerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        jobHandler_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object reason_ = "";
+      /**
+       * <code>string reason = 4;</code>
+       */
+      public java.lang.String getReason() {
+        java.lang.Object ref = reason_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          reason_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string reason = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getReasonBytes() {
+        java.lang.Object ref = reason_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reason_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string reason = 4;</code>
+       */
+      public Builder setReason(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        reason_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string reason = 4;</code>
+       */
+      public Builder clearReason() {
+        
+        reason_ = getDefaultInstance().getReason();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string reason = 4;</code>
+       */
+      public Builder setReasonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        reason_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TaskKill)
+    }
+
+    // @@protoc_insertion_point(class_scope:TaskKill)
+    private static final com.microservice.proto.MessageProtocolPoJo.TaskKill DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.TaskKill();
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.TaskKill getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskKill>
+        PARSER = new com.google.protobuf.AbstractParser<TaskKill>() {
+      @java.lang.Override
+      public TaskKill parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TaskKill(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskKill> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskKill> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.microservice.proto.MessageProtocolPoJo.TaskKill getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface HandlerLoadOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:HandlerLoad)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string jobHandler = 1;</code>
+     */
+    java.lang.String getJobHandler();
+    /**
+     * <code>string jobHandler = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getJobHandlerBytes();
+
+    /**
+     * <code>int32 concurrency = 2;</code>
+     */
+    int getConcurrency();
+
+    /**
+     * <code>int32 active = 3;</code>
+     */
+    int getActive();
+
+    /**
+     * <code>int32 queueCapacity = 4;</code>
+     */
+    int getQueueCapacity();
+
+    /**
+     * <code>int32 queued = 5;</code>
+     */
+    int getQueued();
+
+    /**
+     * <code>int64 rejected = 6;</code>
+     */
+    long getRejected();
+  }
+  /**
+   * <pre>
+   * 执行器上一个任务处理器的执行线程与等待队列
+   * </pre>
+   *
+   * Protobuf type {@code HandlerLoad}
+   */
+  public  static final class HandlerLoad extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:HandlerLoad)
+      HandlerLoadOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use HandlerLoad.newBuilder() to construct.
+    private HandlerLoad(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private HandlerLoad() {
+      jobHandler_ = "";
+      concurrency_ = 0;
+      active_ = 0;
+      queueCapacity_ = 0;
+      queued_ = 0;
+      rejected_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private HandlerLoad(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              jobHandler_ = s;
+              break;
+            }
+            case 16: {
+
+              concurrency_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              active_ = input.readInt32();
+              break;
+            }
+            case 32: {
+
+              queueCapacity_ = input.readInt32();
+              break;
+            }
+            case 40: {
+
+              queued_ = input.readInt32();
+              break;
+            }
+            case 48: {
+
+              rejected_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_HandlerLoad_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_HandlerLoad_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.microservice.proto.MessageProtocolPoJo.HandlerLoad.class, com.microservice.proto.MessageProtocolPoJo.HandlerLoad.Builder.class);
+    }
+
+    public static final int JOBHANDLER_FIELD_NUMBER = 1;
+    private volatile java.lang.Object jobHandler_;
+    /**
+     * <code>string jobHandler = 1;</code>
+     */
+    public java.lang.String getJobHandler() {
+      java.lang.Object ref = jobHandler_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobHandler_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string jobHandler = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getJobHandlerBytes() {
+      java.lang.Object ref = jobHandler_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobHandler_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CONCURRENCY_FIELD_NUMBER = 2;
+    private int concurrency_;
+    /**
+     * <code>int32 concurrency = 2;</code>
+     */
+    public int getConcurrency() {
+      return concurrency_;
+    }
+
+    public static final int ACTIVE_FIELD_NUMBER = 3;
+    private int active_;
+    /**
+     * <code>int32 active = 3;</code>
+     */
+    public int getActive() {
+      return active_;
+    }
+
+    public static final int QUEUECAPACITY_FIELD_NUMBER = 4;
+    private int queueCapacity_;
+    /**
+     * <code>int32 queueCapacity = 4;</code>
+     */
+    public int getQueueCapacity() {
+      return queueCapacity_;
+    }
+
+    public static final int QUEUED_FIELD_NUMBER = 5;
+    private int queued_;
+    /**
+     * <code>int32 queued = 5;</code>
+     */
+    public int getQueued() {
+      return queued_;
+    }
+
+    public static final int REJECTED_FIELD_NUMBER = 6;
+    private long rejected_;
+    /**
+     * <code>int64 rejected = 6;</code>
+     */
+    public long getRejected() {
+      return rejected_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getJobHandlerBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, jobHandler_);
+      }
+      if (concurrency_ != 0) {
+        output.writeInt32(2, concurrency_);
+      }
+      if (active_ != 0) {
+        output.writeInt32(3, active_);
+      }
+      if (queueCapacity_ != 0) {
+        output.writeInt32(4, queueCapacity_);
+      }
+      if (queued_ != 0) {
+        output.writeInt32(5, queued_);
+      }
+      if (rejected_ != 0L) {
+        output.writeInt64(6, rejected_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getJobHandlerBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, jobHandler_);
+      }
+      if (concurrency_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, concurrency_);
+      }
+      if (active_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, active_);
+      }
+      if (queueCapacity_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, queueCapacity_);
+      }
+      if (queued_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, queued_);
+      }
+      if (rejected_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, rejected_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.HandlerLoad)) {
+        return super.equals(obj);
+      }
+      com.microservice.proto.MessageProtocolPoJo.HandlerLoad other = (com.microservice.proto.MessageProtocolPoJo.HandlerLoad) obj;
+
+      boolean result = true;
+      result = result && getJobHandler()
+          .equals(other.getJobHandler());
+      result = result && (getConcurrency()
+          == other.getConcurrency());
+      result = result && (getActive()
+          == other.getActive());
+      result = result && (getQueueCapacity()
+          == other.getQueueCapacity());
+      result = result && (getQueued()
+          == other.getQueued());
+      result = result && (getRejected()
+          == other.getRejected());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + JOBHANDLER_FIELD_NUMBER;
+      hash = (53 * hash) + getJobHandler().hashCode();
+      hash = (37 * hash) + CONCURRENCY_FIELD_NUMBER;
+      hash = (53 * hash) + getConcurrency();
+      hash = (37 * hash) + ACTIVE_FIELD_NUMBER;
+      hash = (53 * hash) + getActive();
+      hash = (37 * hash) + QUEUECAPACITY_FIELD_NUMBER;
+      hash = (53 * hash) + getQueueCapacity();
+      hash = (37 * hash) + QUEUED_FIELD_NUMBER;
+      hash = (53 * hash) + getQueued();
+      hash = (37 * hash) + REJECTED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRejected());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.HandlerLoad prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 执行器上一个任务处理器的执行线程与等待队列
+     * </pre>
+     *
+     * Protobuf type {@code HandlerLoad}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:HandlerLoad)
+        com.microservice.proto.MessageProtocolPoJo.HandlerLoadOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_HandlerLoad_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_HandlerLoad_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.microservice.proto.MessageProtocolPoJo.HandlerLoad.class, com.microservice.proto.MessageProtocolPoJo.HandlerLoad.Builder.class);
+      }
+
+      // Construct using com.microservice.proto.MessageProtocolPoJo.HandlerLoad.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        jobHandler_ = "";
+
+        concurrency_ = 0;
+
+        active_ = 0;
+
+        queueCapacity_ = 0;
+
+        queued_ = 0;
+
+        rejected_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_HandlerLoad_descriptor;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.HandlerLoad getDefaultInstanceForType() {
+        return com.microservice.proto.MessageProtocolPoJo.HandlerLoad.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.HandlerLoad build() {
+        com.microservice.proto.MessageProtocolPoJo.HandlerLoad result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.microservice.proto.MessageProtocolPoJo.HandlerLoad buildPartial() {
+        com.microservice.proto.MessageProtocolPoJo.HandlerLoad result = new com.microservice.proto.MessageProtocolPoJo.HandlerLoad(this);
+        result.jobHandler_ = jobHandler_;
+        result.concurrency_ = concurrency_;
+        result.active_ = active_;
+        result.queueCapacity_ = queueCapacity_;
+        result.queued_ = queued_;
+        result.rejected_ = rejected_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.microservice.proto.MessageProtocolPoJo.HandlerLoad) {
+          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.HandlerLoad)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.HandlerLoad other) {
+        if (other == com.microservice.proto.MessageProtocolPoJo.HandlerLoad.getDefaultInstance()) return this;
+        if (!other.getJobHandler().isEmpty()) {
+          jobHandler_ = other.jobHandler_;
+          onChanged();
+        }
+        if (other.getConcurrency() != 0) {
+          setConcurrency(other.getConcurrency());
+        }
+        if (other.getActive() != 0) {
+          setActive(other.getActive());
+        }
+        if (other.getQueueCapacity() != 0) {
+          setQueueCapacity(other.getQueueCapacity());
+        }
+        if (other.getQueued() != 0) {
+          setQueued(other.getQueued());
+        }
+        if (other.getRejected() != 0L) {
+          setRejected(other.getRejected());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.microservice.proto.MessageProtocolPoJo.HandlerLoad parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.HandlerLoad) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object jobHandler_ = "";
+      /**
+       * <code>string jobHandler = 1;</code>
+       */
+      public java.lang.String getJobHandler() {
+        java.lang.Object ref = jobHandler_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobHandler_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string jobHandler = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getJobHandlerBytes() {
+        java.lang.Object ref = jobHandler_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobHandler_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string jobHandler = 1;</code>
+       */
+      public Builder setJobHandler(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        jobHandler_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string jobHandler = 1;</code>
+       */
+      public Builder clearJobHandler() {
+        
+        jobHandler_ = getDefaultInstance().getJobHandler();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string jobHandler = 1;</code>
+       */
+      public Builder setJobHandlerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        jobHandler_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int concurrency_ ;
+      /**
+       * <code>int32 concurrency = 2;</code>
+       */
+      public int getConcurrency() {
+        return concurrency_;
+      }
+      /**
+       * <code>int32 concurrency = 2;</code>
+       */
+      public Builder setConcurrency(int value) {
+        
+        concurrency_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 concurrency = 2;</code>
+       */
+      public Builder clearConcurrency() {
+        
+        concurrency_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int active_ ;
+      /**
+       * <code>int32 active = 3;</code>
+       */
+      public int getActive() {
+        return active_;
+      }
+      /**
+       * <code>int32 active = 3;</code>
+       */
+      public Builder setActive(int value) {
+        
+        active_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 active = 3;</code>
+       */
+      public Builder clearActive() {
+        
+        active_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int queueCapacity_ ;
+      /**
+       * <code>int32 queueCapacity = 4;</code>
+       */
+      public int getQueueCapacity() {
+        return queueCapacity_;
+      }
+      /**
+       * <code>int32 queueCapacity = 4;</code>
+       */
+      public Builder setQueueCapacity(int value) {
+        
+        queueCapacity_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 queueCapacity = 4;</code>
+       */
+      public Builder clearQueueCapacity() {
+        
+        queueCapacity_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int queued_ ;
+      /**
+       * <code>int32 queued = 5;</code>
+       */
+      public int getQueued() {
+        return queued_;
+      }
+      /**
+       * <code>int32 queued = 5;</code>
+       */
+      public Builder setQueued(int value) {
+        
+        queued_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 queued = 5;</code>
+       */
+      public Builder clearQueued() {
+        
+        queued_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long rejected_ ;
+      /**
+       * <code>int64 rejected = 6;</code>
+       */
+      public long getRejected() {
+        return rejected_;
+      }
+      /**
+       * <code>int64 rejected = 6;</code>
+       */
+      public Builder setRejected(long value) {
+        
+        rejected_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 rejected = 6;</code>
+       */
+      public Builder clearRejected() {
+        
+        rejected_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:HandlerLoad)
+    }
+
+    // @@protoc_insertion_point(class_scope:HandlerLoad)
+    private static final com.microservice.proto.MessageProtocolPoJo.HandlerLoad DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.HandlerLoad();
+    }
+
+    public static com.microservice.proto.MessageProtocolPoJo.HandlerLoad getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<HandlerLoad>
+        PARSER = new com.google.protobuf.AbstractParser<HandlerLoad>() {
+      @java.lang.Override
+      public HandlerLoad parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new HandlerLoad(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<HandlerLoad> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<HandlerLoad> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.microservice.proto.MessageProtocolPoJo.HandlerLoad getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ExecutorRegisterOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ExecutorRegister)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string registerName = 1;</code>
+     */
+    java.lang.String getRegisterName();
+    /**
+     * <code>string registerName = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getRegisterNameBytes();
+
+    /**
+     * <code>string appName = 2;</code>
+     */
+    java.lang.String getAppName();
+    /**
+     * <code>string appName = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getAppNameBytes();
+
+    /**
+     * <code>string host = 3;</code>
+     */
+    java.lang.String getHost();
+    /**
+     * <code>string host = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getHostBytes();
+
+    /**
+     * <code>string port = 4;</code>
+     */
+    java.lang.String getPort();
+    /**
+     * <code>string port = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getPortBytes();
+
+    /**
+     * <code>int64 currentTime = 5;</code>
+     */
+    long getCurrentTime();
+
+    /**
+     * <pre>
+     * 执行器接受批量任务指派 TaskDispatchBatch
+     * </pre>
+     *
+     * <code>bool batchDispatch = 6;</code>
+     */
+    boolean getBatchDispatch();
+
+    /**
+     * <pre>
+     * 执行器请求的压缩方式, 服务端在心跳中确认
+     * </pre>
+     *
+     * <code>.Compression compression = 7;</code>
+     */
+    int getCompressionValue();
+    /**
+     * <pre>
+     * 执行器请求的压缩方式, 服务端在心跳中确认
+     * </pre>
+     *
+     * <code>.Compression compression = 7;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.Compression getCompression();
+  }
+  /**
+   * <pre>
+   * 执行器注册
+   * </pre>
+   *
+   * Protobuf type {@code ExecutorRegister}
+   */
+  public  static final class ExecutorRegister extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ExecutorRegister)
+      ExecutorRegisterOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ExecutorRegister.newBuilder() to construct.
+    private ExecutorRegister(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ExecutorRegister() {
+      registerName_ = "";
+      appName_ = "";
+      host_ = "";
+      port_ = "";
+      currentTime_ = 0L;
+      batchDispatch_ = false;
+      compression_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ExecutorRegister(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              registerName_ = s;
               break;
             }
             case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              name_ = s;
+              appName_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              host_ = s;
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              port_ = s;
+              break;
+            }
+            case 40: {
+
+              currentTime_ = input.readInt64();
+              break;
+            }
+            case 48: {
+
+              batchDispatch_ = input.readBool();
+              break;
+            }
+            case 56: {
+              int rawValue = input.readEnum();
+
+              compression_ = rawValue;
               break;
             }
             default: {
@@ -1832,66 +12092,200 @@ public final class MessageProtocolPoJo {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.microservice.proto.MessageProtocolPoJo.internal_static_Student_descriptor;
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_ExecutorRegister_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.microservice.proto.MessageProtocolPoJo.internal_static_Student_fieldAccessorTable
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_ExecutorRegister_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.microservice.proto.MessageProtocolPoJo.Student.class, com.microservice.proto.MessageProtocolPoJo.Student.Builder.class);
+              com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.class, com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.Builder.class);
+    }
+
+    public static final int REGISTERNAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object registerName_;
+    /**
+     * <code>string registerName = 1;</code>
+     */
+    public java.lang.String getRegisterName() {
+      java.lang.Object ref = registerName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        registerName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string registerName = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRegisterNameBytes() {
+      java.lang.Object ref = registerName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        registerName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int APPNAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object appName_;
+    /**
+     * <code>string appName = 2;</code>
+     */
+    public java.lang.String getAppName() {
+      java.lang.Object ref = appName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        appName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string appName = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAppNameBytes() {
+      java.lang.Object ref = appName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        appName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int HOST_FIELD_NUMBER = 3;
+    private volatile java.lang.Object host_;
+    /**
+     * <code>string host = 3;</code>
+     */
+    public java.lang.String getHost() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        host_ = s;
+        return s;
+      }
     }
-
-    public static final int ID_FIELD_NUMBER = 1;
-    private int id_;
     /**
-     * <code>int32 id = 1;</code>
+     * <code>string host = 3;</code>
      */
-    public int getId() {
-      return id_;
+    public com.google.protobuf.ByteString
+        getHostBytes() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        host_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    public static final int NAME_FIELD_NUMBER = 2;
-    private volatile java.lang.Object name_;
+    public static final int PORT_FIELD_NUMBER = 4;
+    private volatile java.lang.Object port_;
     /**
-     * <pre>
-     * </pre>
-     *
-     * <code>string name = 2;</code>
+     * <code>string port = 4;</code>
      */
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
+    public java.lang.String getPort() {
+      java.lang.Object ref = port_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        name_ = s;
+        port_ = s;
         return s;
       }
     }
     /**
-     * <pre>
-     * </pre>
-     *
-     * <code>string name = 2;</code>
+     * <code>string port = 4;</code>
      */
     public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
+        getPortBytes() {
+      java.lang.Object ref = port_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        name_ = b;
+        port_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
+    public static final int CURRENTTIME_FIELD_NUMBER = 5;
+    private long currentTime_;
+    /**
+     * <code>int64 currentTime = 5;</code>
+     */
+    public long getCurrentTime() {
+      return currentTime_;
+    }
+
+    public static final int BATCHDISPATCH_FIELD_NUMBER = 6;
+    private boolean batchDispatch_;
+    /**
+     * <pre>
+     * 执行器接受批量任务指派 TaskDispatchBatch
+     * </pre>
+     *
+     * <code>bool batchDispatch = 6;</code>
+     */
+    public boolean getBatchDispatch() {
+      return batchDispatch_;
+    }
+
+    public static final int COMPRESSION_FIELD_NUMBER = 7;
+    private int compression_;
+    /**
+     * <pre>
+     * 执行器请求的压缩方式, 服务端在心跳中确认
+     * </pre>
+     *
+     * <code>.Compression compression = 7;</code>
+     */
+    public int getCompressionValue() {
+      return compression_;
+    }
+    /**
+     * <pre>
+     * 执行器请求的压缩方式, 服务端在心跳中确认
+     * </pre>
+     *
+     * <code>.Compression compression = 7;</code>
+     */
+    public com.microservice.proto.MessageProtocolPoJo.Compression getCompression() {
+      @SuppressWarnings("deprecation")
+      com.microservice.proto.MessageProtocolPoJo.Compression result = com.microservice.proto.MessageProtocolPoJo.Compression.valueOf(compression_);
+      return result == null ? com.microservice.proto.MessageProtocolPoJo.Compression.UNRECOGNIZED : result;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -1906,11 +12300,26 @@ public final class MessageProtocolPoJo {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (id_ != 0) {
-        output.writeInt32(1, id_);
+      if (!getRegisterNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, registerName_);
       }
-      if (!getNameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+      if (!getAppNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, appName_);
+      }
+      if (!getHostBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, host_);
+      }
+      if (!getPortBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, port_);
+      }
+      if (currentTime_ != 0L) {
+        output.writeInt64(5, currentTime_);
+      }
+      if (batchDispatch_ != false) {
+        output.writeBool(6, batchDispatch_);
+      }
+      if (compression_ != com.microservice.proto.MessageProtocolPoJo.Compression.NONE.getNumber()) {
+        output.writeEnum(7, compression_);
       }
       unknownFields.writeTo(output);
     }
@@ -1921,12 +12330,29 @@ public final class MessageProtocolPoJo {
       if (size != -1) return size;
 
       size = 0;
-      if (id_ != 0) {
+      if (!getRegisterNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, registerName_);
+      }
+      if (!getAppNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, appName_);
+      }
+      if (!getHostBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, host_);
+      }
+      if (!getPortBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, port_);
+      }
+      if (currentTime_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, id_);
+          .computeInt64Size(5, currentTime_);
       }
-      if (!getNameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+      if (batchDispatch_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, batchDispatch_);
+      }
+      if (compression_ != com.microservice.proto.MessageProtocolPoJo.Compression.NONE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(7, compression_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -1938,16 +12364,25 @@ public final class MessageProtocolPoJo {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.Student)) {
+      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.ExecutorRegister)) {
         return super.equals(obj);
       }
-      com.microservice.proto.MessageProtocolPoJo.Student other = (com.microservice.proto.MessageProtocolPoJo.Student) obj;
+      com.microservice.proto.MessageProtocolPoJo.ExecutorRegister other = (com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) obj;
 
       boolean result = true;
-      result = result && (getId()
-          == other.getId());
-      result = result && getName()
-          .equals(other.getName());
+      result = result && getRegisterName()
+          .equals(other.getRegisterName());
+      result = result && getAppName()
+          .equals(other.getAppName());
+      result = result && getHost()
+          .equals(other.getHost());
+      result = result && getPort()
+          .equals(other.getPort());
+      result = result && (getCurrentTime()
+          == other.getCurrentTime());
+      result = result && (getBatchDispatch()
+          == other.getBatchDispatch());
+      result = result && compression_ == other.compression_;
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -1959,78 +12394,90 @@ public final class MessageProtocolPoJo {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ID_FIELD_NUMBER;
-      hash = (53 * hash) + getId();
-      hash = (37 * hash) + NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + REGISTERNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getRegisterName().hashCode();
+      hash = (37 * hash) + APPNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getAppName().hashCode();
+      hash = (37 * hash) + HOST_FIELD_NUMBER;
+      hash = (53 * hash) + getHost().hashCode();
+      hash = (37 * hash) + PORT_FIELD_NUMBER;
+      hash = (53 * hash) + getPort().hashCode();
+      hash = (37 * hash) + CURRENTTIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCurrentTime());
+      hash = (37 * hash) + BATCHDISPATCH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getBatchDispatch());
+      hash = (37 * hash) + COMPRESSION_FIELD_NUMBER;
+      hash = (53 * hash) + compression_;
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(byte[] data)
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(java.io.InputStream input)
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseDelimitedFrom(java.io.InputStream input)
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseDelimitedFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Student parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2043,7 +12490,7 @@ public final class MessageProtocolPoJo {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.Student prototype) {
+    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.ExecutorRegister prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2059,26 +12506,30 @@ public final class MessageProtocolPoJo {
       return builder;
     }
     /**
-     * Protobuf type {@code Student}
+     * <pre>
+     * 执行器注册
+     * </pre>
+     *
+     * Protobuf type {@code ExecutorRegister}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Student)
-        com.microservice.proto.MessageProtocolPoJo.StudentOrBuilder {
+        // @@protoc_insertion_point(builder_implements:ExecutorRegister)
+        com.microservice.proto.MessageProtocolPoJo.ExecutorRegisterOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.microservice.proto.MessageProtocolPoJo.internal_static_Student_descriptor;
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_ExecutorRegister_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.microservice.proto.MessageProtocolPoJo.internal_static_Student_fieldAccessorTable
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_ExecutorRegister_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.microservice.proto.MessageProtocolPoJo.Student.class, com.microservice.proto.MessageProtocolPoJo.Student.Builder.class);
+                com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.class, com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.Builder.class);
       }
 
-      // Construct using com.microservice.proto.MessageProtocolPoJo.Student.newBuilder()
+      // Construct using com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2096,9 +12547,19 @@ public final class MessageProtocolPoJo {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        id_ = 0;
+        registerName_ = "";
 
-        name_ = "";
+        appName_ = "";
+
+        host_ = "";
+
+        port_ = "";
+
+        currentTime_ = 0L;
+
+        batchDispatch_ = false;
+
+        compression_ = 0;
 
         return this;
       }
@@ -2106,17 +12567,17 @@ public final class MessageProtocolPoJo {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.microservice.proto.MessageProtocolPoJo.internal_static_Student_descriptor;
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_ExecutorRegister_descriptor;
       }
 
       @java.lang.Override
-      public com.microservice.proto.MessageProtocolPoJo.Student getDefaultInstanceForType() {
-        return com.microservice.proto.MessageProtocolPoJo.Student.getDefaultInstance();
+      public com.microservice.proto.MessageProtocolPoJo.ExecutorRegister getDefaultInstanceForType() {
+        return com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.microservice.proto.MessageProtocolPoJo.Student build() {
-        com.microservice.proto.MessageProtocolPoJo.Student result = buildPartial();
+      public com.microservice.proto.MessageProtocolPoJo.ExecutorRegister build() {
+        com.microservice.proto.MessageProtocolPoJo.ExecutorRegister result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2124,10 +12585,15 @@ public final class MessageProtocolPoJo {
       }
 
       @java.lang.Override
-      public com.microservice.proto.MessageProtocolPoJo.Student buildPartial() {
-        com.microservice.proto.MessageProtocolPoJo.Student result = new com.microservice.proto.MessageProtocolPoJo.Student(this);
-        result.id_ = id_;
-        result.name_ = name_;
+      public com.microservice.proto.MessageProtocolPoJo.ExecutorRegister buildPartial() {
+        com.microservice.proto.MessageProtocolPoJo.ExecutorRegister result = new com.microservice.proto.MessageProtocolPoJo.ExecutorRegister(this);
+        result.registerName_ = registerName_;
+        result.appName_ = appName_;
+        result.host_ = host_;
+        result.port_ = port_;
+        result.currentTime_ = currentTime_;
+        result.batchDispatch_ = batchDispatch_;
+        result.compression_ = compression_;
         onBuilt();
         return result;
       }
@@ -2166,158 +12632,471 @@ public final class MessageProtocolPoJo {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.microservice.proto.MessageProtocolPoJo.Student) {
-          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.Student)other);
+        if (other instanceof com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) {
+          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.ExecutorRegister)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
-
-      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.Student other) {
-        if (other == com.microservice.proto.MessageProtocolPoJo.Student.getDefaultInstance()) return this;
-        if (other.getId() != 0) {
-          setId(other.getId());
-        }
-        if (!other.getName().isEmpty()) {
-          name_ = other.name_;
-          onChanged();
-        }
-        this.mergeUnknownFields(other.unknownFields);
+
+      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.ExecutorRegister other) {
+        if (other == com.microservice.proto.MessageProtocolPoJo.ExecutorRegister.getDefaultInstance()) return this;
+        if (!other.getRegisterName().isEmpty()) {
+          registerName_ = other.registerName_;
+          onChanged();
+        }
+        if (!other.getAppName().isEmpty()) {
+          appName_ = other.appName_;
+          onChanged();
+        }
+        if (!other.getHost().isEmpty()) {
+          host_ = other.host_;
+          onChanged();
+        }
+        if (!other.getPort().isEmpty()) {
+          port_ = other.port_;
+          onChanged();
+        }
+        if (other.getCurrentTime() != 0L) {
+          setCurrentTime(other.getCurrentTime());
+        }
+        if (other.getBatchDispatch() != false) {
+          setBatchDispatch(other.getBatchDispatch());
+        }
+        if (other.compression_ != 0) {
+          setCompressionValue(other.getCompressionValue());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.microservice.proto.MessageProtocolPoJo.ExecutorRegister parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.ExecutorRegister) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object registerName_ = "";
+      /**
+       * <code>string registerName = 1;</code>
+       */
+      public java.lang.String getRegisterName() {
+        java.lang.Object ref = registerName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          registerName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string registerName = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRegisterNameBytes() {
+        java.lang.Object ref = registerName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          registerName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string registerName = 1;</code>
+       */
+      public Builder setRegisterName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        registerName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string registerName = 1;</code>
+       */
+      public Builder clearRegisterName() {
+        
+        registerName_ = getDefaultInstance().getRegisterName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string registerName = 1;</code>
+       */
+      public Builder setRegisterNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        registerName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object appName_ = "";
+      /**
+       * <code>string appName = 2;</code>
+       */
+      public java.lang.String getAppName() {
+        java.lang.Object ref = appName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          appName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string appName = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAppNameBytes() {
+        java.lang.Object ref = appName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          appName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string appName = 2;</code>
+       */
+      public Builder setAppName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        appName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string appName = 2;</code>
+       */
+      public Builder clearAppName() {
+        
+        appName_ = getDefaultInstance().getAppName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string appName = 2;</code>
+       */
+      public Builder setAppNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        appName_ = value;
         onChanged();
         return this;
       }
 
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+      private java.lang.Object host_ = "";
+      /**
+       * <code>string host = 3;</code>
+       */
+      public java.lang.String getHost() {
+        java.lang.Object ref = host_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          host_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.microservice.proto.MessageProtocolPoJo.Student parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.Student) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
+      /**
+       * <code>string host = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getHostBytes() {
+        java.lang.Object ref = host_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          host_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return this;
       }
-
-      private int id_ ;
       /**
-       * <code>int32 id = 1;</code>
+       * <code>string host = 3;</code>
        */
-      public int getId() {
-        return id_;
+      public Builder setHost(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        host_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>int32 id = 1;</code>
+       * <code>string host = 3;</code>
        */
-      public Builder setId(int value) {
+      public Builder clearHost() {
         
-        id_ = value;
+        host_ = getDefaultInstance().getHost();
         onChanged();
         return this;
       }
       /**
-       * <code>int32 id = 1;</code>
+       * <code>string host = 3;</code>
        */
-      public Builder clearId() {
+      public Builder setHostBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
         
-        id_ = 0;
+        host_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object name_ = "";
+      private java.lang.Object port_ = "";
       /**
-       * <pre>
-       * </pre>
-       *
-       * <code>string name = 2;</code>
+       * <code>string port = 4;</code>
        */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
+      public java.lang.String getPort() {
+        java.lang.Object ref = port_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          name_ = s;
+          port_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <pre>
-       * </pre>
-       *
-       * <code>string name = 2;</code>
+       * <code>string port = 4;</code>
        */
       public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
+          getPortBytes() {
+        java.lang.Object ref = port_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          name_ = b;
+          port_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <pre>
-       * </pre>
-       *
-       * <code>string name = 2;</code>
+       * <code>string port = 4;</code>
        */
-      public Builder setName(
+      public Builder setPort(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        name_ = value;
+        port_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string port = 4;</code>
+       */
+      public Builder clearPort() {
+        
+        port_ = getDefaultInstance().getPort();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string port = 4;</code>
+       */
+      public Builder setPortBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        port_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long currentTime_ ;
+      /**
+       * <code>int64 currentTime = 5;</code>
+       */
+      public long getCurrentTime() {
+        return currentTime_;
+      }
+      /**
+       * <code>int64 currentTime = 5;</code>
+       */
+      public Builder setCurrentTime(long value) {
+        
+        currentTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 currentTime = 5;</code>
+       */
+      public Builder clearCurrentTime() {
+        
+        currentTime_ = 0L;
         onChanged();
         return this;
       }
+
+      private boolean batchDispatch_ ;
       /**
        * <pre>
+       * 执行器接受批量任务指派 TaskDispatchBatch
        * </pre>
        *
-       * <code>string name = 2;</code>
+       * <code>bool batchDispatch = 6;</code>
        */
-      public Builder clearName() {
+      public boolean getBatchDispatch() {
+        return batchDispatch_;
+      }
+      /**
+       * <pre>
+       * 执行器接受批量任务指派 TaskDispatchBatch
+       * </pre>
+       *
+       * <code>bool batchDispatch = 6;</code>
+       */
+      public Builder setBatchDispatch(boolean value) {
         
-        name_ = getDefaultInstance().getName();
+        batchDispatch_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
+       * 执行器接受批量任务指派 TaskDispatchBatch
        * </pre>
        *
-       * <code>string name = 2;</code>
+       * <code>bool batchDispatch = 6;</code>
        */
-      public Builder setNameBytes(
-          com.google.protobuf.ByteString value) {
+      public Builder clearBatchDispatch() {
+        
+        batchDispatch_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int compression_ = 0;
+      /**
+       * <pre>
+       * 执行器请求的压缩方式, 服务端在心跳中确认
+       * </pre>
+       *
+       * <code>.Compression compression = 7;</code>
+       */
+      public int getCompressionValue() {
+        return compression_;
+      }
+      /**
+       * <pre>
+       * 执行器请求的压缩方式, 服务端在心跳中确认
+       * </pre>
+       *
+       * <code>.Compression compression = 7;</code>
+       */
+      public Builder setCompressionValue(int value) {
+        compression_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 执行器请求的压缩方式, 服务端在心跳中确认
+       * </pre>
+       *
+       * <code>.Compression compression = 7;</code>
+       */
+      public com.microservice.proto.MessageProtocolPoJo.Compression getCompression() {
+        @SuppressWarnings("deprecation")
+        com.microservice.proto.MessageProtocolPoJo.Compression result = com.microservice.proto.MessageProtocolPoJo.Compression.valueOf(compression_);
+        return result == null ? com.microservice.proto.MessageProtocolPoJo.Compression.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * 执行器请求的压缩方式, 服务端在心跳中确认
+       * </pre>
+       *
+       * <code>.Compression compression = 7;</code>
+       */
+      public Builder setCompression(com.microservice.proto.MessageProtocolPoJo.Compression value) {
         if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+          throw new NullPointerException();
+        }
         
-        name_ = value;
+        compression_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 执行器请求的压缩方式, 服务端在心跳中确认
+       * </pre>
+       *
+       * <code>.Compression compression = 7;</code>
+       */
+      public Builder clearCompression() {
+        
+        compression_ = 0;
         onChanged();
         return this;
       }
@@ -2334,80 +13113,101 @@ public final class MessageProtocolPoJo {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Student)
+      // @@protoc_insertion_point(builder_scope:ExecutorRegister)
     }
 
-    // @@protoc_insertion_point(class_scope:Student)
-    private static final com.microservice.proto.MessageProtocolPoJo.Student DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:ExecutorRegister)
+    private static final com.microservice.proto.MessageProtocolPoJo.ExecutorRegister DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.Student();
+      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.ExecutorRegister();
     }
 
-    public static com.microservice.proto.MessageProtocolPoJo.Student getDefaultInstance() {
+    public static com.microservice.proto.MessageProtocolPoJo.ExecutorRegister getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Student>
-        PARSER = new com.google.protobuf.AbstractParser<Student>() {
+    private static final com.google.protobuf.Parser<ExecutorRegister>
+        PARSER = new com.google.protobuf.AbstractParser<ExecutorRegister>() {
       @java.lang.Override
-      public Student parsePartialFrom(
+      public ExecutorRegister parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Student(input, extensionRegistry);
+        return new ExecutorRegister(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Student> parser() {
+    public static com.google.protobuf.Parser<ExecutorRegister> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Student> getParserForType() {
+    public com.google.protobuf.Parser<ExecutorRegister> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.microservice.proto.MessageProtocolPoJo.Student getDefaultInstanceForType() {
+    public com.microservice.proto.MessageProtocolPoJo.ExecutorRegister getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface WorkerOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Worker)
+  public interface HeartbeatOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Heartbeat)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string name = 1;</code>
+     * <code>bool pong = 1;</code>
      */
-    java.lang.String getName();
+    boolean getPong();
+
     /**
-     * <code>string name = 1;</code>
+     * <pre>
+     * 服务端确认注册时协商的压缩方式
+     * </pre>
+     *
+     * <code>.Compression compression = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getNameBytes();
+    int getCompressionValue();
+    /**
+     * <pre>
+     * 服务端确认注册时协商的压缩方式
+     * </pre>
+     *
+     * <code>.Compression compression = 2;</code>
+     */
+    com.microservice.proto.MessageProtocolPoJo.Compression getCompression();
 
     /**
-     * <code>int32 age = 2;</code>
+     * <pre>
+     * 服务端确认接受批量回写 TaskCallbackBatch
+     * </pre>
+     *
+     * <code>bool batchCallback = 3;</code>
      */
-    int getAge();
+    boolean getBatchCallback();
   }
   /**
-   * Protobuf type {@code Worker}
+   * <pre>
+   * 心跳
+   * </pre>
+   *
+   * Protobuf type {@code Heartbeat}
    */
-  public  static final class Worker extends
+  public  static final class Heartbeat extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:Worker)
-      WorkerOrBuilder {
+      // @@protoc_insertion_point(message_implements:Heartbeat)
+      HeartbeatOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Worker.newBuilder() to construct.
-    private Worker(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use Heartbeat.newBuilder() to construct.
+    private Heartbeat(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Worker() {
-      name_ = "";
-      age_ = 0;
+    private Heartbeat() {
+      pong_ = false;
+      compression_ = 0;
+      batchCallback_ = false;
     }
 
     @java.lang.Override
@@ -2415,7 +13215,7 @@ public final class MessageProtocolPoJo {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Worker(
+    private Heartbeat(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2434,15 +13234,20 @@ public final class MessageProtocolPoJo {
             case 0:
               done = true;
               break;
-            case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
+            case 8: {
 
-              name_ = s;
+              pong_ = input.readBool();
               break;
             }
             case 16: {
+              int rawValue = input.readEnum();
 
-              age_ = input.readInt32();
+              compression_ = rawValue;
+              break;
+            }
+            case 24: {
+
+              batchCallback_ = input.readBool();
               break;
             }
             default: {
@@ -2466,58 +13271,62 @@ public final class MessageProtocolPoJo {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.microservice.proto.MessageProtocolPoJo.internal_static_Worker_descriptor;
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_Heartbeat_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.microservice.proto.MessageProtocolPoJo.internal_static_Worker_fieldAccessorTable
+      return com.microservice.proto.MessageProtocolPoJo.internal_static_Heartbeat_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.microservice.proto.MessageProtocolPoJo.Worker.class, com.microservice.proto.MessageProtocolPoJo.Worker.Builder.class);
+              com.microservice.proto.MessageProtocolPoJo.Heartbeat.class, com.microservice.proto.MessageProtocolPoJo.Heartbeat.Builder.class);
+    }
+
+    public static final int PONG_FIELD_NUMBER = 1;
+    private boolean pong_;
+    /**
+     * <code>bool pong = 1;</code>
+     */
+    public boolean getPong() {
+      return pong_;
     }
 
-    public static final int NAME_FIELD_NUMBER = 1;
-    private volatile java.lang.Object name_;
+    public static final int COMPRESSION_FIELD_NUMBER = 2;
+    private int compression_;
     /**
-     * <code>string name = 1;</code>
+     * <pre>
+     * 服务端确认注册时协商的压缩方式
+     * </pre>
+     *
+     * <code>.Compression compression = 2;</code>
      */
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        name_ = s;
-        return s;
-      }
+    public int getCompressionValue() {
+      return compression_;
     }
     /**
-     * <code>string name = 1;</code>
+     * <pre>
+     * 服务端确认注册时协商的压缩方式
+     * </pre>
+     *
+     * <code>.Compression compression = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        name_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.microservice.proto.MessageProtocolPoJo.Compression getCompression() {
+      @SuppressWarnings("deprecation")
+      com.microservice.proto.MessageProtocolPoJo.Compression result = com.microservice.proto.MessageProtocolPoJo.Compression.valueOf(compression_);
+      return result == null ? com.microservice.proto.MessageProtocolPoJo.Compression.UNRECOGNIZED : result;
     }
 
-    public static final int AGE_FIELD_NUMBER = 2;
-    private int age_;
+    public static final int BATCHCALLBACK_FIELD_NUMBER = 3;
+    private boolean batchCallback_;
     /**
-     * <code>int32 age = 2;</code>
+     * <pre>
+     * 服务端确认接受批量回写 TaskCallbackBatch
+     * </pre>
+     *
+     * <code>bool batchCallback = 3;</code>
      */
-    public int getAge() {
-      return age_;
+    public boolean getBatchCallback() {
+      return batchCallback_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2534,11 +13343,14 @@ public final class MessageProtocolPoJo {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getNameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      if (pong_ != false) {
+        output.writeBool(1, pong_);
       }
-      if (age_ != 0) {
-        output.writeInt32(2, age_);
+      if (compression_ != com.microservice.proto.MessageProtocolPoJo.Compression.NONE.getNumber()) {
+        output.writeEnum(2, compression_);
+      }
+      if (batchCallback_ != false) {
+        output.writeBool(3, batchCallback_);
       }
       unknownFields.writeTo(output);
     }
@@ -2549,12 +13361,17 @@ public final class MessageProtocolPoJo {
       if (size != -1) return size;
 
       size = 0;
-      if (!getNameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      if (pong_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, pong_);
       }
-      if (age_ != 0) {
+      if (compression_ != com.microservice.proto.MessageProtocolPoJo.Compression.NONE.getNumber()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, age_);
+          .computeEnumSize(2, compression_);
+      }
+      if (batchCallback_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, batchCallback_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2566,16 +13383,17 @@ public final class MessageProtocolPoJo {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.Worker)) {
+      if (!(obj instanceof com.microservice.proto.MessageProtocolPoJo.Heartbeat)) {
         return super.equals(obj);
       }
-      com.microservice.proto.MessageProtocolPoJo.Worker other = (com.microservice.proto.MessageProtocolPoJo.Worker) obj;
+      com.microservice.proto.MessageProtocolPoJo.Heartbeat other = (com.microservice.proto.MessageProtocolPoJo.Heartbeat) obj;
 
       boolean result = true;
-      result = result && getName()
-          .equals(other.getName());
-      result = result && (getAge()
-          == other.getAge());
+      result = result && (getPong()
+          == other.getPong());
+      result = result && compression_ == other.compression_;
+      result = result && (getBatchCallback()
+          == other.getBatchCallback());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -2587,78 +13405,82 @@ public final class MessageProtocolPoJo {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getName().hashCode();
-      hash = (37 * hash) + AGE_FIELD_NUMBER;
-      hash = (53 * hash) + getAge();
+      hash = (37 * hash) + PONG_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getPong());
+      hash = (37 * hash) + COMPRESSION_FIELD_NUMBER;
+      hash = (53 * hash) + compression_;
+      hash = (37 * hash) + BATCHCALLBACK_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getBatchCallback());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(byte[] data)
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(java.io.InputStream input)
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseDelimitedFrom(java.io.InputStream input)
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseDelimitedFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.microservice.proto.MessageProtocolPoJo.Worker parseFrom(
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2671,7 +13493,7 @@ public final class MessageProtocolPoJo {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.Worker prototype) {
+    public static Builder newBuilder(com.microservice.proto.MessageProtocolPoJo.Heartbeat prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2687,26 +13509,30 @@ public final class MessageProtocolPoJo {
       return builder;
     }
     /**
-     * Protobuf type {@code Worker}
+     * <pre>
+     * 心跳
+     * </pre>
+     *
+     * Protobuf type {@code Heartbeat}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Worker)
-        com.microservice.proto.MessageProtocolPoJo.WorkerOrBuilder {
+        // @@protoc_insertion_point(builder_implements:Heartbeat)
+        com.microservice.proto.MessageProtocolPoJo.HeartbeatOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.microservice.proto.MessageProtocolPoJo.internal_static_Worker_descriptor;
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_Heartbeat_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.microservice.proto.MessageProtocolPoJo.internal_static_Worker_fieldAccessorTable
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_Heartbeat_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.microservice.proto.MessageProtocolPoJo.Worker.class, com.microservice.proto.MessageProtocolPoJo.Worker.Builder.class);
+                com.microservice.proto.MessageProtocolPoJo.Heartbeat.class, com.microservice.proto.MessageProtocolPoJo.Heartbeat.Builder.class);
       }
 
-      // Construct using com.microservice.proto.MessageProtocolPoJo.Worker.newBuilder()
+      // Construct using com.microservice.proto.MessageProtocolPoJo.Heartbeat.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2724,9 +13550,11 @@ public final class MessageProtocolPoJo {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        name_ = "";
+        pong_ = false;
 
-        age_ = 0;
+        compression_ = 0;
+
+        batchCallback_ = false;
 
         return this;
       }
@@ -2734,17 +13562,17 @@ public final class MessageProtocolPoJo {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.microservice.proto.MessageProtocolPoJo.internal_static_Worker_descriptor;
+        return com.microservice.proto.MessageProtocolPoJo.internal_static_Heartbeat_descriptor;
       }
 
       @java.lang.Override
-      public com.microservice.proto.MessageProtocolPoJo.Worker getDefaultInstanceForType() {
-        return com.microservice.proto.MessageProtocolPoJo.Worker.getDefaultInstance();
+      public com.microservice.proto.MessageProtocolPoJo.Heartbeat getDefaultInstanceForType() {
+        return com.microservice.proto.MessageProtocolPoJo.Heartbeat.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.microservice.proto.MessageProtocolPoJo.Worker build() {
-        com.microservice.proto.MessageProtocolPoJo.Worker result = buildPartial();
+      public com.microservice.proto.MessageProtocolPoJo.Heartbeat build() {
+        com.microservice.proto.MessageProtocolPoJo.Heartbeat result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2752,10 +13580,11 @@ public final class MessageProtocolPoJo {
       }
 
       @java.lang.Override
-      public com.microservice.proto.MessageProtocolPoJo.Worker buildPartial() {
-        com.microservice.proto.MessageProtocolPoJo.Worker result = new com.microservice.proto.MessageProtocolPoJo.Worker(this);
-        result.name_ = name_;
-        result.age_ = age_;
+      public com.microservice.proto.MessageProtocolPoJo.Heartbeat buildPartial() {
+        com.microservice.proto.MessageProtocolPoJo.Heartbeat result = new com.microservice.proto.MessageProtocolPoJo.Heartbeat(this);
+        result.pong_ = pong_;
+        result.compression_ = compression_;
+        result.batchCallback_ = batchCallback_;
         onBuilt();
         return result;
       }
@@ -2794,22 +13623,24 @@ public final class MessageProtocolPoJo {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.microservice.proto.MessageProtocolPoJo.Worker) {
-          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.Worker)other);
+        if (other instanceof com.microservice.proto.MessageProtocolPoJo.Heartbeat) {
+          return mergeFrom((com.microservice.proto.MessageProtocolPoJo.Heartbeat)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.Worker other) {
-        if (other == com.microservice.proto.MessageProtocolPoJo.Worker.getDefaultInstance()) return this;
-        if (!other.getName().isEmpty()) {
-          name_ = other.name_;
-          onChanged();
+      public Builder mergeFrom(com.microservice.proto.MessageProtocolPoJo.Heartbeat other) {
+        if (other == com.microservice.proto.MessageProtocolPoJo.Heartbeat.getDefaultInstance()) return this;
+        if (other.getPong() != false) {
+          setPong(other.getPong());
         }
-        if (other.getAge() != 0) {
-          setAge(other.getAge());
+        if (other.compression_ != 0) {
+          setCompressionValue(other.getCompressionValue());
+        }
+        if (other.getBatchCallback() != false) {
+          setBatchCallback(other.getBatchCallback());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -2826,11 +13657,11 @@ public final class MessageProtocolPoJo {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.microservice.proto.MessageProtocolPoJo.Worker parsedMessage = null;
+        com.microservice.proto.MessageProtocolPoJo.Heartbeat parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.Worker) e.getUnfinishedMessage();
+          parsedMessage = (com.microservice.proto.MessageProtocolPoJo.Heartbeat) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -2840,97 +13671,131 @@ public final class MessageProtocolPoJo {
         return this;
       }
 
-      private java.lang.Object name_ = "";
+      private boolean pong_ ;
       /**
-       * <code>string name = 1;</code>
+       * <code>bool pong = 1;</code>
        */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          name_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public boolean getPong() {
+        return pong_;
       }
       /**
-       * <code>string name = 1;</code>
+       * <code>bool pong = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public Builder setPong(boolean value) {
+        
+        pong_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>string name = 1;</code>
+       * <code>bool pong = 1;</code>
        */
-      public Builder setName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        name_ = value;
+      public Builder clearPong() {
+        
+        pong_ = false;
         onChanged();
         return this;
       }
+
+      private int compression_ = 0;
       /**
-       * <code>string name = 1;</code>
+       * <pre>
+       * 服务端确认注册时协商的压缩方式
+       * </pre>
+       *
+       * <code>.Compression compression = 2;</code>
        */
-      public Builder clearName() {
-        
-        name_ = getDefaultInstance().getName();
+      public int getCompressionValue() {
+        return compression_;
+      }
+      /**
+       * <pre>
+       * 服务端确认注册时协商的压缩方式
+       * </pre>
+       *
+       * <code>.Compression compression = 2;</code>
+       */
+      public Builder setCompressionValue(int value) {
+        compression_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string name = 1;</code>
+       * <pre>
+       * 服务端确认注册时协商的压缩方式
+       * </pre>
+       *
+       * <code>.Compression compression = 2;</code>
        */
-      public Builder setNameBytes(
-          com.google.protobuf.ByteString value) {
+      public com.microservice.proto.MessageProtocolPoJo.Compression getCompression() {
+        @SuppressWarnings("deprecation")
+        com.microservice.proto.MessageProtocolPoJo.Compression result = com.microservice.proto.MessageProtocolPoJo.Compression.valueOf(compression_);
+        return result == null ? com.microservice.proto.MessageProtocolPoJo.Compression.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * 服务端确认注册时协商的压缩方式
+       * </pre>
+       *
+       * <code>.Compression compression = 2;</code>
+       */
+      public Builder setCompression(com.microservice.proto.MessageProtocolPoJo.Compression value) {
         if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+          throw new NullPointerException();
+        }
         
-        name_ = value;
+        compression_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 服务端确认注册时协商的压缩方式
+       * </pre>
+       *
+       * <code>.Compression compression = 2;</code>
+       */
+      public Builder clearCompression() {
+        
+        compression_ = 0;
         onChanged();
         return this;
       }
 
-      private int age_ ;
+      private boolean batchCallback_ ;
       /**
-       * <code>int32 age = 2;</code>
+       * <pre>
+       * 服务端确认接受批量回写 TaskCallbackBatch
+       * </pre>
+       *
+       * <code>bool batchCallback = 3;</code>
        */
-      public int getAge() {
-        return age_;
+      public boolean getBatchCallback() {
+        return batchCallback_;
       }
       /**
-       * <code>int32 age = 2;</code>
+       * <pre>
+       * 服务端确认接受批量回写 TaskCallbackBatch
+       * </pre>
+       *
+       * <code>bool batchCallback = 3;</code>
        */
-      public Builder setAge(int value) {
+      public Builder setBatchCallback(boolean value) {
         
-        age_ = value;
+        batchCallback_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 age = 2;</code>
+       * <pre>
+       * 服务端确认接受批量回写 TaskCallbackBatch
+       * </pre>
+       *
+       * <code>bool batchCallback = 3;</code>
        */
-      public Builder clearAge() {
+      public Builder clearBatchCallback() {
         
-        age_ = 0;
+        batchCallback_ = false;
         onChanged();
         return this;
       }
@@ -2947,41 +13812,41 @@ public final class MessageProtocolPoJo {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Worker)
+      // @@protoc_insertion_point(builder_scope:Heartbeat)
     }
 
-    // @@protoc_insertion_point(class_scope:Worker)
-    private static final com.microservice.proto.MessageProtocolPoJo.Worker DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Heartbeat)
+    private static final com.microservice.proto.MessageProtocolPoJo.Heartbeat DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.Worker();
+      DEFAULT_INSTANCE = new com.microservice.proto.MessageProtocolPoJo.Heartbeat();
     }
 
-    public static com.microservice.proto.MessageProtocolPoJo.Worker getDefaultInstance() {
+    public static com.microservice.proto.MessageProtocolPoJo.Heartbeat getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Worker>
-        PARSER = new com.google.protobuf.AbstractParser<Worker>() {
+    private static final com.google.protobuf.Parser<Heartbeat>
+        PARSER = new com.google.protobuf.AbstractParser<Heartbeat>() {
       @java.lang.Override
-      public Worker parsePartialFrom(
+      public Heartbeat parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Worker(input, extensionRegistry);
+        return new Heartbeat(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Worker> parser() {
+    public static com.google.protobuf.Parser<Heartbeat> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Worker> getParserForType() {
+    public com.google.protobuf.Parser<Heartbeat> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.microservice.proto.MessageProtocolPoJo.Worker getDefaultInstanceForType() {
+    public com.microservice.proto.MessageProtocolPoJo.Heartbeat getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -3002,6 +13867,46 @@ public final class MessageProtocolPoJo {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_Worker_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TaskDispatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TaskDispatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TaskDispatchBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TaskDispatchBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TaskCallback_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TaskCallback_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TaskCallbackBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TaskCallbackBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TaskKill_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TaskKill_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_HandlerLoad_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_HandlerLoad_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ExecutorRegister_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ExecutorRegister_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Heartbeat_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Heartbeat_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -3011,17 +13916,56 @@ public final class MessageProtocolPoJo {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\025MessageProtocol.proto\"\207\002\n\017MessageProto" +
+      "\n\025MessageProtocol.proto\"\352\004\n\017MessageProto" +
       "col\022\013\n\003len\030\001 \001(\005\022\017\n\007content\030\002 \001(\t\022\020\n\010pro" +
       "tocol\030\003 \001(\t\022\021\n\tclientKey\030\004 \001(\t\022\022\n\nchanne" +
       "lKey\030\005 \001(\t\022,\n\tdata_type\030\006 \001(\0162\031.MessageP" +
-      "rotocol.DataType\022\033\n\007student\030\007 \001(\0132\010.Stud" +
-      "entH\000\022\031\n\006worker\030\010 \001(\0132\007.WorkerH\000\"+\n\010Data" +
-      "Type\022\017\n\013StudentType\020\000\022\016\n\nWorkerType\020\001B\n\n" +
-      "\010dataBody\"#\n\007Student\022\n\n\002id\030\001 \001(\005\022\014\n\004name" +
-      "\030\002 \001(\t\"#\n\006Worker\022\014\n\004name\030\001 \001(\t\022\013\n\003age\030\002 " +
-      "\001(\005B/\n\026com.microservice.protoB\023MessagePr" +
-      "otocolPoJoH\001b\006proto3"
+      "rotocol.DataType\022\022\n\nprotocolId\030\r \001(\005\022!\n\013" +
+      "compression\030\017 \001(\0162\014.Compression\022\026\n\016compr" +
+      "essedBody\030\020 \001(\014\022\017\n\007rawSize\030\021 \001(\005\022\033\n\007stud" +
+      "ent\030\007 \001(\0132\010.StudentH\000\022\031\n\006worker\030\010 \001(\0132\007." +
+      "WorkerH\000\022!\n\010dispatch\030\t \001(\0132\r.TaskDispatc" +
+      "hH\000\022!\n\010callback\030\n \001(\0132\r.TaskCallbackH\000\022%" +
+      "\n\010register\030\013 \001(\0132\021.ExecutorRegisterH\000\022\037\n" +
+      "\theartbeat\030\014 \001(\0132\n.HeartbeatH\000\022+\n\rdispat" +
+      "chBatch\030\016 \001(\0132\022.TaskDispatchBatchH\000\022\031\n\004k" +
+      "ill\030\022 \001(\0132\t.TaskKillH\000\022+\n\rcallbackBatch\030" +
+      "\023 \001(\0132\022.TaskCallbackBatchH\000\"+\n\010DataType\022" +
+      "\017\n\013StudentType\020\000\022\016\n\nWorkerType\020\001B\n\n\010data" +
+      "Body\"#\n\007Student\022\n\n\002id\030\001 \001(\005\022\014\n\004name\030\002 \001(" +
+      "\t\"#\n\006Worker\022\014\n\004name\030\001 \001(\t\022\013\n\003age\030\002 \001(\005\"\366" +
+      "\002\n\014TaskDispatch\022\014\n\004cron\030\001 \001(\010\022\025\n\rschedul" +
+      "erCron\030\002 \001(\t\022\031\n\021schedulerFireTime\030\003 \001(\003\022" +
+      "\032\n\022schedulerGivenTime\030\004 \001(\003\022\033\n\023scheduler" +
+      "GivenDelay\030\005 \001(\003\022\017\n\007appName\030\006 \001(\t\022\023\n\013act" +
+      "uatorKey\030\007 \001(\t\022\027\n\017executorAddress\030\010 \001(\t\022" +
+      "\022\n\njobHandler\030\t \001(\t\022\027\n\017jobHandlerParam\030\n" +
+      " \001(\t\022\022\n\ndispatchId\030\013 \001(\t\022\016\n\006taskId\030\014 \001(\005" +
+      "\022\022\n\nretryCount\030\r \001(\005\022\020\n\010writeLog\030\016 \001(\t\022\022" +
+      "\n\nshardIndex\030\017 \001(\005\022\022\n\nshardTotal\030\020 \001(\005\022\017" +
+      "\n\007timeout\030\021 \001(\005\"1\n\021TaskDispatchBatch\022\034\n\005" +
+      "tasks\030\001 \003(\0132\r.TaskDispatch\"\306\001\n\014TaskCallb" +
+      "ack\022\033\n\004task\030\001 \001(\0132\r.TaskDispatch\022\014\n\004code" +
+      "\030\002 \001(\005\022\013\n\003msg\030\003 \001(\t\022\017\n\007content\030\004 \001(\t\022\023\n\013" +
+      "executeTime\030\005 \001(\003\022\023\n\013triggerTime\030\006 \001(\003\022\023" +
+      "\n\013triggerCode\030\007 \001(\005\022\022\n\ntriggerMsg\030\010 \001(\t\022" +
+      "\032\n\004load\030\t \001(\0132\014.HandlerLoad\"5\n\021TaskCallb" +
+      "ackBatch\022 \n\tcallbacks\030\001 \003(\0132\r.TaskCallba" +
+      "ck\"L\n\010TaskKill\022\014\n\004cron\030\001 \001(\010\022\016\n\006taskId\030\002" +
+      " \001(\005\022\022\n\njobHandler\030\003 \001(\t\022\016\n\006reason\030\004 \001(\t" +
+      "\"\177\n\013HandlerLoad\022\022\n\njobHandler\030\001 \001(\t\022\023\n\013c" +
+      "oncurrency\030\002 \001(\005\022\016\n\006active\030\003 \001(\005\022\025\n\rqueu" +
+      "eCapacity\030\004 \001(\005\022\016\n\006queued\030\005 \001(\005\022\020\n\010rejec" +
+      "ted\030\006 \001(\003\"\244\001\n\020ExecutorRegister\022\024\n\014regist" +
+      "erName\030\001 \001(\t\022\017\n\007appName\030\002 \001(\t\022\014\n\004host\030\003 " +
+      "\001(\t\022\014\n\004port\030\004 \001(\t\022\023\n\013currentTime\030\005 \001(\003\022\025" +
+      "\n\rbatchDispatch\030\006 \001(\010\022!\n\013compression\030\007 \001" +
+      "(\0162\014.Compression\"S\n\tHeartbeat\022\014\n\004pong\030\001 " +
+      "\001(\010\022!\n\013compression\030\002 \001(\0162\014.Compression\022\025" +
+      "\n\rbatchCallback\030\003 \001(\010*,\n\013Compression\022\010\n\004" +
+      "NONE\020\000\022\007\n\003LZ4\020\001\022\n\n\006SNAPPY\020\002B/\n\026com.micro" +
+      "service.protoB\023MessageProtocolPoJoH\001b\006pr" +
+      "oto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -3040,7 +13984,7 @@ public final class MessageProtocolPoJo {
     internal_static_MessageProtocol_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_MessageProtocol_descriptor,
-        new java.lang.String[] { "Len", "Content", "Protocol", "ClientKey", "ChannelKey", "DataType", "Student", "Worker", "DataBody", });
+        new java.lang.String[] { "Len", "Content", "Protocol", "ClientKey", "ChannelKey", "DataType", "ProtocolId", "Compression", "CompressedBody", "RawSize", "Student", "Worker", "Dispatch", "Callback", "Register", "Heartbeat", "DispatchBatch", "Kill", "CallbackBatch", "DataBody", });
     internal_static_Student_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_Student_fieldAccessorTable = new
@@ -3053,6 +13997,54 @@ public final class MessageProtocolPoJo {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Worker_descriptor,
         new java.lang.String[] { "Name", "Age", });
+    internal_static_TaskDispatch_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_TaskDispatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TaskDispatch_descriptor,
+        new java.lang.String[] { "Cron", "SchedulerCron", "SchedulerFireTime", "SchedulerGivenTime", "SchedulerGivenDelay", "AppName", "ActuatorKey", "ExecutorAddress", "JobHandler", "JobHandlerParam", "DispatchId", "TaskId", "RetryCount", "WriteLog", "ShardIndex", "ShardTotal", "Timeout", });
+    internal_static_TaskDispatchBatch_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_TaskDispatchBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TaskDispatchBatch_descriptor,
+        new java.lang.String[] { "Tasks", });
+    internal_static_TaskCallback_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_TaskCallback_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TaskCallback_descriptor,
+        new java.lang.String[] { "Task", "Code", "Msg", "Content", "ExecuteTime", "TriggerTime", "TriggerCode", "TriggerMsg", "Load", });
+    internal_static_TaskCallbackBatch_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_TaskCallbackBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TaskCallbackBatch_descriptor,
+        new java.lang.String[] { "Callbacks", });
+    internal_static_TaskKill_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_TaskKill_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TaskKill_descriptor,
+        new java.lang.String[] { "Cron", "TaskId", "JobHandler", "Reason", });
+    internal_static_HandlerLoad_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_HandlerLoad_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_HandlerLoad_descriptor,
+        new java.lang.String[] { "JobHandler", "Concurrency", "Active", "QueueCapacity", "Queued", "Rejected", });
+    internal_static_ExecutorRegister_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_ExecutorRegister_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ExecutorRegister_descriptor,
+        new java.lang.String[] { "RegisterName", "AppName", "Host", "Port", "CurrentTime", "BatchDispatch", "Compression", });
+    internal_static_Heartbeat_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_Heartbeat_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Heartbeat_descriptor,
+        new java.lang.String[] { "Pong", "Compression", "BatchCallback", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,40 @@
+package com.microservice.protocol;
+
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.client.BaseProtocol;
+import com.microservice.proto.MessageProtocolPoJo;
+import com.microservice.utils.MessageProtocolCodec;
+import io.netty.channel.Channel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p>
+ * 批量执行器调度
+ * <p>
+ * 服务端把同一实例的多个任务放在一帧中下发, 拆开后按顺序交给 {@link ActuatorRequest} 逐个执行并回写;
+ * 回写在同一次读取中产生, 由 FlushConsolidationHandler 合并刷新
+ */
+@Component
+@Slf4j
+public class ActuatorBatchRequest extends BaseProtocol {
+
+    @Autowired
+    private ActuatorRequest actuatorRequest;
+
+    @Override
+    public void onProcess(MessageProtocolPoJo.MessageProtocol messageProtocol, Channel channel) {
+        List<SchedulerTaskMessage> tasks = MessageProtocolCodec.taskMessages(messageProtocol);
+        log.info(">>> 客户端接收到批量执行器调度事件, 任务数: {}", tasks.size());
+
+        for (SchedulerTaskMessage task : tasks) {
+            // 批量指派只发给类型化注册的执行器, 回写也使用类型化载荷
+            actuatorRequest.execute(task, true, channel);
+        }
+    }
+}
@@ -2,16 +2,17 @@ package com.microservice.protocol;
 
 import com.microservice.bean.SchedulerTaskMessage;
 import com.microservice.client.BaseProtocol;
+import com.microservice.client.ExecutorCallbackBatcher;
 import com.microservice.dto.ReturnT;
 import com.microservice.dto.SchedulerTaskCronRequestDto;
 import com.microservice.dto.SchedulerTaskGivenRequestDto;
-import com.microservice.enums.ProtocolStausEnum;
 import com.microservice.handler.AbstractJobHandler;
 import com.microservice.handler.DefaultExecutorJobHolder;
+import com.microservice.handler.JobExecutionTracker;
+import com.microservice.handler.JobHandlerBulkhead;
 import com.microservice.proto.MessageProtocolPoJo;
 import com.microservice.redis.RedisDefaultClientHandler;
-import com.microservice.utils.JsonUtils;
-import com.microservice.utils.PingPongUtils;
+import com.microservice.utils.MessageProtocolCodec;
 import io.netty.channel.Channel;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,6 +37,9 @@ public class ActuatorRequest extends BaseProtocol {
     @Autowired
     private Environment environment;
 
+    @Autowired
+    private ExecutorCallbackBatcher callbackBatcher;
+
     @Override
     public void onProcess(MessageProtocolPoJo.MessageProtocol messageProtocol, Channel channel) {
         // 调度自动执行
@@ -51,17 +55,60 @@ public class ActuatorRequest extends BaseProtocol {
     @Transactional(rollbackFor = Exception.class)
     public void autoExecute(MessageProtocolPoJo.MessageProtocol messageProtocol, Channel channel) {
         log.info(">>> 客户端接收到执行器调度事件, 内容: {}", channel);
-        String content = messageProtocol.getContent();
-        SchedulerTaskMessage task = JsonUtils.fromJson(content, SchedulerTaskMessage.class);
+        SchedulerTaskMessage task = MessageProtocolCodec.taskMessage(messageProtocol);
         assert task != null;
-        String jobHandler = task.getJobHandler();
-        String jobHandlerParam = task.getJobHandlerParam();
-        AbstractJobHandler jobMethod = DefaultExecutorJobHolder.loadExecutorJobHandler(jobHandler);
+        // 按收到的格式回写, 旧版本服务端只认识 json
+        execute(task, messageProtocol.hasDispatch(), channel);
+    }
 
+    /**
+     * 交给任务处理器的隔离线程池执行并回写执行结果, 批量指派中的任务逐个调用;
+     * 不在执行器连接的 event loop 中执行, 执行慢的任务不阻塞心跳与其他任务.
+     * 执行超时或被服务端终止时由 {@link JobExecutionTracker} 立即回写
+     *
+     * @param task
+     * @param typed   是否使用类型化载荷回写
+     * @param channel
+     */
+    public void execute(SchedulerTaskMessage task, boolean typed, Channel channel) {
         String address = RedisDefaultClientHandler.findAddressByChannel(channel);
         String port = environment.getProperty("server.port");
         task.setExecutorAddress(address + ":" + port);
 
+        JobHandlerBulkhead bulkhead = DefaultExecutorJobHolder.loadBulkhead(task.getJobHandler());
+        if (Objects.isNull(bulkhead)) {
+            // 处理器不存在, 直接回写执行失败
+            run(task, typed, channel, null, null);
+            return;
+        }
+        JobExecutionTracker.Execution execution = JobExecutionTracker.queued(task, bulkhead,
+                (state, reason) -> aborted(task, typed, channel, bulkhead, state, reason));
+        bulkhead.submit(new JobHandlerBulkhead.Job() {
+            @Override
+            public void run() {
+                // 等待中已被终止
+                if (execution.start()) {
+                    ActuatorRequest.this.run(task, typed, channel, bulkhead, execution);
+                }
+            }
+
+            @Override
+            public void reject(String reason) {
+                execution.discard();
+                ActuatorRequest.this.reject(task, typed, channel, bulkhead, reason);
+            }
+        });
+    }
+
+    /**
+     * 执行任务并回写执行结果
+     */
+    private void run(SchedulerTaskMessage task, boolean typed, Channel channel, JobHandlerBulkhead bulkhead,
+                     JobExecutionTracker.Execution execution) {
+        String jobHandler = task.getJobHandler();
+        String jobHandlerParam = task.getJobHandlerParam();
+        AbstractJobHandler jobMethod = DefaultExecutorJobHolder.loadExecutorJobHandler(jobHandler);
+
         try {
             boolean success = false;
             String triggerMsg = null;
@@ -69,7 +116,10 @@ public class ActuatorRequest extends BaseProtocol {
             int triggerCode = HttpStatus.OK.value();
             ReturnT<String> executeResult = null;
             try {
-                executeResult = jobMethod.execute(jobHandlerParam);
+                // 分片广播时传入本实例的分片
+                executeResult = task.getShardTotal() > 0
+                        ? jobMethod.execute(jobHandlerParam, task.getShardIndex(), task.getShardTotal())
+                        : jobMethod.execute(jobHandlerParam);
                 success = true;
             } catch (Exception e) {
                 success = false;
@@ -82,60 +132,71 @@ public class ActuatorRequest extends BaseProtocol {
             // 执行没有异常, 直接使用结果赋值, 出现错误使用异常捕获赋值
             int code = success ? executeResult.getCode() : HttpStatus.INTERNAL_SERVER_ERROR.value();
             String msg = success ? executeResult.getMsg() : triggerMsg;
-            String content1 = executeResult.getContent();
-
-            boolean cron = task.isCron();
-            if (cron) {
-                SchedulerTaskCronRequestDto taskGivenDto = task.getTaskCronDto();
-                taskGivenDto.setExecuteTime(LocalDateTime.now());
-                taskGivenDto.setCode(code);
-                taskGivenDto.setMsg(msg);
-                taskGivenDto.setContent(content1);
-                taskGivenDto.setExecuteTime(LocalDateTime.now());
-
-                taskGivenDto.setTriggerTime(triggerTime);
-                taskGivenDto.setTriggerCode(triggerCode);
-                taskGivenDto.setTriggerMsg(triggerMsg);
-
-                String json = JsonUtils.toJson(task);
-                MessageProtocolPoJo.MessageProtocol callBackMessageProtocol = MessageProtocolPoJo.MessageProtocol
-                        .newBuilder()
-                        // 写死协议名即可，开发对应关系创建即注定了
-                        .setProtocol(ProtocolStausEnum.callbackGivenStatusRequest.name())
-                        .setLen(json.getBytes(PingPongUtils.CHARSET).length)
-                        .setContent(json)
-                        .build();
-                channel.writeAndFlush(callBackMessageProtocol);
-
-                boolean ok = Objects.deepEquals(code, HttpStatus.OK.value());
-                log.info(">>> 客户端接收到执行器调度事件, 执行结果: {}, 回写内容: {}", ok, json);
-            } else {
-                SchedulerTaskGivenRequestDto taskGivenDto = task.getTaskGivenDto();
-                taskGivenDto.setExecuteTime(LocalDateTime.now());
-                taskGivenDto.setCode(code);
-                taskGivenDto.setMsg(msg);
-                taskGivenDto.setContent(content1);
-                taskGivenDto.setExecuteTime(LocalDateTime.now());
-
-                taskGivenDto.setTriggerTime(triggerTime);
-                taskGivenDto.setTriggerCode(triggerCode);
-                taskGivenDto.setTriggerMsg(triggerMsg);
-
-                String json = JsonUtils.toJson(task);
-                MessageProtocolPoJo.MessageProtocol callBackMessageProtocol = MessageProtocolPoJo.MessageProtocol
-                        .newBuilder()
-                        // 写死协议名即可，开发对应关系创建即注定了
-                        .setProtocol(ProtocolStausEnum.callbackGivenStatusRequest.name())
-                        .setLen(json.getBytes(PingPongUtils.CHARSET).length)
-                        .setContent(json)
-                        .build();
-                channel.writeAndFlush(callBackMessageProtocol);
-
-                boolean ok = Objects.deepEquals(code, HttpStatus.OK.value());
-                log.info(">>> 客户端接收到执行器调度事件, 执行结果: {}, 回写内容: {}", ok, json);
+            String content1 = success ? executeResult.getContent() : null;
+
+            // 超时或被终止时已经回写
+            if (Objects.nonNull(execution) && !execution.finish()) {
+                return;
             }
+            callback(task, typed, channel, bulkhead, code, msg, content1, triggerTime, triggerCode, triggerMsg);
         } catch (Exception e) {
             log.info(">>> 客户端接收到执行器调度事件, 执行结果: exception, 错误原因: {}", e.getLocalizedMessage(), e);
         }
     }
+
+    /**
+     * 任务处理器繁忙, 任务未执行, 回写失败由服务端按失败重试
+     */
+    private void reject(SchedulerTaskMessage task, boolean typed, Channel channel, JobHandlerBulkhead bulkhead, String reason) {
+        int code = HttpStatus.TOO_MANY_REQUESTS.value();
+        callback(task, typed, channel, bulkhead, code, reason, null, LocalDateTime.now(), code, reason);
+    }
+
+    /**
+     * 执行超时回写 504, 被服务端终止回写 410, 服务端随即释放该实例执行中的任务数
+     */
+    private void aborted(SchedulerTaskMessage task, boolean typed, Channel channel, JobHandlerBulkhead bulkhead,
+                         JobExecutionTracker.State state, String reason) {
+        int code = state == JobExecutionTracker.State.TIMED_OUT ? HttpStatus.GATEWAY_TIMEOUT.value() : HttpStatus.GONE.value();
+        callback(task, typed, channel, bulkhead, code, reason, null, LocalDateTime.now(), code, reason);
+    }
+
+    /**
+     * 回写执行结果, 同时带回任务处理器当前的负载
+     */
+    private void callback(SchedulerTaskMessage task, boolean typed, Channel channel, JobHandlerBulkhead bulkhead,
+                          int code, String msg, String content, LocalDateTime triggerTime, int triggerCode, String triggerMsg) {
+        if (Objects.nonNull(bulkhead)) {
+            task.setHandlerLoad(bulkhead.load());
+        }
+
+        boolean cron = task.isCron();
+        if (cron) {
+            SchedulerTaskCronRequestDto taskCronDto = task.getTaskCronDto();
+            taskCronDto.setCode(code);
+            taskCronDto.setMsg(msg);
+            taskCronDto.setContent(content);
+            taskCronDto.setExecuteTime(LocalDateTime.now());
+
+            taskCronDto.setTriggerTime(triggerTime);
+            taskCronDto.setTriggerCode(triggerCode);
+            taskCronDto.setTriggerMsg(triggerMsg);
+        } else {
+            SchedulerTaskGivenRequestDto taskGivenDto = task.getTaskGivenDto();
+            taskGivenDto.setCode(code);
+            taskGivenDto.setMsg(msg);
+            taskGivenDto.setContent(content);
+            taskGivenDto.setExecuteTime(LocalDateTime.now());
+
+            taskGivenDto.setTriggerTime(triggerTime);
+            taskGivenDto.setTriggerCode(triggerCode);
+            taskGivenDto.setTriggerMsg(triggerMsg);
+        }
+
+        // 服务端接受批量回写时合并发送
+        callbackBatcher.send(channel, task, typed);
+
+        boolean ok = Objects.deepEquals(code, HttpStatus.OK.value());
+        log.info(">>> 客户端接收到执行器调度事件, 执行结果: {}, 回写内容: {}", ok, task);
+    }
 }
@@ -0,0 +1,36 @@
+package com.microservice.protocol;
+
+import com.microservice.bean.SchedulerTaskKill;
+import com.microservice.client.BaseProtocol;
+import com.microservice.handler.JobExecutionTracker;
+import com.microservice.proto.MessageProtocolPoJo;
+import com.microservice.utils.MessageProtocolCodec;
+import io.netty.channel.Channel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p>
+ * 服务端终止任务
+ * <p>
+ * 中断正在执行的任务, 等待中的任务不再执行, 都以 410 回写; 当前实例没有该任务时忽略
+ */
+@Component
+@Slf4j
+public class KillRequest extends BaseProtocol {
+
+    @Override
+    public void onProcess(MessageProtocolPoJo.MessageProtocol messageProtocol, Channel channel) {
+        SchedulerTaskKill kill = MessageProtocolCodec.taskKill(messageProtocol);
+        if (Objects.isNull(kill)) {
+            return;
+        }
+        String reason = Objects.isNull(kill.getReason()) ? "服务端终止" : kill.getReason();
+        int killed = JobExecutionTracker.kill(kill.isCron(), kill.getTaskId(), reason);
+        log.info(">>> 客户端接收到终止任务事件, 任务: {}({}), 终止执行数: {}", kill.getJobHandler(), kill.getTaskId(), killed);
+    }
+}
@@ -19,6 +19,13 @@ public class Constants {
     public static final String SCHEDULER_SERVER_BALANCE_PREF = SCHEDULER_PREF + "balance:";
     public static final String SCHEDULER_SERVER_NEXT_BALANCE = SCHEDULER_PREF + "nextBalance";
     public static final String SCHEDULER_SERVER_HEARTBEAT = SCHEDULER_PREF + "heartbeat:";
+    public static final String SCHEDULER_ENTITY_CACHE_PREF = SCHEDULER_PREF + "entity:";
+    public static final String SCHEDULER_TASK_CRON_WATERMARK = SCHEDULER_PREF + "taskCronWatermark";
+    public static final String SCHEDULER_TASK_GIVEN_DELAY_QUEUE = SCHEDULER_PREF + "taskGivenDelayQueue";
+    public static final String SCHEDULER_ACTUATOR_OWNER_PREF = SCHEDULER_PREF + "actuatorOwner:";
+    public static final String SCHEDULER_MEMBER_ACTUATORS_PREF = SCHEDULER_PREF + "memberActuators:";
+    public static final String SCHEDULER_DISPATCH_STREAM_PREF = SCHEDULER_PREF + "dispatch:";
+    public static final String SCHEDULER_TASK_SHARD_PREF = SCHEDULER_PREF + "shard:";
 
     /**
      * 0：离线 1：在线
@@ -46,6 +53,12 @@ public class Constants {
     public static final String TASK_WAIT_RETRY = "2";
     public static final String TASK_ALREADY_EXECUTE = "3";
 
+    /**
+     * 0: 单实例执行 1: 分片广播, 应用的每个在线实例执行一个分片
+     */
+    public static final String TASK_SINGLE = "0";
+    public static final String TASK_SHARDING = "1";
+
     public static final String ACTUATOR_HEALTH_CHECK_URL = "/healthStatusCheck";
     public static final String ACTUATOR_HEALTH_CHECK_FULL_URL = "/actuator/healthStatusCheck";
 
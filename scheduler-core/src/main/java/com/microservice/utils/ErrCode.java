@@ -12,6 +12,7 @@ public class ErrCode {
     public static final String FAIL = "操作失败";
     public static final String REGISTER_FAIL = "注册失败";
     public static final String DEREGISTER_FAIL = "注销失败";
+    public static final String CALLBACK_FAIL = "回写失败";
     public static final String PARAMS_EMPTY = "参数为空";
     public static final String PARAMS_WRONGFUL = "参数不合法";
     public static final String ON_LINE = "在线中";
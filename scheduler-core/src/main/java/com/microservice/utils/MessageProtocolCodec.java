@@ -0,0 +1,523 @@
+package com.microservice.utils;
+
+import com.microservice.bean.ExecutorJobMessage;
+import com.microservice.bean.JobHandlerLoad;
+import com.microservice.bean.SchedulerTaskKill;
+import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.dto.SchedulerTaskCronRequestDto;
+import com.microservice.dto.SchedulerTaskGivenRequestDto;
+import com.microservice.enums.ProtocolCompressionEnum;
+import com.microservice.enums.ProtocolStausEnum;
+import com.microservice.proto.MessageProtocolPoJo;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 协议消息编解码
+ * <p>
+ * 任务指派、执行回写、执行器注册、心跳使用 MessageProtocol.dataBody 中的类型化 protobuf 载荷, 不再经过 json;
+ * 旧版本执行器只认识 content 中的 json, 因此:
+ * <p>
+ * 1. 解码时两种格式都接受, 未设置 dataBody 时解析 content
+ * <p>
+ * 2. 服务端按执行器注册时使用的格式回复, 类型化注册的连接标记 {@link #TYPED}
+ * <p>
+ * 3. 执行器按收到的格式回写, 注册格式由 protocolTypedPayload 决定
+ * <p>
+ * 4. 批量任务指派只发给类型化注册时声明 batchDispatch 的执行器, 连接标记 {@link #BATCH}
+ * <p>
+ * 5. 批量回写只发给在注册确认中声明 batchCallback 的服务端, 执行器一侧的连接同样标记 {@link #BATCH}
+ */
+@Slf4j
+public class MessageProtocolCodec {
+
+    /**
+     * 对端支持类型化载荷
+     */
+    public static final AttributeKey<Boolean> TYPED = AttributeKey.valueOf("schedulerTypedPayload");
+
+    /**
+     * 对端接受批量消息: 服务端连接上表示执行器接受批量任务指派, 执行器连接上表示服务端接受批量回写
+     */
+    public static final AttributeKey<Boolean> BATCH = AttributeKey.valueOf("schedulerBatchDispatch");
+
+    private MessageProtocolCodec() {
+    }
+
+    /**
+     * 对端是否支持类型化载荷
+     *
+     * @param channel
+     * @return
+     */
+    public static boolean typed(Channel channel) {
+        return Objects.nonNull(channel) && Boolean.TRUE.equals(channel.attr(TYPED).get());
+    }
+
+    /**
+     * 对端是否接受批量任务指派
+     *
+     * @param channel
+     * @return
+     */
+    public static boolean batch(Channel channel) {
+        return Objects.nonNull(channel) && Boolean.TRUE.equals(channel.attr(BATCH).get());
+    }
+
+    /**
+     * 收到类型化载荷后, 之后发给对端的消息也使用类型化载荷; 注册时声明接受批量指派的, 之后按批发送任务
+     *
+     * @param channel
+     * @param messageProtocol
+     */
+    public static void markTyped(Channel channel, MessageProtocolPoJo.MessageProtocol messageProtocol) {
+        if (Objects.nonNull(channel) && messageProtocol.getDataBodyCase() != MessageProtocolPoJo.MessageProtocol.DataBodyCase.DATABODY_NOT_SET) {
+            channel.attr(TYPED).set(Boolean.TRUE);
+            if (messageProtocol.hasRegister() && messageProtocol.getRegister().getBatchDispatch()) {
+                channel.attr(BATCH).set(Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * 服务端确认接受批量回写, 之后执行器按批回写
+     *
+     * @param channel
+     * @param messageProtocol
+     */
+    public static void markBatchCallback(Channel channel, MessageProtocolPoJo.MessageProtocol messageProtocol) {
+        if (Objects.nonNull(channel) && messageProtocol.hasHeartbeat() && messageProtocol.getHeartbeat().getBatchCallback()) {
+            channel.attr(BATCH).set(Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 任务指派
+     *
+     * @param task
+     * @param typed
+     * @return
+     */
+    public static MessageProtocolPoJo.MessageProtocol actuatorRequest(SchedulerTaskMessage task, boolean typed) {
+        if (typed) {
+            return MessageProtocolPoJo.MessageProtocol.newBuilder()
+                    .setProtocol(ProtocolStausEnum.actuatorRequest.name())
+                    .setProtocolId(ProtocolStausEnum.actuatorRequest.getId())
+                    .setDispatch(toDispatch(task))
+                    .build();
+        }
+        return json(ProtocolStausEnum.actuatorRequest, JsonUtils.toJson(task));
+    }
+
+    /**
+     * 同一执行器实例的一批任务指派, 只使用类型化载荷
+     *
+     * @param tasks
+     * @return
+     */
+    public static MessageProtocolPoJo.MessageProtocol actuatorBatchRequest(List<SchedulerTaskMessage> tasks) {
+        MessageProtocolPoJo.TaskDispatchBatch.Builder batch = MessageProtocolPoJo.TaskDispatchBatch.newBuilder();
+        for (SchedulerTaskMessage task : tasks) {
+            batch.addTasks(toDispatch(task));
+        }
+        return MessageProtocolPoJo.MessageProtocol.newBuilder()
+                .setProtocol(ProtocolStausEnum.actuatorBatchRequest.name())
+                .setProtocolId(ProtocolStausEnum.actuatorBatchRequest.getId())
+                .setDispatchBatch(batch)
+                .build();
+    }
+
+    /**
+     * 终止任务, 只使用类型化载荷
+     *
+     * @param kill
+     * @return
+     */
+    public static MessageProtocolPoJo.MessageProtocol killRequest(SchedulerTaskKill kill) {
+        MessageProtocolPoJo.TaskKill.Builder builder = MessageProtocolPoJo.TaskKill.newBuilder()
+                .setCron(kill.isCron())
+                .setTaskId(Objects.isNull(kill.getTaskId()) ? 0 : kill.getTaskId())
+                .setJobHandler(StringUtils.defaultString(kill.getJobHandler()))
+                .setReason(StringUtils.defaultString(kill.getReason()));
+        return MessageProtocolPoJo.MessageProtocol.newBuilder()
+                .setProtocol(ProtocolStausEnum.killRequest.name())
+                .setProtocolId(ProtocolStausEnum.killRequest.getId())
+                .setKill(builder)
+                .build();
+    }
+
+    /**
+     * 执行结果回写
+     *
+     * @param task
+     * @param typed
+     * @return
+     */
+    public static MessageProtocolPoJo.MessageProtocol callbackRequest(SchedulerTaskMessage task, boolean typed) {
+        if (typed) {
+            return MessageProtocolPoJo.MessageProtocol.newBuilder()
+                    .setProtocol(ProtocolStausEnum.callbackGivenStatusRequest.name())
+                    .setProtocolId(ProtocolStausEnum.callbackGivenStatusRequest.getId())
+                    .setCallback(toCallback(task))
+                    .build();
+        }
+        return json(ProtocolStausEnum.callbackGivenStatusRequest, JsonUtils.toJson(task));
+    }
+
+    /**
+     * 同一执行器实例的一批执行结果回写, 只使用类型化载荷
+     *
+     * @param tasks
+     * @return
+     */
+    public static MessageProtocolPoJo.MessageProtocol callbackBatchRequest(List<SchedulerTaskMessage> tasks) {
+        MessageProtocolPoJo.TaskCallbackBatch.Builder batch = MessageProtocolPoJo.TaskCallbackBatch.newBuilder();
+        for (SchedulerTaskMessage task : tasks) {
+            batch.addCallbacks(toCallback(task));
+        }
+        return MessageProtocolPoJo.MessageProtocol.newBuilder()
+                .setProtocol(ProtocolStausEnum.callbackBatchRequest.name())
+                .setProtocolId(ProtocolStausEnum.callbackBatchRequest.getId())
+                .setCallbackBatch(batch)
+                .build();
+    }
+
+    /**
+     * 执行器注册
+     *
+     * @param message
+     * @param typed
+     * @return
+     */
+    public static MessageProtocolPoJo.MessageProtocol registerRequest(ExecutorJobMessage message, boolean typed) {
+        if (typed) {
+            MessageProtocolPoJo.ExecutorRegister.Builder register = MessageProtocolPoJo.ExecutorRegister.newBuilder()
+                    .setRegisterName(StringUtils.defaultString(message.getProperties().getRegisterName()))
+                    .setAppName(StringUtils.defaultString(message.getAppName()))
+                    .setHost(StringUtils.defaultString(message.getHost()))
+                    .setPort(StringUtils.defaultString(message.getPort()))
+                    .setCurrentTime(toMillis(message.getCurrentTime()))
+                    .setBatchDispatch(true)
+                    .setCompression(message.getProperties().getProtocolCompression().getProto());
+            return MessageProtocolPoJo.MessageProtocol.newBuilder()
+                    .setProtocol(ProtocolStausEnum.registerRequest.name())
+                    .setProtocolId(ProtocolStausEnum.registerRequest.getId())
+                    .setRegister(register)
+                    .build();
+        }
+        return json(ProtocolStausEnum.registerRequest, JsonUtils.toJson(message));
+    }
+
+    public static MessageProtocolPoJo.MessageProtocol ping(boolean typed) {
+        return heartbeat(false, typed);
+    }
+
+    public static MessageProtocolPoJo.MessageProtocol pong(boolean typed) {
+        return heartbeat(true, typed);
+    }
+
+    /**
+     * 服务端确认类型化注册: 接受的压缩方式与批量回写, 以心跳发送, 旧版本执行器按普通心跳忽略
+     *
+     * @param compression   不压缩时为 NONE
+     * @param batchCallback
+     * @return
+     */
+    public static MessageProtocolPoJo.MessageProtocol registerAck(ProtocolCompressionEnum compression, boolean batchCallback) {
+        return MessageProtocolPoJo.MessageProtocol.newBuilder()
+                .setHeartbeat(MessageProtocolPoJo.Heartbeat.newBuilder()
+                        .setPong(true)
+                        .setCompression(compression.getProto())
+                        .setBatchCallback(batchCallback))
+                .build();
+    }
+
+    public static boolean isPing(MessageProtocolPoJo.MessageProtocol messageProtocol) {
+        if (messageProtocol.hasHeartbeat()) {
+            return !messageProtocol.getHeartbeat().getPong();
+        }
+        return Objects.deepEquals(messageProtocol.getContent(), PingPongUtils.PING);
+    }
+
+    public static boolean isPong(MessageProtocolPoJo.MessageProtocol messageProtocol) {
+        if (messageProtocol.hasHeartbeat()) {
+            return messageProtocol.getHeartbeat().getPong();
+        }
+        return Objects.deepEquals(messageProtocol.getContent(), PingPongUtils.PONG);
+    }
+
+    /**
+     * 读取任务指派或执行回写
+     *
+     * @param messageProtocol
+     * @return
+     */
+    public static SchedulerTaskMessage taskMessage(MessageProtocolPoJo.MessageProtocol messageProtocol) {
+        switch (messageProtocol.getDataBodyCase()) {
+            case DISPATCH:
+                return fromDispatch(messageProtocol.getDispatch());
+            case CALLBACK:
+                return fromCallback(messageProtocol.getCallback());
+            default:
+                return JsonUtils.fromJson(messageProtocol.getContent(), SchedulerTaskMessage.class);
+        }
+    }
+
+    /**
+     * 读取终止任务
+     *
+     * @param messageProtocol
+     * @return 不是终止任务消息时为 null
+     */
+    public static SchedulerTaskKill taskKill(MessageProtocolPoJo.MessageProtocol messageProtocol) {
+        if (!messageProtocol.hasKill()) {
+            return null;
+        }
+        MessageProtocolPoJo.TaskKill kill = messageProtocol.getKill();
+        return new SchedulerTaskKill()
+                .setCron(kill.getCron())
+                .setTaskId(kill.getTaskId())
+                .setJobHandler(StringUtils.defaultIfEmpty(kill.getJobHandler(), null))
+                .setReason(StringUtils.defaultIfEmpty(kill.getReason(), null));
+    }
+
+    /**
+     * 读取批量任务指派
+     *
+     * @param messageProtocol
+     * @return
+     */
+    public static List<SchedulerTaskMessage> taskMessages(MessageProtocolPoJo.MessageProtocol messageProtocol) {
+        List<MessageProtocolPoJo.TaskDispatch> dispatches = messageProtocol.getDispatchBatch().getTasksList();
+        List<SchedulerTaskMessage> tasks = new ArrayList<>(dispatches.size());
+        for (MessageProtocolPoJo.TaskDispatch dispatch : dispatches) {
+            tasks.add(fromDispatch(dispatch));
+        }
+        return tasks;
+    }
+
+    /**
+     * 读取批量执行回写
+     *
+     * @param messageProtocol
+     * @return
+     */
+    public static List<SchedulerTaskMessage> callbackMessages(MessageProtocolPoJo.MessageProtocol messageProtocol) {
+        List<MessageProtocolPoJo.TaskCallback> callbacks = messageProtocol.getCallbackBatch().getCallbacksList();
+        List<SchedulerTaskMessage> tasks = new ArrayList<>(callbacks.size());
+        for (MessageProtocolPoJo.TaskCallback callback : callbacks) {
+            tasks.add(fromCallback(callback));
+        }
+        return tasks;
+    }
+
+    /**
+     * 读取执行器注册
+     *
+     * @param messageProtocol
+     * @return
+     */
+    public static ExecutorJobMessage jobMessage(MessageProtocolPoJo.MessageProtocol messageProtocol) {
+        if (messageProtocol.hasRegister()) {
+            MessageProtocolPoJo.ExecutorRegister register = messageProtocol.getRegister();
+            SchedulerConfigurationProperties properties = new SchedulerConfigurationProperties();
+            properties.setRegisterName(register.getRegisterName());
+            return new ExecutorJobMessage()
+                    .setAppName(register.getAppName())
+                    .setHost(register.getHost())
+                    .setPort(register.getPort())
+                    .setCurrentTime(toLocalDateTime(register.getCurrentTime()))
+                    .setProperties(properties);
+        }
+        if (StringUtils.isBlank(messageProtocol.getContent())) {
+            return null;
+        }
+        return JsonUtils.fromJson(messageProtocol.getContent(), ExecutorJobMessage.class);
+    }
+
+    private static MessageProtocolPoJo.MessageProtocol heartbeat(boolean pong, boolean typed) {
+        if (typed) {
+            return MessageProtocolPoJo.MessageProtocol.newBuilder()
+                    .setHeartbeat(MessageProtocolPoJo.Heartbeat.newBuilder().setPong(pong))
+                    .build();
+        }
+        String content = pong ? PingPongUtils.PONG : PingPongUtils.PING;
+        return MessageProtocolPoJo.MessageProtocol.newBuilder()
+                .setLen(content.getBytes(PingPongUtils.CHARSET).length)
+                .setContent(content)
+                .build();
+    }
+
+    private static MessageProtocolPoJo.MessageProtocol json(ProtocolStausEnum protocol, String json) {
+        return MessageProtocolPoJo.MessageProtocol.newBuilder()
+                .setProtocol(protocol.name())
+                .setProtocolId(protocol.getId())
+                .setLen(json.getBytes(PingPongUtils.CHARSET).length)
+                .setContent(json)
+                .build();
+    }
+
+    /**
+     * 类型化载荷只携带执行器与回写用到的字段, 任务实体的其余字段不下发
+     */
+    private static MessageProtocolPoJo.TaskDispatch toDispatch(SchedulerTaskMessage task) {
+        MessageProtocolPoJo.TaskDispatch.Builder builder = MessageProtocolPoJo.TaskDispatch.newBuilder()
+                .setCron(task.isCron())
+                .setSchedulerCron(StringUtils.defaultString(task.getSchedulerCron()))
+                .setSchedulerFireTime(task.getSchedulerFireTime())
+                .setSchedulerGivenTime(toMillis(task.getSchedulerGivenTime()))
+                .setSchedulerGivenDelay(task.getSchedulerGivenDelay())
+                .setAppName(StringUtils.defaultString(task.getAppName()))
+                .setActuatorKey(StringUtils.defaultString(task.getActuatorKey()))
+                .setExecutorAddress(StringUtils.defaultString(task.getExecutorAddress()))
+                .setJobHandler(StringUtils.defaultString(task.getJobHandler()))
+                .setJobHandlerParam(StringUtils.defaultString(task.getJobHandlerParam()))
+                .setDispatchId(StringUtils.defaultString(task.getDispatchId()))
+                .setShardIndex(task.getShardIndex())
+                .setShardTotal(task.getShardTotal());
+
+        SchedulerTaskCronRequestDto cronDto = task.getTaskCronDto();
+        if (Objects.nonNull(cronDto)) {
+            builder.setTaskId(Objects.isNull(cronDto.getTaskCronId()) ? 0 : cronDto.getTaskCronId())
+                    .setWriteLog(StringUtils.defaultString(cronDto.getTaskCronWriteLog()))
+                    .setTimeout(Objects.isNull(cronDto.getTaskCronTimeout()) ? 0 : cronDto.getTaskCronTimeout());
+        }
+        SchedulerTaskGivenRequestDto givenDto = task.getTaskGivenDto();
+        if (Objects.nonNull(givenDto)) {
+            builder.setTaskId(Objects.isNull(givenDto.getTaskGivenId()) ? 0 : givenDto.getTaskGivenId())
+                    .setRetryCount(Objects.isNull(givenDto.getTaskGivenRetryCount()) ? 0 : givenDto.getTaskGivenRetryCount())
+                    .setWriteLog(StringUtils.defaultString(givenDto.getTaskGivenWriteLog()))
+                    .setTimeout(Objects.isNull(givenDto.getTaskGivenTimeout()) ? 0 : givenDto.getTaskGivenTimeout());
+        }
+        return builder.build();
+    }
+
+    private static MessageProtocolPoJo.TaskCallback toCallback(SchedulerTaskMessage task) {
+        MessageProtocolPoJo.TaskCallback.Builder builder = MessageProtocolPoJo.TaskCallback.newBuilder()
+                .setTask(toDispatch(task));
+        JobHandlerLoad load = task.getHandlerLoad();
+        if (Objects.nonNull(load)) {
+            builder.setLoad(MessageProtocolPoJo.HandlerLoad.newBuilder()
+                    .setJobHandler(StringUtils.defaultString(load.getJobHandler()))
+                    .setConcurrency(load.getConcurrency())
+                    .setActive(load.getActive())
+                    .setQueueCapacity(load.getQueueCapacity())
+                    .setQueued(load.getQueued())
+                    .setRejected(load.getRejected()));
+        }
+        if (Objects.nonNull(task.getTaskCronDto())) {
+            SchedulerTaskCronRequestDto dto = task.getTaskCronDto();
+            builder.setCode(dto.getCode())
+                    .setMsg(StringUtils.defaultString(dto.getMsg()))
+                    .setContent(StringUtils.defaultString(dto.getContent()))
+                    .setExecuteTime(toMillis(dto.getExecuteTime()))
+                    .setTriggerTime(toMillis(dto.getTriggerTime()))
+                    .setTriggerCode(dto.getTriggerCode())
+                    .setTriggerMsg(StringUtils.defaultString(dto.getTriggerMsg()));
+        } else if (Objects.nonNull(task.getTaskGivenDto())) {
+            SchedulerTaskGivenRequestDto dto = task.getTaskGivenDto();
+            builder.setCode(dto.getCode())
+                    .setMsg(StringUtils.defaultString(dto.getMsg()))
+                    .setContent(StringUtils.defaultString(dto.getContent()))
+                    .setExecuteTime(toMillis(dto.getExecuteTime()))
+                    .setTriggerTime(toMillis(dto.getTriggerTime()))
+                    .setTriggerCode(dto.getTriggerCode())
+                    .setTriggerMsg(StringUtils.defaultString(dto.getTriggerMsg()));
+        }
+        return builder.build();
+    }
+
+    private static SchedulerTaskMessage fromDispatch(MessageProtocolPoJo.TaskDispatch dispatch) {
+        SchedulerTaskMessage task = new SchedulerTaskMessage()
+                .setCron(dispatch.getCron())
+                .setSchedulerCron(StringUtils.defaultIfEmpty(dispatch.getSchedulerCron(), null))
+                .setSchedulerFireTime(dispatch.getSchedulerFireTime())
+                .setSchedulerGivenTime(toLocalDateTime(dispatch.getSchedulerGivenTime()))
+                .setSchedulerGivenDelay(dispatch.getSchedulerGivenDelay())
+                .setAppName(StringUtils.defaultIfEmpty(dispatch.getAppName(), null))
+                .setActuatorKey(StringUtils.defaultIfEmpty(dispatch.getActuatorKey(), null))
+                .setExecutorAddress(StringUtils.defaultIfEmpty(dispatch.getExecutorAddress(), null))
+                .setJobHandler(StringUtils.defaultIfEmpty(dispatch.getJobHandler(), null))
+                .setJobHandlerParam(StringUtils.defaultIfEmpty(dispatch.getJobHandlerParam(), null))
+                .setDispatchId(StringUtils.defaultIfEmpty(dispatch.getDispatchId(), null))
+                .setShardIndex(dispatch.getShardIndex())
+                .setShardTotal(dispatch.getShardTotal());
+
+        String writeLog = StringUtils.defaultIfEmpty(dispatch.getWriteLog(), null);
+        if (dispatch.getCron()) {
+            SchedulerTaskCronRequestDto dto = new SchedulerTaskCronRequestDto();
+            dto.setTaskCronId(dispatch.getTaskId());
+            dto.setTaskCronWriteLog(writeLog);
+            dto.setTaskCronTimeout(dispatch.getTimeout());
+            task.setTaskCronDto(dto);
+        } else {
+            SchedulerTaskGivenRequestDto dto = new SchedulerTaskGivenRequestDto();
+            dto.setTaskGivenId(dispatch.getTaskId());
+            dto.setTaskGivenRetryCount(dispatch.getRetryCount());
+            dto.setTaskGivenWriteLog(writeLog);
+            dto.setTaskGivenTimeout(dispatch.getTimeout());
+            task.setTaskGivenDto(dto);
+        }
+        return task;
+    }
+
+    private static SchedulerTaskMessage fromCallback(MessageProtocolPoJo.TaskCallback callback) {
+        SchedulerTaskMessage task = fromDispatch(callback.getTask());
+        if (callback.hasLoad()) {
+            MessageProtocolPoJo.HandlerLoad load = callback.getLoad();
+            task.setHandlerLoad(new JobHandlerLoad()
+                    .setJobHandler(StringUtils.defaultIfEmpty(load.getJobHandler(), null))
+                    .setConcurrency(load.getConcurrency())
+                    .setActive(load.getActive())
+                    .setQueueCapacity(load.getQueueCapacity())
+                    .setQueued(load.getQueued())
+                    .setRejected(load.getRejected()));
+        }
+        String msg = StringUtils.defaultIfEmpty(callback.getMsg(), null);
+        String content = StringUtils.defaultIfEmpty(callback.getContent(), null);
+        String triggerMsg = StringUtils.defaultIfEmpty(callback.getTriggerMsg(), null);
+        if (Objects.nonNull(task.getTaskCronDto())) {
+            SchedulerTaskCronRequestDto dto = task.getTaskCronDto();
+            dto.setCode(callback.getCode());
+            dto.setMsg(msg);
+            dto.setContent(content);
+            dto.setExecuteTime(toLocalDateTime(callback.getExecuteTime()));
+            dto.setTriggerTime(toLocalDateTime(callback.getTriggerTime()));
+            dto.setTriggerCode(callback.getTriggerCode());
+            dto.setTriggerMsg(triggerMsg);
+        } else {
+            SchedulerTaskGivenRequestDto dto = task.getTaskGivenDto();
+            dto.setCode(callback.getCode());
+            dto.setMsg(msg);
+            dto.setContent(content);
+            dto.setExecuteTime(toLocalDateTime(callback.getExecuteTime()));
+            dto.setTriggerTime(toLocalDateTime(callback.getTriggerTime()));
+            dto.setTriggerCode(callback.getTriggerCode());
+            dto.setTriggerMsg(triggerMsg);
+        }
+        return task;
+    }
+
+    /**
+     * LocalDateTime 按 UTC 换算, 两端时区不同时与 json 一样保持原值; null 记为 0
+     */
+    private static long toMillis(LocalDateTime time) {
+        return Objects.isNull(time) ? 0L : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return millis == 0L ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,67 @@
+package com.microservice.utils;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> netty 传输选择
+ * <p>
+ * linux 上加载到 epoll 本地库时使用 epoll, 否则(其他系统、本地库缺失、nativeTransport 关闭)使用 nio;
+ * 同一个 Bootstrap 的 EventLoopGroup 与 Channel 类型必须来自同一种传输, 因此都从这里取
+ */
+@Slf4j
+public class NettyTransportUtils {
+
+    private NettyTransportUtils() {
+    }
+
+    /**
+     * 是否使用 epoll
+     *
+     * @param nativeTransport 是否允许使用本地传输
+     * @return
+     */
+    public static boolean epoll(boolean nativeTransport) {
+        if (!nativeTransport) {
+            return false;
+        }
+        if (!Epoll.isAvailable()) {
+            log.info(">>> epoll 不可用, 使用 nio, 原因: {}", String.valueOf(Epoll.unavailabilityCause()));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param epoll
+     * @param threads 线程数, 0 使用 netty 默认值(cpu 核数 * 2)
+     * @param name    线程名称前缀
+     * @return
+     */
+    public static EventLoopGroup eventLoopGroup(boolean epoll, int threads, String name) {
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory(name);
+        return epoll
+                ? new EpollEventLoopGroup(Math.max(0, threads), threadFactory)
+                : new NioEventLoopGroup(Math.max(0, threads), threadFactory);
+    }
+
+    public static Class<? extends ServerSocketChannel> serverChannelClass(boolean epoll) {
+        return epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+    }
+
+    public static Class<? extends SocketChannel> channelClass(boolean epoll) {
+        return epoll ? EpollSocketChannel.class : NioSocketChannel.class;
+    }
+}
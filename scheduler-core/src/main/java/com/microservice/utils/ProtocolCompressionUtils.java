@@ -0,0 +1,180 @@
+package com.microservice.utils;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.microservice.enums.ProtocolCompressionEnum;
+import com.microservice.proto.MessageProtocolPoJo;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.compression.Snappy;
+import io.netty.util.AttributeKey;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 消息压缩
+ * <p>
+ * 执行器在类型化注册时请求压缩方式, 服务端开启压缩时接受并在心跳中确认, 双方连接标记 {@link #COMPRESSION};
+ * 之后超过阈值的消息整体压缩放入 compressedBody, protocol 与 protocolId 保留在外层.
+ * 压缩后没有变小的消息原样发送; 解压不依赖连接标记, 收到什么解什么
+ */
+@Slf4j
+public class ProtocolCompressionUtils {
+
+    /**
+     * 与对端协商好的压缩方式
+     */
+    public static final AttributeKey<ProtocolCompressionEnum> COMPRESSION = AttributeKey.valueOf("schedulerCompression");
+
+    /**
+     * 解压后的消息上限, 防止错误的 rawSize 申请过大内存
+     */
+    private static final int MAX_RAW_SIZE = 64 * 1024 * 1024;
+
+    private static final int SNAPPY_CHUNK = Short.MAX_VALUE;
+
+    private static final LZ4Compressor LZ4_COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor LZ4_DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private static final LongAdder COMPRESSED_COUNT = new LongAdder();
+    private static final LongAdder RAW_BYTES = new LongAdder();
+    private static final LongAdder COMPRESSED_BYTES = new LongAdder();
+    private static final LongAdder DECOMPRESSED_COUNT = new LongAdder();
+
+    private ProtocolCompressionUtils() {
+    }
+
+    /**
+     * 连接协商好的压缩方式
+     *
+     * @param channel
+     * @return
+     */
+    public static ProtocolCompressionEnum compression(Channel channel) {
+        ProtocolCompressionEnum compression = Objects.isNull(channel) ? null : channel.attr(COMPRESSION).get();
+        return Objects.isNull(compression) ? ProtocolCompressionEnum.NONE : compression;
+    }
+
+    public static void mark(Channel channel, ProtocolCompressionEnum compression) {
+        channel.attr(COMPRESSION).set(compression);
+        log.info(">>> 连接: {} 使用压缩: {}", channel.remoteAddress(), compression);
+    }
+
+    /**
+     * 超过阈值时压缩
+     *
+     * @param messageProtocol
+     * @param compression
+     * @param threshold       字节数
+     * @return 压缩后的消息, 不需要压缩或压缩后没有变小时返回原消息
+     */
+    public static MessageProtocolPoJo.MessageProtocol compress(MessageProtocolPoJo.MessageProtocol messageProtocol,
+                                                               ProtocolCompressionEnum compression, int threshold) {
+        if (compression == ProtocolCompressionEnum.NONE
+                || messageProtocol.getCompression() != MessageProtocolPoJo.Compression.NONE
+                || messageProtocol.getSerializedSize() <= threshold) {
+            return messageProtocol;
+        }
+        byte[] raw = messageProtocol.toByteArray();
+        byte[] compressed = compression == ProtocolCompressionEnum.LZ4 ? LZ4_COMPRESSOR.compress(raw) : snappy(raw);
+        if (compressed.length >= raw.length) {
+            return messageProtocol;
+        }
+
+        COMPRESSED_COUNT.increment();
+        RAW_BYTES.add(raw.length);
+        COMPRESSED_BYTES.add(compressed.length);
+        return MessageProtocolPoJo.MessageProtocol.newBuilder()
+                .setProtocol(messageProtocol.getProtocol())
+                .setProtocolId(messageProtocol.getProtocolId())
+                .setCompression(compression.getProto())
+                .setRawSize(raw.length)
+                .setCompressedBody(ByteString.copyFrom(compressed))
+                .build();
+    }
+
+    /**
+     * @param messageProtocol
+     * @return 解压后的消息, 未压缩的消息原样返回
+     * @throws InvalidProtocolBufferException
+     */
+    public static MessageProtocolPoJo.MessageProtocol decompress(MessageProtocolPoJo.MessageProtocol messageProtocol)
+            throws InvalidProtocolBufferException {
+        MessageProtocolPoJo.Compression compression = messageProtocol.getCompression();
+        if (compression == MessageProtocolPoJo.Compression.NONE) {
+            return messageProtocol;
+        }
+        int rawSize = messageProtocol.getRawSize();
+        if (rawSize <= 0 || rawSize > MAX_RAW_SIZE) {
+            throw new InvalidProtocolBufferException("compressed message raw size out of range: " + rawSize);
+        }
+        byte[] compressed = messageProtocol.getCompressedBody().toByteArray();
+        byte[] raw;
+        switch (compression) {
+            case LZ4:
+                raw = LZ4_DECOMPRESSOR.decompress(compressed, rawSize);
+                break;
+            case SNAPPY:
+                raw = unsnappy(compressed, rawSize);
+                break;
+            default:
+                throw new InvalidProtocolBufferException("unknown compression: " + compression);
+        }
+        DECOMPRESSED_COUNT.increment();
+        return MessageProtocolPoJo.MessageProtocol.parseFrom(raw);
+    }
+
+    public static Map<String, Object> stats() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("compressedCount", COMPRESSED_COUNT.sum());
+        map.put("rawBytes", RAW_BYTES.sum());
+        map.put("compressedBytes", COMPRESSED_BYTES.sum());
+        map.put("decompressedCount", DECOMPRESSED_COUNT.sum());
+        return map;
+    }
+
+    /**
+     * netty 的 snappy 每次最多压缩 {@link #SNAPPY_CHUNK} 字节, 按块压缩, 每块前写入压缩后的长度
+     */
+    private static byte[] snappy(byte[] raw) {
+        ByteBuf out = Unpooled.buffer(raw.length);
+        try {
+            for (int offset = 0; offset < raw.length; offset += SNAPPY_CHUNK) {
+                int length = Math.min(SNAPPY_CHUNK, raw.length - offset);
+                int lengthIndex = out.writerIndex();
+                out.writeInt(0);
+                new Snappy().encode(Unpooled.wrappedBuffer(raw, offset, length), out, length);
+                out.setInt(lengthIndex, out.writerIndex() - lengthIndex - 4);
+            }
+            return ByteBufUtil.getBytes(out);
+        } finally {
+            out.release();
+        }
+    }
+
+    private static byte[] unsnappy(byte[] compressed, int rawSize) {
+        ByteBuf in = Unpooled.wrappedBuffer(compressed);
+        ByteBuf out = Unpooled.buffer(rawSize, rawSize);
+        try {
+            while (in.isReadable()) {
+                int length = in.readInt();
+                new Snappy().decode(in.readSlice(length), out);
+            }
+            return ByteBufUtil.getBytes(out);
+        } finally {
+            in.release();
+            out.release();
+        }
+    }
+}
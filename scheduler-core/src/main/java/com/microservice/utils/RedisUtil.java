@@ -81,6 +81,16 @@ public class RedisUtil {
         redisTemplate.opsForValue().getOperations().delete(key);
     }
 
+    /**
+     * 字符串自增, key 不存在时从 0 开始
+     *
+     * @param key
+     * @return 自增后的值
+     */
+    public Long incr(String key) {
+        return redisTemplate.opsForValue().increment(key, 1);
+    }
+
     /**
      * 添加单个
      * 默认过期时间为两小时
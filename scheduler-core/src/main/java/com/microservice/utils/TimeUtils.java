@@ -1088,4 +1088,32 @@ public class TimeUtils {
         }
         return convertSuccess;
     }
+
+    /**
+     * 延迟秒数, 与 MySQL CAST(str AS SIGNED) 一致: 忽略前导空白, 只取开头的整数部分, 没有数字时为 0
+     *
+     * @param delayed 例如 "30", " 30s", "abc"
+     * @return
+     */
+    public static long delayedSeconds(String delayed) {
+        if (StringUtils.isBlank(delayed)) {
+            return 0;
+        }
+        String value = delayed.trim();
+        int index = 0;
+        boolean negative = false;
+        if (value.charAt(0) == '-' || value.charAt(0) == '+') {
+            negative = value.charAt(0) == '-';
+            index++;
+        }
+        long seconds = 0;
+        for (; index < value.length() && Character.isDigit(value.charAt(index)); index++) {
+            int digit = value.charAt(index) - '0';
+            if (seconds > (Long.MAX_VALUE - digit) / 10) {
+                return negative ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+            seconds = seconds * 10 + digit;
+        }
+        return negative ? -seconds : seconds;
+    }
 }
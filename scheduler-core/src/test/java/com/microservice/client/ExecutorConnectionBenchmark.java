@@ -0,0 +1,167 @@
+package com.microservice.client;
+
+import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.proto.MessageProtocolPoJo;
+import com.microservice.utils.MessageProtocolCodec;
+import com.microservice.utils.NettyTransportUtils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.*;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.protobuf.ProtobufDecoder;
+import io.netty.handler.codec.protobuf.ProtobufEncoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 单机模拟大量执行器同时连接服务端: 建立全部连接, 每个连接完成一次心跳往返
+ * <p>
+ * 服务端与执行器使用与 ExecutorGroupServer、ExecutorClient 相同的传输选择、分帧与套接字参数;
+ * 每次测量前关闭上一轮的连接, 结果为全部连接完成心跳的耗时
+ * <p>
+ * 两端在同一进程, 文件句柄数需大于连接数的两倍(ulimit -n), 本地端口范围需大于连接数;
+ * 非 linux 或缺少 epoll 本地库时 epoll 参数回退为 nio
+ * <p>
+ * 运行: main 方法, 或 mvn test-compile 后使用 org.openjdk.jmh.Main, 可用 -p connections=... 调整连接数
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutorConnectionBenchmark {
+
+    @Param({"10000"})
+    private int connections;
+
+    @Param({"nio", "epoll"})
+    private String transport;
+
+    private SchedulerConfigurationProperties properties;
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private EventLoopGroup clientGroup;
+    private Channel serverChannel;
+    private Bootstrap bootstrap;
+    private List<Channel> clients;
+    private volatile CountDownLatch pongs;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        properties = new SchedulerConfigurationProperties();
+        boolean epoll = NettyTransportUtils.epoll("epoll".equals(transport));
+
+        bossGroup = NettyTransportUtils.eventLoopGroup(epoll, properties.getServerBossThreads(), "benchmark-boss");
+        workerGroup = NettyTransportUtils.eventLoopGroup(epoll, properties.getServerThreads(), "benchmark-worker");
+        clientGroup = NettyTransportUtils.eventLoopGroup(epoll, 0, "benchmark-client");
+
+        serverChannel = new ServerBootstrap()
+                .group(bossGroup, workerGroup)
+                .channel(NettyTransportUtils.serverChannelClass(epoll))
+                .option(ChannelOption.SO_BACKLOG, properties.getServerBacklog())
+                .option(ChannelOption.SO_REUSEADDR, true)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childOption(ChannelOption.SO_KEEPALIVE, true)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        frame(ch.pipeline()).addLast(new SimpleChannelInboundHandler<MessageProtocolPoJo.MessageProtocol>() {
+                            @Override
+                            protected void channelRead0(ChannelHandlerContext ctx, MessageProtocolPoJo.MessageProtocol msg) {
+                                if (MessageProtocolCodec.isPing(msg)) {
+                                    ctx.writeAndFlush(MessageProtocolCodec.pong(true));
+                                }
+                            }
+                        });
+                    }
+                })
+                .bind(new InetSocketAddress("127.0.0.1", 0)).sync().channel();
+
+        bootstrap = new Bootstrap()
+                .group(clientGroup)
+                .channel(NettyTransportUtils.channelClass(epoll))
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        frame(ch.pipeline()).addLast(new SimpleChannelInboundHandler<MessageProtocolPoJo.MessageProtocol>() {
+                            @Override
+                            public void channelActive(ChannelHandlerContext ctx) {
+                                ctx.writeAndFlush(MessageProtocolCodec.ping(true));
+                            }
+
+                            @Override
+                            protected void channelRead0(ChannelHandlerContext ctx, MessageProtocolPoJo.MessageProtocol msg) {
+                                if (MessageProtocolCodec.isPong(msg)) {
+                                    pongs.countDown();
+                                }
+                            }
+                        });
+                    }
+                });
+        clients = new ArrayList<>(connections);
+    }
+
+    @Benchmark
+    public int connect() throws Exception {
+        pongs = new CountDownLatch(connections);
+        for (int i = 0; i < connections; i++) {
+            clients.add(bootstrap.connect(serverChannel.localAddress()).channel());
+        }
+        if (!pongs.await(2, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("heartbeat not completed: " + pongs.getCount() + "/" + connections);
+        }
+        return clients.size();
+    }
+
+    @TearDown(Level.Iteration)
+    public void disconnect() throws Exception {
+        for (Channel client : clients) {
+            client.close();
+        }
+        for (Channel client : clients) {
+            client.closeFuture().await();
+        }
+        clients.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() throws Exception {
+        serverChannel.close().sync();
+        clientGroup.shutdownGracefully().sync();
+        workerGroup.shutdownGracefully().sync();
+        bossGroup.shutdownGracefully().sync();
+    }
+
+    private static ChannelPipeline frame(ChannelPipeline pipeline) {
+        return pipeline.addLast(new ProtobufVarint32FrameDecoder())
+                .addLast(new ProtobufVarint32LengthFieldPrepender())
+                .addLast(new ProtobufDecoder(MessageProtocolPoJo.MessageProtocol.getDefaultInstance()))
+                .addLast(new ProtobufEncoder());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(ExecutorConnectionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
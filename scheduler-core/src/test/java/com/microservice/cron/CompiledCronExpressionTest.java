@@ -0,0 +1,181 @@
+package com.microservice.cron;
+
+import org.junit.Test;
+
+import java.time.*;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-02
+ * <p> CompiledCronExpression 与 CronExpression.getTimeAfter 的差分测试
+ * <p>
+ * 每个表达式在每个时区下比较随机时间点、夏令时切换前后、年末与闰年二月末的下次触发时间,
+ * 并沿触发时间继续向后比较几次, 两者必须完全一致, 总比较次数不少于 15 万
+ */
+public class CompiledCronExpressionTest {
+
+    private static final String[] EXPRESSIONS = {
+            // 各字段: 单值、范围、步长、列表、名称
+            "* * * * * ?",
+            "0/3 * * * * ?",
+            "5,10,45-50 * * * * ?",
+            "0 0/5 14,18 ? * MON-FRI",
+            "0 15 10 ? * *",
+            "30 59 23 * * ?",
+            "0 0 0 1 1 ?",
+            "0 0 12 1/5 * ?",
+            "0 10,44 14 ? 3 WED",
+            "0 0 2 ? * SAT,SUN",
+            "0 30 2 * * ?",
+            "0 0 1-3 * * ?",
+            "0 0/30 0-4 ? * 1",
+            "0 0 0 29 2 ?",
+            "0 0 0 31 * ?",
+            "15 45 6 ? JAN-MAR,NOV *",
+            // L / W / #
+            "0 15 10 L * ?",
+            "0 15 10 L-3 * ?",
+            "0 0 9 LW * ?",
+            "0 0 9 15W * ?",
+            "0 0 9 1W * ?",
+            "0 0 9 31W * ?",
+            "0 0 9 30W * ?",
+            "0 0 9 29W * ?",
+            "0 0 9 29W 2 ?",
+            "0 15 10 ? * 6L",
+            "0 15 10 ? * 1L",
+            "0 15 10 ? * 6#3",
+            "0 0 8 ? * 2#1",
+            "0 0 8 ? * 5#5",
+            // 年
+            "0 0 12 * * ? 2021",
+            "0 0 0 1 1 ? 2020-2024",
+            "0 0 0 L 2 ? 2024/4",
+            "0 0 12 ? * 2#1 2022,2030",
+    };
+
+    private static final String[] ZONES = {
+            "UTC",
+            "Asia/Shanghai",
+            "America/New_York",
+            "Europe/London",
+            "Australia/Lord_Howe",
+    };
+
+    private static final int RANDOM_INSTANTS = 800;
+
+    private static final int CHAIN = 4;
+
+    private static final long FROM = LocalDateTime.of(2015, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) * 1000;
+
+    private static final long UNTIL = LocalDateTime.of(2035, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) * 1000;
+
+    @Test
+    public void nextFireTimeMatchesGetTimeAfter() throws Exception {
+        Random random = new Random(20201102L);
+        List<String> mismatches = new ArrayList<>();
+        int compared = 0;
+
+        for (String zoneId : ZONES) {
+            TimeZone timeZone = TimeZone.getTimeZone(zoneId);
+            List<Long> instants = new ArrayList<>();
+            for (int i = 0; i < RANDOM_INSTANTS; i++) {
+                instants.add(FROM + (long) (random.nextDouble() * (UNTIL - FROM)));
+            }
+            instants.addAll(dstEdges(ZoneId.of(zoneId), random));
+            instants.addAll(yearEdges(ZoneId.of(zoneId)));
+
+            for (String expression : EXPRESSIONS) {
+                CronExpression cronExpression = new CronExpression(expression);
+                cronExpression.setTimeZone(timeZone);
+                CompiledCronExpression compiled = new CompiledCronExpression(cronExpression);
+
+                for (long instant : instants) {
+                    long after = instant;
+                    for (int i = 0; i < CHAIN; i++) {
+                        Date expected = cronExpression.getTimeAfter(new Date(after));
+                        long actual = compiled.nextFireTime(after);
+                        compared++;
+                        long expectedMillis = expected == null ? CompiledCronExpression.NO_NEXT_FIRE_TIME : expected.getTime();
+                        if (expectedMillis != actual && mismatches.size() < 20) {
+                            mismatches.add(String.format("%s [%s] after %s: expected %s, actual %s", expression, zoneId,
+                                    Instant.ofEpochMilli(after), expected == null ? "none" : expected.toInstant(),
+                                    actual == CompiledCronExpression.NO_NEXT_FIRE_TIME ? "none" : Instant.ofEpochMilli(actual)));
+                        }
+                        if (expected == null) {
+                            break;
+                        }
+                        after = expectedMillis;
+                    }
+                }
+            }
+        }
+
+        assertTrue(String.join("\n", mismatches), mismatches.isEmpty());
+        assertTrue("compared: " + compared, compared > 150_000);
+    }
+
+    @Test
+    public void isSatisfiedByMatchesNextFireTime() throws Exception {
+        Random random = new Random(20201103L);
+        for (String expression : EXPRESSIONS) {
+            CronExpression cronExpression = new CronExpression(expression);
+            CompiledCronExpression compiled = new CompiledCronExpression(cronExpression);
+            for (int i = 0; i < 200; i++) {
+                long instant = FROM + (long) (random.nextDouble() * (UNTIL - FROM));
+                long fireTime = compiled.nextFireTime(instant);
+                if (fireTime == CompiledCronExpression.NO_NEXT_FIRE_TIME) {
+                    continue;
+                }
+                assertTrue(expression, compiled.isSatisfiedBy(fireTime));
+                assertEquals(expression, cronExpression.isSatisfiedBy(new Date(fireTime)), compiled.isSatisfiedBy(fireTime));
+            }
+        }
+    }
+
+    /**
+     * 夏令时切换前后三小时内的时间点, 覆盖跳过与重复的本地时间
+     */
+    private static List<Long> dstEdges(ZoneId zoneId, Random random) {
+        List<Long> instants = new ArrayList<>();
+        ZoneRules rules = zoneId.getRules();
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(FROM));
+        while (transition != null && transition.getInstant().toEpochMilli() < UNTIL) {
+            long at = transition.getInstant().toEpochMilli();
+            for (long offset = -3 * 3600_000L; offset <= 3 * 3600_000L; offset += 7 * 60_000L) {
+                instants.add(at + offset + random.nextInt(60_000));
+            }
+            instants.add(at - 1000);
+            instants.add(at);
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        return instants;
+    }
+
+    /**
+     * 本地时间的年末、二月末与闰日前后
+     */
+    private static List<Long> yearEdges(ZoneId zoneId) {
+        List<Long> instants = new ArrayList<>();
+        for (int year = 2015; year < 2035; year++) {
+            LocalDateTime[] edges = {
+                    LocalDateTime.of(year, 12, 31, 23, 59, 58),
+                    LocalDateTime.of(year, 12, 31, 23, 59, 59),
+                    LocalDateTime.of(year, 12, 31, 12, 0, 0),
+                    LocalDateTime.of(year, 2, 28, 23, 59, 59),
+                    YearMonth.of(year, 2).atEndOfMonth().atTime(23, 59, 59),
+                    LocalDateTime.of(year, 1, 1, 0, 0, 0),
+            };
+            for (LocalDateTime edge : edges) {
+                instants.add(edge.atZone(zoneId).toInstant().toEpochMilli());
+            }
+        }
+        return instants;
+    }
+}
@@ -0,0 +1,74 @@
+package com.microservice.cron;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-02
+ * <p> CronExpression 与 CompiledCronExpression 基准测试
+ * <p>
+ * 运行: main 方法, 或 mvn test-compile 后使用 org.openjdk.jmh.Main
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CronExpressionBenchmark {
+
+    @Param({"0/3 * * * * ?", "0 0/5 14,18 ? * MON-FRI", "0 15 10 L * ?", "0 0 12 1/5 * ?"})
+    private String expression;
+
+    private CronExpression cronExpression;
+    private CompiledCronExpression compiledCronExpression;
+    private long now;
+
+    @Setup
+    public void setup() throws Exception {
+        cronExpression = new CronExpression(expression);
+        compiledCronExpression = cronExpression.compile();
+        now = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public boolean isSatisfiedBy() {
+        return cronExpression.isSatisfiedBy(new Date(now));
+    }
+
+    @Benchmark
+    public boolean compiledIsSatisfiedBy() {
+        return compiledCronExpression.isSatisfiedBy(now);
+    }
+
+    @Benchmark
+    public Date timeAfter() {
+        return cronExpression.getTimeAfter(new Date(now));
+    }
+
+    @Benchmark
+    public long compiledNextFireTime() {
+        return compiledCronExpression.nextFireTime(now);
+    }
+
+    /**
+     * 每次扫描都重新解析表达式, 即 cronTasksHandler 当前的用法
+     */
+    @Benchmark
+    public boolean parseAndIsSatisfiedBy() throws Exception {
+        return new CronExpression(expression).isSatisfiedBy(new Date(now));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(CronExpressionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,94 @@
+package com.microservice.cron;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-04
+ * <p> 每秒一次扫描: 全量逐个匹配 与 CronTriggerQueue 只取到期任务 的对比
+ * <p>
+ * 任务表达式随机分布在每分钟的不同秒上, 每次调用模拟向后推进一秒的一次扫描
+ * <p>
+ * 运行: main 方法, 或 mvn test-compile 后使用 org.openjdk.jmh.Main
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CronTriggerQueueBenchmark {
+
+    private static final String[] TEMPLATES = {
+            "%d * * * * ?",
+            "%d 0/5 * * * ?",
+            "%d 0 * * * ?",
+            "%d 15 10 ? * MON-FRI",
+            "%d 0 12 1/5 * ?",
+    };
+
+    @Param({"100000"})
+    private int tasks;
+
+    private CompiledCronExpression[] expressions;
+    private CronTriggerQueue<Integer, Integer> triggerQueue;
+    private long now;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Random random = new Random(20201104L);
+        expressions = new CompiledCronExpression[tasks];
+        for (int i = 0; i < tasks; i++) {
+            String template = TEMPLATES[random.nextInt(TEMPLATES.length)];
+            expressions[i] = CompiledCronExpression.compile(String.format(template, random.nextInt(60)));
+        }
+
+        now = System.currentTimeMillis() / 1000 * 1000;
+        triggerQueue = new CronTriggerQueue<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            triggerQueue.schedule(i, i, expressions[i], now);
+        }
+    }
+
+    /**
+     * 原扫描方式: 每秒对所有任务做一次匹配
+     */
+    @Benchmark
+    public void fullScan(Blackhole blackhole) {
+        now += 1000;
+        List<Integer> due = new ArrayList<>();
+        for (int i = 0; i < expressions.length; i++) {
+            if (expressions[i].isSatisfiedBy(now)) {
+                due.add(i);
+            }
+        }
+        blackhole.consume(due);
+    }
+
+    /**
+     * 触发队列: 只处理已到期的任务
+     */
+    @Benchmark
+    public void triggerQueue(Blackhole blackhole) {
+        now += 1000;
+        List<Integer> due = new ArrayList<>();
+        triggerQueue.pollDue(now, due);
+        blackhole.consume(due);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(CronTriggerQueueBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,103 @@
+package com.microservice.handler;
+
+import com.microservice.dto.ReturnT;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 任务方法调用: 原来的 Method.invoke 与注册时生成的调用器对比
+ * <p>
+ * reflect 为原来每次执行的反射调用; handler 为 {@link MethodJobHandler#execute(String, int, int)},
+ * 公开类使用 LambdaMetafactory 生成的实现类, 非公开类使用 MethodHandle; direct 为直接调用作为基准.
+ * 任务方法只做少量计算, 结果交给 JMH 消费, 测量的主要是调用本身的开销
+ * <p>
+ * 运行: main 方法, 或 mvn test-compile 后使用 org.openjdk.jmh.Main
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MethodJobHandlerBenchmark {
+
+    /**
+     * public: LambdaMetafactory, private: MethodHandle
+     */
+    @Param({"public", "private"})
+    private String visibility;
+
+    @Param({"false", "true"})
+    private boolean sharding;
+
+    private Object target;
+    private Method method;
+    private AbstractJobHandler handler;
+    private PublicJob direct;
+    private String param;
+
+    @Setup
+    public void setup() throws Exception {
+        target = "public".equals(visibility) ? new PublicJob() : new PrivateJob();
+        method = sharding
+                ? target.getClass().getMethod("shardJob", String.class, int.class, int.class)
+                : target.getClass().getMethod("job", String.class);
+        method.setAccessible(true);
+        handler = new MethodJobHandler(target, method, null, null);
+        direct = new PublicJob();
+        param = "{\"orderId\":20201110000}";
+    }
+
+    @Benchmark
+    public Object reflect() throws Exception {
+        return sharding
+                ? method.invoke(target, new Object[]{param, 1, 4})
+                : method.invoke(target, new Object[]{param});
+    }
+
+    @Benchmark
+    public ReturnT<String> handler() throws Exception {
+        return handler.execute(param, 1, 4);
+    }
+
+    @Benchmark
+    public ReturnT<String> direct() {
+        return sharding ? direct.shardJob(param, 1, 4) : direct.job(param);
+    }
+
+    public static class PublicJob {
+
+        public ReturnT<String> job(String param) {
+            return param.length() > 0 ? AbstractJobHandler.SUCCESS : AbstractJobHandler.FAIL;
+        }
+
+        public ReturnT<String> shardJob(String param, int shardIndex, int shardTotal) {
+            return (param.length() + shardIndex) % shardTotal >= 0 ? AbstractJobHandler.SUCCESS : AbstractJobHandler.FAIL;
+        }
+    }
+
+    private static class PrivateJob {
+
+        public ReturnT<String> job(String param) {
+            return param.length() > 0 ? AbstractJobHandler.SUCCESS : AbstractJobHandler.FAIL;
+        }
+
+        public ReturnT<String> shardJob(String param, int shardIndex, int shardTotal) {
+            return (param.length() + shardIndex) % shardTotal >= 0 ? AbstractJobHandler.SUCCESS : AbstractJobHandler.FAIL;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(MethodJobHandlerBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,105 @@
+package com.microservice.proto;
+
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.dto.SchedulerTaskGivenRequestDto;
+import com.microservice.utils.MessageProtocolCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 执行回写消息: content 中的 json 与 dataBody 中的类型化载荷 编解码对比
+ * <p>
+ * 编码包括转换为 MessageProtocol 并序列化为字节, 解码包括反序列化并转换为 SchedulerTaskMessage;
+ * 两种格式的消息字节数在运行前打印
+ * <p>
+ * 运行: main 方法, 或 mvn test-compile 后使用 org.openjdk.jmh.Main
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageProtocolBenchmark {
+
+    private SchedulerTaskMessage task;
+    private byte[] jsonBytes;
+    private byte[] typedBytes;
+
+    @Setup
+    public void setup() {
+        task = callbackTask();
+        jsonBytes = MessageProtocolCodec.callbackRequest(task, false).toByteArray();
+        typedBytes = MessageProtocolCodec.callbackRequest(task, true).toByteArray();
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return MessageProtocolCodec.callbackRequest(task, false).toByteArray();
+    }
+
+    @Benchmark
+    public byte[] typedEncode() {
+        return MessageProtocolCodec.callbackRequest(task, true).toByteArray();
+    }
+
+    @Benchmark
+    public SchedulerTaskMessage jsonDecode() throws Exception {
+        return MessageProtocolCodec.taskMessage(MessageProtocolPoJo.MessageProtocol.parseFrom(jsonBytes));
+    }
+
+    @Benchmark
+    public SchedulerTaskMessage typedDecode() throws Exception {
+        return MessageProtocolCodec.taskMessage(MessageProtocolPoJo.MessageProtocol.parseFrom(typedBytes));
+    }
+
+    /**
+     * 指定时间任务执行成功后的回写, 与执行器实际发送的内容一致
+     */
+    private static SchedulerTaskMessage callbackTask() {
+        LocalDateTime now = LocalDateTime.now();
+        SchedulerTaskGivenRequestDto dto = new SchedulerTaskGivenRequestDto();
+        dto.setTaskGivenId(10086);
+        dto.setTaskGivenAppName("scheduler-executor-example");
+        dto.setTaskGivenJobHandler("demoJobHandler");
+        dto.setTaskGivenParam("{\"orderId\":20201110}");
+        dto.setTaskGivenTime(now);
+        dto.setTaskGivenRetryCount(1);
+        dto.setTaskGivenWriteLog("1");
+        dto.setCode(200);
+        dto.setMsg("success");
+        dto.setExecuteTime(now);
+        dto.setTriggerTime(now);
+        dto.setTriggerCode(200);
+
+        return new SchedulerTaskMessage()
+                .setCron(false)
+                .setAppName("scheduler-executor-example")
+                .setActuatorKey("scheduler-executor-example")
+                .setExecutorAddress("192.168.1.100:8080")
+                .setJobHandler("demoJobHandler")
+                .setJobHandlerParam("{\"orderId\":20201110}")
+                .setSchedulerGivenTime(now)
+                .setDispatchId("1604995200000-0")
+                .setTaskGivenDto(dto);
+    }
+
+    public static void main(String[] args) throws Exception {
+        SchedulerTaskMessage task = callbackTask();
+        System.out.printf("json: %d bytes, typed: %d bytes%n",
+                MessageProtocolCodec.callbackRequest(task, false).getSerializedSize(),
+                MessageProtocolCodec.callbackRequest(task, true).getSerializedSize());
+
+        Options options = new OptionsBuilder()
+                .include(MessageProtocolBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,122 @@
+package com.microservice.proto;
+
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.dto.SchedulerTaskGivenRequestDto;
+import com.microservice.enums.ProtocolCompressionEnum;
+import com.microservice.utils.MessageProtocolCodec;
+import com.microservice.utils.ProtocolCompressionUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 执行回写消息压缩与不压缩的吞吐量对比
+ * <p>
+ * 任务参数与执行结果为 json 文本, 按 payloadSize 生成; 发送包括压缩并序列化为字节, 接收包括反序列化并解压,
+ * 阈值为默认的 1024 字节, 小于阈值的消息不压缩. 各参数组合的消息字节数在运行前打印
+ * <p>
+ * 运行: main 方法, 或 mvn test-compile 后使用 org.openjdk.jmh.Main
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProtocolCompressionBenchmark {
+
+    private static final int THRESHOLD = 1024;
+
+    @Param({"512", "8192", "65536"})
+    private int payloadSize;
+
+    @Param({"NONE", "LZ4", "SNAPPY"})
+    private ProtocolCompressionEnum compression;
+
+    private MessageProtocolPoJo.MessageProtocol message;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        message = MessageProtocolCodec.callbackRequest(callbackTask(payloadSize), true);
+        bytes = ProtocolCompressionUtils.compress(message, compression, THRESHOLD).toByteArray();
+    }
+
+    @Benchmark
+    public byte[] send() {
+        return ProtocolCompressionUtils.compress(message, compression, THRESHOLD).toByteArray();
+    }
+
+    @Benchmark
+    public MessageProtocolPoJo.MessageProtocol receive() throws Exception {
+        return ProtocolCompressionUtils.decompress(MessageProtocolPoJo.MessageProtocol.parseFrom(bytes));
+    }
+
+    /**
+     * 指定时间任务执行成功后的回写, 参数与结果为接近 size 字节的订单 json
+     */
+    private static SchedulerTaskMessage callbackTask(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        String param = orders(size);
+        SchedulerTaskGivenRequestDto dto = new SchedulerTaskGivenRequestDto();
+        dto.setTaskGivenId(10086);
+        dto.setTaskGivenAppName("scheduler-executor-example");
+        dto.setTaskGivenJobHandler("demoJobHandler");
+        dto.setTaskGivenParam(param);
+        dto.setTaskGivenTime(now);
+        dto.setTaskGivenRetryCount(1);
+        dto.setTaskGivenWriteLog("1");
+        dto.setCode(200);
+        dto.setMsg("success");
+        dto.setContent(param);
+        dto.setExecuteTime(now);
+        dto.setTriggerTime(now);
+        dto.setTriggerCode(200);
+
+        return new SchedulerTaskMessage()
+                .setCron(false)
+                .setAppName("scheduler-executor-example")
+                .setActuatorKey("scheduler-executor-example")
+                .setExecutorAddress("192.168.1.100:8080")
+                .setJobHandler("demoJobHandler")
+                .setJobHandlerParam(param)
+                .setSchedulerGivenTime(now)
+                .setTaskGivenDto(dto);
+    }
+
+    private static String orders(int size) {
+        StringBuilder json = new StringBuilder(size + 128).append('[');
+        for (int i = 0; json.length() < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"orderId\":").append(20201110000L + i * 7919L)
+                    .append(",\"userId\":").append(100000 + i * 31 % 9973)
+                    .append(",\"status\":\"").append(i % 3 == 0 ? "PAID" : "CREATED")
+                    .append("\",\"amount\":").append(i * 137 % 100000 / 100.0)
+                    .append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (int size : new int[]{512, 8192, 65536}) {
+            MessageProtocolPoJo.MessageProtocol message = MessageProtocolCodec.callbackRequest(callbackTask(size), true);
+            for (ProtocolCompressionEnum compression : ProtocolCompressionEnum.values()) {
+                System.out.printf("payload: %d, %s: %d bytes%n", size, compression,
+                        ProtocolCompressionUtils.compress(message, compression, THRESHOLD).getSerializedSize());
+            }
+        }
+
+        Options options = new OptionsBuilder()
+                .include(ProtocolCompressionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -20,6 +20,12 @@ public class TestJob {
         return ReturnT.SUCCESS;
     }
 
+    @ExecutorJob(value = "shardTest")
+    public ReturnT shardTest(String param, int shardIndex, int shardTotal) {
+        log.info(">>> TestJob.shardTest 执行成功， 参数: {}, 分片: {}/{}", param, shardIndex, shardTotal);
+        return ReturnT.SUCCESS;
+    }
+
     public void init() {
         System.out.println("test init method");
     }
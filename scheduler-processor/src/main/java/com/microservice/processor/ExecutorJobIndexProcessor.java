@@ -0,0 +1,124 @@
+package com.microservice.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 编译时生成 @ExecutorJob 方法索引
+ * <p>
+ * 每行一个方法: 类的二进制名#方法名, 写入 {@link #INDEX}; 执行器启动时按索引只检查这些类的 bean,
+ * 不再遍历容器中所有 bean 查找注解. 执行器应用以 provided 依赖引入本模块即可, 运行时不需要
+ * <p>
+ * 增量编译只处理变化的类, 输出目录中已有的索引会合并: 本次编译的类以本次结果为准, 未重新编译且仍存在的类保留原有条目
+ */
+@SupportedAnnotationTypes(ExecutorJobIndexProcessor.EXECUTOR_JOB)
+public class ExecutorJobIndexProcessor extends AbstractProcessor {
+
+    public static final String EXECUTOR_JOB = "com.microservice.annotation.ExecutorJob";
+
+    /**
+     * 与 scheduler-core 中读取索引的位置一致
+     */
+    public static final String INDEX = "META-INF/scheduler-executor-jobs";
+
+    private final Set<String> entries = new TreeSet<>();
+
+    /**
+     * 本次编译的类, 二进制名
+     */
+    private final Set<String> compiledTypes = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            this.collectTypes(element);
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.METHOD) {
+                    continue;
+                }
+                TypeElement type = (TypeElement) element.getEnclosingElement();
+                entries.add(processingEnv.getElementUtils().getBinaryName(type) + "#" + element.getSimpleName());
+            }
+        }
+        if (roundEnv.processingOver()) {
+            entries.addAll(this.previousEntries());
+            if (!entries.isEmpty()) {
+                this.write();
+            }
+        }
+        return false;
+    }
+
+    private void collectTypes(Element element) {
+        if (element instanceof TypeElement) {
+            compiledTypes.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+            for (Element enclosed : element.getEnclosedElements()) {
+                this.collectTypes(enclosed);
+            }
+        }
+    }
+
+    /**
+     * 输出目录中已有索引里, 本次未重新编译且仍然存在的类的条目
+     */
+    private Set<String> previousEntries() {
+        Set<String> previous = new HashSet<>();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int split = line.indexOf('#');
+                    if (split <= 0) {
+                        continue;
+                    }
+                    String className = line.substring(0, split).trim();
+                    if (!compiledTypes.contains(className)
+                            && processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) != null) {
+                        previous.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 没有已有索引, 全量编译
+        }
+        return previous;
+    }
+
+    private void write() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "@ExecutorJob index not written, executor will scan beans at startup: " + e.getMessage());
+        }
+    }
+}
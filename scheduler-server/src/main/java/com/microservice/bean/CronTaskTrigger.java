@@ -0,0 +1,28 @@
+package com.microservice.bean;
+
+import com.microservice.dto.SchedulerTaskCronRequestDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-05
+ * <p> cron 任务的一次触发
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true)
+public class CronTaskTrigger implements Serializable {
+
+    private static final long serialVersionUID = -2875102460925193467L;
+    private SchedulerTaskCronRequestDto task;
+    /**
+     * 计划触发时间, epoch millis
+     */
+    private long fireTime;
+}
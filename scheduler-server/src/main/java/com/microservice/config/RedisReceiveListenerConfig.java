@@ -2,9 +2,11 @@ package com.microservice.config;
 
 import com.microservice.enums.RedisListenerEnum;
 import com.microservice.listener.*;
+import com.microservice.redis.RedisActuatorRouter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
@@ -18,7 +20,7 @@ import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 public class RedisReceiveListenerConfig {
 
     @Bean
-    public RedisMessageListenerContainer container(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer container(RedisConnectionFactory connectionFactory, RedisActuatorRouter actuatorRouter) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
@@ -27,7 +29,11 @@ public class RedisReceiveListenerConfig {
         container.addMessageListener(redisClusterRefreshListener(), new PatternTopic(RedisListenerEnum.CLUSTER_REFRESH.getType()));
         container.addMessageListener(redisRaftListener(), new PatternTopic(RedisListenerEnum.RAFT.getType()));
         container.addMessageListener(redisServerNotifyListener(), new PatternTopic(RedisListenerEnum.SCHEDULER_NOTIFY.getType()));
+        // 只发给当前成员的任务通知
+        container.addMessageListener(redisServerNotifyListener(), new ChannelTopic(actuatorRouter.memberChannel()));
         container.addMessageListener(redisSyncClientMessageListener(), new PatternTopic(RedisListenerEnum.SYNC_CLIENT_MESSAGE.getType()));
+        container.addMessageListener(redisEntityCacheInvalidateListener(), new PatternTopic(RedisListenerEnum.ENTITY_CACHE_INVALIDATE.getType()));
+        container.addMessageListener(redisTaskKillListener(), new PatternTopic(RedisListenerEnum.TASK_KILL.getType()));
         return container;
     }
 
@@ -61,4 +67,14 @@ public class RedisReceiveListenerConfig {
     public MessageListenerAdapter redisSyncClientMessageListener() {
         return new MessageListenerAdapter(new RedisSyncNotifyMessageListener(), "onMessage");
     }
+
+    @Bean
+    public MessageListenerAdapter redisEntityCacheInvalidateListener() {
+        return new MessageListenerAdapter(new RedisEntityCacheInvalidateListener(), "onMessage");
+    }
+
+    @Bean
+    public MessageListenerAdapter redisTaskKillListener() {
+        return new MessageListenerAdapter(new RedisTaskKillListener(), "onMessage");
+    }
 }
@@ -2,9 +2,17 @@ package com.microservice.controller;
 
 
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.microservice.cron.CronExpressionCache;
+import com.microservice.bean.SchedulerTaskKill;
 import com.microservice.dto.ResponseDto;
 import com.microservice.dto.SchedulerTaskCronRequestDto;
 import com.microservice.dto.SchedulerTaskGivenRequestDto;
+import com.microservice.entity.SchedulerTaskCron;
+import com.microservice.entity.SchedulerTaskGiven;
+import com.microservice.redis.RedisActuatorRouter;
+import com.microservice.redis.RedisEntityCacheManager;
+import com.microservice.redis.RedisShardTracker;
+import com.microservice.server.SchedulerCronTriggerHandler;
 import com.microservice.service.ISchedulerTaskCronService;
 import com.microservice.service.ISchedulerTaskGivenService;
 import com.microservice.utils.ErrCode;
@@ -15,9 +23,11 @@ import io.swagger.annotations.ApiOperation;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Objects;
@@ -41,6 +51,21 @@ public class SchedulerActuatorTaskController {
     @Autowired
     private ISchedulerTaskGivenService taskGivenService;
 
+    @Autowired
+    private CronExpressionCache cronExpressionCache;
+
+    @Autowired
+    private SchedulerCronTriggerHandler cronTriggerHandler;
+
+    @Autowired
+    private RedisEntityCacheManager entityCacheManager;
+
+    @Autowired
+    private RedisShardTracker shardTracker;
+
+    @Autowired
+    private RedisActuatorRouter actuatorRouter;
+
     /**
      * ---------------------------------------------------------- Cron 任务相关 -----------------------------------
      *
@@ -108,6 +133,71 @@ public class SchedulerActuatorTaskController {
         return success ? ResponseDto.success() : ResponseDto.error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
     }
 
+    @GetMapping(value = "/cronExpressionCacheStats")
+    @ApiOperation(value = "cron表达式缓存命中统计", tags = "执行器任务管理")
+    public ResponseDto cronExpressionCacheStats() {
+        return ResponseDto.success(cronExpressionCache.stats());
+    }
+
+    @GetMapping(value = "/cronTriggerStats")
+    @ApiOperation(value = "cron任务触发统计, 只在 Leader 上有值", tags = "执行器任务管理")
+    public ResponseDto cronTriggerStats() {
+        return ResponseDto.success(cronTriggerHandler.stats());
+    }
+
+    @GetMapping(value = "/entityCacheStats")
+    @ApiOperation(value = "任务及执行器缓存命中统计", tags = "执行器任务管理")
+    public ResponseDto entityCacheStats() {
+        return ResponseDto.success(entityCacheManager.stats());
+    }
+
+    @GetMapping(value = "/shardStatus")
+    @ApiOperation(value = "分片广播任务某次执行的各分片状态", tags = "执行器任务管理")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "cron", required = true, value = "是否cron任务", dataType = "boolean", paramType = "query"),
+            @ApiImplicitParam(name = "taskId", required = true, value = "任务id", dataType = "int", paramType = "query"),
+            @ApiImplicitParam(name = "batch", required = true, value = "执行批次, cron任务为计划触发时间毫秒数, 指定时间任务为重试次数", dataType = "long", paramType = "query"),
+    })
+    public ResponseDto shardStatus(@RequestParam boolean cron, @RequestParam Integer taskId, @RequestParam long batch) {
+        return ResponseDto.success(shardTracker.shards(cron, taskId, batch));
+    }
+
+    @GetMapping(value = "/shardStats")
+    @ApiOperation(value = "分片广播任务统计", tags = "执行器任务管理")
+    public ResponseDto shardStats() {
+        return ResponseDto.success(shardTracker.stats());
+    }
+
+    @PostMapping(value = "/killTask")
+    @ApiOperation(value = "终止执行器上正在执行的任务", tags = "执行器任务管理")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "cron", required = true, value = "是否cron任务", dataType = "boolean", paramType = "query"),
+            @ApiImplicitParam(name = "taskId", required = true, value = "任务id", dataType = "int", paramType = "query"),
+            @ApiImplicitParam(name = "reason", required = false, value = "终止原因", dataType = "string", paramType = "query"),
+    })
+    public ResponseDto killTask(@RequestParam boolean cron, @RequestParam Integer taskId,
+                                @RequestParam(required = false) String reason) {
+        SchedulerTaskKill kill = new SchedulerTaskKill()
+                .setCron(cron)
+                .setTaskId(taskId)
+                .setReason(reason);
+        if (cron) {
+            SchedulerTaskCron task = taskCronService.getById(taskId);
+            if (Objects.isNull(task)) {
+                return ResponseDto.error(ErrCode.NOT_FOUND_RESULT);
+            }
+            kill.setActuatorKey(task.getTaskCronAppName()).setJobHandler(task.getTaskCronJobHandler());
+        } else {
+            SchedulerTaskGiven task = taskGivenService.getById(taskId);
+            if (Objects.isNull(task)) {
+                return ResponseDto.error(ErrCode.NOT_FOUND_RESULT);
+            }
+            kill.setActuatorKey(task.getTaskGivenAppName()).setJobHandler(task.getTaskGivenJobHandler());
+        }
+        actuatorRouter.kill(kill);
+        return ResponseDto.success();
+    }
+
     /**
      * ---------------------------------------------------------- Given 任务相关 -----------------------------------
      *
@@ -2,10 +2,15 @@ package com.microservice.controller;
 
 import com.microservice.bean.ActuatorHealthCheckResult;
 import com.microservice.bean.SchedulerServerRegister;
+import com.microservice.client.ProtocolDispatcher;
 import com.microservice.dto.ResponseDto;
 import com.microservice.enums.HostStatusEnum;
 import com.microservice.exception.SchedulerCoreException;
+import com.microservice.redis.RedisActuatorRouter;
 import com.microservice.redis.RedisDefaultClientHandler;
+import com.microservice.server.ExecutorChannelDispatcher;
+import com.microservice.server.ExecutorChannelRegistry;
+import com.microservice.server.SchedulerScanningExecutor;
 import com.microservice.utils.ErrCode;
 import com.microservice.utils.JsonUtils;
 import com.microservice.utils.RestTemplateUtils;
@@ -35,6 +40,21 @@ public class SchedulerServerClusterController {
     @Resource
     private RedisDefaultClientHandler clientManager;
 
+    @Resource
+    private SchedulerScanningExecutor scanningExecutor;
+
+    @Resource
+    private RedisActuatorRouter actuatorRouter;
+
+    @Resource
+    private ProtocolDispatcher protocolDispatcher;
+
+    @Resource
+    private ExecutorChannelRegistry channelRegistry;
+
+    @Resource
+    private ExecutorChannelDispatcher channelDispatcher;
+
     @GetMapping(value = {"/ping", "/"})
     @ApiOperation(value = "PING", tags = "V1")
     @ResponseBody
@@ -64,6 +84,36 @@ public class SchedulerServerClusterController {
         }
     }
 
+    @ApiOperation(value = "当前成员的扫描执行统计", tags = "V1")
+    @GetMapping(value = "/scanningStats")
+    public ResponseDto scanningStats() {
+        return ResponseDto.success(scanningExecutor.stats());
+    }
+
+    @ApiOperation(value = "当前成员的任务路由统计", tags = "V1")
+    @GetMapping(value = "/routingStats")
+    public ResponseDto routingStats() {
+        return ResponseDto.success(actuatorRouter.stats());
+    }
+
+    @ApiOperation(value = "当前成员的协议分发统计", tags = "V1")
+    @GetMapping(value = "/protocolStats")
+    public ResponseDto protocolStats() {
+        return ResponseDto.success(protocolDispatcher.stats());
+    }
+
+    @ApiOperation(value = "当前成员已连接的执行器实例及执行中任务数", tags = "V1")
+    @GetMapping(value = "/channelStats")
+    public ResponseDto channelStats() {
+        return ResponseDto.success(channelRegistry.stats());
+    }
+
+    @ApiOperation(value = "当前成员各执行器实例的任务下发统计及等待下发的任务数", tags = "V1")
+    @GetMapping(value = "/dispatchStats")
+    public ResponseDto dispatchStats() {
+        return ResponseDto.success(channelDispatcher.stats());
+    }
+
     @ApiOperation(value = "查询集群服务列表", tags = "V1")
     @GetMapping(value = "/cluster/list")
     public ResponseDto list() throws SchedulerCoreException {
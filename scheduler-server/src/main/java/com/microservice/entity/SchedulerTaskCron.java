@@ -73,6 +73,16 @@ public class SchedulerTaskCron extends Model<SchedulerTaskCron> {
      */
     private String taskCronWriteLog;
 
+    /**
+     * 0: 单实例执行 1: 分片广播
+     */
+    private String taskCronShard;
+
+    /**
+     * 执行超时秒数, 0: 不限制
+     */
+    private Integer taskCronTimeout;
+
 
     @Override
     protected Serializable pkVal() {
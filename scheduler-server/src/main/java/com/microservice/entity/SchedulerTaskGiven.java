@@ -103,6 +103,21 @@ public class SchedulerTaskGiven extends Model<SchedulerTaskGiven> {
      */
     private String taskGivenWriteLog;
 
+    /**
+     * 可调度时间, 未执行: 执行时间 + 延迟, 待重试: 最近一次执行时间 + 重试间隔
+     */
+    private LocalDateTime taskGivenDueTime;
+
+    /**
+     * 0: 单实例执行 1: 分片广播
+     */
+    private String taskGivenShard;
+
+    /**
+     * 执行超时秒数, 0: 不限制
+     */
+    private Integer taskGivenTimeout;
+
     @Override
     protected Serializable pkVal() {
         return this.taskGivenId;
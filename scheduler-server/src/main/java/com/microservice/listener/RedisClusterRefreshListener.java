@@ -2,29 +2,28 @@ package com.microservice.listener;
 
 import com.microservice.bean.RedisMessage;
 import com.microservice.bean.SchedulerConfigurationProperties;
-import com.microservice.dto.SchedulerTaskCronRequestDto;
 import com.microservice.dto.SchedulerTaskGivenRequestDto;
 import com.microservice.enums.RaftStatusEnum;
 import com.microservice.enums.RedisListenerEnum;
 import com.microservice.redis.RedisDefaultClientHandler;
 import com.microservice.redis.RedisDefaultGroupServerHandler;
+import com.microservice.redis.RedisShardTracker;
 import com.microservice.server.ExecutorGroupServer;
 import com.microservice.server.SchedulerActuatorScanningHandler;
-import com.microservice.service.ISchedulerTaskCronService;
+import com.microservice.server.SchedulerCronTriggerHandler;
+import com.microservice.server.SchedulerScanningExecutor;
 import com.microservice.service.ISchedulerTaskGivenService;
 import com.microservice.utils.ApplicationContextUtil;
-import com.microservice.utils.Constants;
 import com.microservice.utils.JsonUtils;
-import io.netty.channel.Channel;
-import io.netty.util.concurrent.ScheduledFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -32,22 +31,27 @@ import java.util.stream.Collectors;
  * @author zhangwei
  * @date 2020-10-02
  * <p> 集群心跳监管处理
+ * <p>
+ * Leader 的心跳管理与各项扫描在 {@link SchedulerScanningExecutor} 的独立线程中执行, 不占用 Netty 的 event loop
  */
 @Slf4j
 public class RedisClusterRefreshListener implements MessageListener {
 
+    private static final String CLUSTER_HEARTBEAT_MANAGER = "clusterHeartbeatManager";
+    private static final String TASK_CRON_SCANNING = "taskCronScanning";
+    private static final String TASK_GIVEN_SCANNING = "taskGivenScanning";
+    private static final String AUTO_ACTUATOR_SCANNING = "autoActuatorScanning";
+    private static final String TASK_SHARD_EXPIRING = "taskShardExpiring";
+
     private RedisDefaultClientHandler defaultClientHandler;
     private RedisDefaultGroupServerHandler defaultGroupServerHandler;
     private SchedulerConfigurationProperties properties;
     private ExecutorGroupServer groupServer;
-    private ScheduledFuture<?> heartbeatSchedule;
-    private ScheduledFuture<?> taskCronScanningSchedule;
-    private ScheduledFuture<?> taskGivenScanningSchedule;
-    private ScheduledFuture<?> autoActuatorScanningSchedule;
-    private Executor executor;
-    private ISchedulerTaskCronService taskCronService;
+    private SchedulerScanningExecutor scanningExecutor;
     private ISchedulerTaskGivenService taskGivenService;
     private SchedulerActuatorScanningHandler actuatorScanningHandler;
+    private SchedulerCronTriggerHandler cronTriggerHandler;
+    private RedisShardTracker shardTracker;
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
@@ -55,10 +59,11 @@ public class RedisClusterRefreshListener implements MessageListener {
         defaultGroupServerHandler = ApplicationContextUtil.getBean(RedisDefaultGroupServerHandler.class);
         properties = ApplicationContextUtil.getBean(SchedulerConfigurationProperties.class);
         groupServer = ApplicationContextUtil.getBean(ExecutorGroupServer.class);
-        executor = ApplicationContextUtil.APPLICATION_CONTEXT.getBean("executor", Executor.class);
-        taskCronService = ApplicationContextUtil.getBean(ISchedulerTaskCronService.class);
+        scanningExecutor = ApplicationContextUtil.getBean(SchedulerScanningExecutor.class);
         taskGivenService = ApplicationContextUtil.getBean(ISchedulerTaskGivenService.class);
         actuatorScanningHandler = ApplicationContextUtil.getBean(SchedulerActuatorScanningHandler.class);
+        cronTriggerHandler = ApplicationContextUtil.getBean(SchedulerCronTriggerHandler.class);
+        shardTracker = ApplicationContextUtil.getBean(RedisShardTracker.class);
 
         assert groupServer != null;
         RedisMessage currentServer = groupServer.getCurrentServer();
@@ -67,41 +72,25 @@ public class RedisClusterRefreshListener implements MessageListener {
 
         if (Objects.isNull(leader)) {
             defaultClientHandler.eventPush(RedisListenerEnum.RAFT, JsonUtils.toJson(currentServer));
-            if (Objects.nonNull(heartbeatSchedule)) {
-                heartbeatSchedule.cancel(true);
-            }
-            if (Objects.nonNull(taskCronScanningSchedule)) {
-                taskCronScanningSchedule.cancel(true);
-            }
-            if (Objects.nonNull(taskGivenScanningSchedule)) {
-                taskGivenScanningSchedule.cancel(true);
-            }
-            if (Objects.nonNull(autoActuatorScanningSchedule)) {
-                autoActuatorScanningSchedule.cancel(true);
-            }
+            scanningExecutor.cancelAll();
             return;
         }
 
         // 只有集群 Leader 才可以受理集群刷新管理事件
         if (Objects.deepEquals(currentServer.ipMappingPort(), leader.ipMappingPort())) {
-            if (Objects.nonNull(heartbeatSchedule)) {
-                heartbeatSchedule.cancel(true);
-            }
-            if (Objects.nonNull(taskCronScanningSchedule)) {
-                taskCronScanningSchedule.cancel(true);
-            }
-            if (Objects.nonNull(taskGivenScanningSchedule)) {
-                taskGivenScanningSchedule.cancel(true);
-            }
-            if (Objects.nonNull(autoActuatorScanningSchedule)) {
-                autoActuatorScanningSchedule.cancel(true);
-            }
+            scanningExecutor.cancelAll();
             this.clusterHeartbeatManager();
 
+            // 触发队列可能是上一任期的旧数据, 重新加载
+            cronTriggerHandler.reset();
+            // 延迟队列可能在上一任期取出后未指派, 以 MySQL 为准补齐
+            taskGivenService.rebuildDelayQueue();
+
             // 一旦进入集群 Leader 状态，开启任务扫描
-            executor.execute(this::taskCronScanning);
-            executor.execute(this::taskGivenScanning);
-            executor.execute(this::autoActuatorScanning);
+            this.taskCronScanning();
+            this.taskGivenScanning();
+            this.autoActuatorScanning();
+            this.taskShardExpiring();
         }
     }
 
@@ -110,9 +99,8 @@ public class RedisClusterRefreshListener implements MessageListener {
      */
     private void clusterHeartbeatManager() {
         RedisMessage currentServer = groupServer.getCurrentServer();
-        Channel channel = groupServer.getChannel();
 
-        heartbeatSchedule = channel.eventLoop().schedule(() -> {
+        scanningExecutor.start(CLUSTER_HEARTBEAT_MANAGER, () -> {
             if (properties.isAllowLog()) {
                 log.info("");
                 log.info(">>> ----------------------------clusterHeartbeatManager start-------------------------------");
@@ -126,6 +114,7 @@ public class RedisClusterRefreshListener implements MessageListener {
                 currentServer.setCurrentRaftStatus(RaftStatusEnum.FOLLOWER);
                 defaultClientHandler.updateMessageByKey(currentServer.getVoteKey(), JsonUtils.toJson(currentServer));
                 defaultClientHandler.eventPush(RedisListenerEnum.RAFT, JsonUtils.toJson(currentServer));
+                scanningExecutor.cancel(CLUSTER_HEARTBEAT_MANAGER);
                 return;
             }
             // 1. 无论自己注册信息是否存在，必须保存自己的在线信息一致性
@@ -152,60 +141,45 @@ public class RedisClusterRefreshListener implements MessageListener {
                 log.info(">>> ----------------------------clusterHeartbeatManager end-------------------------------");
             }
 
-            // 6. 再次进入集群刷新管理中
-            this.clusterHeartbeatManager();
-
-        }, properties.getClusterHeartbeat(), TimeUnit.SECONDS);
+        }, TimeUnit.SECONDS.toMillis(properties.getClusterHeartbeat()));
     }
 
     /**
      * 集群表达式任务扫描
      */
     private void taskCronScanning() {
-        Channel channel = groupServer.getChannel();
-
-        taskCronScanningSchedule = channel.eventLoop().schedule(() -> {
+        scanningExecutor.start(TASK_CRON_SCANNING, () -> {
             log.info(">>>>>>>>>>>>>>>>>>>>>>>>>>  taskCronScanning");
-            // 1. 获取所有任务
-            List<SchedulerTaskCronRequestDto> allTask = taskCronService.tasks();
-
-            // 2. 获取所有已开启的任务
-            Set<SchedulerTaskCronRequestDto> tasks = allTask.parallelStream()
-                    .filter(f -> Objects.deepEquals(f.getTaskCronStatus(), Constants.RUNNING))
-                    .collect(Collectors.toSet());
+            // 1. 从触发队列取出 (上次扫描, 当前时间] 的所有触发, 任务有变更时触发队列自动增量加载
+            // 2. 执行任务, 只有未指派成功的触发留到下次扫描重试, 然后保存水位线
+            cronTriggerHandler.scan(System.currentTimeMillis(), defaultGroupServerHandler::fireCronSchedulerTasks);
 
-            // 3. 执行任务
-            defaultGroupServerHandler.scanningCronSchedulerTasks(tasks);
-
-            // 4. 再次任务扫描
-            this.taskCronScanning();
-
-        }, properties.getClusterCronTaskScanningCycle(), TimeUnit.SECONDS);
+        }, TimeUnit.SECONDS.toMillis(properties.getClusterCronTaskScanningCycle()));
     }
 
     /**
      * 集群指定时间任务扫描
      */
     private void taskGivenScanning() {
-        Channel channel = groupServer.getChannel();
-
-        taskGivenScanningSchedule = channel.eventLoop().schedule(() -> {
+        scanningExecutor.start(TASK_GIVEN_SCANNING, () -> {
             log.info(">>>>>>>>>>>>>>>>>>>>>>>>>>  taskGivenScanning");
-            // 1. 获取所有任务
-            List<SchedulerTaskGivenRequestDto> allTask = taskGivenService.tasks();
-
-            // 2. 获取所有已开启的任务
-            Set<SchedulerTaskGivenRequestDto> tasks = allTask.parallelStream()
-                    .filter(f -> Objects.deepEquals(f.getTaskGivenStatus(), Constants.RUNNING))
-                    .collect(Collectors.toSet());
-
-            // 3. 执行任务
-            defaultGroupServerHandler.scanningGivenSchedulerTasks(tasks, channel);
-
-            // 4. 再次任务扫描
-            this.taskGivenScanning();
+            // 1. 获取已开启且已到期的任务(未执行 / 待重试), 只查询到期的索引区间或 redis 延迟队列
+            List<SchedulerTaskGivenRequestDto> dueTasks = taskGivenService.claimDueTasks(LocalDateTime.now());
+
+            // 2. 去重
+            Set<SchedulerTaskGivenRequestDto> tasks = new HashSet<>(dueTasks);
+
+            // 3. 执行任务, 失败时已取出的任务放回延迟队列, 已修改为执行中的任务在下次取出时跳过
+            try {
+                defaultGroupServerHandler.scanningGivenSchedulerTasks(tasks);
+            } catch (RuntimeException e) {
+                taskGivenService.requeueClaimedTasks(tasks.stream()
+                        .map(SchedulerTaskGivenRequestDto::getTaskGivenId)
+                        .collect(Collectors.toList()));
+                throw e;
+            }
 
-        }, properties.getClusterGivenTaskScanningCycle(), TimeUnit.SECONDS);
+        }, TimeUnit.SECONDS.toMillis(properties.getClusterGivenTaskScanningCycle()));
     }
 
 
@@ -213,12 +187,21 @@ public class RedisClusterRefreshListener implements MessageListener {
      * 自动扫描执行状态阶段
      */
     private void autoActuatorScanning() {
-        Channel channel = groupServer.getChannel();
-
-        autoActuatorScanningSchedule = channel.eventLoop().schedule(() -> {
+        scanningExecutor.start(AUTO_ACTUATOR_SCANNING, () -> {
             log.info(">>>>>>>>>>>>>>>>>>>>>>>>>>  autoActuatorScanning");
             actuatorScanningHandler.autoActuatorScanning();
-            this.autoActuatorScanning();
-        }, properties.getClusterActuatorStatusScanningCycle(), TimeUnit.SECONDS);
+        }, TimeUnit.SECONDS.toMillis(properties.getClusterActuatorStatusScanningCycle()));
+    }
+
+    /**
+     * 截止时间已过仍未回写的分片按失败完成, 分片任务不会一直处于执行中
+     */
+    private void taskShardExpiring() {
+        scanningExecutor.start(TASK_SHARD_EXPIRING, () -> {
+            int expired = shardTracker.expire(System.currentTimeMillis());
+            if (expired > 0) {
+                log.warn(">>> {} 个分片任务已过截止时间, 按失败完成", expired);
+            }
+        }, TimeUnit.SECONDS.toMillis(properties.getClusterActuatorStatusScanningCycle()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.microservice.listener;
+
+import com.microservice.redis.RedisEntityCacheManager;
+import com.microservice.utils.ApplicationContextUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-08
+ * <p> 实体缓存变更通知, 包括当前成员自己发出的通知
+ */
+@Slf4j
+public class RedisEntityCacheInvalidateListener implements MessageListener {
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String invalidateMessage = new String(message.getBody());
+        if (StringUtils.isNotBlank(invalidateMessage)) {
+            try {
+                ApplicationContextUtil.getBean(RedisEntityCacheManager.class).onInvalidate(invalidateMessage);
+            } catch (Exception e) {
+                log.warn(">>> 实体缓存变更通知: {} 处理失败, 原因: {}", invalidateMessage, e.getLocalizedMessage());
+            }
+        }
+    }
+}
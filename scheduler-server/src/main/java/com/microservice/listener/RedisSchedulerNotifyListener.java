@@ -1,12 +1,10 @@
 package com.microservice.listener;
 
 import com.microservice.bean.SchedulerTaskMessage;
-import com.microservice.enums.ProtocolStausEnum;
-import com.microservice.proto.MessageProtocolPoJo;
-import com.microservice.server.ExecutorGroupServerHandler;
+import com.microservice.enums.RedisListenerEnum;
+import com.microservice.server.ExecutorChannelDispatcher;
+import com.microservice.utils.ApplicationContextUtil;
 import com.microservice.utils.JsonUtils;
-import com.microservice.utils.PingPongUtils;
-import io.netty.channel.Channel;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.redis.connection.Message;
@@ -18,6 +16,8 @@ import java.util.Objects;
  * @author zhangwei
  * @date 2020-10-02
  * <p> 集群调度受理通知
+ * <p>
+ * 同时监听广播频道与当前成员自己的频道, 自己频道的通知由 {@link com.microservice.redis.RedisActuatorRouter} 按执行器持有者发送
  */
 @Slf4j
 public class RedisSchedulerNotifyListener implements MessageListener {
@@ -33,18 +33,15 @@ public class RedisSchedulerNotifyListener implements MessageListener {
             if (Objects.nonNull(task)) {
                 String actuatorKey = task.getActuatorKey();
 
-                // 如果执行器在自己名下就，发起执行
-                Channel executeChannel = ExecutorGroupServerHandler.findChannel(actuatorKey);
-                if (Objects.nonNull(executeChannel)) {
-
-                    String json = JsonUtils.toJson(task);
-                    MessageProtocolPoJo.MessageProtocol messageProtocol = MessageProtocolPoJo.MessageProtocol.newBuilder()
-                            .setContent(json)
-                            .setProtocol(ProtocolStausEnum.actuatorRequest.name())
-                            .setLen(json.getBytes(PingPongUtils.CHARSET).length)
-                            .build();
-                    // 通知客户干活
-                    executeChannel.writeAndFlush(messageProtocol);
+                // 如果执行器在自己名下就，按指派策略选择一个实例发起执行, 实例繁忙时进入等待队列
+                ExecutorChannelDispatcher channelDispatcher = ApplicationContextUtil.getBean(ExecutorChannelDispatcher.class);
+                if (channelDispatcher.offer(actuatorKey, task)) {
+                    log.debug(">>> 执行器: {} 任务已受理: {}", actuatorKey, task.getJobHandler());
+                } else if (task.getShardTotal() == 0
+                        && !Objects.deepEquals(new String(message.getChannel()), RedisListenerEnum.SCHEDULER_NOTIFY.getType())) {
+                    // 分片发给执行器的所有持有成员, 由持有该实例的成员执行;
+                    // 实例已不在任何成员名下时分片不会回写, 由 RedisShardTracker 在截止时间后按失败完成
+                    log.warn(">>> 执行器: {} 未连接到当前成员, 任务通知丢弃: {}", actuatorKey, schedulerMessage);
                 }
             }
         }
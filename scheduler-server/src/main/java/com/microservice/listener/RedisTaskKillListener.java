@@ -0,0 +1,37 @@
+package com.microservice.listener;
+
+import com.microservice.bean.SchedulerTaskKill;
+import com.microservice.server.ExecutorChannelDispatcher;
+import com.microservice.utils.ApplicationContextUtil;
+import com.microservice.utils.JsonUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.util.Objects;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 终止任务通知, 执行器在当前成员名下时发给它的所有实例
+ */
+@Slf4j
+public class RedisTaskKillListener implements MessageListener {
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String killMessage = new String(message.getBody());
+        if (StringUtils.isBlank(killMessage)) {
+            return;
+        }
+        SchedulerTaskKill kill = JsonUtils.fromJson(killMessage, SchedulerTaskKill.class);
+        if (Objects.isNull(kill) || StringUtils.isBlank(kill.getActuatorKey())) {
+            return;
+        }
+        int sent = ApplicationContextUtil.getBean(ExecutorChannelDispatcher.class).kill(kill);
+        if (sent > 0) {
+            log.info(">>> 执行器: {} 终止任务: {}({}), 发送实例数: {}", kill.getActuatorKey(), kill.getJobHandler(), kill.getTaskId(), sent);
+        }
+    }
+}
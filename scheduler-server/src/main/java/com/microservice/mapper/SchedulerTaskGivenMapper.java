@@ -6,6 +6,8 @@ import com.microservice.dto.SchedulerTaskGivenRequestDto;
 import com.microservice.entity.SchedulerTaskGiven;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,4 +22,54 @@ public interface SchedulerTaskGivenMapper extends BaseMapper<SchedulerTaskGiven>
 
     List<SchedulerTaskGivenRequestDto> tasksByParams(@Param("page") IPage<SchedulerTaskGivenRequestDto> iPage,
                                                      @Param("param") SchedulerTaskGivenRequestDto taskRequest);
+
+    /**
+     * 查询已到期的任务, 按 (可调度时间, 主键) keyset 分页
+     *
+     * @param taskGivenStatus 0: stop 1: running
+     * @param executeStatus   0: 未执行 2: 待重试
+     * @param now             当前时间
+     * @param lastDueTime     上一页最后一条的可调度时间, 第一页为 null
+     * @param lastId          上一页最后一条的主键, 第一页为 null
+     * @param limit           每页条数
+     * @return
+     */
+    List<SchedulerTaskGivenRequestDto> dueTasks(@Param("taskGivenStatus") String taskGivenStatus,
+                                                @Param("executeStatus") String executeStatus,
+                                                @Param("now") LocalDateTime now,
+                                                @Param("lastDueTime") LocalDateTime lastDueTime,
+                                                @Param("lastId") Integer lastId,
+                                                @Param("limit") int limit);
+
+    /**
+     * 锁定仍处于 expectStatus 的任务(SELECT ... FOR UPDATE), 需在事务中调用
+     *
+     * @param ids
+     * @param expectStatus
+     * @return 锁定成功的主键
+     */
+    List<Integer> lockByExecuteStatus(@Param("ids") Collection<Integer> ids,
+                                      @Param("expectStatus") String expectStatus);
+
+    /**
+     * 批量修改执行状态, 只修改仍处于 expectStatus 的任务
+     *
+     * @param ids
+     * @param expectStatus    为空时不校验当前状态
+     * @param updateStatus
+     * @param lastExecuteTime 不为空时同时修改最近一次执行时间, 并累计重试次数
+     * @return 修改条数
+     */
+    int updateExecuteStatus(@Param("ids") Collection<Integer> ids,
+                            @Param("expectStatus") String expectStatus,
+                            @Param("updateStatus") String updateStatus,
+                            @Param("lastExecuteTime") LocalDateTime lastExecuteTime);
+
+    /**
+     * 按当前字段值重新计算可调度时间
+     *
+     * @param taskGivenId
+     * @return 修改条数
+     */
+    int updateDueTime(@Param("taskGivenId") Integer taskGivenId);
 }
@@ -0,0 +1,49 @@
+package com.microservice.protocol;
+
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.client.BaseProtocol;
+import com.microservice.proto.MessageProtocolPoJo;
+import com.microservice.server.ExecutorChannelDispatcher;
+import com.microservice.utils.MessageProtocolCodec;
+import io.netty.channel.Channel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p>
+ * 批量回写执行状态
+ * <p>
+ * 执行器把 linger 时间内同一连接上的回写放在一帧中发送, 拆开后逐个完成在途计数与负载, 只下发一次等待的任务,
+ * 全部回写在 {@link CallbackGivenStatusRequest#autoCallbackWirte(List)} 的一个事务中完成, 提交后再确认 stream 条目;
+ * 回写失败时整批回滚后逐个重试, 只有出错的回写失败, 其条目不确认, 超时后重新指派
+ */
+@Component
+@Slf4j
+public class CallbackBatchRequest extends BaseProtocol {
+
+    @Autowired
+    private CallbackGivenStatusRequest callbackGivenStatusRequest;
+
+    @Autowired
+    private ExecutorChannelDispatcher channelDispatcher;
+
+    @Override
+    public void onProcess(MessageProtocolPoJo.MessageProtocol messageProtocol, Channel channel) {
+        List<SchedulerTaskMessage> tasks = MessageProtocolCodec.callbackMessages(messageProtocol);
+        log.info(">>> 服务器接收到批量回写执行状态事件, 回写数: {}", tasks.size());
+
+        for (SchedulerTaskMessage task : tasks) {
+            callbackGivenStatusRequest.completed(task, channel);
+        }
+        channelDispatcher.drain(channel);
+
+        for (SchedulerTaskMessage task : callbackGivenStatusRequest.autoCallbackWirte(tasks)) {
+            callbackGivenStatusRequest.acknowledge(task);
+        }
+    }
+}
@@ -8,27 +8,43 @@ import com.microservice.dto.SchedulerTaskCronRequestDto;
 import com.microservice.dto.SchedulerTaskGivenRequestDto;
 import com.microservice.dto.SchedulerTaskLogRequestDto;
 import com.microservice.entity.SchedulerTaskLog;
+import com.microservice.exception.SchedulerCoreException;
 import com.microservice.proto.MessageProtocolPoJo;
+import com.microservice.redis.RedisDispatchStream;
+import com.microservice.redis.RedisShardTracker;
+import com.microservice.server.ExecutorChannelDispatcher;
+import com.microservice.server.ExecutorChannelRegistry;
 import com.microservice.service.ISchedulerRegistryDetailService;
 import com.microservice.service.ISchedulerTaskGivenService;
 import com.microservice.service.ISchedulerTaskLogService;
 import com.microservice.utils.Constants;
-import com.microservice.utils.JsonUtils;
+import com.microservice.utils.ErrCode;
+import com.microservice.utils.MessageProtocolCodec;
 import io.netty.channel.Channel;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
 
 import java.time.LocalDateTime;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * @author zw
  * @date 2020-10-19
  * <p> 指定时间任务回写执行状态
+ * <p>
+ * 单条回写与 {@link CallbackBatchRequest} 的批量回写使用同一个 {@link #autoCallbackWirte(List)}:
+ * 一批执行成功的指定时间任务一条 update 修改状态, 调度日志一次批量插入, 执行器注册节点在一批内只查询一次.
+ * <p>
+ * 一批在一个事务中回写, 数据库异常或日志未全部插入时整批回滚, 再逐个在各自的事务中重试, 只有出错的回写失败;
+ * 失败的回写只记录日志, 不抛出到 pipeline, 不会因此断开执行器连接; 其 stream 条目不确认, 超时后重新指派.
+ * 分片状态与延迟队列在 redis 中无法回滚, 事务提交后再写入
  */
 @Component
 @Slf4j
@@ -43,21 +59,174 @@ public class CallbackGivenStatusRequest extends BaseProtocol {
     @Autowired
     private ISchedulerRegistryDetailService registryDetailService;
 
+    @Autowired
+    private RedisDispatchStream dispatchStream;
+
+    @Autowired
+    private ExecutorChannelRegistry channelRegistry;
+
+    @Autowired
+    private RedisShardTracker shardTracker;
+
+    @Autowired
+    private ExecutorChannelDispatcher channelDispatcher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        // 单条回写在 onProcess 中自调用, 注解事务不生效, 使用编程式事务
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     @Override
     public void onProcess(MessageProtocolPoJo.MessageProtocol messageProtocol, Channel channel) {
-        // 自动回写
-        autoCallbackWirte(messageProtocol);
+        SchedulerTaskMessage task = MessageProtocolCodec.taskMessage(messageProtocol);
+        // 实例已执行完成, 不论回写结果
+        completed(task, channel);
+        // 执行中任务数减少, 继续下发等待的任务
+        channelDispatcher.drain(channel);
+        if (Objects.nonNull(task)) {
+            // 自动回写, 完成后确认 stream 条目, 回写失败时条目超时后重新指派
+            autoCallbackWirte(Collections.singletonList(task)).forEach(this::acknowledge);
+        }
+    }
+
+    /**
+     * 实例上一个任务执行完成, 记录实例上该任务处理器的负载, 饱和时后续任务改选其他实例
+     *
+     * @param task
+     * @param channel
+     */
+    public void completed(SchedulerTaskMessage task, Channel channel) {
+        channelRegistry.completed(channel);
+        if (Objects.nonNull(task)) {
+            channelRegistry.reportLoad(channel, task.getHandlerLoad());
+        }
+    }
+
+    /**
+     * 通过 redis stream 指派的任务, 确认条目
+     *
+     * @param task
+     */
+    public void acknowledge(SchedulerTaskMessage task) {
+        if (Objects.nonNull(task.getDispatchId())) {
+            try {
+                dispatchStream.ack(task.getActuatorKey(), task.getDispatchId());
+            } catch (Exception e) {
+                log.warn(">>> 任务: {} 确认失败, 原因: {}", task.getDispatchId(), e.getLocalizedMessage());
+            }
+        }
+    }
+
+    /**
+     * 自动回写, 一批在一个事务中完成; 失败时整批回滚, 再逐个在各自的事务中回写, 异常不抛出
+     *
+     * @param tasks
+     * @return 回写成功的任务
+     */
+    public List<SchedulerTaskMessage> autoCallbackWirte(List<SchedulerTaskMessage> tasks) {
+        try {
+            this.callbackWirteInTransaction(tasks);
+            return tasks;
+        } catch (Exception e) {
+            if (tasks.size() == 1) {
+                this.callbackFailed(tasks.get(0), e);
+                return Collections.emptyList();
+            }
+            log.warn(">>> 批量回写执行状态失败, 回写数: {}, 逐个重试, 原因: {}", tasks.size(), e.getLocalizedMessage());
+        }
+
+        List<SchedulerTaskMessage> written = new ArrayList<>(tasks.size());
+        for (SchedulerTaskMessage task : tasks) {
+            try {
+                this.callbackWirteInTransaction(Collections.singletonList(task));
+                written.add(task);
+            } catch (Exception e) {
+                this.callbackFailed(task, e);
+            }
+        }
+        return written;
+    }
+
+    private void callbackFailed(SchedulerTaskMessage task, Exception e) {
+        SchedulerTaskGivenRequestDto givenRequest = task.getTaskGivenDto();
+        log.error(">>> 任务: {}, 处理器: {}, 执行器: {} 回写执行状态失败, 原因: {}",
+                Objects.isNull(givenRequest) ? null : givenRequest.getTaskGivenId(), task.getJobHandler(),
+                task.getExecutorAddress(), e.getLocalizedMessage(), e);
+    }
+
+    private void callbackWirteInTransaction(List<SchedulerTaskMessage> tasks) {
+        Map<SchedulerTaskMessage, Boolean> shards = transactionTemplate.execute(status -> this.callbackWirte(tasks));
+        // 事务已提交, 分片结果在事务外记录, 全部分片回写后修改任务状态使用新的事务, 延迟队列与缓存在其提交后同步
+        if (Objects.nonNull(shards)) {
+            shards.forEach(this::settle);
+        }
+    }
+
+    /**
+     * @param tasks
+     * @return 分片 -> 分片是否执行成功, 由调用方在事务提交后记录
+     */
+    private Map<SchedulerTaskMessage, Boolean> callbackWirte(List<SchedulerTaskMessage> tasks) {
+        // 执行器注册节点, 一批中同一实例只查询一次
+        Map<String, SchedulerRegistryDetailRequestDto> details = new HashMap<>(4);
+        List<Integer> executedIds = new ArrayList<>(tasks.size());
+        List<SchedulerTaskLog> logs = new ArrayList<>(tasks.size());
+        Map<SchedulerTaskMessage, Boolean> shards = new IdentityHashMap<>(4);
+        for (SchedulerTaskMessage task : tasks) {
+            autoCallbackWirte(task, details, executedIds, logs, shards);
+        }
+
+        if (!executedIds.isEmpty()) {
+            boolean update = taskGivenService.updateGivenExecuteStatus(executedIds, Constants.TASK_ALREADY_EXECUTE);
+            log.info(">>> 服务器接收到指定时间任务回写执行状态事件, 任务: {}, 回写结果: {}", executedIds, update);
+        }
+        if (!logs.isEmpty() && !taskLogService.saveBatch(logs)) {
+            throw new SchedulerCoreException(ErrCode.CALLBACK_FAIL);
+        }
+        log.info(">>> 服务器接收到指定时间任务回写执行状态事件, 调度日志: {} 条已添加", logs.size());
+        return shards;
+    }
+
+    /**
+     * 记录分片结果, 全部分片回写后修改整个任务的执行状态; 事务已提交, 失败时由分片截止时间兜底
+     *
+     * @param task
+     * @param success
+     */
+    private void settle(SchedulerTaskMessage task, boolean success) {
+        try {
+            Boolean completed = shardTracker.settle(task, success);
+            if (Objects.isNull(completed)) {
+                log.info(">>> 服务器接收到回写执行状态事件, 分片: {}/{} 已回写, 等待其余分片",
+                        task.getShardIndex(), task.getShardTotal());
+            } else {
+                log.info(">>> 服务器接收到回写执行状态事件, 全部 {} 个分片已回写, 执行结果: {}",
+                        task.getShardTotal(), completed);
+            }
+        } catch (Exception e) {
+            log.error(">>> 分片: {}/{} 记录回写结果失败, 原因: {}", task.getShardIndex(), task.getShardTotal(), e.getLocalizedMessage());
+        }
     }
 
     /**
-     * 自动回写
+     * 回写一个任务: 执行成功的指定时间任务与调度日志先收集起来, 由调用方一次写入; 失败重试需要各自的重试次数, 逐个修改;
+     * 分片结果在事务提交后记录
      *
-     * @param messageProtocol
+     * @param task
+     * @param details     已查询过的执行器注册节点
+     * @param executedIds 执行成功的指定时间任务
+     * @param logs        调度日志
+     * @param shards      分片 -> 分片是否执行成功
      */
-    @Transactional(rollbackFor = Exception.class)
-    public void autoCallbackWirte(MessageProtocolPoJo.MessageProtocol messageProtocol) {
-        String content = messageProtocol.getContent();
-        SchedulerTaskMessage task = JsonUtils.fromJson(content, SchedulerTaskMessage.class);
+    private void autoCallbackWirte(SchedulerTaskMessage task, Map<String, SchedulerRegistryDetailRequestDto> details,
+                                   List<Integer> executedIds, List<SchedulerTaskLog> logs,
+                                   Map<SchedulerTaskMessage, Boolean> shards) {
         SchedulerTaskGivenRequestDto givenRequest = task.getTaskGivenDto();
 
         if (Objects.nonNull(givenRequest)) {
@@ -82,13 +251,15 @@ public class CallbackGivenStatusRequest extends BaseProtocol {
             int triggerCode = givenRequest.getTriggerCode();
             String triggerMsg = givenRequest.getTriggerMsg();
 
-            if (code == HttpStatus.OK.value()) {
-                // 成功回写
-                SchedulerTaskGivenRequestDto dto = new SchedulerTaskGivenRequestDto();
-                dto.setTaskGivenId(taskGivenId);
-                dto.setTaskGivenExecuteStatus(Constants.TASK_ALREADY_EXECUTE);
-                boolean update = taskGivenService.updateGivenExecuteStatus(dto);
-                log.info(">>> 服务器接收到指定时间任务回写执行状态事件, 回写结果: {}", update);
+            // 被服务端终止的任务视为已执行, 不再重试; 执行超时按失败重试
+            boolean success = code == HttpStatus.OK.value() || code == HttpStatus.GONE.value();
+
+            if (task.getShardTotal() > 0) {
+                // 分片广播: 全部分片回写后才修改任务状态, 任一分片失败整个任务重试
+                shards.put(task, success);
+            } else if (success) {
+                // 成功回写, 一批一起修改
+                executedIds.add(taskGivenId);
             } else {
                 // 失败回写
                 SchedulerTaskGivenRequestDto dto = new SchedulerTaskGivenRequestDto();
@@ -111,7 +282,7 @@ public class CallbackGivenStatusRequest extends BaseProtocol {
                 query.setRegisterDetailAppName(actuatorKey)
                         .setRegisterDetailIp(ipAndPort[0])
                         .setRegisterDetailPort(ipAndPort[1]);
-                SchedulerRegistryDetailRequestDto detail = registryDetailService.findRegistryDetailByAppNameAndIpAndPort(query);
+                SchedulerRegistryDetailRequestDto detail = findRegistryDetail(query, details);
                 if (Objects.nonNull(detail)) {
                     taskLogRequest.setLogRegistryDetailId(detail.getRegisterDetailId())
                             .setLogTaskId(taskGivenId)
@@ -130,8 +301,7 @@ public class CallbackGivenStatusRequest extends BaseProtocol {
 
                     SchedulerTaskLog logEntity = new SchedulerTaskLog();
                     BeanUtils.copyProperties(taskLogRequest, logEntity);
-                    boolean save = taskLogService.save(logEntity);
-                    log.info(">>> 服务器接收到指定时间任务回写执行状态事件, 调度日志添加结果: {}", save);
+                    logs.add(logEntity);
                 } else {
                     log.info(">>> 服务器接收到指定时间任务回写执行状态事件, 调度日志添加结果: 失败!未发现{}执行器注册节点信息.");
                 }
@@ -162,6 +332,10 @@ public class CallbackGivenStatusRequest extends BaseProtocol {
                 String triggerMsg = taskCronDto.getTriggerMsg();
 
                 // 无论执行多少次，必须保存每次执行日志记录下来
+                if (task.getShardTotal() > 0) {
+                    shards.put(task, code == HttpStatus.OK.value());
+                }
+
                 String taskCronWriteLog = taskCronDto.getTaskCronWriteLog();
                 if (Objects.deepEquals(taskCronWriteLog, Constants.RUNNING)) {
                     SchedulerTaskLogRequestDto taskLogRequest = new SchedulerTaskLogRequestDto();
@@ -171,7 +345,7 @@ public class CallbackGivenStatusRequest extends BaseProtocol {
                     query.setRegisterDetailAppName(actuatorKey)
                             .setRegisterDetailIp(ipAndPort[0])
                             .setRegisterDetailPort(ipAndPort[1]);
-                    SchedulerRegistryDetailRequestDto detail = registryDetailService.findRegistryDetailByAppNameAndIpAndPort(query);
+                    SchedulerRegistryDetailRequestDto detail = findRegistryDetail(query, details);
                     if (Objects.nonNull(detail)) {
                         taskLogRequest.setLogRegistryDetailId(detail.getRegisterDetailId())
                                 .setLogTaskId(taskGivenId)
@@ -190,8 +364,7 @@ public class CallbackGivenStatusRequest extends BaseProtocol {
 
                         SchedulerTaskLog logEntity = new SchedulerTaskLog();
                         BeanUtils.copyProperties(taskLogRequest, logEntity);
-                        boolean save = taskLogService.save(logEntity);
-                        log.info(">>> 服务器接收到指定时间任务回写执行状态事件, 调度日志添加结果: {}", save);
+                        logs.add(logEntity);
                     } else {
                         log.info(">>> 服务器接收到指定时间任务回写执行状态事件, 调度日志添加结果: 失败!未发现{}执行器注册节点信息.");
                     }
@@ -199,4 +372,17 @@ public class CallbackGivenStatusRequest extends BaseProtocol {
             }
         }
     }
+
+    /**
+     * 执行器注册节点, 同一批中按执行器与地址缓存
+     *
+     * @param query
+     * @param details
+     * @return
+     */
+    private SchedulerRegistryDetailRequestDto findRegistryDetail(SchedulerRegistryDetailRequestDto query,
+                                                                 Map<String, SchedulerRegistryDetailRequestDto> details) {
+        String key = query.getRegisterDetailAppName() + "@" + query.getRegisterDetailIp() + ":" + query.getRegisterDetailPort();
+        return details.computeIfAbsent(key, k -> registryDetailService.findRegistryDetailByAppNameAndIpAndPort(query));
+    }
 }
@@ -5,6 +5,9 @@ import com.microservice.dto.SchedulerRegistryDetailRequestDto;
 import com.microservice.dto.SchedulerRegistryRequestDto;
 import com.microservice.exception.SchedulerCoreException;
 import com.microservice.proto.MessageProtocolPoJo;
+import com.microservice.redis.RedisActuatorRouter;
+import com.microservice.server.ExecutorChannelDispatcher;
+import com.microservice.server.ExecutorChannelRegistry;
 import com.microservice.server.ExecutorGroupServerHandler;
 import com.microservice.service.ISchedulerRegistryDetailService;
 import com.microservice.service.ISchedulerRegistryService;
@@ -36,11 +39,24 @@ public class DeregisterRequest extends BaseProtocol {
     @Autowired
     private ISchedulerRegistryDetailService registryDetailService;
 
-    @Override
-    public void onProcess(MessageProtocolPoJo.MessageProtocol messageProtocol, Channel channel) {
+    @Autowired
+    private RedisActuatorRouter actuatorRouter;
+
+    @Autowired
+    private ExecutorChannelRegistry channelRegistry;
 
+    @Autowired
+    private ExecutorChannelDispatcher channelDispatcher;
 
-        String registerAppName = ExecutorGroupServerHandler.findName(channel);
+    @Override
+    public void onProcess(MessageProtocolPoJo.MessageProtocol messageProtocol, Channel channel) {
+        String registerAppName = channelRegistry.findName(channel);
+        String registerAddress = channelRegistry.findAddress(channel);
+        if (Objects.isNull(registerAppName)) {
+            // 未完成注册的连接
+            ExecutorGroupServerHandler.CHANNEL_GROUP.remove(channel);
+            return;
+        }
 
         LocalDateTime now = LocalDateTime.now();
         {
@@ -60,7 +76,8 @@ public class DeregisterRequest extends BaseProtocol {
                 // 如果存在节点列表信息，要获取真实注销客户端信息
                 if (!CollectionUtils.isEmpty(registryDetails)) {
                     SchedulerRegistryDetailRequestDto detail = registryDetails.parallelStream()
-                            .filter(f -> Objects.deepEquals(f.getRegisterDetailAppName(), registerAppName))
+                            .filter(f -> Objects.deepEquals(f.getRegisterDetailAppName(), registerAppName)
+                                    && Objects.deepEquals(f.getRegisterDetailIp() + ":" + f.getRegisterDetailPort(), registerAddress))
                             .findFirst().orElseGet(() -> null);
 
                     if (Objects.nonNull(detail)) {
@@ -77,9 +94,15 @@ public class DeregisterRequest extends BaseProtocol {
             }
         }
 
-        ExecutorGroupServerHandler.ALL_CHANNELS.remove(registerAppName);
+        channelRegistry.deregister(channel);
         ExecutorGroupServerHandler.CHANNEL_GROUP.remove(channel);
+        // 等待下发的任务交给其他实例
+        channelDispatcher.release(registerAppName, channel);
+        // 当前成员上已没有该执行器的实例, 才取消持有登记
+        if (!channelRegistry.contains(registerAppName)) {
+            actuatorRouter.deregister(registerAppName);
+        }
 
-        log.info(">>> 服务器接收到注销事件, 执行器: {}, {} 注销成功!", registerAppName, now);
+        log.info(">>> 服务器接收到注销事件, 执行器: {}, 实例: {}, {} 注销成功!", registerAppName, registerAddress, now);
     }
 }
@@ -6,14 +6,18 @@ import com.microservice.bean.SchedulerConfigurationProperties;
 import com.microservice.client.BaseProtocol;
 import com.microservice.dto.SchedulerRegistryDetailRequestDto;
 import com.microservice.dto.SchedulerRegistryRequestDto;
+import com.microservice.enums.ProtocolCompressionEnum;
 import com.microservice.exception.SchedulerCoreException;
 import com.microservice.proto.MessageProtocolPoJo;
+import com.microservice.redis.RedisActuatorRouter;
+import com.microservice.server.ExecutorChannelRegistry;
 import com.microservice.server.ExecutorGroupServerHandler;
 import com.microservice.service.ISchedulerRegistryDetailService;
 import com.microservice.service.ISchedulerRegistryService;
 import com.microservice.utils.Constants;
 import com.microservice.utils.ErrCode;
-import com.microservice.utils.JsonUtils;
+import com.microservice.utils.MessageProtocolCodec;
+import com.microservice.utils.ProtocolCompressionUtils;
 import io.netty.channel.Channel;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,12 +47,20 @@ public class RegisterRequest extends BaseProtocol {
     @Autowired
     private ISchedulerRegistryDetailService registryDetailService;
 
+    @Autowired
+    private RedisActuatorRouter actuatorRouter;
+
+    @Autowired
+    private SchedulerConfigurationProperties configurationProperties;
+
+    @Autowired
+    private ExecutorChannelRegistry channelRegistry;
+
     @Override
     @Transactional(rollbackFor = Exception.class)
     @CacheLock(prefix = "RegisterRequest", expire = 60)
     public void onProcess(MessageProtocolPoJo.MessageProtocol messageProtocol, Channel channel) {
-        String content = messageProtocol.getContent();
-        ExecutorJobMessage executorJobMessage = JsonUtils.fromJson(content, ExecutorJobMessage.class);
+        ExecutorJobMessage executorJobMessage = MessageProtocolCodec.jobMessage(messageProtocol);
         log.info(">>> 服务器接收到注册事件, 内容: {}", executorJobMessage);
 
         // 写表，注册执行器: 服务名，注册时间，注册序号
@@ -167,7 +179,31 @@ public class RegisterRequest extends BaseProtocol {
         }
 
         log.info(">>> 服务器接收到注册事件, 执行器: {}, 注册成功!", executorJobMessage.getAppName());
-        ExecutorGroupServerHandler.ALL_CHANNELS.put(registerName, channel);
+        channelRegistry.register(registerName, host + ":" + port, channel);
         ExecutorGroupServerHandler.CHANNEL_GROUP.add(channel);
+        // 登记当前成员持有该执行器, 任务只发给持有者
+        actuatorRouter.register(registerName);
+        // 协商压缩方式与批量回写
+        negotiate(messageProtocol, channel);
+    }
+
+    /**
+     * 类型化注册在心跳中确认: 执行器请求了压缩方式且当前成员开启压缩时接受; 当前成员总是接受批量回写.
+     * 先标记连接再确认, 确认之前执行器不会发送压缩消息或批量回写
+     *
+     * @param messageProtocol
+     * @param channel
+     */
+    private void negotiate(MessageProtocolPoJo.MessageProtocol messageProtocol, Channel channel) {
+        if (!messageProtocol.hasRegister()) {
+            return;
+        }
+        ProtocolCompressionEnum compression = configurationProperties.getProtocolCompression() == ProtocolCompressionEnum.NONE
+                ? ProtocolCompressionEnum.NONE
+                : ProtocolCompressionEnum.of(messageProtocol.getRegister().getCompression());
+        if (compression != ProtocolCompressionEnum.NONE) {
+            ProtocolCompressionUtils.mark(channel, compression);
+        }
+        channel.writeAndFlush(MessageProtocolCodec.registerAck(compression, true));
     }
 }
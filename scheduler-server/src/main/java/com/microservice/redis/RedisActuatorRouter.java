@@ -0,0 +1,280 @@
+package com.microservice.redis;
+
+import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.bean.SchedulerTaskKill;
+import com.microservice.enums.RedisListenerEnum;
+import com.microservice.utils.Constants;
+import com.microservice.utils.JsonUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p>
+ * 执行器 -> 集群成员 路由
+ * <p>
+ * 执行器连接到某个集群成员时, 该成员登记为执行器的持有者: scheduler:actuatorOwner:{执行器} 集合中保存成员名称;
+ * 同时在 scheduler:memberActuators:{成员} 中反向登记, 成员重启时据此清理自己的旧登记.
+ * <p>
+ * 指派任务时只发布到持有者自己的频道 scheduler_notify:{成员}, 不再广播给所有成员;
+ * 多个持有者时随机选择一个. 发布后没有订阅者说明成员已下线, 清除该登记后换下一个持有者.
+ * 没有任何持有者登记时退回 {@link RedisListenerEnum#SCHEDULER_NOTIFY} 广播
+ * <p>
+ * 开启 clusterDispatchStream 时任务写入执行器的 {@link RedisDispatchStream}, 由持有者读取, 执行器回写后确认
+ * <p>
+ * 分片广播的任务每个分片指定了实例, 发给执行器的所有持有者, 由连接该实例的成员执行
+ * <p>
+ * 终止任务时不知道任务在哪个实例上执行, 广播给所有成员, 由成员发给自己名下该执行器的所有实例
+ */
+@Service
+@Slf4j
+public class RedisActuatorRouter {
+
+    @Resource
+    private StringRedisTemplate template;
+
+    @Autowired
+    private SchedulerConfigurationProperties properties;
+
+    @Autowired
+    private RedisDispatchStream dispatchStream;
+
+    private final LongAdder routedCount = new LongAdder();
+    private final LongAdder broadcastCount = new LongAdder();
+    private final LongAdder staleOwnerCount = new LongAdder();
+    private final LongAdder shardCount = new LongAdder();
+    private final LongAdder killCount = new LongAdder();
+    private final LongAdder handOverCount = new LongAdder();
+
+    /**
+     * 成员启动时清理上次运行遗留的登记, 上次连接的执行器会重新注册
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            String memberKey = this.memberActuatorsKey(this.currentMember());
+            Set<String> actuators = template.opsForSet().members(memberKey);
+            if (!CollectionUtils.isEmpty(actuators)) {
+                actuators.forEach(f -> template.opsForSet().remove(this.ownerKey(f), this.currentMember()));
+            }
+            template.delete(memberKey);
+        } catch (Exception e) {
+            log.warn(">>> 清理执行器路由登记失败, 原因: {}", e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * 当前成员的任务通知频道
+     *
+     * @return
+     */
+    public String memberChannel() {
+        return this.memberChannel(this.currentMember());
+    }
+
+    /**
+     * 执行器连接到当前成员
+     *
+     * @param actuatorKey
+     */
+    public void register(String actuatorKey) {
+        template.opsForSet().add(this.ownerKey(actuatorKey), this.currentMember());
+        template.opsForSet().add(this.memberActuatorsKey(this.currentMember()), actuatorKey);
+    }
+
+    /**
+     * 执行器与当前成员断开
+     *
+     * @param actuatorKey
+     */
+    public void deregister(String actuatorKey) {
+        template.opsForSet().remove(this.ownerKey(actuatorKey), this.currentMember());
+        template.opsForSet().remove(this.memberActuatorsKey(this.currentMember()), actuatorKey);
+    }
+
+    /**
+     * 将任务通知发给持有执行器连接的成员
+     *
+     * @param actuatorKey
+     * @param message
+     */
+    public void route(String actuatorKey, String message) {
+        if (dispatchStream.enabled()) {
+            dispatchStream.offer(actuatorKey, Collections.singletonList(message));
+            return;
+        }
+
+        if (this.publishToOwner(actuatorKey, message, null)) {
+            return;
+        }
+
+        broadcastCount.increment();
+        template.convertAndSend(RedisListenerEnum.SCHEDULER_NOTIFY.getType(), message);
+    }
+
+    /**
+     * 当前成员上执行器的实例已全部断开, 等待中的任务转交给执行器的其他持有者;
+     * 开启 stream 时写入执行器的 stream. 不退回广播, 广播时没有成员持有该执行器的任务会被丢弃
+     *
+     * @param actuatorKey
+     * @param message
+     * @return 没有其他持有者收到时返回 false
+     */
+    public boolean handOver(String actuatorKey, String message) {
+        if (dispatchStream.enabled()) {
+            dispatchStream.offer(actuatorKey, Collections.singletonList(message));
+            return true;
+        }
+        if (this.publishToOwner(actuatorKey, message, this.currentMember())) {
+            handOverCount.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 批量指派, 开启 stream 时同一执行器的任务一次写入
+     *
+     * @param messages 执行器 -> 任务通知
+     * @return 指派失败的任务通知; stream 写入失败时同一执行器的任务都视为失败
+     */
+    public List<String> route(Map<String, List<String>> messages) {
+        List<String> failed = new ArrayList<>();
+        messages.forEach((actuatorKey, list) -> {
+            if (dispatchStream.enabled()) {
+                try {
+                    dispatchStream.offer(actuatorKey, list);
+                } catch (Exception e) {
+                    log.error(">>> 执行器: {} 的 {} 个任务指派失败, 原因: {}", actuatorKey, list.size(), e.getLocalizedMessage());
+                    failed.addAll(list);
+                }
+                return;
+            }
+            for (String message : list) {
+                try {
+                    this.route(actuatorKey, message);
+                } catch (Exception e) {
+                    log.error(">>> 执行器: {} 的任务指派失败, 原因: {}", actuatorKey, e.getLocalizedMessage());
+                    failed.add(message);
+                }
+            }
+        });
+        return failed;
+    }
+
+    /**
+     * 分片广播, 每个分片发给执行器的所有持有者
+     * <p>
+     * 持有者之间的 stream 消费组是竞争消费, 分片不能保证被连接对应实例的成员读取, 因此不经过 stream
+     *
+     * @param actuatorKey
+     * @param shards      指定了实例的分片
+     */
+    public void routeShards(String actuatorKey, List<String> shards) {
+        Set<String> members = template.opsForSet().members(this.ownerKey(actuatorKey));
+        if (CollectionUtils.isEmpty(members)) {
+            broadcastCount.add(shards.size());
+            shards.forEach(message -> template.convertAndSend(RedisListenerEnum.SCHEDULER_NOTIFY.getType(), message));
+            return;
+        }
+        for (String owner : members) {
+            String channel = this.memberChannel(owner);
+            shards.forEach(message -> this.publish(channel, message));
+        }
+        shardCount.add(shards.size());
+    }
+
+    /**
+     * 终止任务, 广播给所有成员
+     *
+     * @param kill
+     */
+    public void kill(SchedulerTaskKill kill) {
+        template.convertAndSend(RedisListenerEnum.TASK_KILL.getType(), JsonUtils.toJson(kill));
+        killCount.increment();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("member", this.currentMember());
+        map.put("routedCount", routedCount.sum());
+        map.put("broadcastCount", broadcastCount.sum());
+        map.put("staleOwnerCount", staleOwnerCount.sum());
+        map.put("shardCount", shardCount.sum());
+        map.put("killCount", killCount.sum());
+        map.put("handOverCount", handOverCount.sum());
+        map.put("stream", dispatchStream.stats());
+        return map;
+    }
+
+    /**
+     * 随机选择一个持有者发布, 没有订阅者的持有者已下线, 清除登记后换下一个
+     *
+     * @param actuatorKey
+     * @param message
+     * @param excluded    不参与选择的成员, 可以为 null
+     * @return 有持有者收到时返回 true
+     */
+    private boolean publishToOwner(String actuatorKey, String message, String excluded) {
+        Set<String> members = template.opsForSet().members(this.ownerKey(actuatorKey));
+        if (CollectionUtils.isEmpty(members)) {
+            return false;
+        }
+        List<String> owners = new ArrayList<>(members);
+        owners.remove(excluded);
+        Collections.shuffle(owners, ThreadLocalRandom.current());
+        for (String owner : owners) {
+            Long receivers = this.publish(this.memberChannel(owner), message);
+            if (Objects.nonNull(receivers) && receivers > 0) {
+                routedCount.increment();
+                return true;
+            }
+            // 成员已下线, 清除登记
+            staleOwnerCount.increment();
+            template.opsForSet().remove(this.ownerKey(actuatorKey), owner);
+            template.opsForSet().remove(this.memberActuatorsKey(owner), actuatorKey);
+            log.warn(">>> 执行器: {} 的持有成员: {} 已下线, 清除路由登记", actuatorKey, owner);
+        }
+        return false;
+    }
+
+    /**
+     * @param channel
+     * @param message
+     * @return 收到消息的订阅者数量
+     */
+    private Long publish(String channel, String message) {
+        byte[] channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+        byte[] messageBytes = message.getBytes(StandardCharsets.UTF_8);
+        return template.execute((RedisCallback<Long>) (RedisConnection connection) -> connection.publish(channelBytes, messageBytes));
+    }
+
+    private String currentMember() {
+        return properties.getRegisterName();
+    }
+
+    private String memberChannel(String member) {
+        return RedisListenerEnum.SCHEDULER_NOTIFY.getType() + ":" + member;
+    }
+
+    private String ownerKey(String actuatorKey) {
+        return Constants.SCHEDULER_ACTUATOR_OWNER_PREF + actuatorKey;
+    }
+
+    private String memberActuatorsKey(String member) {
+        return Constants.SCHEDULER_MEMBER_ACTUATORS_PREF + member;
+    }
+}
@@ -2,7 +2,8 @@ package com.microservice.redis;
 
 import com.microservice.annotation.lock.CacheLock;
 import com.microservice.bean.*;
-import com.microservice.cron.CronExpression;
+import com.microservice.dto.SchedulerRegistryDetailRequestDto;
+import com.microservice.dto.SchedulerRegistryRequestDto;
 import com.microservice.dto.SchedulerTaskCronRequestDto;
 import com.microservice.dto.SchedulerTaskGivenRequestDto;
 import com.microservice.dto.SchedulerTaskLogRequestDto;
@@ -13,15 +14,15 @@ import com.microservice.enums.RaftStatusEnum;
 import com.microservice.enums.RedisListenerEnum;
 import com.microservice.server.ExecutorGroupServer;
 import com.microservice.service.ISchedulerRegistryDetailService;
+import com.microservice.service.ISchedulerRegistryService;
 import com.microservice.service.ISchedulerTaskGivenService;
 import com.microservice.service.ISchedulerTaskLogService;
 import com.microservice.utils.Constants;
 import com.microservice.utils.JsonUtils;
 import com.microservice.utils.RedisUtil;
 import com.microservice.utils.RestTemplateUtils;
-import io.netty.channel.Channel;
+import com.microservice.utils.TimeUtils;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -31,11 +32,11 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import javax.annotation.Resource;
-import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author zw
@@ -67,6 +68,15 @@ public class RedisDefaultGroupServerHandler {
     @Autowired
     private ISchedulerTaskLogService taskLogService;
 
+    @Autowired
+    private RedisActuatorRouter actuatorRouter;
+
+    @Autowired
+    private RedisShardTracker shardTracker;
+
+    @Autowired
+    private ISchedulerRegistryService registryService;
+
     /**
      * 检查指定服务器健康指标
      *
@@ -687,36 +697,25 @@ public class RedisDefaultGroupServerHandler {
     }
 
     /**
-     * 表达式任务扫描，然后指派指定任务的执行器客户端
+     * 表达式任务触发，指派已到期任务的执行器客户端
      *
-     * @param tasks
+     * @param triggers 触发队列中已到期的触发, 同一任务错过的多次触发各一条
+     * @return 未指派成功的触发
      */
     @CacheLock(prefix = "scanningCronSchedulerTasks", expire = 60)
     @Transactional(rollbackFor = Exception.class)
-    public void scanningCronSchedulerTasks(Set<SchedulerTaskCronRequestDto> tasks) {
-        Set<SchedulerTaskCronRequestDto> cronTasks = tasks.parallelStream()
-                .filter(f -> Objects.deepEquals(f.getTaskCronStatus(), Constants.RUNNING))
-                .collect(Collectors.toSet());
-        if (!CollectionUtils.isEmpty(cronTasks)) {
-            this.cronTasksHandler(cronTasks);
+    public List<CronTaskTrigger> fireCronSchedulerTasks(List<CronTaskTrigger> triggers) {
+        if (CollectionUtils.isEmpty(triggers)) {
+            return Collections.emptyList();
         }
+        return this.cronTasksHandler(triggers);
     }
 
-    private void cronTasksHandler(Set<SchedulerTaskCronRequestDto> cronTasks) {
-        if (CollectionUtils.isEmpty(cronTasks)) {
-            return;
-        }
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-
-        LocalDateTime now = LocalDateTime.now();
-        log.info(">>>>>>> cronTasksHandler: {}", cronTasks.size());
-        cronTasks.parallelStream().forEach(f -> {
-            try {
-                CronExpression cronExpression = new CronExpression(f.getTaskCronExpression());
-                boolean satisfiedBy = cronExpression.isSatisfiedBy(now);
-                log.info(">>>>>>>>>>>>> {} : {}", now, satisfiedBy);
-                // 表达式执行时间已到，需要找出执行器并执行
-                if (satisfiedBy) {
+    private List<CronTaskTrigger> cronTasksHandler(List<CronTaskTrigger> triggers) {
+        log.info(">>>>>>> cronTasksHandler: {}", triggers.size());
+        List<SchedulerTaskMessage> failed = this.dispatch(triggers.parallelStream()
+                .map(trigger -> {
+                    SchedulerTaskCronRequestDto f = trigger.getTask();
                     // 找出一个执行器开始执行
                     String appName = f.getTaskCronAppName();
 
@@ -726,32 +725,31 @@ public class RedisDefaultGroupServerHandler {
                             .setAppName(appName)
                             .setJobHandler(f.getTaskCronJobHandler())
                             .setSchedulerCron(f.getTaskCronExpression())
+                            .setSchedulerFireTime(trigger.getFireTime())
                             .setJobHandlerParam(f.getTaskCronParam())
                             .setTaskCronDto(f)
                     ;
-                    String json = JsonUtils.toJson(taskMessage);
-                    defaultClientHandler.eventPush(RedisListenerEnum.SCHEDULER_NOTIFY, json);
-                }
-            } catch (Exception ignored) {
-            }
-        });
+                    return taskMessage;
+                }));
+        return failed.stream()
+                .map(f -> new CronTaskTrigger(f.getTaskCronDto(), f.getSchedulerFireTime()))
+                .collect(Collectors.toList());
     }
 
     /**
      * 指定时间任务扫描，然后指派指定任务的执行器客户端
      *
      * @param tasks
-     * @param channel
      */
     @CacheLock(prefix = "scanningGivenSchedulerTasks", expire = 60)
     @Transactional(rollbackFor = Exception.class)
-    public void scanningGivenSchedulerTasks(Set<SchedulerTaskGivenRequestDto> tasks, Channel channel) {
+    public void scanningGivenSchedulerTasks(Set<SchedulerTaskGivenRequestDto> tasks) {
         Set<SchedulerTaskGivenRequestDto> givenTasks = tasks.parallelStream()
                 .filter(f -> Objects.deepEquals(f.getTaskGivenStatus(), Constants.RUNNING))
                 .collect(Collectors.toSet());
 
         if (!CollectionUtils.isEmpty(givenTasks)) {
-            this.givenTasksHandler(givenTasks, channel);
+            this.givenTasksHandler(givenTasks);
         }
     }
 
@@ -761,11 +759,13 @@ public class RedisDefaultGroupServerHandler {
      * 1. 扫描未执行的，检验是否可执行
      * 2. 扫描执行中的，跳过，不处理
      * 3. 扫描待重试的，检验上次执行时间 + 间隔时间 >= 当前时间， 是： 累计重试次数，重新执行，修改状态为执行中, 如果执行上限，直接回写
+     * <p>
+     * 状态按批 compare-and-set 修改, 只指派修改成功的任务, 多个 Leader 短暂重叠时不会重复指派;
+     * compare-and-set 在独立事务中提交后才发布指派, 发布耗时不会延长行锁的持有时间
      *
      * @param givenTasks
-     * @param channel
      */
-    private void givenTasksHandler(Set<SchedulerTaskGivenRequestDto> givenTasks, Channel channel) {
+    private void givenTasksHandler(Set<SchedulerTaskGivenRequestDto> givenTasks) {
         log.info(">>>>>>> givenTasksHandler: {}", givenTasks.size());
 
         if (CollectionUtils.isEmpty(givenTasks)) {
@@ -777,149 +777,214 @@ public class RedisDefaultGroupServerHandler {
 
         {
             // 1. 扫描未执行的，检验是否可执行
-            Set<SchedulerTaskGivenRequestDto> waitExecuteList = givenTasks.parallelStream()
+            Map<Integer, SchedulerTaskGivenRequestDto> waitExecuteMap = givenTasks.parallelStream()
                     .filter(f -> Objects.deepEquals(f.getTaskGivenExecuteStatus(), Constants.TASK_WAIT_EXECUTE))
-                    .collect(Collectors.toSet());
-
-            waitExecuteList.parallelStream().forEach(f -> {
-                LocalDateTime schedulerGivenTime = f.getTaskGivenTime();
-                long second = schedulerGivenTime.toEpochSecond(ZoneOffset.ofHours(8));
-                if (StringUtils.isNotBlank(f.getTaskGivenDelayed())) {
-                    long schedulerGivenDelay = Long.parseLong(f.getTaskGivenDelayed());
-                    second += schedulerGivenDelay;
-                }
-
-                if (newSecond >= second) {
-                    String appName = f.getTaskGivenAppName();
-
-                    SchedulerTaskMessage taskMessage = new SchedulerTaskMessage();
-                    taskMessage.setCron(false)
-                            .setActuatorKey(appName)
-                            .setAppName(appName)
-                            .setJobHandler(f.getTaskGivenJobHandler())
-                            .setSchedulerGivenTime(f.getTaskGivenTime())
-                            .setJobHandlerParam(f.getTaskGivenParam())
-                            .setTaskGivenDto(f)
-                    ;
-                    // 修改状态为执行中
-                    SchedulerTaskGivenRequestDto updateDto = new SchedulerTaskGivenRequestDto();
-                    updateDto.setTaskGivenId(f.getTaskGivenId());
-                    updateDto.setTaskGivenExecuteStatus(Constants.TASK_EXECUTING);
-
-                    boolean update = taskGivenService.updateGivenExecuteStatus(updateDto);
-                    if (update) {
-                        String json = JsonUtils.toJson(taskMessage);
-                        defaultClientHandler.eventPush(RedisListenerEnum.SCHEDULER_NOTIFY, json);
-                    }
-                }
-            });
+                    .filter(f -> {
+                        long second = f.getTaskGivenTime().toEpochSecond(ZoneOffset.ofHours(8))
+                                + TimeUtils.delayedSeconds(f.getTaskGivenDelayed());
+                        return newSecond >= second;
+                    })
+                    .collect(Collectors.toMap(SchedulerTaskGivenRequestDto::getTaskGivenId, f -> f, (a, b) -> a));
+
+            // 修改状态为执行中, 只指派修改成功的任务
+            List<Integer> executingIds = taskGivenService.casGivenExecuteStatus(waitExecuteMap.keySet(),
+                    Constants.TASK_WAIT_EXECUTE, Constants.TASK_EXECUTING, null);
+            this.givenTasksNotify(executingIds.stream().map(waitExecuteMap::get), Constants.TASK_WAIT_EXECUTE);
         }
 
         {
             // 3. 扫描待重试的，检验上次执行时间 + 间隔时间 >= 当前时间， 是： 累计重试次数，重新执行，修改状态为执行中
-            Set<SchedulerTaskGivenRequestDto> waitExecuteList = givenTasks.parallelStream()
+            List<SchedulerTaskGivenRequestDto> dueRetries = givenTasks.parallelStream()
                     .filter(f -> Objects.deepEquals(f.getTaskGivenExecuteStatus(), Constants.TASK_WAIT_RETRY))
-                    .collect(Collectors.toSet());
-
-            waitExecuteList.parallelStream().forEach(f -> {
+                    .filter(f -> {
+                        // 上次执行时间
+                        long lastExecuteSecond = f.getTaskGivenLastExecuteTime().toEpochSecond(ZoneOffset.ofHours(8));
+                        if (Objects.nonNull(f.getTaskGivenRetryDelayed())) {
+                            lastExecuteSecond += f.getTaskGivenRetryDelayed();
+                        }
+                        // 检验上次执行时间 + 间隔时间 >= 当前时间
+                        return newSecond >= lastExecuteSecond;
+                    })
+                    .collect(Collectors.toList());
 
-                // 上次执行时间
-                LocalDateTime lastExecuteTime = f.getTaskGivenLastExecuteTime();
-                long lastExecuteSecond = lastExecuteTime.toEpochSecond(ZoneOffset.ofHours(8));
-                if (Objects.nonNull(f.getTaskGivenRetryDelayed())) {
-                    lastExecuteSecond += f.getTaskGivenRetryDelayed();
+            // 重试次数已达上限的在扫描线程中回写为已执行, 回写的行由本事务锁定, 不能再参与 compare-and-set
+            Map<Integer, SchedulerTaskGivenRequestDto> waitRetryMap = new HashMap<>(dueRetries.size() * 2);
+            for (SchedulerTaskGivenRequestDto task : dueRetries) {
+                if (this.retryExhausted(task)) {
+                    this.finishExhausted(task, now);
+                } else {
+                    waitRetryMap.putIfAbsent(task.getTaskGivenId(), task);
                 }
+            }
 
-                // 检验上次执行时间 + 间隔时间 >= 当前时间
-                if (newSecond >= lastExecuteSecond) {
-                    String appName = f.getTaskGivenAppName();
+            // 修改状态为执行中, 累计重试次数, 只指派修改成功的任务
+            List<Integer> executingIds = taskGivenService.casGivenExecuteStatus(waitRetryMap.keySet(),
+                    Constants.TASK_WAIT_RETRY, Constants.TASK_EXECUTING, now);
+            this.givenTasksNotify(executingIds.stream().map(waitRetryMap::get), Constants.TASK_WAIT_RETRY);
+        }
+    }
 
-                    SchedulerTaskMessage taskMessage = new SchedulerTaskMessage();
-                    taskMessage.setCron(false)
-                            .setActuatorKey(appName)
-                            .setAppName(appName)
-                            .setJobHandler(f.getTaskGivenJobHandler())
-                            .setSchedulerGivenTime(f.getTaskGivenTime())
-                            .setTaskGivenDto(f)
-                            .setJobHandlerParam(f.getTaskGivenParam())
-                    ;
-                    Integer retryCount = f.getTaskGivenRetryCount();
-
-                    boolean allowExecute = this.allowExecute(f, now, channel);
-                    if (allowExecute) {
-                        // 修改状态为执行中
-                        SchedulerTaskGivenRequestDto updateDto = new SchedulerTaskGivenRequestDto();
-                        updateDto.setTaskGivenId(f.getTaskGivenId());
-                        updateDto.setTaskGivenExecuteStatus(Constants.TASK_EXECUTING);
-                        updateDto.setTaskGivenLastExecuteTime(now);
-                        updateDto.setTaskGivenRetryCount(Objects.nonNull(retryCount) ? retryCount + 1 : 1);
-
-                        boolean update = taskGivenService.updateGivenExecuteStatus(updateDto);
-                        if (update) {
-                            String json = JsonUtils.toJson(taskMessage);
-                            defaultClientHandler.eventPush(RedisListenerEnum.SCHEDULER_NOTIFY, json);
-                        }
-                    }
+    /**
+     * 指派已修改为执行中的任务, 未指派成功的改回之前的状态, 与 cron 任务一样在下次扫描时重试;
+     * 待重试的任务已累计的重试次数不回退, 一直指派失败的任务最终会达到重试上限
+     *
+     * @param tasks
+     * @param previousStatus 修改为执行中之前的状态
+     */
+    private void givenTasksNotify(Stream<SchedulerTaskGivenRequestDto> tasks, String previousStatus) {
+        List<SchedulerTaskMessage> failed = this.dispatch(tasks.map(this::givenTaskMessage));
+        if (failed.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> failedIds = failed.stream()
+                .map(f -> f.getTaskGivenDto().getTaskGivenId())
+                .collect(Collectors.toSet());
+        try {
+            List<Integer> reverted = taskGivenService.revertGivenExecuteStatus(failedIds, previousStatus);
+            log.warn(">>> 指定时间任务: {} 指派失败, 已改回状态: {}, 任务: {}", failedIds, previousStatus, reverted);
+        } catch (Exception e) {
+            log.error(">>> 指定时间任务: {} 指派失败, 改回状态失败, 原因: {}", failedIds, e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * 按执行器分组后批量指派; 分片广播的任务按执行器的在线实例拆分为分片, 每个实例一个分片
+     *
+     * @param tasks
+     * @return 未指派成功的任务
+     */
+    private List<SchedulerTaskMessage> dispatch(Stream<SchedulerTaskMessage> tasks) {
+        Map<Boolean, List<SchedulerTaskMessage>> partitions = tasks.collect(Collectors.partitioningBy(shardTracker::isSharding));
+        List<SchedulerTaskMessage> singles = new ArrayList<>(partitions.get(false));
+        List<SchedulerTaskMessage> failed = new ArrayList<>();
+
+        Map<String, List<String>> instances = new HashMap<>(16);
+        for (SchedulerTaskMessage task : partitions.get(true)) {
+            try {
+                List<String> online = instances.computeIfAbsent(task.getActuatorKey(), this::onlineInstances);
+                if (online.isEmpty()) {
+                    // 没有在线实例时与单实例任务一样指派
+                    singles.add(task);
+                    continue;
                 }
-            });
+                actuatorRouter.routeShards(task.getActuatorKey(), shardTracker.shard(task, online));
+            } catch (Exception e) {
+                log.error(">>> 执行器: {} 的分片任务: {} 指派失败, 原因: {}", task.getActuatorKey(), task.getJobHandler(), e.getLocalizedMessage());
+                failed.add(task);
+            }
+        }
+
+        // 按通知找回失败的任务, 通知字符串与任务一一对应
+        Map<String, SchedulerTaskMessage> serialized = new IdentityHashMap<>(singles.size() * 2);
+        Map<String, List<String>> messages = new HashMap<>(16);
+        for (SchedulerTaskMessage task : singles) {
+            String message = JsonUtils.toJson(task);
+            serialized.put(message, task);
+            messages.computeIfAbsent(task.getActuatorKey(), k -> new ArrayList<>()).add(message);
+        }
+        actuatorRouter.route(messages).forEach(message -> failed.add(serialized.get(message)));
+        return failed;
+    }
+
+    /**
+     * 执行器的在线实例, 按注册序号排序, 即分片序号
+     *
+     * @param appName
+     * @return ip:port
+     */
+    private List<String> onlineInstances(String appName) {
+        SchedulerRegistryRequestDto query = new SchedulerRegistryRequestDto();
+        query.setRegistryAppName(appName);
+        List<SchedulerRegistryRequestDto> registries = registryService.findRegistryByAppName(query);
+        if (CollectionUtils.isEmpty(registries) || CollectionUtils.isEmpty(registries.get(0).getRegistryDetails())) {
+            return Collections.emptyList();
         }
+        return registries.get(0).getRegistryDetails()
+                .stream()
+                .filter(f -> Objects.deepEquals(f.getRegisterDetailStatus(), Constants.ON_LINE))
+                .sorted(Comparator.comparing(SchedulerRegistryDetailRequestDto::getRegisterDetailSort,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(f -> f.getRegisterDetailIp() + ":" + f.getRegisterDetailPort())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private SchedulerTaskMessage givenTaskMessage(SchedulerTaskGivenRequestDto f) {
+        String appName = f.getTaskGivenAppName();
+
+        SchedulerTaskMessage taskMessage = new SchedulerTaskMessage();
+        taskMessage.setCron(false)
+                .setActuatorKey(appName)
+                .setAppName(appName)
+                .setJobHandler(f.getTaskGivenJobHandler())
+                .setSchedulerGivenTime(f.getTaskGivenTime())
+                .setJobHandlerParam(f.getTaskGivenParam())
+                .setTaskGivenDto(f)
+        ;
+        return taskMessage;
     }
 
     /**
-     * 此处必须不加事务，调用此方法的地方必须加，此方法为联合调用子方法
+     * 重试次数是否已达上限
      *
      * @param query
-     * @param now
-     * @param channel
      * @return
      */
-    private boolean allowExecute(SchedulerTaskGivenRequestDto query, LocalDateTime now, Channel channel) {
+    private boolean retryExhausted(SchedulerTaskGivenRequestDto query) {
         Integer taskGivenRetryCount = query.getTaskGivenRetryCount();
         Integer taskGivenRetryMax = query.getTaskGivenRetryMax();
+        return Objects.nonNull(taskGivenRetryCount) && Objects.nonNull(taskGivenRetryMax)
+                && taskGivenRetryMax > 0 && taskGivenRetryCount >= taskGivenRetryMax;
+    }
 
-        if (Objects.nonNull(taskGivenRetryCount) && Objects.nonNull(taskGivenRetryMax)) {
-            if (taskGivenRetryMax > 0 && taskGivenRetryCount >= taskGivenRetryMax) {
-                // 如果当前已重试次数 > 重试最大值 ，不允许调度
-                // 修改状态为执行中
-                SchedulerTaskGivenRequestDto updateDto = new SchedulerTaskGivenRequestDto();
-                updateDto.setTaskGivenId(query.getTaskGivenId());
-                updateDto.setTaskGivenExecuteStatus(Constants.TASK_ALREADY_EXECUTE);
-
-                boolean update = taskGivenService.updateGivenExecuteStatus(updateDto);
-                if (!update) {
-                    return true;
-                }
+    /**
+     * 重试次数已达上限, 不再调度, 直接回写为已执行并记录日志
+     * <p>
+     * 此处必须不加事务，调用此方法的地方必须加，此方法为联合调用子方法; 只能在扫描线程中调用, 保证修改在调用方的事务中
+     *
+     * @param query
+     * @param now
+     */
+    private void finishExhausted(SchedulerTaskGivenRequestDto query, LocalDateTime now) {
+        SchedulerTaskGivenRequestDto updateDto = new SchedulerTaskGivenRequestDto();
+        updateDto.setTaskGivenId(query.getTaskGivenId());
+        updateDto.setTaskGivenExecuteStatus(Constants.TASK_ALREADY_EXECUTE);
+
+        boolean update = taskGivenService.updateGivenExecuteStatus(updateDto);
+        if (!update) {
+            log.warn(">>> 任务: {} 重试次数已达上限, 回写已执行失败", query.getTaskGivenId());
+            return;
+        }
 
-                String taskGivenWriteLog = query.getTaskGivenWriteLog();
-                if (Objects.deepEquals(taskGivenWriteLog, Constants.RUNNING)) {
-                    SchedulerRegistryDetail registryDetail = registryDetailService.getBaseMapper().selectById(query.getTaskGivenRegistryDetailId());
-                    if (Objects.nonNull(registryDetail)) {
-                        SchedulerTaskLogRequestDto taskLogRequest = new SchedulerTaskLogRequestDto();
-                        taskLogRequest.setLogRegistryDetailId(query.getTaskGivenRegistryDetailId())
-                                .setLogTaskId(query.getTaskGivenId())
-                                .setLogExecutorAddress(registryDetail.getRegisterDetailIp() + ":" + registryDetail.getRegisterDetailPort())
-                                .setLogExecutorHandler(query.getTaskGivenJobHandler())
-                                .setLogExecutorParam(query.getTaskGivenParam())
-                                .setLogTriggerTime(now)
-                                .setLogTriggerCode(String.valueOf(HttpStatus.OK.value()))
-                                .setLogTriggerMsg(null)
-                                .setLogHandleTime(now)
-                                .setLogHandleCode(String.valueOf(HttpStatus.BAD_REQUEST.value()))
-                                .setLogHandleMsg("重试次数已达上限")
-                                .setLogTaskType(Constants.TASK_TYPE_OF_GIVEN)
-                                .setLogCreateTime(LocalDateTime.now())
-                        ;
-
-                        SchedulerTaskLog logEntity = new SchedulerTaskLog();
-                        BeanUtils.copyProperties(taskLogRequest, logEntity);
-                        boolean save = taskLogService.save(logEntity);
-                        if (save) {
-                            return false;
-                        }
-                    }
-                }
-            }
+        String taskGivenWriteLog = query.getTaskGivenWriteLog();
+        if (!Objects.deepEquals(taskGivenWriteLog, Constants.RUNNING)) {
+            return;
+        }
+        SchedulerRegistryDetail registryDetail = registryDetailService.getBaseMapper().selectById(query.getTaskGivenRegistryDetailId());
+        if (Objects.isNull(registryDetail)) {
+            return;
+        }
+        SchedulerTaskLogRequestDto taskLogRequest = new SchedulerTaskLogRequestDto();
+        taskLogRequest.setLogRegistryDetailId(query.getTaskGivenRegistryDetailId())
+                .setLogTaskId(query.getTaskGivenId())
+                .setLogExecutorAddress(registryDetail.getRegisterDetailIp() + ":" + registryDetail.getRegisterDetailPort())
+                .setLogExecutorHandler(query.getTaskGivenJobHandler())
+                .setLogExecutorParam(query.getTaskGivenParam())
+                .setLogTriggerTime(now)
+                .setLogTriggerCode(String.valueOf(HttpStatus.OK.value()))
+                .setLogTriggerMsg(null)
+                .setLogHandleTime(now)
+                .setLogHandleCode(String.valueOf(HttpStatus.BAD_REQUEST.value()))
+                .setLogHandleMsg("重试次数已达上限")
+                .setLogTaskType(Constants.TASK_TYPE_OF_GIVEN)
+                .setLogCreateTime(LocalDateTime.now())
+        ;
+
+        SchedulerTaskLog logEntity = new SchedulerTaskLog();
+        BeanUtils.copyProperties(taskLogRequest, logEntity);
+        if (!taskLogService.save(logEntity)) {
+            log.warn(">>> 任务: {} 重试次数已达上限, 日志保存失败", query.getTaskGivenId());
         }
-        return true;
     }
 }
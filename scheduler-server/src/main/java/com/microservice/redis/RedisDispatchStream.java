@@ -0,0 +1,352 @@
+package com.microservice.redis;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.server.ExecutorChannelDispatcher;
+import com.microservice.server.ExecutorChannelRegistry;
+import com.microservice.utils.Constants;
+import com.microservice.utils.JsonUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p>
+ * 基于 redis stream 的任务指派
+ * <p>
+ * 每个执行器一个 stream: scheduler:dispatch:{执行器}, 所有集群成员共用消费组 {@link #GROUP}, 消费者名称为成员名称.
+ * 持有执行器连接的成员轮询读取自己执行器的 stream, 条目 id 作为 {@link SchedulerTaskMessage#getDispatchId()} 随任务下发,
+ * 执行器回写执行状态时确认(XACK)该条目.
+ * <p>
+ * 未确认的条目空闲超过 clusterDispatchStreamPendingTimeout 后由任一持有者重新认领(XCLAIM)并再次下发, 即至少一次投递;
+ * 投递达到 {@link #MAX_DELIVERIES} 次仍未确认的条目直接确认丢弃. stream 长度由 XADD MAXLEN ~ 限制
+ * <p>
+ * 每次读取的数量不超过执行器实例等待队列的剩余容量, 队列已满时不读取.
+ * 未开启时只用于存放 pub/sub 收到但等待队列已满的任务, 只读取有溢出任务的执行器, 读完后不再读取
+ */
+@Service
+@Slf4j
+public class RedisDispatchStream {
+
+    public static final String GROUP = "scheduler";
+    private static final String FIELD = "task";
+    private static final int READ_COUNT = 100;
+    private static final int MAX_DELIVERIES = 5;
+
+    /**
+     * 批量写入, 不存在的消费组从头创建
+     * KEYS[1]: stream, ARGV[1]: 消费组, ARGV[2]: 最大长度, ARGV[3..]: 任务
+     */
+    private static final String OFFER_SCRIPT =
+            "for i = 3, #ARGV do " +
+                    "redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[2], '*', '" + FIELD + "', ARGV[i]) " +
+                    "end " +
+                    "redis.pcall('XGROUP', 'CREATE', KEYS[1], ARGV[1], '0') " +
+                    "return #ARGV - 2";
+
+    /**
+     * 认领空闲超时的未确认条目, 返回 {丢弃数量, 未确认数量, id, 任务, id, 任务 ...}
+     * KEYS[1]: stream, ARGV[1]: 消费组, ARGV[2]: 消费者, ARGV[3]: 数量, ARGV[4]: 最小空闲毫秒, ARGV[5]: 最大投递次数
+     */
+    private static final String RECLAIM_SCRIPT =
+            "local result = {0, 0} " +
+                    "local pending = redis.call('XPENDING', KEYS[1], ARGV[1], '-', '+', ARGV[3]) " +
+                    "result[2] = tostring(#pending) " +
+                    "for _, p in ipairs(pending) do " +
+                    "  if tonumber(p[3]) >= tonumber(ARGV[4]) then " +
+                    "    if tonumber(p[4]) >= tonumber(ARGV[5]) then " +
+                    "      redis.call('XACK', KEYS[1], ARGV[1], p[1]) " +
+                    "      result[1] = result[1] + 1 " +
+                    "    else " +
+                    "      local claimed = redis.call('XCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[4], p[1]) " +
+                    "      local entry = claimed[1] " +
+                    "      if entry and entry[2] then " +
+                    "        result[#result + 1] = entry[1] " +
+                    "        result[#result + 1] = entry[2][2] " +
+                    "      else " +
+                    "        redis.call('XACK', KEYS[1], ARGV[1], p[1]) " +
+                    "      end " +
+                    "    end " +
+                    "  end " +
+                    "end " +
+                    "result[1] = tostring(result[1]) " +
+                    "return result";
+
+    private static final DefaultRedisScript<Long> OFFER = new DefaultRedisScript<>(OFFER_SCRIPT, Long.class);
+    @SuppressWarnings("unchecked")
+    private static final DefaultRedisScript<List<String>> RECLAIM = new DefaultRedisScript<>(RECLAIM_SCRIPT, (Class<List<String>>) (Class<?>) List.class);
+
+    @Resource
+    private StringRedisTemplate template;
+
+    @Autowired
+    private SchedulerConfigurationProperties properties;
+
+    @Autowired
+    private ExecutorChannelRegistry channelRegistry;
+
+    @Autowired
+    private ExecutorChannelDispatcher channelDispatcher;
+
+    private ScheduledExecutorService consumer;
+
+    /**
+     * 已确认存在消费组的执行器
+     */
+    private final Set<String> groups = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 未开启时, 有溢出任务的执行器
+     */
+    private final Set<String> spilled = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder offeredCount = new LongAdder();
+    private final LongAdder spilledCount = new LongAdder();
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder reclaimedCount = new LongAdder();
+    private final LongAdder ackedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder pollFailureCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        // 每个成员都要消费自己执行器的 stream, 不随 Leader 切换取消, 因此不使用 Leader 的扫描执行器; 未开启时也要读取溢出的任务
+        consumer = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("scheduler-dispatch-stream")
+                .setDaemon(true)
+                .build());
+        long interval = properties.getClusterDispatchStreamPollInterval();
+        consumer.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (Objects.nonNull(consumer)) {
+            consumer.shutdownNow();
+        }
+    }
+
+    public boolean enabled() {
+        return properties.isClusterDispatchStream();
+    }
+
+    /**
+     * 一次脚本调用写入同一执行器的一批任务
+     *
+     * @param actuatorKey
+     * @param messages
+     */
+    public void offer(String actuatorKey, List<String> messages) {
+        if (CollectionUtils.isEmpty(messages)) {
+            return;
+        }
+        Object[] args = new Object[messages.size() + 2];
+        args[0] = GROUP;
+        args[1] = String.valueOf(properties.getClusterDispatchStreamMaxLen());
+        for (int i = 0; i < messages.size(); i++) {
+            args[i + 2] = messages.get(i);
+        }
+        template.execute(OFFER, Collections.singletonList(this.streamKey(actuatorKey)), args);
+        offeredCount.add(messages.size());
+    }
+
+    /**
+     * 等待队列已满的任务写入 stream, 有空位时再读取
+     *
+     * @param actuatorKey
+     * @param message
+     */
+    public void spill(String actuatorKey, String message) {
+        this.offer(actuatorKey, Collections.singletonList(message));
+        spilled.add(actuatorKey);
+        spilledCount.increment();
+    }
+
+    /**
+     * 执行器回写执行状态后确认条目
+     *
+     * @param actuatorKey
+     * @param dispatchId
+     */
+    public void ack(String actuatorKey, String dispatchId) {
+        if (StringUtils.isAnyBlank(actuatorKey, dispatchId)) {
+            return;
+        }
+        byte[] key = this.streamKey(actuatorKey).getBytes(StandardCharsets.UTF_8);
+        byte[] group = GROUP.getBytes(StandardCharsets.UTF_8);
+        byte[] id = dispatchId.getBytes(StandardCharsets.UTF_8);
+        Object acked = template.execute((RedisCallback<Object>) (RedisConnection connection) -> connection.execute("XACK", key, group, id));
+        if (acked instanceof Long && (Long) acked > 0) {
+            ackedCount.increment();
+        }
+    }
+
+    /**
+     * 读取当前成员持有的所有执行器的 stream, 未开启时只读取有溢出任务的执行器
+     */
+    private void poll() {
+        Collection<String> actuatorKeys = this.enabled() ? channelRegistry.apps() : new ArrayList<>(spilled);
+        for (String actuatorKey : actuatorKeys) {
+            try {
+                this.createGroup(actuatorKey);
+                int pending = this.reclaim(actuatorKey);
+                int read = this.read(actuatorKey);
+                if (pending == 0 && read == 0) {
+                    spilled.remove(actuatorKey);
+                }
+            } catch (Exception e) {
+                // 异常不能抛出, 否则后续轮询不再执行
+                pollFailureCount.increment();
+                // stream 可能已被删除, 下次重新创建消费组
+                groups.remove(actuatorKey);
+                log.warn(">>> 执行器: {} 读取指派 stream 失败, 原因: {}", actuatorKey, e.getLocalizedMessage());
+            }
+        }
+    }
+
+    /**
+     * 消费组不存在时从头创建, stream 不存在时一并创建
+     *
+     * @param actuatorKey
+     */
+    private void createGroup(String actuatorKey) {
+        if (groups.contains(actuatorKey)) {
+            return;
+        }
+        byte[][] args = this.toBytes("CREATE", this.streamKey(actuatorKey), GROUP, "0", "MKSTREAM");
+        try {
+            template.execute((RedisCallback<Object>) (RedisConnection connection) -> connection.execute("XGROUP", args));
+        } catch (Exception e) {
+            if (!StringUtils.contains(String.valueOf(e.getMessage()), "BUSYGROUP")
+                    && !StringUtils.contains(String.valueOf(Objects.nonNull(e.getCause()) ? e.getCause().getMessage() : null), "BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groups.add(actuatorKey);
+    }
+
+    /**
+     * @param actuatorKey
+     * @return 未确认的条目数量, 最多 READ_COUNT; 等待队列已满时返回 -1
+     */
+    private int reclaim(String actuatorKey) {
+        int count = Math.min(READ_COUNT, channelDispatcher.capacity(actuatorKey));
+        if (count <= 0) {
+            return -1;
+        }
+        List<String> result = template.execute(RECLAIM, Collections.singletonList(this.streamKey(actuatorKey)),
+                GROUP, this.currentMember(), String.valueOf(count),
+                String.valueOf(properties.getClusterDispatchStreamPendingTimeout() * 1000L), String.valueOf(MAX_DELIVERIES));
+        if (CollectionUtils.isEmpty(result)) {
+            return 0;
+        }
+        long dropped = Long.parseLong(result.get(0));
+        if (dropped > 0) {
+            droppedCount.add(dropped);
+            log.warn(">>> 执行器: {} 有 {} 个任务多次投递未确认, 已丢弃", actuatorKey, dropped);
+        }
+        for (int i = 2; i + 1 < result.size(); i += 2) {
+            reclaimedCount.increment();
+            this.deliver(actuatorKey, result.get(i), result.get(i + 1));
+        }
+        return Integer.parseInt(result.get(1));
+    }
+
+    /**
+     * XREADGROUP 不能在脚本中执行, 直接发送命令, 不阻塞
+     *
+     * @param actuatorKey
+     * @return 读取的条目数量, 等待队列已满时返回 -1
+     */
+    private int read(String actuatorKey) {
+        int count = Math.min(READ_COUNT, channelDispatcher.capacity(actuatorKey));
+        if (count <= 0) {
+            return -1;
+        }
+        byte[][] args = this.toBytes("GROUP", GROUP, this.currentMember(), "COUNT", String.valueOf(count),
+                "STREAMS", this.streamKey(actuatorKey), ">");
+        Object reply = template.execute((RedisCallback<Object>) (RedisConnection connection) -> connection.execute("XREADGROUP", args));
+        if (!(reply instanceof List)) {
+            return 0;
+        }
+        int read = 0;
+        // [[stream, [[id, [field, value]], ...]]]
+        for (Object stream : (List<?>) reply) {
+            List<?> entries = (List<?>) ((List<?>) stream).get(1);
+            for (Object entry : entries) {
+                List<?> fields = (List<?>) ((List<?>) entry).get(1);
+                this.deliver(actuatorKey, this.toString(((List<?>) entry).get(0)), this.toString(fields.get(1)));
+                read++;
+            }
+        }
+        return read;
+    }
+
+    /**
+     * 执行器已断开或等待队列已满时不确认, 由其他持有者在超时后认领
+     */
+    private void deliver(String actuatorKey, String dispatchId, String message) {
+        SchedulerTaskMessage task = JsonUtils.fromJson(message, SchedulerTaskMessage.class);
+        if (Objects.isNull(task)) {
+            return;
+        }
+        task.setDispatchId(dispatchId);
+        if (channelDispatcher.dispatch(actuatorKey, task)) {
+            deliveredCount.increment();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("enabled", this.enabled());
+        map.put("offeredCount", offeredCount.sum());
+        map.put("spilledCount", spilledCount.sum());
+        map.put("spilled", new TreeSet<>(spilled));
+        map.put("deliveredCount", deliveredCount.sum());
+        map.put("reclaimedCount", reclaimedCount.sum());
+        map.put("ackedCount", ackedCount.sum());
+        map.put("droppedCount", droppedCount.sum());
+        map.put("pollFailureCount", pollFailureCount.sum());
+        return map;
+    }
+
+    private byte[][] toBytes(String... args) {
+        byte[][] bytes = new byte[args.length][];
+        for (int i = 0; i < args.length; i++) {
+            bytes[i] = args[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    private String toString(Object value) {
+        return value instanceof byte[] ? new String((byte[]) value, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    private String currentMember() {
+        return properties.getRegisterName();
+    }
+
+    private String streamKey(String actuatorKey) {
+        return Constants.SCHEDULER_DISPATCH_STREAM_PREF + actuatorKey;
+    }
+}
@@ -0,0 +1,105 @@
+package com.microservice.redis;
+
+import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.enums.RedisListenerEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.Resource;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-08
+ * <p>
+ * 实体缓存管理
+ * <p>
+ * L1: 每个集群成员进程内的副本; L2: redis 中按实体保存的 hash.
+ * 任一成员写入 L2 后在 {@link RedisListenerEnum#ENTITY_CACHE_INVALIDATE} 频道广播 缓存名称 + 版本号,
+ * 其他成员收到后将版本号更低的 L1 标记为过期, 下次读取时从 L2 增量同步
+ */
+@Service
+@Slf4j
+public class RedisEntityCacheManager {
+
+    private static final String SEPARATOR = "@";
+
+    @Resource
+    private StringRedisTemplate template;
+
+    @Autowired
+    private SchedulerConfigurationProperties properties;
+
+    private final Map<String, RedisEntityDeltaCache<?>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * 创建实体缓存
+     *
+     * @param name       缓存名称, 每张表唯一
+     * @param type
+     * @param idFunction 获取实体主键
+     * @param pageLoader 从数据库按主键顺序分页加载, 参数: 上一页最后的主键(第一页为 0), 每页条数
+     * @param idsLoader  从数据库按主键加载
+     * @param <V>
+     * @return
+     */
+    public <V> RedisEntityDeltaCache<V> create(String name, Class<V> type, Function<V, Integer> idFunction,
+                                               BiFunction<Integer, Integer, List<V>> pageLoader,
+                                               Function<Collection<Integer>, List<V>> idsLoader) {
+        RedisEntityDeltaCache<V> cache = new RedisEntityDeltaCache<>(template, name, type, idFunction, pageLoader, idsLoader,
+                properties.getEntityCacheLocalMaxSize(), properties.getEntityCacheLocalExpire() * 1000L,
+                version -> this.publish(name, version));
+        if (Objects.nonNull(caches.putIfAbsent(name, cache))) {
+            throw new IllegalStateException("entity cache already exists: " + name);
+        }
+        return cache;
+    }
+
+    /**
+     * 通知集群其他成员 L1 过期
+     *
+     * @param name
+     * @param version
+     */
+    private void publish(String name, long version) {
+        try {
+            template.convertAndSend(RedisListenerEnum.ENTITY_CACHE_INVALIDATE.getType(), name + SEPARATOR + version);
+        } catch (Exception e) {
+            // 通知丢失时 L1 最多在过期时间后重新同步
+            log.warn(">>> 实体缓存: {} 变更通知发送失败, 原因: {}", name, e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * 收到变更通知
+     *
+     * @param message 缓存名称@版本号
+     */
+    public void onInvalidate(String message) {
+        int index = StringUtils.lastIndexOf(message, SEPARATOR);
+        if (index <= 0) {
+            return;
+        }
+        RedisEntityDeltaCache<?> cache = caches.get(message.substring(0, index));
+        if (Objects.nonNull(cache)) {
+            cache.invalidate(Long.parseLong(message.substring(index + 1)));
+        }
+    }
+
+    /**
+     * 所有实体缓存的命中统计
+     *
+     * @return
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+}
@@ -0,0 +1,562 @@
+package com.microservice.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.microservice.utils.Constants;
+import com.microservice.utils.JsonUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-07
+ * <p>
+ * 按实体保存的全表缓存, 替代 @Cacheable 全量列表 + @CacheEvict(allEntries = true)
+ * <p>
+ * redis 中每张表保存:
+ * data: hash, field: 主键, value: 实体 json;
+ * version: 变更版本号, 每次写入递增;
+ * changes: 有序集合, member: 主键, score: 该实体最后一次变更的版本号;
+ * trimmed: changes 超过上限后被裁剪掉的最大版本号, 本地版本号低于它时只能全量同步;
+ * seq: 写入序号, 写入方查询数据库之前递增取得;
+ * stamps: hash, field: 主键, value: 该实体最后一次写入的序号
+ * <p>
+ * 写入方在数据库提交后按主键重新查询并写入(write-through), 查询不到视为已删除; 查询前取得的序号越大, 读到的数据越新,
+ * 两个写入方先后提交时, 序号较小(快照较旧)的写入较晚到达也会被跳过, 不会覆盖较新的数据
+ * <p>
+ * 读取方在本地保留一份副本和版本号, 版本号未变化时不访问 hash, 变化时只取 (本地版本号, 当前版本号] 内变更的实体
+ * <p>
+ * redis 中没有版本号时(首次启动或数据被清空), 由一个节点从数据库按主键分页全量加载, 每页一次脚本调用写入 hash,
+ * 不会因为一次写入整张表而长时间阻塞 redis; 加载期间读取方直接查询数据库
+ * <p>
+ * 本地副本(L1)在收到更高版本号的变更通知前直接返回, 不访问 redis(L2); 通知丢失时最多在 localExpireMillis 后重新同步.
+ * 超过 localMaxSize 的表不保留本地副本, 每次读取都从 redis 全量获取
+ *
+ * @param <V> 实体
+ */
+@Slf4j
+public class RedisEntityDeltaCache<V> {
+
+    /**
+     * changes 最多保留的实体数
+     */
+    private static final int MAX_CHANGES = 10000;
+
+    /**
+     * 全量加载最长时间, 超时后其他节点可以重新加载
+     */
+    private static final int LOADING_SECONDS = 60;
+
+    /**
+     * 全量加载时每页的实体数, 每页一次数据库查询和一次脚本调用
+     */
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private static final String DELETED = "";
+
+    /**
+     * KEYS: data, version, changes, trimmed, stamps; ARGV[1]: changes 上限, ARGV[2]: 写入序号, 之后为 主键, json 对, json 为空表示删除
+     * <p>
+     * 没有版本号说明正在等待全量加载, 本次写入已在数据库中, 直接忽略; 已有更大序号写入的实体跳过, 全部跳过时返回 0
+     */
+    private static final String PUT_SCRIPT =
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return -1 end " +
+                    "local seq = tonumber(ARGV[2]) " +
+                    "local writes = {} " +
+                    "for i = 3, #ARGV, 2 do " +
+                    "  local stamp = redis.call('HGET', KEYS[5], ARGV[i]) " +
+                    "  if not stamp or tonumber(stamp) < seq then writes[#writes + 1] = i end " +
+                    "end " +
+                    "if #writes == 0 then return 0 end " +
+                    "local v = redis.call('INCR', KEYS[2]) " +
+                    "for _, i in ipairs(writes) do " +
+                    "  if ARGV[i + 1] == '' then redis.call('HDEL', KEYS[1], ARGV[i]) else redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "  redis.call('HSET', KEYS[5], ARGV[i], ARGV[2]) " +
+                    "  redis.call('ZADD', KEYS[3], v, ARGV[i]) " +
+                    "end " +
+                    "local over = redis.call('ZCARD', KEYS[3]) - tonumber(ARGV[1]) " +
+                    "if over > 0 then " +
+                    "  local removed = redis.call('ZRANGE', KEYS[3], over - 1, over - 1, 'WITHSCORES') " +
+                    "  redis.call('SET', KEYS[4], removed[2]) " +
+                    "  redis.call('ZREMRANGEBYRANK', KEYS[3], 0, over - 1) " +
+                    "end " +
+                    "return v";
+
+    /**
+     * KEYS: data, version, changes, trimmed, loading, stamps; ARGV[1]: 初始版本号, ARGV[2]: 加载超时秒数, ARGV[3]: 本次加载的标识
+     * <p>
+     * 初始版本号使用当前时间, 保证 redis 数据清空后版本号仍然单调递增
+     */
+    private static final String BEGIN_LOAD_SCRIPT =
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end " +
+                    "if not redis.call('SET', KEYS[5], ARGV[3], 'NX', 'EX', ARGV[2]) then return 0 end " +
+                    "redis.call('DEL', KEYS[1], KEYS[3], KEYS[6]) " +
+                    "redis.call('SET', KEYS[2], ARGV[1]) " +
+                    "redis.call('SET', KEYS[4], ARGV[1]) " +
+                    "return 1";
+
+    /**
+     * KEYS: data, changes, loading; ARGV[1]: 本次加载的标识, ARGV[2]: 加载超时秒数, 之后为 主键, json 对
+     * <p>
+     * 加载期间已经 write-through 的实体以 changes 中的为准, 不被数据库快照覆盖; 每写入一页延长加载超时.
+     * 加载标识不一致说明已超时, 返回 0, 不再写入
+     */
+    private static final String LOAD_PAGE_SCRIPT =
+            "if redis.call('GET', KEYS[3]) ~= ARGV[1] then return 0 end " +
+                    "redis.call('EXPIRE', KEYS[3], ARGV[2]) " +
+                    "for i = 3, #ARGV, 2 do " +
+                    "  if not redis.call('ZSCORE', KEYS[2], ARGV[i]) then redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "end " +
+                    "return 1";
+
+    /**
+     * KEYS: version, loading; ARGV[1]: 本次加载的标识
+     * <p>
+     * 所有分页写入后递增版本号并结束加载, 加载标识不一致时返回 -1
+     */
+    private static final String FINISH_LOAD_SCRIPT =
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return -1 end " +
+                    "local v = redis.call('INCR', KEYS[1]) " +
+                    "redis.call('DEL', KEYS[2]) " +
+                    "return v";
+
+    /**
+     * KEYS: data, version, changes, trimmed, loading; ARGV[1]: 本地版本号
+     * <p>
+     * 返回 {'-1'}: 正在全量加载; {version}: 无变化; {version, 'full', 主键, json...}: 全量; {version, 'delta', 主键, json...}: 增量, json 为空表示已删除
+     */
+    private static final String SYNC_SCRIPT =
+            "local v = redis.call('GET', KEYS[2]) " +
+                    "if not v or redis.call('EXISTS', KEYS[5]) == 1 then return {'-1'} end " +
+                    "local lv = tonumber(ARGV[1]) " +
+                    "if tonumber(v) == lv then return {v} end " +
+                    "local trimmed = tonumber(redis.call('GET', KEYS[4]) or '0') " +
+                    "if lv < trimmed or lv > tonumber(v) then " +
+                    "  local all = redis.call('HGETALL', KEYS[1]) " +
+                    "  local result = {v, 'full'} " +
+                    "  for i = 1, #all do result[#result + 1] = all[i] end " +
+                    "  return result " +
+                    "end " +
+                    "local ids = redis.call('ZRANGEBYSCORE', KEYS[3], '(' .. ARGV[1], '+inf') " +
+                    "local result = {v, 'delta'} " +
+                    "for i = 1, #ids do " +
+                    "  result[#result + 1] = ids[i] " +
+                    "  result[#result + 1] = redis.call('HGET', KEYS[1], ids[i]) or '' " +
+                    "end " +
+                    "return result";
+
+    private static final RedisScript<Long> PUT = new DefaultRedisScript<>(PUT_SCRIPT, Long.class);
+    private static final RedisScript<Long> BEGIN_LOAD = new DefaultRedisScript<>(BEGIN_LOAD_SCRIPT, Long.class);
+    private static final RedisScript<Long> LOAD_PAGE = new DefaultRedisScript<>(LOAD_PAGE_SCRIPT, Long.class);
+    private static final RedisScript<Long> FINISH_LOAD = new DefaultRedisScript<>(FINISH_LOAD_SCRIPT, Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SYNC = new DefaultRedisScript<>(SYNC_SCRIPT, List.class);
+
+    private final StringRedisTemplate template;
+    private final Class<V> type;
+    private final Function<V, Integer> idFunction;
+    private final BiFunction<Integer, Integer, List<V>> pageLoader;
+    private final Function<Collection<Integer>, List<V>> idsLoader;
+    private final int localMaxSize;
+    private final long localExpireMillis;
+    private final LongConsumer changeListener;
+
+    private final String dataKey;
+    private final String versionKey;
+    private final String changesKey;
+    private final String trimmedKey;
+    private final String loadingKey;
+    private final String seqKey;
+    private final String stampsKey;
+
+    /**
+     * 本地副本, key: 主键
+     */
+    private final Map<Integer, V> local = new HashMap<>();
+
+    /**
+     * 本地副本对应的版本号, -1 表示需要全量同步
+     */
+    private long localVersion = -1;
+
+    /**
+     * 上次与 redis 同步的时间
+     */
+    private long lastSyncTime;
+
+    /**
+     * 已知的最新版本号, 来自变更通知或本节点写入, 大于本地版本号时本地副本过期
+     */
+    private final AtomicLong latestVersion = new AtomicLong(-1);
+
+    private final LongAdder l1HitCount = new LongAdder();
+    private final LongAdder l2HitCount = new LongAdder();
+    private final LongAdder l2FullCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder invalidateCount = new LongAdder();
+
+    /**
+     * @param template
+     * @param name              缓存名称, 每张表唯一
+     * @param type
+     * @param idFunction        获取实体主键
+     * @param pageLoader        从数据库按主键顺序分页加载, 参数: 上一页最后的主键(第一页为 0), 每页条数
+     * @param idsLoader         从数据库按主键加载
+     * @param localMaxSize      本地副本最多保留的实体数
+     * @param localExpireMillis 本地副本未收到变更通知时的最长有效时间
+     * @param changeListener    本节点写入 redis 后回调, 参数为写入后的版本号
+     */
+    public RedisEntityDeltaCache(StringRedisTemplate template, String name, Class<V> type, Function<V, Integer> idFunction,
+                                 BiFunction<Integer, Integer, List<V>> pageLoader, Function<Collection<Integer>, List<V>> idsLoader,
+                                 int localMaxSize, long localExpireMillis, LongConsumer changeListener) {
+        this.template = template;
+        this.type = type;
+        this.idFunction = idFunction;
+        this.pageLoader = pageLoader;
+        this.idsLoader = idsLoader;
+        this.localMaxSize = localMaxSize;
+        this.localExpireMillis = localExpireMillis;
+        this.changeListener = changeListener;
+
+        String prefix = Constants.SCHEDULER_ENTITY_CACHE_PREF + name + ":";
+        this.dataKey = prefix + "data";
+        this.versionKey = prefix + "version";
+        this.changesKey = prefix + "changes";
+        this.trimmedKey = prefix + "trimmed";
+        this.loadingKey = prefix + "loading";
+        this.seqKey = prefix + "seq";
+        this.stampsKey = prefix + "stamps";
+    }
+
+    /**
+     * 所有实体, 本地副本过期时先同步到最新版本
+     * <p>
+     * 返回的实体与本地副本共享, 调用方不能修改
+     *
+     * @return
+     */
+    public synchronized List<V> values() {
+        long now = System.currentTimeMillis();
+        if (localVersion >= 0 && localVersion >= latestVersion.get() && now - lastSyncTime < localExpireMillis) {
+            l1HitCount.increment();
+            return new ArrayList<>(local.values());
+        }
+        return this.sync(now);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<V> sync(long now) {
+        List<String> result = template.execute(SYNC, Arrays.asList(dataKey, versionKey, changesKey, trimmedKey, loadingKey),
+                String.valueOf(localVersion));
+        if (CollectionUtils.isEmpty(result) || Objects.deepEquals(result.get(0), "-1")) {
+            loadCount.increment();
+            local.clear();
+            localVersion = -1;
+            return this.load();
+        }
+
+        l2HitCount.increment();
+        long version = Long.parseLong(result.get(0));
+        if (result.size() > 1) {
+            boolean full = Objects.deepEquals(result.get(1), "full");
+            if (full) {
+                l2FullCount.increment();
+                local.clear();
+            }
+            for (int i = 2; i + 1 < result.size(); i += 2) {
+                Integer id = Integer.valueOf(result.get(i));
+                String json = result.get(i + 1);
+                if (Objects.deepEquals(json, DELETED)) {
+                    local.remove(id);
+                } else {
+                    local.put(id, this.fromJson(json));
+                }
+            }
+            log.debug(">>> {} 缓存同步: {} -> {}, {}: {}", dataKey, localVersion, version, full ? "全量" : "增量", (result.size() - 2) / 2);
+        }
+        List<V> values = new ArrayList<>(local.values());
+        if (local.size() > localMaxSize) {
+            // 超过上限不保留本地副本, 下次读取重新全量获取
+            local.clear();
+            localVersion = -1;
+        } else {
+            localVersion = version;
+            lastSyncTime = now;
+        }
+        return values;
+    }
+
+    /**
+     * sinceVersion 之后变更的实体, 不读写本地副本, 供按变更增量处理的调用方使用
+     *
+     * @param sinceVersion 调用方已处理到的版本号, 小于 0 或已被裁剪时返回全量
+     * @return 正在全量加载时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public Delta<V> changes(long sinceVersion) {
+        List<String> result = template.execute(SYNC, Arrays.asList(dataKey, versionKey, changesKey, trimmedKey, loadingKey),
+                String.valueOf(sinceVersion));
+        if (CollectionUtils.isEmpty(result) || Objects.deepEquals(result.get(0), "-1")) {
+            return null;
+        }
+
+        boolean full = result.size() > 1 && Objects.deepEquals(result.get(1), "full");
+        Map<Integer, V> changes = new HashMap<>(Math.max(result.size(), 2));
+        for (int i = 2; i + 1 < result.size(); i += 2) {
+            String json = result.get(i + 1);
+            changes.put(Integer.valueOf(result.get(i)), Objects.deepEquals(json, DELETED) ? null : this.fromJson(json));
+        }
+        return new Delta<>(Long.parseLong(result.get(0)), full, changes);
+    }
+
+    /**
+     * 收到其他成员的变更通知
+     *
+     * @param version 变更后的版本号
+     */
+    public void invalidate(long version) {
+        invalidateCount.increment();
+        latestVersion.accumulateAndGet(version, Math::max);
+    }
+
+    /**
+     * 命中统计, l1: 本地副本, l2: redis, load: redis 未就绪时直接查询数据库
+     *
+     * @return
+     */
+    public Map<String, Object> stats() {
+        long l1 = l1HitCount.sum();
+        long l2 = l2HitCount.sum();
+        long load = loadCount.sum();
+        long total = l1 + l2 + load;
+        Map<String, Object> map = new LinkedHashMap<>();
+        synchronized (this) {
+            map.put("localSize", local.size());
+            map.put("localVersion", localVersion);
+        }
+        map.put("latestVersion", latestVersion.get());
+        map.put("l1HitCount", l1);
+        map.put("l1HitRate", total == 0 ? 0D : (double) l1 / total);
+        map.put("l2HitCount", l2);
+        map.put("l2FullSyncCount", l2FullCount.sum());
+        map.put("l2HitRate", l2 + load == 0 ? 0D : (double) l2 / (l2 + load));
+        map.put("loadCount", load);
+        map.put("invalidateCount", invalidateCount.sum());
+        return map;
+    }
+
+    /**
+     * 当前变更版本号, 本地副本未过期时不访问 redis, 未加载时先全量加载, 正在全量加载时返回 -1
+     *
+     * @return
+     */
+    public synchronized long version() {
+        this.values();
+        if (localVersion >= 0) {
+            return localVersion;
+        }
+        // 超过本地副本上限, 直接读取 redis
+        String version = template.opsForValue().get(versionKey);
+        if (Objects.isNull(version) || Boolean.TRUE.equals(template.hasKey(loadingKey))) {
+            return -1;
+        }
+        return Long.parseLong(version);
+    }
+
+    /**
+     * 实体已在数据库中新增、修改或删除, 按主键重新查询并写入缓存
+     * <p>
+     * 在事务中调用时, 等到事务提交后再写入, 避免其他节点读到未提交或已回滚的数据
+     *
+     * @param ids
+     */
+    public void refresh(Collection<Integer> ids) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return;
+        }
+        List<Integer> refreshIds = new ArrayList<>(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    RedisEntityDeltaCache.this.doRefresh(refreshIds);
+                }
+            });
+        } else {
+            this.doRefresh(refreshIds);
+        }
+    }
+
+    public void refresh(Integer id) {
+        if (Objects.nonNull(id)) {
+            this.refresh(Collections.singletonList(id));
+        }
+    }
+
+    private void doRefresh(Collection<Integer> ids) {
+        try {
+            // 查询之前取得序号
+            Long seq = template.opsForValue().increment(seqKey, 1);
+            Map<Integer, V> latest = new HashMap<>(ids.size() * 2);
+            List<V> values = idsLoader.apply(ids);
+            if (!CollectionUtils.isEmpty(values)) {
+                values.forEach(f -> latest.put(idFunction.apply(f), f));
+            }
+
+            List<String> args = new ArrayList<>(ids.size() * 2 + 2);
+            args.add(String.valueOf(MAX_CHANGES));
+            args.add(String.valueOf(seq));
+            for (Integer id : ids) {
+                V value = latest.get(id);
+                args.add(String.valueOf(id));
+                args.add(Objects.isNull(value) ? DELETED : this.toJson(value));
+            }
+            Long version = template.execute(PUT, Arrays.asList(dataKey, versionKey, changesKey, trimmedKey, stampsKey), args.toArray());
+            if (Objects.nonNull(version) && version > 0) {
+                latestVersion.accumulateAndGet(version, Math::max);
+                changeListener.accept(version);
+            }
+        } catch (Exception e) {
+            // 写入失败时删除版本号, 下次读取时重新全量加载, 避免缓存永久不一致
+            log.error(">>> {} 缓存写入失败, 将重新全量加载, 原因: {}", dataKey, e.getLocalizedMessage(), e);
+            template.delete(versionKey);
+        }
+    }
+
+    /**
+     * redis 中没有数据时从数据库分页全量加载, 同时只有一个节点写入 redis, 其他节点直接返回数据库结果
+     *
+     * @return
+     */
+    private List<V> load() {
+        String token = UUID.randomUUID().toString();
+        Long begin = template.execute(BEGIN_LOAD, Arrays.asList(dataKey, versionKey, changesKey, trimmedKey, loadingKey, stampsKey),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(LOADING_SECONDS), token);
+        boolean loading = Objects.nonNull(begin) && begin == 1;
+
+        List<V> values = new ArrayList<>();
+        try {
+            int lastId = 0;
+            List<V> page;
+            do {
+                page = pageLoader.apply(lastId, LOAD_PAGE_SIZE);
+                if (CollectionUtils.isEmpty(page)) {
+                    break;
+                }
+                values.addAll(page);
+                lastId = idFunction.apply(page.get(page.size() - 1));
+                loading = loading && this.loadPage(token, page);
+            } while (page.size() >= LOAD_PAGE_SIZE);
+
+            if (loading) {
+                loading = false;
+                this.finishLoad(token, values.size());
+            }
+        } finally {
+            if (loading) {
+                // 数据库查询失败, 释放加载, 下次读取重新全量加载
+                template.delete(Arrays.asList(versionKey, loadingKey));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 写入一页
+     *
+     * @param token
+     * @param page
+     * @return 是否继续写入下一页
+     */
+    private boolean loadPage(String token, List<V> page) {
+        try {
+            List<String> args = new ArrayList<>(page.size() * 2 + 2);
+            args.add(token);
+            args.add(String.valueOf(LOADING_SECONDS));
+            for (V value : page) {
+                args.add(String.valueOf(idFunction.apply(value)));
+                args.add(this.toJson(value));
+            }
+            Long result = template.execute(LOAD_PAGE, Arrays.asList(dataKey, changesKey, loadingKey), args.toArray());
+            if (Objects.isNull(result) || result != 1) {
+                log.warn(">>> {} 缓存全量加载超时, 停止写入", dataKey);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.error(">>> {} 缓存全量加载失败, 原因: {}", dataKey, e.getLocalizedMessage(), e);
+            template.delete(Arrays.asList(versionKey, loadingKey));
+            return false;
+        }
+    }
+
+    private void finishLoad(String token, int size) {
+        try {
+            Long version = template.execute(FINISH_LOAD, Arrays.asList(versionKey, loadingKey), token);
+            if (Objects.isNull(version) || version < 0) {
+                log.warn(">>> {} 缓存全量加载超时, 未完成", dataKey);
+                return;
+            }
+            changeListener.accept(version);
+            log.info(">>> {} 缓存全量加载完成: {}", dataKey, size);
+        } catch (Exception e) {
+            log.error(">>> {} 缓存全量加载失败, 原因: {}", dataKey, e.getLocalizedMessage(), e);
+            template.delete(Arrays.asList(versionKey, loadingKey));
+        }
+    }
+
+    /**
+     * 一段版本区间内的变更
+     *
+     * @param <V>
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Delta<V> {
+
+        /**
+         * 变更后的版本号
+         */
+        private final long version;
+
+        /**
+         * 是否全量, 全量时 changes 包含所有实体, 不在其中的视为已删除
+         */
+        private final boolean full;
+
+        /**
+         * key: 主键, value: 最新实体, 为空表示已删除
+         */
+        private final Map<Integer, V> changes;
+    }
+
+    private String toJson(V value) {
+        try {
+            return JsonUtils.getMapper().writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private V fromJson(String json) {
+        try {
+            return JsonUtils.getMapper().readValue(json, type);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
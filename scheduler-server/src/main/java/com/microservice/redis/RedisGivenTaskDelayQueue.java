@@ -0,0 +1,82 @@
+package com.microservice.redis;
+
+import com.microservice.utils.Constants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import javax.annotation.Resource;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-06
+ * <p>
+ * 指定时间任务延迟队列
+ * <p>
+ * redis 有序集合, member: taskGivenId, score: 可调度时间 epoch millis;
+ * Leader 通过 lua 脚本原子地取出并删除已到期的任务, 多个 Leader 短暂重叠时同一任务也只会被取出一次.
+ * 任务状态与日志仍以 MySQL 为准, 队列只负责告诉 Leader 哪些任务到期了
+ */
+@Service
+@Slf4j
+public class RedisGivenTaskDelayQueue {
+
+    /**
+     * KEYS[1]: 队列 key, ARGV[1]: 当前时间 epoch millis, ARGV[2]: 最多取出条数
+     */
+    private static final String CLAIM_SCRIPT =
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+                    "if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end " +
+                    "return ids";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM = new DefaultRedisScript<>(CLAIM_SCRIPT, List.class);
+
+    @Resource
+    private StringRedisTemplate template;
+
+    /**
+     * 添加或更新任务的可调度时间
+     *
+     * @param taskGivenId
+     * @param dueEpochMillis
+     */
+    public void offer(Integer taskGivenId, long dueEpochMillis) {
+        template.opsForZSet().add(Constants.SCHEDULER_TASK_GIVEN_DELAY_QUEUE, String.valueOf(taskGivenId), dueEpochMillis);
+    }
+
+    public void remove(Collection<Integer> taskGivenIds) {
+        if (CollectionUtils.isEmpty(taskGivenIds)) {
+            return;
+        }
+        Object[] members = taskGivenIds.stream().map(String::valueOf).toArray();
+        template.opsForZSet().remove(Constants.SCHEDULER_TASK_GIVEN_DELAY_QUEUE, members);
+    }
+
+    /**
+     * 原子地取出并删除可调度时间 <= nowEpochMillis 的任务
+     *
+     * @param nowEpochMillis
+     * @param limit          最多取出条数
+     * @return taskGivenId, 按可调度时间升序
+     */
+    @SuppressWarnings("unchecked")
+    public List<Integer> claim(long nowEpochMillis, int limit) {
+        List<String> ids = template.execute(CLAIM, Collections.singletonList(Constants.SCHEDULER_TASK_GIVEN_DELAY_QUEUE),
+                String.valueOf(nowEpochMillis), String.valueOf(limit));
+        if (CollectionUtils.isEmpty(ids)) {
+            return Collections.emptyList();
+        }
+        return ids.stream().map(Integer::valueOf).collect(Collectors.toList());
+    }
+
+    public long size() {
+        Long size = template.opsForZSet().zCard(Constants.SCHEDULER_TASK_GIVEN_DELAY_QUEUE);
+        return Objects.isNull(size) ? 0 : size;
+    }
+}
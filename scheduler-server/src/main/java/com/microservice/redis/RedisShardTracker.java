@@ -0,0 +1,325 @@
+package com.microservice.redis;
+
+import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.dto.SchedulerTaskGivenRequestDto;
+import com.microservice.service.ISchedulerTaskGivenService;
+import com.microservice.utils.Constants;
+import com.microservice.utils.JsonUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.Resource;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p>
+ * 分片广播任务的分片状态
+ * <p>
+ * 任务的每次执行一个 hash: scheduler:shard:{cron|given}:{任务id}:{执行批次}, 分片序号 -> 执行状态;
+ * cron 任务的执行批次为计划触发时间, given 任务为重试次数.
+ * 指派时所有分片记为执行中, 分片回写后记为已执行或待重试, 全部分片回写后整个任务才完成, 任一分片失败整个任务失败.
+ * <p>
+ * 分片可能不会回写: 等待下发时实例断开, 分片对应的实例已不在任何成员名下, 执行中实例断开.
+ * 指派时在 {@link #DEADLINE} 中记录执行批次的截止时间(任务超时 + clusterShardTimeout), 完成时移除;
+ * Leader 周期调用 {@link #expire(long)}, 截止时间已过仍在执行中的分片记为失败, 整个任务按失败完成
+ */
+@Service
+@Slf4j
+public class RedisShardTracker {
+
+    private static final String DONE = "done";
+    private static final long EXPIRE_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    /**
+     * 未完成的执行批次: hash key -> 截止时间毫秒
+     */
+    private static final String DEADLINE = Constants.SCHEDULER_TASK_SHARD_PREF + "deadline";
+
+    /**
+     * 每次扫描最多处理的过期批次
+     */
+    private static final int EXPIRE_BATCH_SIZE = 100;
+
+    /**
+     * 记录分片状态, 全部分片回写后返回失败的分片数, 否则返回 -1; 分片状态已过期时返回 -2.
+     * 完成只返回一次, 同一分片重复回写不会再次完成
+     * KEYS[1]: hash, KEYS[2]: 截止时间 zset, ARGV[1]: 分片序号, ARGV[2]: 分片状态
+     */
+    private static final String COMPLETE_SCRIPT =
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return -2 end " +
+                    "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "local fields = redis.call('HGETALL', KEYS[1]) " +
+                    "local failed = 0 " +
+                    "for i = 1, #fields, 2 do " +
+                    "  if fields[i] ~= '" + DONE + "' then " +
+                    "    if fields[i + 1] == '" + Constants.TASK_EXECUTING + "' then return -1 end " +
+                    "    if fields[i + 1] == '" + Constants.TASK_WAIT_RETRY + "' then failed = failed + 1 end " +
+                    "  end " +
+                    "end " +
+                    "if redis.call('HSETNX', KEYS[1], '" + DONE + "', '1') == 0 then return -1 end " +
+                    "redis.call('ZREM', KEYS[2], KEYS[1]) " +
+                    "return failed";
+
+    /**
+     * 截止时间已过的执行批次, 仍在执行中的分片记为待重试并完成, 返回失败的分片数;
+     * 已被其他调用认领或已完成时返回 -1, 分片状态已过期时返回 -2
+     * KEYS[1]: hash, KEYS[2]: 截止时间 zset
+     */
+    private static final String EXPIRE_SCRIPT =
+            "if redis.call('ZREM', KEYS[2], KEYS[1]) == 0 then return -1 end " +
+                    "if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end " +
+                    "if redis.call('HEXISTS', KEYS[1], '" + DONE + "') == 1 then return -1 end " +
+                    "local fields = redis.call('HGETALL', KEYS[1]) " +
+                    "local failed = 0 " +
+                    "for i = 1, #fields, 2 do " +
+                    "  if fields[i] ~= '" + DONE + "' then " +
+                    "    if fields[i + 1] == '" + Constants.TASK_EXECUTING + "' then " +
+                    "      redis.call('HSET', KEYS[1], fields[i], '" + Constants.TASK_WAIT_RETRY + "') " +
+                    "      failed = failed + 1 " +
+                    "    elseif fields[i + 1] == '" + Constants.TASK_WAIT_RETRY + "' then failed = failed + 1 end " +
+                    "  end " +
+                    "end " +
+                    "redis.call('HSET', KEYS[1], '" + DONE + "', '1') " +
+                    "return failed";
+
+    private static final DefaultRedisScript<Long> COMPLETE = new DefaultRedisScript<>(COMPLETE_SCRIPT, Long.class);
+    private static final DefaultRedisScript<Long> EXPIRE = new DefaultRedisScript<>(EXPIRE_SCRIPT, Long.class);
+
+    @Resource
+    private StringRedisTemplate template;
+
+    @Autowired
+    private SchedulerConfigurationProperties properties;
+
+    @Autowired
+    private ISchedulerTaskGivenService taskGivenService;
+
+    private final LongAdder shardedCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * 是否分片广播任务
+     *
+     * @param task
+     * @return
+     */
+    public boolean isSharding(SchedulerTaskMessage task) {
+        if (task.isCron()) {
+            return Objects.nonNull(task.getTaskCronDto())
+                    && Objects.deepEquals(task.getTaskCronDto().getTaskCronShard(), Constants.TASK_SHARDING);
+        }
+        return Objects.nonNull(task.getTaskGivenDto())
+                && Objects.deepEquals(task.getTaskGivenDto().getTaskGivenShard(), Constants.TASK_SHARDING);
+    }
+
+    /**
+     * 按实例拆分为分片, 所有分片记为执行中
+     *
+     * @param task      任务
+     * @param instances 在线实例 ip:port, 顺序即分片序号
+     * @return 每个实例一个分片的任务通知
+     */
+    public List<String> shard(SchedulerTaskMessage task, List<String> instances) {
+        int total = instances.size();
+        Map<String, String> shards = new LinkedHashMap<>(total * 2);
+        List<String> messages = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            task.setShardIndex(i)
+                    .setShardTotal(total)
+                    .setExecutorAddress(instances.get(i));
+            messages.add(JsonUtils.toJson(task));
+            shards.put(String.valueOf(i), Constants.TASK_EXECUTING);
+        }
+
+        String key = this.key(task);
+        template.opsForHash().putAll(key, shards);
+        template.expire(key, EXPIRE_SECONDS, TimeUnit.SECONDS);
+        template.opsForZSet().add(DEADLINE, key, System.currentTimeMillis() + this.deadlineMillis(task));
+        shardedCount.increment();
+        return messages;
+    }
+
+    /**
+     * 执行批次的截止时间: 任务自己的执行超时加上 clusterShardTimeout
+     */
+    private long deadlineMillis(SchedulerTaskMessage task) {
+        Integer timeout = task.isCron() ? task.getTaskCronDto().getTaskCronTimeout() : task.getTaskGivenDto().getTaskGivenTimeout();
+        long seconds = (Objects.isNull(timeout) ? 0 : Math.max(0, timeout)) + properties.getClusterShardTimeout();
+        return TimeUnit.SECONDS.toMillis(seconds);
+    }
+
+    /**
+     * 分片回写
+     *
+     * @param task    回写的分片
+     * @param success 分片是否执行成功
+     * @return 全部分片回写后返回整个任务是否成功, 还有分片执行中时返回 null
+     */
+    public Boolean complete(SchedulerTaskMessage task, boolean success) {
+        String status = success ? Constants.TASK_ALREADY_EXECUTE : Constants.TASK_WAIT_RETRY;
+        Long failed = template.execute(COMPLETE, Arrays.asList(this.key(task), DEADLINE),
+                String.valueOf(task.getShardIndex()), status);
+
+        if (Objects.isNull(failed) || failed == -1) {
+            return null;
+        }
+        if (failed == -2) {
+            // 分片状态已过期, 按本分片结果处理
+            log.warn(">>> 分片任务: {} 的分片状态不存在, 分片: {}/{}", this.key(task), task.getShardIndex(), task.getShardTotal());
+            return success;
+        }
+        completedCount.increment();
+        if (failed > 0) {
+            failedCount.increment();
+            log.info(">>> 分片任务: {} 全部分片已回写, 失败分片: {}/{}", this.key(task), failed, task.getShardTotal());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 分片回写, 全部分片回写后修改整个任务的执行状态
+     *
+     * @param task    回写的分片
+     * @param success 分片是否执行成功
+     * @return 同 {@link #complete(SchedulerTaskMessage, boolean)}
+     */
+    public Boolean settle(SchedulerTaskMessage task, boolean success) {
+        Boolean completed = this.complete(task, success);
+        if (Objects.nonNull(completed)) {
+            if (task.isCron()) {
+                this.finished(true, task.getTaskCronDto().getTaskCronId(), task.getSchedulerFireTime(), completed);
+            } else {
+                Integer retryCount = task.getTaskGivenDto().getTaskGivenRetryCount();
+                this.finished(false, task.getTaskGivenDto().getTaskGivenId(), Objects.isNull(retryCount) ? 0 : retryCount, completed);
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * 分片没有下发到实例, 不会再回写, 按执行失败完成
+     *
+     * @param task
+     * @param reason
+     */
+    public void drop(SchedulerTaskMessage task, String reason) {
+        droppedCount.increment();
+        log.warn(">>> 分片任务: {} 的分片: {}/{} 未执行, 按失败处理, 原因: {}", this.key(task), task.getShardIndex(), task.getShardTotal(), reason);
+        try {
+            this.settle(task, false);
+        } catch (Exception e) {
+            log.error(">>> 分片任务: {} 的分片: {} 失败处理异常, 截止时间后重新处理, 原因: {}", this.key(task), task.getShardIndex(), e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * 截止时间已过的执行批次, 仍在执行中的分片记为失败, 整个任务按失败完成; 由 Leader 周期调用
+     *
+     * @param now 当前时间毫秒
+     * @return 完成的执行批次数
+     */
+    public int expire(long now) {
+        Set<String> keys = template.opsForZSet().rangeByScore(DEADLINE, 0, now, 0, EXPIRE_BATCH_SIZE);
+        if (Objects.isNull(keys) || keys.isEmpty()) {
+            return 0;
+        }
+        int expired = 0;
+        for (String key : keys) {
+            Long failed = template.execute(EXPIRE, Arrays.asList(key, DEADLINE));
+            if (Objects.isNull(failed) || failed == -1) {
+                continue;
+            }
+            if (failed == -2) {
+                log.warn(">>> 分片任务: {} 已过截止时间, 分片状态不存在", key);
+                continue;
+            }
+            // key: {prefix}{cron|given}:{任务id}:{执行批次}
+            String[] parts = key.substring(Constants.SCHEDULER_TASK_SHARD_PREF.length()).split(":");
+            boolean success = failed == 0;
+            log.warn(">>> 分片任务: {} 已过截止时间, 未回写或失败的分片: {}", key, failed);
+            this.finished("cron".equals(parts[0]), Integer.valueOf(parts[1]), Long.parseLong(parts[2]), success);
+            completedCount.increment();
+            if (!success) {
+                failedCount.increment();
+            }
+            expiredCount.increment();
+            expired++;
+        }
+        return expired;
+    }
+
+    /**
+     * 整个任务完成: 指定时间任务修改执行状态, 失败时等待重试; 表达式任务只记录结果, 下次触发照常执行
+     *
+     * @param cron
+     * @param taskId
+     * @param batch   执行批次
+     * @param success
+     */
+    private void finished(boolean cron, Integer taskId, long batch, boolean success) {
+        if (cron) {
+            log.info(">>> 表达式分片任务: {} 触发时间: {} 全部分片已完成, 执行结果: {}", taskId, batch, success);
+            return;
+        }
+
+        SchedulerTaskGivenRequestDto dto = new SchedulerTaskGivenRequestDto();
+        dto.setTaskGivenId(taskId);
+        if (success) {
+            dto.setTaskGivenExecuteStatus(Constants.TASK_ALREADY_EXECUTE);
+        } else {
+            dto.setTaskGivenExecuteStatus(Constants.TASK_WAIT_RETRY);
+            dto.setTaskGivenLastExecuteTime(LocalDateTime.now());
+            dto.setTaskGivenRetryCount((int) batch + 1);
+        }
+        boolean update = taskGivenService.updateGivenExecuteStatus(dto);
+        log.info(">>> 指定时间分片任务: {} 全部分片已完成, 执行结果: {}, 回写结果: {}", taskId, success, update);
+    }
+
+    /**
+     * 分片状态
+     *
+     * @param cron   是否 cron 任务
+     * @param taskId 任务id
+     * @param batch  执行批次, cron 任务为计划触发时间, given 任务为重试次数
+     * @return 分片序号 -> 执行状态
+     */
+    public Map<Object, Object> shards(boolean cron, Integer taskId, long batch) {
+        return template.opsForHash().entries(this.key(cron, taskId, batch));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("shardedCount", shardedCount.sum());
+        map.put("completedCount", completedCount.sum());
+        map.put("failedCount", failedCount.sum());
+        map.put("expiredCount", expiredCount.sum());
+        map.put("droppedCount", droppedCount.sum());
+        map.put("deadlines", template.opsForZSet().zCard(DEADLINE));
+        return map;
+    }
+
+    private String key(SchedulerTaskMessage task) {
+        if (task.isCron()) {
+            return this.key(true, task.getTaskCronDto().getTaskCronId(), task.getSchedulerFireTime());
+        }
+        Integer retryCount = task.getTaskGivenDto().getTaskGivenRetryCount();
+        return this.key(false, task.getTaskGivenDto().getTaskGivenId(), Objects.isNull(retryCount) ? 0 : retryCount);
+    }
+
+    private String key(boolean cron, Integer taskId, long batch) {
+        return Constants.SCHEDULER_TASK_SHARD_PREF + (cron ? "cron:" : "given:") + taskId + ":" + batch;
+    }
+}
@@ -0,0 +1,293 @@
+package com.microservice.server;
+
+import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.bean.SchedulerTaskKill;
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.dto.SchedulerTaskGivenRequestDto;
+import com.microservice.redis.RedisActuatorRouter;
+import com.microservice.redis.RedisDispatchStream;
+import com.microservice.redis.RedisShardTracker;
+import com.microservice.service.ISchedulerTaskGivenService;
+import com.microservice.utils.Constants;
+import com.microservice.utils.JsonUtils;
+import com.microservice.utils.MessageProtocolCodec;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 向执行器实例下发任务, 按实例限流
+ * <p>
+ * 每个实例一个有界等待队列, 任务先进入队列, 再在实例的 event loop 中下发:
+ * 实例执行中的任务数(下发后加一, 回写后减一)达到 executorMaxInFlight, 或出站缓冲超过高水位时停止下发,
+ * 等回写或缓冲降到低水位后继续. 接受批量指派的实例, 一次下发的多个任务按 executorDispatchBatchSize 合并为一帧.
+ * <p>
+ * 等待队列已满的任务不丢弃: 通过 pub/sub 收到的写入执行器的 {@link RedisDispatchStream}, 有空位时再读取;
+ * 从 stream 读取的不确认, 超时后重新认领
+ */
+@Component
+@Slf4j
+public class ExecutorChannelDispatcher {
+
+    public static final AttributeKey<BlockingQueue<SchedulerTaskMessage>> PENDING = AttributeKey.valueOf("schedulerExecutorPending");
+
+    @Autowired
+    private SchedulerConfigurationProperties properties;
+
+    @Autowired
+    private ExecutorChannelRegistry channelRegistry;
+
+    @Autowired
+    private RedisDispatchStream dispatchStream;
+
+    @Autowired
+    private RedisShardTracker shardTracker;
+
+    @Autowired
+    private RedisActuatorRouter actuatorRouter;
+
+    @Autowired
+    private ISchedulerTaskGivenService taskGivenService;
+
+    private final LongAdder dispatchedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder killCount = new LongAdder();
+
+    /**
+     * 任务进入所选实例的等待队列
+     *
+     * @param app
+     * @param task
+     * @return 没有已连接的实例, 或等待队列已满时返回 false
+     */
+    public boolean dispatch(String app, SchedulerTaskMessage task) {
+        Channel channel = channelRegistry.select(app, task);
+        return Objects.nonNull(channel) && this.enqueue(channel, task);
+    }
+
+    /**
+     * 通过 pub/sub 收到的任务, 等待队列已满时写入执行器的 stream
+     *
+     * @param app
+     * @param task
+     * @return 没有已连接的实例时返回 false
+     */
+    public boolean offer(String app, SchedulerTaskMessage task) {
+        Channel channel = channelRegistry.select(app, task);
+        if (Objects.isNull(channel)) {
+            return false;
+        }
+        if (!this.enqueue(channel, task)) {
+            dispatchStream.spill(app, JsonUtils.toJson(task));
+        }
+        return true;
+    }
+
+    /**
+     * 在实例的 event loop 中下发等待的任务, 直到达到执行中上限或出站缓冲超过高水位
+     *
+     * @param channel
+     */
+    public void drain(Channel channel) {
+        if (!channel.eventLoop().inEventLoop()) {
+            channel.eventLoop().execute(() -> this.drain(channel));
+            return;
+        }
+        BlockingQueue<SchedulerTaskMessage> pending = channel.attr(PENDING).get();
+        if (Objects.isNull(pending)) {
+            return;
+        }
+        int maxInFlight = properties.getExecutorMaxInFlight();
+        int batchSize = MessageProtocolCodec.batch(channel) ? properties.getExecutorDispatchBatchSize() : 1;
+        boolean typed = MessageProtocolCodec.typed(channel);
+        List<SchedulerTaskMessage> batch = new ArrayList<>(Math.max(1, Math.min(batchSize, pending.size())));
+        boolean written = false;
+        while (channel.isActive() && channel.isWritable()
+                && (maxInFlight <= 0 || ExecutorChannelRegistry.inFlight(channel) < maxInFlight)) {
+            SchedulerTaskMessage task = pending.poll();
+            if (Objects.isNull(task)) {
+                break;
+            }
+            batch.add(task);
+            channelRegistry.dispatched(channel);
+            if (batch.size() >= batchSize) {
+                this.write(channel, batch, typed);
+                written = true;
+            }
+        }
+        if (!batch.isEmpty()) {
+            this.write(channel, batch, typed);
+            written = true;
+        }
+        if (written) {
+            channel.flush();
+        }
+    }
+
+    /**
+     * 只有一个任务时使用单个任务指派, 旧版本执行器与未声明批量的执行器只会收到单个任务指派
+     */
+    private void write(Channel channel, List<SchedulerTaskMessage> batch, boolean typed) {
+        channel.write(batch.size() == 1
+                ? MessageProtocolCodec.actuatorRequest(batch.get(0), typed)
+                : MessageProtocolCodec.actuatorBatchRequest(batch));
+        dispatchedCount.add(batch.size());
+        if (batch.size() > 1) {
+            batchCount.increment();
+        }
+        batch.clear();
+    }
+
+    /**
+     * 实例断开, 等待中的任务交给同一应用的其他实例, 当前成员上已没有实例时转交给执行器的其他持有者或写入 stream;
+     * 都不成功时指定时间任务改回指派前的状态, 由下次扫描重新指派, cron 任务等待下次触发.
+     * 来自 stream 的任务未确认, 由 stream 超时后重新认领; 分片只能由对应的实例执行, 按失败完成
+     *
+     * @param app
+     * @param channel
+     */
+    public void release(String app, Channel channel) {
+        BlockingQueue<SchedulerTaskMessage> pending = channel.attr(PENDING).getAndSet(null);
+        if (Objects.isNull(pending) || pending.isEmpty()) {
+            return;
+        }
+        List<SchedulerTaskMessage> tasks = new ArrayList<>(pending.size());
+        pending.drainTo(tasks);
+        int released = 0;
+        Map<String, List<Integer>> revert = new HashMap<>(4);
+        for (SchedulerTaskMessage task : tasks) {
+            if (Objects.nonNull(task.getDispatchId())) {
+                continue;
+            }
+            if (task.getShardTotal() > 0) {
+                shardTracker.drop(task, "实例 " + task.getExecutorAddress() + " 已断开");
+                continue;
+            }
+            if (this.offer(app, task) || this.handOver(app, task)) {
+                released++;
+                continue;
+            }
+            SchedulerTaskGivenRequestDto taskGivenDto = task.getTaskGivenDto();
+            if (Objects.nonNull(taskGivenDto) && Objects.nonNull(taskGivenDto.getTaskGivenId())) {
+                // 指派前的状态: 待执行或待重试
+                String previousStatus = Objects.deepEquals(taskGivenDto.getTaskGivenExecuteStatus(), Constants.TASK_WAIT_RETRY)
+                        ? Constants.TASK_WAIT_RETRY : Constants.TASK_WAIT_EXECUTE;
+                revert.computeIfAbsent(previousStatus, k -> new ArrayList<>())
+                        .add(taskGivenDto.getTaskGivenId());
+            } else {
+                log.warn(">>> 执行器: {} 已没有可转交的实例, 等待中的任务丢弃, 等待下次触发: {}", app, task.getJobHandler());
+            }
+        }
+        log.info(">>> 执行器: {} 实例断开, {} 个等待中的任务转交其他实例", app, released);
+
+        revert.forEach((status, ids) -> {
+            try {
+                List<Integer> reverted = taskGivenService.revertGivenExecuteStatus(ids, status);
+                log.warn(">>> 执行器: {} 已没有可转交的实例, 指定时间任务改回状态: {}, 任务: {}", app, status, reverted);
+            } catch (Exception e) {
+                log.error(">>> 执行器: {} 的指定时间任务: {} 改回状态失败, 原因: {}", app, ids, e.getLocalizedMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 转交给执行器的其他持有者
+     *
+     * @param app
+     * @param task
+     * @return 没有其他持有者收到时返回 false
+     */
+    private boolean handOver(String app, SchedulerTaskMessage task) {
+        try {
+            return actuatorRouter.handOver(app, JsonUtils.toJson(task));
+        } catch (Exception e) {
+            log.error(">>> 执行器: {} 的任务: {} 转交失败, 原因: {}", app, task.getJobHandler(), e.getLocalizedMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 终止任务, 发给当前成员名下该执行器的所有实例, 没有该任务的实例忽略;
+     * 只发给类型化注册的实例, 旧版本执行器不认识终止协议
+     *
+     * @param kill
+     * @return 发送的实例数
+     */
+    public int kill(SchedulerTaskKill kill) {
+        int sent = 0;
+        for (Channel channel : channelRegistry.channels(kill.getActuatorKey())) {
+            if (channel.isActive() && MessageProtocolCodec.typed(channel)) {
+                channel.writeAndFlush(MessageProtocolCodec.killRequest(kill));
+                sent++;
+            }
+        }
+        killCount.add(sent);
+        return sent;
+    }
+
+    /**
+     * @param app
+     * @return 应用在当前成员上所有实例等待队列的剩余容量
+     */
+    public int capacity(String app) {
+        int capacity = 0;
+        for (Channel channel : channelRegistry.channels(app)) {
+            if (channel.isActive()) {
+                capacity += this.pending(channel).remainingCapacity();
+            }
+        }
+        return capacity;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("dispatchedCount", dispatchedCount.sum());
+        map.put("batchCount", batchCount.sum());
+        map.put("rejectedCount", rejectedCount.sum());
+        map.put("killCount", killCount.sum());
+
+        Map<String, Object> pending = new TreeMap<>();
+        for (String app : channelRegistry.apps()) {
+            Map<String, Object> instances = new TreeMap<>();
+            channelRegistry.channels(app).forEach(f -> {
+                BlockingQueue<SchedulerTaskMessage> queue = f.attr(PENDING).get();
+                instances.put(String.valueOf(channelRegistry.findAddress(f)), Objects.isNull(queue) ? 0 : queue.size());
+            });
+            pending.put(app, instances);
+        }
+        map.put("pending", pending);
+        map.put("handlerLoad", channelRegistry.loads());
+        return map;
+    }
+
+    private boolean enqueue(Channel channel, SchedulerTaskMessage task) {
+        if (!this.pending(channel).offer(task)) {
+            rejectedCount.increment();
+            return false;
+        }
+        this.drain(channel);
+        return true;
+    }
+
+    private BlockingQueue<SchedulerTaskMessage> pending(Channel channel) {
+        BlockingQueue<SchedulerTaskMessage> pending = channel.attr(PENDING).get();
+        if (Objects.isNull(pending)) {
+            BlockingQueue<SchedulerTaskMessage> created = new ArrayBlockingQueue<>(Math.max(1, properties.getExecutorPendingQueueSize()));
+            pending = channel.attr(PENDING).setIfAbsent(created);
+            if (Objects.isNull(pending)) {
+                pending = created;
+            }
+        }
+        return pending;
+    }
+}
@@ -0,0 +1,270 @@
+package com.microservice.server;
+
+import com.microservice.bean.JobHandlerLoad;
+import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.server.balance.ConsistentHashSelector;
+import com.microservice.server.balance.ExecutorChannelSelector;
+import com.microservice.server.balance.LeastInFlightSelector;
+import com.microservice.server.balance.RoundRobinSelector;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 当前成员名下的执行器连接
+ * <p>
+ * 执行器应用 -> 已连接实例, 同一应用可以有多个实例; 实例列表写时复制, 指派时读取不加锁.
+ * 连接所属的应用、实例地址、执行中任务数保存在连接属性中, 反查不再遍历.
+ * <p>
+ * 每次指派由 microservice.scheduler.executor-load-balance 策略选择实例, 分片广播的任务只发给指定的实例;
+ * 所选实例上该任务处理器的执行线程与等待队列已满(实例回写时带回)时, 改选同一应用中未饱和的实例
+ */
+@Component
+@Slf4j
+public class ExecutorChannelRegistry {
+
+    public static final AttributeKey<String> APP = AttributeKey.valueOf("schedulerExecutorApp");
+    public static final AttributeKey<String> ADDRESS = AttributeKey.valueOf("schedulerExecutorAddress");
+    public static final AttributeKey<AtomicInteger> IN_FLIGHT = AttributeKey.valueOf("schedulerExecutorInFlight");
+    public static final AttributeKey<ConcurrentMap<String, JobHandlerLoad>> HANDLER_LOAD = AttributeKey.valueOf("schedulerExecutorHandlerLoad");
+
+    @Autowired
+    private SchedulerConfigurationProperties properties;
+
+    private final ConcurrentMap<String, List<Channel>> channels = new ConcurrentHashMap<>();
+
+    private ExecutorChannelSelector selector;
+
+    @PostConstruct
+    public void init() {
+        switch (properties.getExecutorLoadBalance()) {
+            case LEAST_IN_FLIGHT:
+                selector = new LeastInFlightSelector();
+                break;
+            case CONSISTENT_HASH:
+                selector = new ConsistentHashSelector();
+                break;
+            case ROUND_ROBIN:
+            default:
+                selector = new RoundRobinSelector();
+                break;
+        }
+    }
+
+    /**
+     * 执行器实例注册
+     *
+     * @param app     执行器应用
+     * @param address 实例地址 ip:port
+     * @param channel
+     */
+    public void register(String app, String address, Channel channel) {
+        channel.attr(APP).set(app);
+        channel.attr(ADDRESS).set(address);
+        channel.attr(IN_FLIGHT).setIfAbsent(new AtomicInteger());
+        channels.compute(app, (key, list) -> {
+            if (Objects.nonNull(list) && list.contains(channel)) {
+                return list;
+            }
+            List<Channel> copy = Objects.isNull(list) ? new ArrayList<>(1) : new ArrayList<>(list);
+            copy.add(channel);
+            return Collections.unmodifiableList(copy);
+        });
+    }
+
+    /**
+     * 执行器实例断开
+     *
+     * @param channel
+     * @return 实例所属应用, 未注册时为 null
+     */
+    public String deregister(Channel channel) {
+        String app = channel.attr(APP).getAndSet(null);
+        if (Objects.isNull(app)) {
+            return null;
+        }
+        channels.computeIfPresent(app, (key, list) -> {
+            List<Channel> copy = new ArrayList<>(list);
+            copy.remove(channel);
+            return copy.isEmpty() ? null : Collections.unmodifiableList(copy);
+        });
+        return app;
+    }
+
+    /**
+     * @param channel
+     * @return 连接所属的执行器应用
+     */
+    public String findName(Channel channel) {
+        return Objects.isNull(channel) ? null : channel.attr(APP).get();
+    }
+
+    /**
+     * @param channel
+     * @return 连接对应的实例地址 ip:port
+     */
+    public String findAddress(Channel channel) {
+        return Objects.isNull(channel) ? null : channel.attr(ADDRESS).get();
+    }
+
+    /**
+     * @param app
+     * @return 应用在当前成员上已连接的实例
+     */
+    public List<Channel> channels(String app) {
+        List<Channel> list = channels.get(app);
+        return Objects.isNull(list) ? Collections.emptyList() : list;
+    }
+
+    /**
+     * @param app
+     * @return 应用在当前成员上是否还有实例
+     */
+    public boolean contains(String app) {
+        return channels.containsKey(app);
+    }
+
+    /**
+     * @return 当前成员上已连接的执行器应用
+     */
+    public Set<String> apps() {
+        return Collections.unmodifiableSet(channels.keySet());
+    }
+
+    /**
+     * 为任务选择一个活跃的实例
+     *
+     * @param app
+     * @param task
+     * @return 没有活跃实例时为 null
+     */
+    public Channel select(String app, SchedulerTaskMessage task) {
+        List<Channel> list = channels.get(app);
+        if (Objects.isNull(list) || list.isEmpty()) {
+            return null;
+        }
+        if (task.getShardTotal() > 0) {
+            // 分片广播: 分片对应的实例不在当前成员名下时不处理
+            return list.stream()
+                    .filter(f -> f.isActive() && Objects.equals(f.attr(ADDRESS).get(), task.getExecutorAddress()))
+                    .findFirst().orElse(null);
+        }
+        Channel channel = selector.select(app, list, task);
+        if (Objects.nonNull(channel) && channel.isActive()) {
+            if (!saturated(channel, task.getJobHandler())) {
+                return channel;
+            }
+            // 处理器已饱和, 选择其他未饱和的实例, 都饱和时仍发给所选实例
+            return list.stream()
+                    .filter(f -> f.isActive() && !saturated(f, task.getJobHandler()))
+                    .findFirst().orElse(channel);
+        }
+        // 连接已断开但还未注销, 选择其他活跃实例
+        return list.stream().filter(Channel::isActive).findFirst().orElse(null);
+    }
+
+    /**
+     * 实例回写时带回的任务处理器负载
+     *
+     * @param channel
+     * @param load
+     */
+    public void reportLoad(Channel channel, JobHandlerLoad load) {
+        if (Objects.isNull(load) || Objects.isNull(load.getJobHandler())) {
+            return;
+        }
+        ConcurrentMap<String, JobHandlerLoad> loads = channel.attr(HANDLER_LOAD).get();
+        if (Objects.isNull(loads)) {
+            ConcurrentMap<String, JobHandlerLoad> created = new ConcurrentHashMap<>();
+            loads = channel.attr(HANDLER_LOAD).setIfAbsent(created);
+            if (Objects.isNull(loads)) {
+                loads = created;
+            }
+        }
+        loads.put(load.getJobHandler(), load);
+    }
+
+    /**
+     * @param channel
+     * @param jobHandler
+     * @return 实例上该任务处理器最近一次回写时执行线程与等待队列是否已满
+     */
+    public static boolean saturated(Channel channel, String jobHandler) {
+        ConcurrentMap<String, JobHandlerLoad> loads = channel.attr(HANDLER_LOAD).get();
+        if (Objects.isNull(loads) || Objects.isNull(jobHandler)) {
+            return false;
+        }
+        JobHandlerLoad load = loads.get(jobHandler);
+        return Objects.nonNull(load) && load.saturated();
+    }
+
+    /**
+     * @return 应用 -> 实例 -> 任务处理器负载
+     */
+    public Map<String, Object> loads() {
+        Map<String, Object> stats = new TreeMap<>();
+        channels.forEach((app, list) -> {
+            Map<String, Object> instances = new TreeMap<>();
+            list.forEach(f -> {
+                ConcurrentMap<String, JobHandlerLoad> loads = f.attr(HANDLER_LOAD).get();
+                instances.put(String.valueOf(f.attr(ADDRESS).get()), Objects.isNull(loads) ? Collections.emptyMap() : new TreeMap<>(loads));
+            });
+            stats.put(app, instances);
+        });
+        return stats;
+    }
+
+    /**
+     * 任务已发给实例
+     *
+     * @param channel
+     */
+    public void dispatched(Channel channel) {
+        AtomicInteger inFlight = channel.attr(IN_FLIGHT).get();
+        if (Objects.nonNull(inFlight)) {
+            inFlight.incrementAndGet();
+        }
+    }
+
+    /**
+     * 实例回写了任务执行结果
+     *
+     * @param channel
+     */
+    public void completed(Channel channel) {
+        AtomicInteger inFlight = channel.attr(IN_FLIGHT).get();
+        if (Objects.nonNull(inFlight)) {
+            inFlight.getAndUpdate(f -> f > 0 ? f - 1 : 0);
+        }
+    }
+
+    /**
+     * @param channel
+     * @return 实例执行中的任务数
+     */
+    public static int inFlight(Channel channel) {
+        AtomicInteger inFlight = channel.attr(IN_FLIGHT).get();
+        return Objects.isNull(inFlight) ? 0 : inFlight.get();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new TreeMap<>();
+        channels.forEach((app, list) -> {
+            Map<String, Object> instances = new TreeMap<>();
+            list.forEach(f -> instances.put(String.valueOf(f.attr(ADDRESS).get()), inFlight(f)));
+            stats.put(app, instances);
+        });
+        return stats;
+    }
+}
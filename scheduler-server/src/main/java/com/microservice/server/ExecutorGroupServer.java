@@ -4,14 +4,16 @@ import com.microservice.bean.RedisMessage;
 import com.microservice.bean.SchedulerConfigurationProperties;
 import com.microservice.redis.RedisDefaultClientHandler;
 import com.microservice.redis.RedisDefaultGroupServerHandler;
+import com.microservice.utils.NettyTransportUtils;
 import com.microservice.utils.RedisUtil;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
@@ -68,20 +70,32 @@ public class ExecutorGroupServer {
     public void run() throws Exception {
         clientHandler.validateProperties(true);
 
-        bossGroup = new NioEventLoopGroup();
-        workerGroup = new NioEventLoopGroup();
+        // linux 上优先使用 epoll, 不可用时使用 nio
+        boolean epoll = NettyTransportUtils.epoll(properties.isNativeTransport());
+        bossGroup = NettyTransportUtils.eventLoopGroup(epoll, properties.getServerBossThreads(), "scheduler-server-boss");
+        workerGroup = NettyTransportUtils.eventLoopGroup(epoll, properties.getServerThreads(), "scheduler-server-worker");
 
         int serverPort = properties.getServerPort();
 
         ServerBootstrap serverBootstrap = new ServerBootstrap();
         serverBootstrap
                 .group(bossGroup, workerGroup)
-                .channel(NioServerSocketChannel.class)
-                .option(ChannelOption.SO_BACKLOG, properties.getServerThreads())
+                .channel(NettyTransportUtils.serverChannelClass(epoll))
+                .option(ChannelOption.SO_BACKLOG, properties.getServerBacklog())
+                .option(ChannelOption.SO_REUSEADDR, true)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childOption(ChannelOption.SO_KEEPALIVE, true)
+                // 任务指派与回写都是小消息, 不等待合并
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                // 执行器处理慢时出站缓冲超过高水位, 任务留在等待队列中
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+                        properties.getExecutorWriteBufferLowWaterMark(), properties.getExecutorWriteBufferHighWaterMark()))
                 .childHandler(executorGroupServerChannelInitializer);
 
         ChannelFuture channelFuture = serverBootstrap.bind(serverPort).sync();
+        log.info(">>> 执行器服务端启动, 端口: {}, 传输: {}, worker 线程: {}", serverPort, epoll ? "epoll" : "nio",
+                ((MultithreadEventLoopGroup) workerGroup).executorCount());
         channelFuture.addListener(new ExecutorGroupServerChannelFutureListener());
         Channel channel = channelFuture.channel();
         channel.closeFuture().sync();
@@ -1,6 +1,7 @@
 package com.microservice.server;
 
 import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.client.ProtocolCompressionHandler;
 import com.microservice.proto.MessageProtocolPoJo;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
@@ -9,6 +10,7 @@ import io.netty.handler.codec.protobuf.ProtobufDecoder;
 import io.netty.handler.codec.protobuf.ProtobufEncoder;
 import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
 import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.timeout.IdleStateHandler;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -37,6 +39,11 @@ public class ExecutorGroupServerChannelInitializer extends ChannelInitializer<So
     @Override
     protected void initChannel(SocketChannel socketChannel) throws Exception {
         ChannelPipeline pipeline = socketChannel.pipeline();
+        // 合并刷新: 读取中的刷新推迟到读取完成, 其他线程提交的刷新推迟到 event loop 本轮任务结束
+        int flushConsolidation = properties.getExecutorFlushConsolidation();
+        if (flushConsolidation > 0) {
+            pipeline.addLast(new FlushConsolidationHandler(flushConsolidation, true));
+        }
         pipeline.addLast(new IdleStateHandler(properties.getReaderIdleTimeNanos(),
                 properties.getWriterIdleTimeNanos(),
                 properties.getAllIdleTimeNanos(),
@@ -45,9 +52,11 @@ public class ExecutorGroupServerChannelInitializer extends ChannelInitializer<So
         pipeline.addLast(new ProtobufVarint32LengthFieldPrepender());
         pipeline.addLast(new ProtobufDecoder(MessageProtocolPoJo.MessageProtocol.getDefaultInstance()));
         pipeline.addLast(new ProtobufEncoder());
+        pipeline.addLast(new ProtocolCompressionHandler(properties.getProtocolCompressionThreshold()));
         pipeline.addLast(executorGroupServerHandler);
 
         log.info("----------------------------------------ExecutorGroupServerChannelInitializer----------------------------------------");
+        log.info("addLast => {}, explicitFlushAfterFlushes: {}", FlushConsolidationHandler.class.getSimpleName(), flushConsolidation);
         log.info("addLast => {}, readerIdleTime: {}, writerIdleTime: {}, allIdleTime: {}",
                 IdleStateHandler.class.getSimpleName(), properties.getReaderIdleTimeNanos(),
                 properties.getWriterIdleTimeNanos(), properties.getAllIdleTimeNanos());
@@ -56,6 +65,7 @@ public class ExecutorGroupServerChannelInitializer extends ChannelInitializer<So
         log.info("addLast => {}", ProtobufDecoder.class.getSimpleName());
         log.info("addLast => {}", MessageProtocolPoJo.MessageProtocol.class.getSimpleName());
         log.info("addLast => {}", ProtobufEncoder.class.getSimpleName());
+        log.info("addLast => {}, threshold: {}", ProtocolCompressionHandler.class.getSimpleName(), properties.getProtocolCompressionThreshold());
         log.info("addLast => {}", executorGroupServerHandler.getClass().getSimpleName());
         log.info("----------------------------------------ExecutorGroupServerChannelInitializer----------------------------------------");
     }
@@ -4,15 +4,15 @@ import com.microservice.bean.ExecutorJobMessage;
 import com.microservice.bean.RedisMessage;
 import com.microservice.bean.SchedulerConfigurationProperties;
 import com.microservice.bean.SyncNotifyMessage;
-import com.microservice.client.BaseProtocol;
+import com.microservice.client.ProtocolDispatcher;
 import com.microservice.enums.RedisListenerEnum;
 import com.microservice.proto.MessageProtocolPoJo;
 import com.microservice.protocol.DeregisterRequest;
 import com.microservice.redis.RedisDefaultClientHandler;
 import com.microservice.service.ISchedulerRegistryDetailService;
 import com.microservice.utils.JsonUtils;
+import com.microservice.utils.MessageProtocolCodec;
 import com.microservice.utils.PingPongUtils;
-import com.microservice.utils.ProtoUtils;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -23,14 +23,10 @@ import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 
 import javax.annotation.Resource;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -45,15 +41,19 @@ import java.util.concurrent.TimeUnit;
 @ChannelHandler.Sharable
 public class ExecutorGroupServerHandler extends SimpleChannelInboundHandler<MessageProtocolPoJo.MessageProtocol> {
 
-    public final static Map<String, Channel> ALL_CHANNELS = new HashMap<>();
-
     public final static ChannelGroup CHANNEL_GROUP = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
 
     @Resource
-    private ApplicationContext applicationContext;
+    private DeregisterRequest deregisterRequest;
 
     @Resource
-    private DeregisterRequest deregisterRequest;
+    private ProtocolDispatcher protocolDispatcher;
+
+    @Resource
+    private ExecutorChannelRegistry channelRegistry;
+
+    @Resource
+    private ExecutorChannelDispatcher channelDispatcher;
 
     @Resource
     private SchedulerConfigurationProperties properties;
@@ -107,30 +107,32 @@ public class ExecutorGroupServerHandler extends SimpleChannelInboundHandler<Mess
             3. 普通字符串消息   => String
          */
         String protocolType = messageProtocol.getProtocol();
+        // 执行器发来类型化载荷, 之后发给它的消息也使用类型化载荷
+        MessageProtocolCodec.markTyped(channel, messageProtocol);
 
         if (Objects.nonNull(protocolType) && StringUtils.isNotBlank(protocolType)) {
-            // 1. 存在协议，使用协议处理机制
-            BaseProtocol protocol = ProtoUtils.protocol(protocolType, applicationContext);
-            protocol.process(messageProtocol, channel);
+            // 1. 存在协议，使用协议处理机制, 未知协议直接丢弃
+            if (!protocolDispatcher.dispatch(messageProtocol, channel)) {
+                return;
+            }
 
             // 2. 协议消息必须转发
             RedisMessage leader = groupServer.getLeader();
             if (Objects.nonNull(leader)) {
-                String content = messageProtocol.getContent();
-                ExecutorJobMessage jobMessage = JsonUtils.fromJson(content, ExecutorJobMessage.class);
+                ExecutorJobMessage jobMessage = MessageProtocolCodec.jobMessage(messageProtocol);
 
                 SyncNotifyMessage notifyMessage = new SyncNotifyMessage();
                 notifyMessage.setJobMessage(jobMessage)
                         .setClusterMemberVoteKey(groupServer.getCurrentServer().getVoteKey())
                         .setClusterMemberHashCode(channel.hashCode())
-                        .setChannelKey(findName(channel));
+                        .setChannelKey(channelRegistry.findName(channel));
                 String json = JsonUtils.toJson(notifyMessage);
                 this.clusterBroadcast(json);
             }
         } else {
             String content = messageProtocol.getContent();
 
-            if (!Objects.deepEquals(content, PingPongUtils.PONG) && properties.isEnableChatRoom()) {
+            if (!MessageProtocolCodec.isPong(messageProtocol) && properties.isEnableChatRoom()) {
                 // 1. 为了保证心跳正常，必须转发
                 CHANNEL_GROUP.forEach(ch -> {
                     String msg = channel == ch ?
@@ -153,7 +155,7 @@ public class ExecutorGroupServerHandler extends SimpleChannelInboundHandler<Mess
                     notifyMessage.setCommonlyMessage(content)
                             .setClusterMemberVoteKey(groupServer.getCurrentServer().getVoteKey())
                             .setClusterMemberHashCode(channel.hashCode())
-                            .setChannelKey(findName(channel));
+                            .setChannelKey(channelRegistry.findName(channel));
                     String json = JsonUtils.toJson(notifyMessage);
                     // 集群广播
                     this.clusterBroadcast(json);
@@ -179,6 +181,10 @@ public class ExecutorGroupServerHandler extends SimpleChannelInboundHandler<Mess
 
     @Override
     public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        // 出站缓冲降到低水位后, 继续下发等待的任务
+        if (ctx.channel().isWritable()) {
+            channelDispatcher.drain(ctx.channel());
+        }
         super.channelWritabilityChanged(ctx);
     }
 
@@ -227,33 +233,8 @@ public class ExecutorGroupServerHandler extends SimpleChannelInboundHandler<Mess
 
     private void ping(Channel channel) {
         channel.eventLoop().schedule(() -> {
-            MessageProtocolPoJo.MessageProtocol ping = MessageProtocolPoJo.MessageProtocol
-                    .newBuilder()
-                    .setLen(PingPongUtils.PING.getBytes(PingPongUtils.CHARSET).length)
-                    .setContent(PingPongUtils.PING).build();
+            MessageProtocolPoJo.MessageProtocol ping = MessageProtocolCodec.ping(MessageProtocolCodec.typed(channel));
             channel.writeAndFlush(ping);
         }, properties.getPing(), TimeUnit.SECONDS);
     }
-
-    public static String findName(Channel channel) {
-        if (!CollectionUtils.isEmpty(ALL_CHANNELS)) {
-            return ALL_CHANNELS.entrySet()
-                    .stream()
-                    .filter(f -> f.getValue() == channel)
-                    .map(Map.Entry::getKey)
-                    .findFirst().orElseGet(null);
-        }
-        return null;
-    }
-
-    public static Channel findChannel(String name) {
-        if (!CollectionUtils.isEmpty(ALL_CHANNELS)) {
-            return ALL_CHANNELS.entrySet()
-                    .stream()
-                    .filter(f -> Objects.deepEquals(f.getKey(), name))
-                    .map(Map.Entry::getValue)
-                    .findFirst().orElseGet(null);
-        }
-        return null;
-    }
 }
@@ -0,0 +1,298 @@
+package com.microservice.server;
+
+import com.microservice.bean.CronTaskTrigger;
+import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.cron.CompiledCronExpression;
+import com.microservice.cron.CronExpressionCache;
+import com.microservice.cron.CronTriggerQueue;
+import com.microservice.dto.SchedulerTaskCronRequestDto;
+import com.microservice.redis.RedisEntityDeltaCache;
+import com.microservice.service.ISchedulerTaskCronService;
+import com.microservice.utils.Constants;
+import com.microservice.utils.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.text.ParseException;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-04
+ * <p>
+ * cron 任务触发管理, 只在 Leader 上运行
+ * <p>
+ * 所有已开启的任务按下次触发时间保存在 {@link CronTriggerQueue} 中, 每次扫描只取出已到期的任务;
+ * 任务只在触发后、或任务变更版本号变化后重新计算下次触发时间; 版本号变化时只从缓存的变更记录中取出变更的任务,
+ * 新增或修改后入队、删除或停止后出队, 不再全量加载任务列表
+ * <p>
+ * 每次扫描触发 (上次扫描时间, 当前时间] 内的所有触发时间, 扫描周期延迟也不会丢失触发;
+ * 指派失败的触发保留到下次扫描单独重试, 已指派的触发不会重复; 水位线保存到 redis, 停在最早一个未指派的触发之前,
+ * Leader 切换后从水位线继续, 超过 misfire 阈值的触发丢弃
+ * <p>
+ * 扫描、指派与 {@link #reset()} 互斥, Leader 变更不会与进行中的扫描交错
+ */
+@Service
+@Slf4j
+public class SchedulerCronTriggerHandler {
+
+    private static final long SECOND_MILLIS = 1000L;
+
+    @Autowired
+    private ISchedulerTaskCronService taskCronService;
+
+    @Autowired
+    private CronExpressionCache cronExpressionCache;
+
+    @Autowired
+    private RedisUtil redisUtil;
+
+    @Autowired
+    private SchedulerConfigurationProperties properties;
+
+    private final CronTriggerQueue<Integer, SchedulerTaskCronRequestDto> triggerQueue = new CronTriggerQueue<>();
+
+    /**
+     * 当前触发队列中的任务, key: taskCronId
+     */
+    private final Map<Integer, SchedulerTaskCronRequestDto> scheduledTasks = new HashMap<>();
+
+    /**
+     * 已加载的任务变更版本号, -1 表示需要全量加载
+     */
+    private volatile long loadedVersion = -1;
+
+    /**
+     * 上次扫描时间, 新增或变更的任务从这里开始计算下次触发时间
+     */
+    private volatile long lastPollTime = -1;
+
+    /**
+     * 上次扫描未指派成功的触发, 下次扫描优先重试
+     */
+    private final List<CronTaskTrigger> undispatched = new ArrayList<>();
+
+    private final LongAdder misfireCount = new LongAdder();
+    private final LongAdder undispatchedDropCount = new LongAdder();
+
+    /**
+     * 一次扫描: 取出到期的触发并指派, 保存水位线
+     *
+     * @param nowEpochMillis
+     * @param dispatcher     指派触发, 返回未指派成功的触发
+     */
+    public synchronized void scan(long nowEpochMillis, Function<List<CronTaskTrigger>, List<CronTaskTrigger>> dispatcher) {
+        List<CronTaskTrigger> triggers = this.pollDue(nowEpochMillis);
+        List<CronTaskTrigger> failed;
+        try {
+            failed = dispatcher.apply(triggers);
+        } catch (Exception e) {
+            // 指派之前就失败, 本次所有触发都未指派
+            log.error(">>> cron任务指派失败, {} 个触发下次扫描重试, 原因: {}", triggers.size(), e.getLocalizedMessage());
+            failed = triggers;
+        }
+        this.commit(nowEpochMillis, failed);
+    }
+
+    /**
+     * 触发统计, 只读取计数, 不与进行中的扫描互斥
+     *
+     * @return
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("misfireCount", misfireCount.sum());
+        map.put("undispatchedDropCount", undispatchedDropCount.sum());
+        map.put("misfireThresholdSeconds", properties.getClusterCronMisfireThreshold());
+        map.put("loadedVersion", loadedVersion);
+        map.put("lastPollTime", lastPollTime);
+        return map;
+    }
+
+    /**
+     * 取出上次未指派的触发与 (上次扫描时间, nowEpochMillis] 之间的所有触发, 按任务计划触发时间展开
+     *
+     * @param nowEpochMillis
+     * @return
+     */
+    private List<CronTaskTrigger> pollDue(long nowEpochMillis) {
+        long misfireThreshold = nowEpochMillis - properties.getClusterCronMisfireThreshold() * SECOND_MILLIS;
+        if (lastPollTime < 0) {
+            lastPollTime = this.initialWatermark(nowEpochMillis, misfireThreshold);
+        }
+
+        long version = taskCronService.tasksVersion();
+        // 版本号小于 0 表示缓存正在加载, 每次都重新对比
+        if (version < 0 || version != loadedVersion) {
+            this.applyChanges();
+        }
+
+        List<CronTaskTrigger> triggers = new ArrayList<>();
+        for (CronTaskTrigger trigger : undispatched) {
+            // 任务已删除或已停止的不再重试
+            if (trigger.getFireTime() > misfireThreshold && scheduledTasks.containsKey(trigger.getTask().getTaskCronId())) {
+                triggers.add(trigger);
+            } else {
+                undispatchedDropCount.increment();
+                log.warn(">>> cron任务: {} 触发时间: {} 未指派, 已超过 misfire 阈值或任务已停止, 丢弃",
+                        trigger.getTask().getTaskCronId(), trigger.getFireTime());
+            }
+        }
+        undispatched.clear();
+        triggerQueue.pollDue(nowEpochMillis, Integer.MAX_VALUE, (task, fireTime) -> {
+            if (fireTime > misfireThreshold) {
+                triggers.add(new CronTaskTrigger(task, fireTime));
+            } else {
+                misfireCount.increment();
+                log.warn(">>> cron任务: {} 触发时间: {} 已超过 misfire 阈值: {} 秒, 丢弃",
+                        task.getTaskCronId(), fireTime, properties.getClusterCronMisfireThreshold());
+            }
+        });
+        lastPollTime = nowEpochMillis;
+        return triggers;
+    }
+
+    /**
+     * 保存未指派的触发与水位线: 水位线之前的触发都已指派, Leader 切换后只会重复最早未指派触发之后已指派的部分
+     *
+     * @param nowEpochMillis
+     * @param failed         未指派成功的触发
+     */
+    private void commit(long nowEpochMillis, List<CronTaskTrigger> failed) {
+        long watermark = nowEpochMillis;
+        for (CronTaskTrigger trigger : failed) {
+            watermark = Math.min(watermark, trigger.getFireTime() - 1);
+        }
+        undispatched.addAll(failed);
+        try {
+            redisUtil.set(Constants.SCHEDULER_TASK_CRON_WATERMARK, String.valueOf(watermark));
+        } catch (Exception e) {
+            log.error(">>> cron任务水位线保存失败, 原因: {}", e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * 没有水位线时从当前这一秒开始(与原逐秒匹配行为一致), 水位线过旧时从 misfire 阈值开始
+     *
+     * @param nowEpochMillis
+     * @param misfireThreshold
+     * @return
+     */
+    private long initialWatermark(long nowEpochMillis, long misfireThreshold) {
+        Object watermark = redisUtil.get(Constants.SCHEDULER_TASK_CRON_WATERMARK);
+        if (Objects.isNull(watermark)) {
+            return nowEpochMillis - SECOND_MILLIS;
+        }
+        long lastWatermark = Long.parseLong(watermark.toString());
+        if (lastWatermark > nowEpochMillis) {
+            return nowEpochMillis - SECOND_MILLIS;
+        }
+        return Math.max(lastWatermark, misfireThreshold);
+    }
+
+    /**
+     * Leader 变更时清空触发队列, 下次扫描重新全量加载, 未指派的触发由水位线补齐; 进行中的扫描结束后才执行
+     */
+    public synchronized void reset() {
+        triggerQueue.clear();
+        scheduledTasks.clear();
+        undispatched.clear();
+        loadedVersion = -1;
+        lastPollTime = -1;
+    }
+
+    public synchronized int size() {
+        return triggerQueue.size();
+    }
+
+    /**
+     * 取出已加载版本之后变更的任务更新触发队列; 首次加载或变更记录已被裁剪时为全量
+     * <p>
+     * 缓存正在全量加载时直接查询数据库, 之后仍需全量同步一次
+     */
+    private void applyChanges() {
+        RedisEntityDeltaCache.Delta<SchedulerTaskCronRequestDto> delta = taskCronService.taskChanges(loadedVersion);
+        if (Objects.isNull(delta)) {
+            this.reload(taskCronService.runningTasks());
+            loadedVersion = -1;
+            return;
+        }
+
+        if (delta.isFull()) {
+            this.reload(delta.getChanges().values().stream()
+                    .filter(f -> Objects.deepEquals(f.getTaskCronStatus(), Constants.RUNNING))
+                    .collect(Collectors.toList()));
+        } else {
+            int changed = 0;
+            for (Map.Entry<Integer, SchedulerTaskCronRequestDto> entry : delta.getChanges().entrySet()) {
+                SchedulerTaskCronRequestDto task = entry.getValue();
+                if (Objects.isNull(task) || !Objects.deepEquals(task.getTaskCronStatus(), Constants.RUNNING)) {
+                    // 已删除或已停止
+                    if (Objects.nonNull(scheduledTasks.remove(entry.getKey()))) {
+                        triggerQueue.remove(entry.getKey());
+                        changed++;
+                    }
+                } else if (this.schedule(task)) {
+                    changed++;
+                }
+            }
+            log.info(">>> cron任务触发队列增量更新: {} -> {}, 变更: {}, 队列: {}",
+                    loadedVersion, delta.getVersion(), changed, triggerQueue.size());
+        }
+        loadedVersion = delta.getVersion();
+    }
+
+    /**
+     * 与当前触发队列对比, 只重新计算新增或变更的任务, 移除已删除或已停止的任务
+     *
+     * @param runningTasks
+     */
+    private void reload(List<SchedulerTaskCronRequestDto> runningTasks) {
+        Map<Integer, SchedulerTaskCronRequestDto> latest = new HashMap<>(runningTasks.size() * 2);
+        runningTasks.forEach(f -> latest.put(f.getTaskCronId(), f));
+
+        Iterator<Map.Entry<Integer, SchedulerTaskCronRequestDto>> iterator = scheduledTasks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Integer taskCronId = iterator.next().getKey();
+            if (!latest.containsKey(taskCronId)) {
+                triggerQueue.remove(taskCronId);
+                iterator.remove();
+            }
+        }
+
+        int changed = 0;
+        for (SchedulerTaskCronRequestDto task : latest.values()) {
+            if (this.schedule(task)) {
+                changed++;
+            }
+        }
+        log.info(">>> cron任务触发队列重新加载, 已开启: {}, 变更: {}, 队列: {}", latest.size(), changed, triggerQueue.size());
+    }
+
+    /**
+     * 新增或变更的任务从上次扫描时间开始重新计算下次触发时间, 未变化的任务不处理
+     *
+     * @param task 已开启的任务
+     * @return 是否有变化
+     */
+    private boolean schedule(SchedulerTaskCronRequestDto task) {
+        SchedulerTaskCronRequestDto scheduled = scheduledTasks.get(task.getTaskCronId());
+        if (Objects.nonNull(scheduled) && scheduled.equals(task)) {
+            return false;
+        }
+        try {
+            CompiledCronExpression cronExpression = cronExpressionCache.get(task.getTaskCronExpression());
+            triggerQueue.schedule(task.getTaskCronId(), task, cronExpression, lastPollTime);
+            scheduledTasks.put(task.getTaskCronId(), task);
+        } catch (ParseException | RuntimeException e) {
+            log.error(">>> cron任务: {} 表达式: {} 不合法, 原因: {}", task.getTaskCronId(), task.getTaskCronExpression(), e.getLocalizedMessage());
+            triggerQueue.remove(task.getTaskCronId());
+            scheduledTasks.remove(task.getTaskCronId());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,161 @@
+package com.microservice.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-09
+ * <p>
+ * Leader 周期扫描执行器
+ * <p>
+ * 每种扫描(cron 任务、given 任务、执行器健康检查、集群心跳管理)使用独立命名的单线程执行器,
+ * 扫描中的 JDBC、redis、http 阻塞调用不再占用 Netty 的 event loop, 也不会互相阻塞.
+ * <p>
+ * 扫描以固定间隔执行: 上次扫描结束后间隔一个周期再开始, 同一扫描不会并发, 队列中最多只有一个待执行的扫描;
+ * 单次执行时间超过周期时记为超时(overrun)并打印告警
+ */
+@Component
+@Slf4j
+public class SchedulerScanningExecutor {
+
+    private final Map<String, Duty> duties = new ConcurrentHashMap<>();
+
+    /**
+     * 开始周期扫描, 同名扫描已存在时先取消
+     *
+     * @param name         扫描名称, 同时作为线程名称
+     * @param task
+     * @param periodMillis 扫描间隔
+     */
+    public void start(String name, Runnable task, long periodMillis) {
+        Duty duty = duties.computeIfAbsent(name, Duty::new);
+        duty.start(task, periodMillis);
+    }
+
+    /**
+     * 取消扫描, 不再开始新的扫描; 正在执行的扫描不中断, 执行完本次后结束,
+     * 避免中断 JDBC、redis 调用留下只完成一半的状态
+     *
+     * @param name
+     */
+    public void cancel(String name) {
+        Duty duty = duties.get(name);
+        if (Objects.nonNull(duty)) {
+            duty.cancel();
+        }
+    }
+
+    public void cancelAll() {
+        duties.values().forEach(Duty::cancel);
+    }
+
+    /**
+     * 每种扫描的执行统计
+     *
+     * @return
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new TreeMap<>();
+        duties.forEach((name, duty) -> stats.put(name, duty.stats()));
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        duties.values().forEach(f -> f.executor.shutdownNow());
+    }
+
+    private static final class Duty {
+        private final String name;
+        private final ScheduledThreadPoolExecutor executor;
+        private volatile ScheduledFuture<?> future;
+        private volatile long periodMillis;
+
+        private final LongAdder runCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder overrunCount = new LongAdder();
+        private final LongAdder totalDurationMillis = new LongAdder();
+        private final AtomicLong maxDurationMillis = new AtomicLong();
+        private volatile long lastDurationMillis;
+        private volatile long lastStartTime;
+
+        private Duty(String name) {
+            this.name = name;
+            this.executor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                    .setNameFormat("scheduler-scanning-" + name)
+                    .setDaemon(true)
+                    .build());
+            // 取消的扫描立即移出队列
+            this.executor.setRemoveOnCancelPolicy(true);
+        }
+
+        private synchronized void start(Runnable task, long periodMillis) {
+            this.cancel();
+            this.periodMillis = periodMillis;
+            future = executor.scheduleWithFixedDelay(() -> this.run(task), periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * 单线程执行器, 重新开始的扫描在正在执行的扫描结束后才会执行
+         */
+        private synchronized void cancel() {
+            if (Objects.nonNull(future)) {
+                future.cancel(false);
+                future = null;
+            }
+        }
+
+        private void run(Runnable task) {
+            long start = System.currentTimeMillis();
+            lastStartTime = start;
+            try {
+                task.run();
+            } catch (Throwable e) {
+                // 异常不能抛出, 否则后续扫描不再执行
+                failureCount.increment();
+                log.error(">>> 扫描: {} 执行失败, 原因: {}", name, e.getLocalizedMessage(), e);
+            } finally {
+                long duration = System.currentTimeMillis() - start;
+                runCount.increment();
+                totalDurationMillis.add(duration);
+                maxDurationMillis.accumulateAndGet(duration, Math::max);
+                lastDurationMillis = duration;
+                if (duration > periodMillis) {
+                    overrunCount.increment();
+                    log.warn(">>> 扫描: {} 执行超时, 耗时: {}ms, 周期: {}ms", name, duration, periodMillis);
+                }
+            }
+        }
+
+        private Map<String, Object> stats() {
+            long runs = runCount.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("running", Objects.nonNull(future) && !future.isDone());
+            map.put("periodMillis", periodMillis);
+            map.put("queueSize", executor.getQueue().size());
+            map.put("activeCount", executor.getActiveCount());
+            map.put("runCount", runs);
+            map.put("failureCount", failureCount.sum());
+            map.put("overrunCount", overrunCount.sum());
+            map.put("lastStartTime", lastStartTime);
+            map.put("lastDurationMillis", lastDurationMillis);
+            map.put("maxDurationMillis", maxDurationMillis.get());
+            map.put("avgDurationMillis", runs == 0 ? 0D : (double) totalDurationMillis.sum() / runs);
+            return map;
+        }
+    }
+}
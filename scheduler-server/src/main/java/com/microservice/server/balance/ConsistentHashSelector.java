@@ -0,0 +1,76 @@
+package com.microservice.server.balance;
+
+import com.google.common.hash.Hashing;
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.server.ExecutorChannelRegistry;
+import io.netty.channel.Channel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 按任务 id 一致性哈希, 同一任务总是指派到同一实例, 实例增减时只有少量任务改变实例
+ * <p>
+ * 每个实例按注册地址生成 {@link #VIRTUAL_NODES} 个虚拟节点; 哈希环按应用缓存, 实例列表变化时重建
+ */
+public class ConsistentHashSelector implements ExecutorChannelSelector {
+
+    private static final int VIRTUAL_NODES = 160;
+
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+
+    @Override
+    public Channel select(String app, List<Channel> channels, SchedulerTaskMessage task) {
+        Ring ring = rings.get(app);
+        if (Objects.isNull(ring) || ring.channels != channels) {
+            ring = new Ring(channels);
+            rings.put(app, ring);
+        }
+        return ring.select(hash(taskKey(task)));
+    }
+
+    /**
+     * cron 与 given 任务 id 分开, 没有任务实体时使用执行器方法
+     */
+    private static String taskKey(SchedulerTaskMessage task) {
+        if (Objects.nonNull(task.getTaskCronDto()) && Objects.nonNull(task.getTaskCronDto().getTaskCronId())) {
+            return "cron:" + task.getTaskCronDto().getTaskCronId();
+        }
+        if (Objects.nonNull(task.getTaskGivenDto()) && Objects.nonNull(task.getTaskGivenDto().getTaskGivenId())) {
+            return "given:" + task.getTaskGivenDto().getTaskGivenId();
+        }
+        return "handler:" + task.getJobHandler();
+    }
+
+    private static long hash(String key) {
+        return Hashing.murmur3_128().hashString(key, StandardCharsets.UTF_8).asLong();
+    }
+
+    private static final class Ring {
+        private final List<Channel> channels;
+        private final TreeMap<Long, Channel> nodes = new TreeMap<>();
+
+        private Ring(List<Channel> channels) {
+            this.channels = channels;
+            for (Channel channel : channels) {
+                // 注册的实例地址在重连后不变, 远程端口每次连接都不同
+                String address = Objects.toString(channel.attr(ExecutorChannelRegistry.ADDRESS).get(),
+                        String.valueOf(channel.remoteAddress()));
+                for (int i = 0; i < VIRTUAL_NODES; i++) {
+                    nodes.put(hash(address + "#" + i), channel);
+                }
+            }
+        }
+
+        private Channel select(long hash) {
+            Map.Entry<Long, Channel> entry = nodes.ceilingEntry(hash);
+            return Objects.nonNull(entry) ? entry.getValue() : nodes.firstEntry().getValue();
+        }
+    }
+}
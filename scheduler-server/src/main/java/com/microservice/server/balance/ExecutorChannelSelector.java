@@ -0,0 +1,22 @@
+package com.microservice.server.balance;
+
+import com.microservice.bean.SchedulerTaskMessage;
+import io.netty.channel.Channel;
+
+import java.util.List;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 同一执行器应用有多个实例连接时, 每次指派选择其中一个实例
+ */
+public interface ExecutorChannelSelector {
+
+    /**
+     * @param app      执行器应用
+     * @param channels 该应用当前连接的实例, 不为空, 不可修改; 实例变化时为新的列表
+     * @param task     指派的任务
+     * @return
+     */
+    Channel select(String app, List<Channel> channels, SchedulerTaskMessage task);
+}
@@ -0,0 +1,33 @@
+package com.microservice.server.balance;
+
+import com.microservice.bean.SchedulerTaskMessage;
+import com.microservice.server.ExecutorChannelRegistry;
+import io.netty.channel.Channel;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 执行中任务最少的实例, 数量相同时从随机位置开始比较, 避免总是选中第一个
+ */
+public class LeastInFlightSelector implements ExecutorChannelSelector {
+
+    @Override
+    public Channel select(String app, List<Channel> channels, SchedulerTaskMessage task) {
+        int size = channels.size();
+        int start = size == 1 ? 0 : ThreadLocalRandom.current().nextInt(size);
+        Channel selected = null;
+        int least = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Channel channel = channels.get((start + i) % size);
+            int inFlight = ExecutorChannelRegistry.inFlight(channel);
+            if (inFlight < least) {
+                least = inFlight;
+                selected = channel;
+            }
+        }
+        return selected;
+    }
+}
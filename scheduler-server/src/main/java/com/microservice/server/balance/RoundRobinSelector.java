@@ -0,0 +1,25 @@
+package com.microservice.server.balance;
+
+import com.microservice.bean.SchedulerTaskMessage;
+import io.netty.channel.Channel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-10
+ * <p> 轮询
+ */
+public class RoundRobinSelector implements ExecutorChannelSelector {
+
+    private final Map<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public Channel select(String app, List<Channel> channels, SchedulerTaskMessage task) {
+        int next = counters.computeIfAbsent(app, k -> new AtomicInteger()).getAndIncrement();
+        return channels.get((next & Integer.MAX_VALUE) % channels.size());
+    }
+}
@@ -4,6 +4,7 @@ import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.service.IService;
 import com.microservice.dto.SchedulerTaskCronRequestDto;
 import com.microservice.entity.SchedulerTaskCron;
+import com.microservice.redis.RedisEntityDeltaCache;
 
 import java.util.List;
 
@@ -32,6 +33,28 @@ public interface ISchedulerTaskCronService extends IService<SchedulerTaskCron> {
      */
     List<SchedulerTaskCronRequestDto> tasks();
 
+    /**
+     * 直接从数据库获取所有已开启的任务, 不经过缓存
+     *
+     * @return
+     */
+    List<SchedulerTaskCronRequestDto> runningTasks();
+
+    /**
+     * 任务变更版本号, 任务每次新增、修改、删除后递增
+     *
+     * @return
+     */
+    long tasksVersion();
+
+    /**
+     * sinceVersion 之后新增、修改、删除的任务, 从缓存的变更记录中读取, 不查询数据库
+     *
+     * @param sinceVersion 已处理到的任务变更版本号, 小于 0 时返回全部任务
+     * @return 缓存正在全量加载时返回 null
+     */
+    RedisEntityDeltaCache.Delta<SchedulerTaskCronRequestDto> taskChanges(long sinceVersion);
+
     /**
      * 执行器注册cron 任务
      *
@@ -5,6 +5,8 @@ import com.baomidou.mybatisplus.extension.service.IService;
 import com.microservice.dto.SchedulerTaskGivenRequestDto;
 import com.microservice.entity.SchedulerTaskGiven;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -33,12 +35,78 @@ public interface ISchedulerTaskGivenService extends IService<SchedulerTaskGiven>
     List<SchedulerTaskGivenRequestDto> tasks();
 
     /**
-     * 修改执行状态
+     * 获取已开启且已到期的任务: 未执行且到达执行时间, 或待重试且到达重试时间
+     * <p>
+     * 走 (task_given_status, task_given_execute_status, task_given_due_time) 索引 keyset 分页, 与历史任务数量无关
      *
+     * @param now
      * @return
      */
+    List<SchedulerTaskGivenRequestDto> dueTasks(LocalDateTime now);
+
+    /**
+     * Leader 取出已到期的任务
+     * <p>
+     * 开启 redis 延迟队列时从有序集合原子取出, 否则同 {@link #dueTasks(LocalDateTime)}
+     *
+     * @param now
+     * @return
+     */
+    List<SchedulerTaskGivenRequestDto> claimDueTasks(LocalDateTime now);
+
+    /**
+     * 已从延迟队列取出但扫描失败的任务放回队列, 可调度时间为当前时间, 下次扫描时重新取出, 以 MySQL 中的状态为准;
+     * 未开启 redis 延迟队列时不处理
+     *
+     * @param taskGivenIds
+     */
+    void requeueClaimedTasks(Collection<Integer> taskGivenIds);
+
+    /**
+     * 开启 redis 延迟队列时, 以 MySQL 中的待调度任务重建队列
+     */
+    void rebuildDelayQueue();
+
+    /**
+     * 修改执行状态, 数据库异常直接抛出
+     *
+     * @return 任务不存在时为 false
+     */
     boolean updateGivenExecuteStatus(SchedulerTaskGivenRequestDto taskRequest);
 
+    /**
+     * 批量修改执行状态, 一批执行回写一次; 数据库异常直接抛出
+     *
+     * @param taskGivenIds
+     * @param updateStatus
+     * @return 有任务不存在时为 false
+     */
+    boolean updateGivenExecuteStatus(Collection<Integer> taskGivenIds, String updateStatus);
+
+    /**
+     * 批量 compare-and-set 修改执行状态, 一个扫描周期一次
+     * <p>
+     * 在独立的事务中执行, 返回前已提交并释放行锁, 调用方在事务外或提交后再指派, 指派期间不持有锁
+     *
+     * @param taskGivenIds
+     * @param expectStatus    只修改仍处于该状态的任务
+     * @param updateStatus
+     * @param lastExecuteTime 不为空时同时修改最近一次执行时间, 并累计重试次数
+     * @return 修改成功的主键, 只有这些任务可以指派
+     */
+    List<Integer> casGivenExecuteStatus(Collection<Integer> taskGivenIds, String expectStatus, String updateStatus, LocalDateTime lastExecuteTime);
+
+    /**
+     * 已修改为执行中但未能指派的任务, 按 compare-and-set 改回之前的状态, 重新进入延迟队列等待下次扫描
+     * <p>
+     * 在独立的事务中执行, 已被执行器回写的任务不会修改
+     *
+     * @param taskGivenIds
+     * @param updateStatus 0: 未执行 2: 待重试
+     * @return 改回成功的主键
+     */
+    List<Integer> revertGivenExecuteStatus(Collection<Integer> taskGivenIds, String updateStatus);
+
     /**
      * 执行器注册指定时间的任务
      *
@@ -11,20 +11,21 @@ import com.microservice.entity.SchedulerRegistryDetail;
 import com.microservice.exception.SchedulerCoreException;
 import com.microservice.mapper.SchedulerRegistryDetailMapper;
 import com.microservice.mapper.SchedulerRegistryMapper;
+import com.microservice.redis.RedisEntityCacheManager;
+import com.microservice.redis.RedisEntityDeltaCache;
 import com.microservice.service.ISchedulerRegistryDetailService;
 import com.microservice.utils.ErrCode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
+import javax.annotation.PostConstruct;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -40,15 +41,44 @@ import java.util.stream.Collectors;
  */
 @Service
 @Slf4j
-@CacheConfig(cacheNames = "SchedulerRegistryDetailServiceImpl")
 public class SchedulerRegistryDetailServiceImpl extends ServiceImpl<SchedulerRegistryDetailMapper, SchedulerRegistryDetail> implements ISchedulerRegistryDetailService {
 
     @Autowired
     private SchedulerRegistryMapper registryMapper;
 
+    @Autowired
+    private RedisEntityCacheManager entityCacheManager;
+
+    /**
+     * 全部执行器节点缓存, 节点变更后按主键写入
+     */
+    private RedisEntityDeltaCache<SchedulerRegistryDetailRequestDto> actuatorCache;
+
+    @PostConstruct
+    public void init() {
+        actuatorCache = entityCacheManager.create("registryDetail", SchedulerRegistryDetailRequestDto.class,
+                SchedulerRegistryDetailRequestDto::getRegisterDetailId,
+                (lastId, limit) -> this.toDtos(this.list(new QueryWrapper<SchedulerRegistryDetail>()
+                        .gt("register_detail_id", lastId).orderByAsc("register_detail_id").last("LIMIT " + limit))),
+                ids -> this.toDtos(this.listByIds(ids)));
+    }
+
+    private List<SchedulerRegistryDetailRequestDto> toDtos(Collection<SchedulerRegistryDetail> list) {
+        if (CollectionUtils.isEmpty(list)) {
+            return Lists.newArrayList();
+        }
+
+        List<SchedulerRegistryDetailRequestDto> dtos = new ArrayList<>(list.size());
+        list.forEach(f -> {
+            SchedulerRegistryDetailRequestDto dto = new SchedulerRegistryDetailRequestDto();
+            BeanUtils.copyProperties(f, dto);
+            dtos.add(dto);
+        });
+        return dtos;
+    }
+
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @CacheEvict(allEntries = true)
     public boolean saveOrUpdate(SchedulerRegistryDetailRequestDto dest) {
         if (Objects.isNull(dest)) {
             return true;
@@ -60,17 +90,22 @@ public class SchedulerRegistryDetailServiceImpl extends ServiceImpl<SchedulerReg
         Integer registerDetailId = schedulerRegistryDetail.getRegisterDetailId();
         if (Objects.nonNull(registerDetailId) && registerDetailId > 0) {
             // 使用全量修改空值也保存
-            return this.updateAllAttr(schedulerRegistryDetail);
+            boolean update = this.updateAllAttr(schedulerRegistryDetail);
+            actuatorCache.refresh(registerDetailId);
+            return update;
         }
-        return this.saveOrUpdate(schedulerRegistryDetail);
+        boolean saveOrUpdate = this.saveOrUpdate(schedulerRegistryDetail);
+        actuatorCache.refresh(schedulerRegistryDetail.getRegisterDetailId());
+        return saveOrUpdate;
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @CacheEvict(allEntries = true)
     public boolean updateAllowEmpty(SchedulerRegistryDetailRequestDto schedulerRegistryDetailDto) {
         try {
-            return this.updateAllAttr(schedulerRegistryDetailDto);
+            boolean update = this.updateAllAttr(schedulerRegistryDetailDto);
+            actuatorCache.refresh(schedulerRegistryDetailDto.getRegisterDetailId());
+            return update;
         } catch (Exception e) {
             log.error("SchedulerRegistryDetailServiceImpl.updateAllowEmpty: {}", e.getLocalizedMessage());
             throw new SchedulerCoreException(ErrCode.INTERNAL_SERVER_ERROR);
@@ -177,17 +212,10 @@ public class SchedulerRegistryDetailServiceImpl extends ServiceImpl<SchedulerReg
     }
 
     @Override
-    @Cacheable(key = "methodName")
     public List<SchedulerRegistryDetailRequestDto> allActuators() {
 
-        List<SchedulerRegistryDetail> list = this.list();
-        if (!CollectionUtils.isEmpty(list)) {
-            List<SchedulerRegistryDetailRequestDto> rtns = new ArrayList<>(list.size());
-            list.parallelStream().forEach(f -> {
-                SchedulerRegistryDetailRequestDto dto = new SchedulerRegistryDetailRequestDto();
-                BeanUtils.copyProperties(f, dto);
-                rtns.add(dto);
-            });
+        List<SchedulerRegistryDetailRequestDto> rtns = actuatorCache.values();
+        if (!CollectionUtils.isEmpty(rtns)) {
             return rtns.parallelStream()
                     .sorted(Comparator.comparing(SchedulerRegistryDetailRequestDto::getRegisterDetailAppName))
                     .sorted(Comparator.comparing(SchedulerRegistryDetailRequestDto::getRegisterDetailPort))
@@ -197,8 +225,10 @@ public class SchedulerRegistryDetailServiceImpl extends ServiceImpl<SchedulerReg
         return Lists.newArrayList();
     }
 
+    /**
+     * 执行器节点的变更已在写入时同步到缓存, 这里只记录事件
+     */
     @Override
-    @CacheEvict(allEntries = true)
     public void autoFlushRedis() {
         log.info(">>> autoFlushRedis 触发自动刷新执行器状态事件...");
     }
@@ -5,20 +5,22 @@ import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.google.common.collect.Lists;
+import com.microservice.cron.CronExpressionCache;
 import com.microservice.dto.SchedulerTaskCronRequestDto;
 import com.microservice.entity.SchedulerTaskCron;
 import com.microservice.mapper.SchedulerTaskCronMapper;
+import com.microservice.redis.RedisEntityCacheManager;
+import com.microservice.redis.RedisEntityDeltaCache;
 import com.microservice.service.ISchedulerTaskCronService;
+import com.microservice.utils.Constants;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
+import javax.annotation.PostConstruct;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -31,13 +33,46 @@ import java.util.stream.Collectors;
  * @since 2020-10-19
  */
 @Service
-@CacheConfig(cacheNames = "SchedulerTaskCronServiceImpl")
 @Slf4j
 public class SchedulerTaskCronServiceImpl extends ServiceImpl<SchedulerTaskCronMapper, SchedulerTaskCron> implements ISchedulerTaskCronService {
 
     @Autowired
     private SchedulerTaskCronMapper taskCronMapper;
 
+    @Autowired
+    private CronExpressionCache cronExpressionCache;
+
+    @Autowired
+    private RedisEntityCacheManager entityCacheManager;
+
+    /**
+     * 全部 cron 任务缓存, 任务变更后按主键写入, 版本号即任务变更版本号
+     */
+    private RedisEntityDeltaCache<SchedulerTaskCronRequestDto> taskCache;
+
+    @PostConstruct
+    public void init() {
+        taskCache = entityCacheManager.create("taskCron", SchedulerTaskCronRequestDto.class,
+                SchedulerTaskCronRequestDto::getTaskCronId,
+                (lastId, limit) -> this.toDtos(this.list(new QueryWrapper<SchedulerTaskCron>()
+                        .gt("task_cron_id", lastId).orderByAsc("task_cron_id").last("LIMIT " + limit))),
+                ids -> this.toDtos(this.listByIds(ids)));
+    }
+
+    private List<SchedulerTaskCronRequestDto> toDtos(Collection<SchedulerTaskCron> list) {
+        if (CollectionUtils.isEmpty(list)) {
+            return Lists.newArrayList();
+        }
+
+        List<SchedulerTaskCronRequestDto> dtos = new ArrayList<>(list.size());
+        list.forEach(f -> {
+            SchedulerTaskCronRequestDto task = new SchedulerTaskCronRequestDto();
+            BeanUtils.copyProperties(f, task);
+            dtos.add(task);
+        });
+        return dtos;
+    }
+
     @Override
     public IPage<SchedulerTaskCronRequestDto> tasks(SchedulerTaskCronRequestDto taskRequest) {
         IPage<SchedulerTaskCronRequestDto> iPage = new Page<>(taskRequest.getCurrent(), taskRequest.getLimit());
@@ -52,36 +87,46 @@ public class SchedulerTaskCronServiceImpl extends ServiceImpl<SchedulerTaskCronM
     }
 
     @Override
-    @Cacheable(key = "methodName")
     public List<SchedulerTaskCronRequestDto> tasks() {
-        List<SchedulerTaskCron> list = this.list();
+        return taskCache.values();
+    }
+
+    @Override
+    public List<SchedulerTaskCronRequestDto> runningTasks() {
+        QueryWrapper<SchedulerTaskCron> queryWrapper = new QueryWrapper<>();
+        queryWrapper.eq("task_cron_status", Constants.RUNNING);
+        List<SchedulerTaskCron> list = baseMapper.selectList(queryWrapper);
         if (CollectionUtils.isEmpty(list)) {
             return Lists.newArrayList();
         }
 
-        List<SchedulerTaskCronRequestDto> allTask = new ArrayList<>(list.size());
-        list.parallelStream().forEach(f -> {
-            SchedulerTaskCronRequestDto task = new SchedulerTaskCronRequestDto();
-            BeanUtils.copyProperties(f, task);
-            allTask.add(task);
-        });
-        return allTask;
+        return this.toDtos(list);
+    }
+
+    @Override
+    public long tasksVersion() {
+        return taskCache.version();
+    }
+
+    @Override
+    public RedisEntityDeltaCache.Delta<SchedulerTaskCronRequestDto> taskChanges(long sinceVersion) {
+        return taskCache.changes(sinceVersion);
     }
 
     @Override
-    @CacheEvict(allEntries = true)
     public boolean registryCronTask(SchedulerTaskCronRequestDto cronRequestDto) {
         if (Objects.nonNull(cronRequestDto)) {
             SchedulerTaskCron cron = new SchedulerTaskCron();
             BeanUtils.copyProperties(cronRequestDto, cron);
-            return this.save(cron);
+            boolean save = this.save(cron);
+            taskCache.refresh(cron.getTaskCronId());
+            return save;
         }
 
         return false;
     }
 
     @Override
-    @CacheEvict(allEntries = true)
     public boolean cronTaskStautsUpdate(SchedulerTaskCronRequestDto taskCronRequestDto) {
         if (Objects.isNull(taskCronRequestDto)) {
             return true;
@@ -108,12 +153,19 @@ public class SchedulerTaskCronServiceImpl extends ServiceImpl<SchedulerTaskCronM
             String expression = taskCronRequestDto.getTaskCronExpression();
             if (StringUtils.isNotBlank(expression)) {
                 taskCron.setTaskCronExpression(expression);
+                // 表达式变更，移除旧表达式的编译缓存
+                SchedulerTaskCron oldTaskCron = this.getById(taskCronId);
+                if (Objects.nonNull(oldTaskCron) && !expression.equals(oldTaskCron.getTaskCronExpression())) {
+                    cronExpressionCache.invalidate(oldTaskCron.getTaskCronExpression());
+                }
             }
             String writeLog = taskCronRequestDto.getTaskCronWriteLog();
             if (StringUtils.isNotBlank(writeLog)) {
                 taskCron.setTaskCronWriteLog(writeLog);
             }
-            return this.updateById(taskCron);
+            boolean update = this.updateById(taskCron);
+            taskCache.refresh(taskCronId);
+            return update;
         } catch (Exception e) {
             log.error(">>> 修改cron任务: {} ,运行状态失败, 原因: {}", taskCronRequestDto.getTaskCronId(), e.getLocalizedMessage(), e);
             return false;
@@ -121,7 +173,6 @@ public class SchedulerTaskCronServiceImpl extends ServiceImpl<SchedulerTaskCronM
     }
 
     @Override
-    @CacheEvict(allEntries = true)
     public boolean delCronTask(SchedulerTaskCronRequestDto cronRequestDto) {
         if (Objects.isNull(cronRequestDto)) {
             return true;
@@ -131,33 +182,27 @@ public class SchedulerTaskCronServiceImpl extends ServiceImpl<SchedulerTaskCronM
         if (!CollectionUtils.isEmpty(cronTasks)) {
             Set<Integer> ids = cronTasks.parallelStream().map(SchedulerTaskCronRequestDto::getTaskCronId).collect(Collectors.toSet());
             int i = this.baseMapper.deleteBatchIds(ids);
+            cronTasks.forEach(f -> cronExpressionCache.invalidate(f.getTaskCronExpression()));
+            taskCache.refresh(ids);
             return i > 0;
         }
         return false;
     }
 
     @Override
-    @Cacheable(key = "#{cron.hashCode()}")
     public List<SchedulerTaskCronRequestDto> findCronTasks(SchedulerTaskCronRequestDto cron) {
         if (Objects.isNull(cron)) {
             return Lists.newArrayList();
         }
 
-        QueryWrapper<SchedulerTaskCron> queryWrapper = new QueryWrapper<>();
-        queryWrapper.eq("task_cron_app_name", cron.getTaskCronAppName());
-        queryWrapper.eq("task_cron_job_handler", cron.getTaskCronJobHandler());
-
-        List<SchedulerTaskCron> taskCrons = baseMapper.selectList(queryWrapper);
-        if (CollectionUtils.isEmpty(taskCrons)) {
-            return Lists.newArrayList();
-        }
-
-        List<SchedulerTaskCronRequestDto> list = new ArrayList<>(taskCrons.size());
-        taskCrons.parallelStream().forEach(f -> {
-            SchedulerTaskCronRequestDto dto = new SchedulerTaskCronRequestDto();
-            BeanUtils.copyProperties(f, dto);
-            list.add(dto);
-        });
-        return list;
+        return taskCache.values().stream()
+                .filter(f -> Objects.deepEquals(f.getTaskCronAppName(), cron.getTaskCronAppName()))
+                .filter(f -> Objects.deepEquals(f.getTaskCronJobHandler(), cron.getTaskCronJobHandler()))
+                .map(f -> {
+                    SchedulerTaskCronRequestDto dto = new SchedulerTaskCronRequestDto();
+                    BeanUtils.copyProperties(f, dto);
+                    return dto;
+                })
+                .collect(Collectors.toList());
     }
 }
@@ -5,21 +5,31 @@ import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.google.common.collect.Lists;
+import com.microservice.bean.SchedulerConfigurationProperties;
 import com.microservice.dto.SchedulerTaskGivenRequestDto;
 import com.microservice.entity.SchedulerTaskGiven;
 import com.microservice.mapper.SchedulerTaskGivenMapper;
+import com.microservice.redis.RedisEntityCacheManager;
+import com.microservice.redis.RedisEntityDeltaCache;
+import com.microservice.redis.RedisGivenTaskDelayQueue;
 import com.microservice.service.ISchedulerTaskGivenService;
+import com.microservice.utils.Constants;
+import com.microservice.utils.TimeUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.CollectionUtils;
 
+import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -32,13 +42,49 @@ import java.util.stream.Collectors;
  * @since 2020-10-19
  */
 @Service
-@CacheConfig(cacheNames = "SchedulerTaskGivenServiceImpl")
 @Slf4j
 public class SchedulerTaskGivenServiceImpl extends ServiceImpl<SchedulerTaskGivenMapper, SchedulerTaskGiven> implements ISchedulerTaskGivenService {
 
     @Autowired
     private SchedulerTaskGivenMapper taskGivenMapper;
 
+    @Autowired
+    private SchedulerConfigurationProperties properties;
+
+    @Autowired
+    private RedisGivenTaskDelayQueue delayQueue;
+
+    @Autowired
+    private RedisEntityCacheManager entityCacheManager;
+
+    /**
+     * 全部 given 任务缓存, 任务变更后按主键写入
+     */
+    private RedisEntityDeltaCache<SchedulerTaskGivenRequestDto> taskCache;
+
+    @PostConstruct
+    public void init() {
+        taskCache = entityCacheManager.create("taskGiven", SchedulerTaskGivenRequestDto.class,
+                SchedulerTaskGivenRequestDto::getTaskGivenId,
+                (lastId, limit) -> this.toDtos(this.list(new QueryWrapper<SchedulerTaskGiven>()
+                        .gt("task_given_id", lastId).orderByAsc("task_given_id").last("LIMIT " + limit))),
+                ids -> this.toDtos(this.listByIds(ids)));
+    }
+
+    private List<SchedulerTaskGivenRequestDto> toDtos(Collection<SchedulerTaskGiven> list) {
+        if (CollectionUtils.isEmpty(list)) {
+            return Lists.newArrayList();
+        }
+
+        List<SchedulerTaskGivenRequestDto> dtos = new ArrayList<>(list.size());
+        list.forEach(f -> {
+            SchedulerTaskGivenRequestDto task = new SchedulerTaskGivenRequestDto();
+            BeanUtils.copyProperties(f, task);
+            dtos.add(task);
+        });
+        return dtos;
+    }
+
     @Override
     public IPage<SchedulerTaskGivenRequestDto> tasks(SchedulerTaskGivenRequestDto taskRequest) {
         IPage<SchedulerTaskGivenRequestDto> iPage = new Page<>(taskRequest.getCurrent(), taskRequest.getLimit());
@@ -53,24 +99,199 @@ public class SchedulerTaskGivenServiceImpl extends ServiceImpl<SchedulerTaskGive
     }
 
     @Override
-    @Cacheable(key = "methodName")
     public List<SchedulerTaskGivenRequestDto> tasks() {
-        List<SchedulerTaskGiven> list = this.list();
-        if (CollectionUtils.isEmpty(list)) {
-            return Lists.newArrayList();
+        return taskCache.values();
+    }
+
+    @Override
+    public List<SchedulerTaskGivenRequestDto> dueTasks(LocalDateTime now) {
+        List<SchedulerTaskGivenRequestDto> dueTasks = new ArrayList<>();
+        this.dueTasks(Constants.TASK_WAIT_EXECUTE, now, dueTasks);
+        this.dueTasks(Constants.TASK_WAIT_RETRY, now, dueTasks);
+        return dueTasks;
+    }
+
+    private void dueTasks(String executeStatus, LocalDateTime now, List<SchedulerTaskGivenRequestDto> dueTasks) {
+        int limit = properties.getClusterGivenTaskScanningBatchSize();
+        LocalDateTime lastDueTime = null;
+        Integer lastId = null;
+        while (true) {
+            List<SchedulerTaskGivenRequestDto> page = taskGivenMapper.dueTasks(Constants.RUNNING, executeStatus, now, lastDueTime, lastId, limit);
+            if (CollectionUtils.isEmpty(page)) {
+                return;
+            }
+            dueTasks.addAll(page);
+            if (page.size() < limit) {
+                return;
+            }
+            SchedulerTaskGivenRequestDto last = page.get(page.size() - 1);
+            lastDueTime = last.getTaskGivenDueTime();
+            lastId = last.getTaskGivenId();
+        }
+    }
+
+    @Override
+    public List<SchedulerTaskGivenRequestDto> claimDueTasks(LocalDateTime now) {
+        if (!properties.isClusterGivenTaskRedisQueue()) {
+            return this.dueTasks(now);
         }
 
-        List<SchedulerTaskGivenRequestDto> allTask = new ArrayList<>(list.size());
-        list.parallelStream().forEach(f -> {
-            SchedulerTaskGivenRequestDto task = new SchedulerTaskGivenRequestDto();
-            BeanUtils.copyProperties(f, task);
-            allTask.add(task);
-        });
-        return allTask;
+        long nowMillis = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        int limit = properties.getClusterGivenTaskScanningBatchSize();
+        List<SchedulerTaskGivenRequestDto> dueTasks = new ArrayList<>();
+        List<Integer> claimedIds = new ArrayList<>();
+        try {
+            this.claimDueTasks(now, nowMillis, limit, claimedIds, dueTasks);
+        } catch (RuntimeException e) {
+            // 已取出的任务不再在队列中, 查询失败时全部放回
+            this.requeueClaimedTasks(claimedIds);
+            throw e;
+        }
+        return dueTasks;
+    }
+
+    private void claimDueTasks(LocalDateTime now, long nowMillis, int limit,
+                               List<Integer> claimedIds, List<SchedulerTaskGivenRequestDto> dueTasks) {
+        while (true) {
+            List<Integer> ids = delayQueue.claim(nowMillis, limit);
+            if (CollectionUtils.isEmpty(ids)) {
+                break;
+            }
+            claimedIds.addAll(ids);
+            // 队列只保存主键, 任务状态以 MySQL 为准
+            for (SchedulerTaskGiven taskGiven : this.listByIds(ids)) {
+                if (!this.pending(taskGiven)) {
+                    continue;
+                }
+                if (taskGiven.getTaskGivenDueTime().isAfter(now)) {
+                    // 可调度时间在取出后被修改过, 放回队列
+                    delayQueue.offer(taskGiven.getTaskGivenId(), this.toEpochMillis(taskGiven.getTaskGivenDueTime()));
+                    continue;
+                }
+                SchedulerTaskGivenRequestDto task = new SchedulerTaskGivenRequestDto();
+                BeanUtils.copyProperties(taskGiven, task);
+                dueTasks.add(task);
+            }
+            if (ids.size() < limit) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void requeueClaimedTasks(Collection<Integer> taskGivenIds) {
+        if (!properties.isClusterGivenTaskRedisQueue() || CollectionUtils.isEmpty(taskGivenIds)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            taskGivenIds.forEach(id -> delayQueue.offer(id, now));
+            log.warn(">>> 指定时间任务扫描失败, 已放回延迟队列: {}", taskGivenIds);
+        } catch (Exception e) {
+            // 放回失败时只能等下次成为 Leader 时以 MySQL 重建
+            log.error(">>> 指定时间任务: {} 放回延迟队列失败, 原因: {}", taskGivenIds, e.getLocalizedMessage());
+        }
+    }
+
+    @Override
+    public void rebuildDelayQueue() {
+        if (!properties.isClusterGivenTaskRedisQueue()) {
+            return;
+        }
+        // 所有可调度时间 <= 9999-12-31 的任务, 即所有待调度任务
+        LocalDateTime max = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+        List<SchedulerTaskGivenRequestDto> pendingTasks = this.dueTasks(max);
+        pendingTasks.forEach(f -> delayQueue.offer(f.getTaskGivenId(), this.toEpochMillis(f.getTaskGivenDueTime())));
+        log.info(">>> 指定时间任务延迟队列重建完成, 待调度任务: {}, 队列: {}", pendingTasks.size(), delayQueue.size());
+    }
+
+    /**
+     * 任务修改后同步延迟队列: 待调度的任务按可调度时间入队, 其他状态的任务出队
+     *
+     * @param taskGivenId
+     */
+    private void syncDelayQueue(Integer taskGivenId) {
+        if (Objects.nonNull(taskGivenId)) {
+            this.syncDelayQueue(Collections.singletonList(taskGivenId));
+        }
+    }
+
+    /**
+     * 批量同步延迟队列, 一次查询; 在事务中调用时等到事务提交后再同步, 回滚的修改不会进入队列
+     *
+     * @param taskGivenIds
+     */
+    private void syncDelayQueue(Collection<Integer> taskGivenIds) {
+        if (!properties.isClusterGivenTaskRedisQueue() || CollectionUtils.isEmpty(taskGivenIds)) {
+            return;
+        }
+        List<Integer> syncIds = new ArrayList<>(taskGivenIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    SchedulerTaskGivenServiceImpl.this.doSyncDelayQueue(syncIds);
+                }
+            });
+        } else {
+            this.doSyncDelayQueue(syncIds);
+        }
+    }
+
+    private void doSyncDelayQueue(Collection<Integer> taskGivenIds) {
+        try {
+            Set<Integer> removed = new HashSet<>(taskGivenIds);
+            for (SchedulerTaskGiven taskGiven : this.listByIds(taskGivenIds)) {
+                if (this.pending(taskGiven)) {
+                    delayQueue.offer(taskGiven.getTaskGivenId(), this.toEpochMillis(taskGiven.getTaskGivenDueTime()));
+                    removed.remove(taskGiven.getTaskGivenId());
+                }
+            }
+            if (!removed.isEmpty()) {
+                delayQueue.remove(removed);
+            }
+        } catch (Exception e) {
+            // 队列只是索引, 下次成为 Leader 时以 MySQL 重建
+            log.error(">>> 任务: {} 同步延迟队列失败, 原因: {}", taskGivenIds, e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * 已开启, 且未执行或待重试
+     *
+     * @param taskGiven
+     * @return
+     */
+    private boolean pending(SchedulerTaskGiven taskGiven) {
+        return Objects.nonNull(taskGiven)
+                && Objects.nonNull(taskGiven.getTaskGivenDueTime())
+                && Objects.deepEquals(taskGiven.getTaskGivenStatus(), Constants.RUNNING)
+                && (Objects.deepEquals(taskGiven.getTaskGivenExecuteStatus(), Constants.TASK_WAIT_EXECUTE)
+                || Objects.deepEquals(taskGiven.getTaskGivenExecuteStatus(), Constants.TASK_WAIT_RETRY));
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 按主键修改, 同时按修改后的字段重新计算可调度时间, 需在事务中调用
+     *
+     * @param taskGiven
+     * @return
+     */
+    private boolean updateByIdWithDueTime(SchedulerTaskGiven taskGiven) {
+        boolean update = this.updateById(taskGiven);
+        if (update) {
+            taskGivenMapper.updateDueTime(taskGiven.getTaskGivenId());
+            this.syncDelayQueue(taskGiven.getTaskGivenId());
+            taskCache.refresh(taskGiven.getTaskGivenId());
+        }
+        return update;
     }
 
     @Override
-    @CacheEvict(allEntries = true)
+    @Transactional(rollbackFor = Exception.class)
     public boolean updateGivenExecuteStatus(SchedulerTaskGivenRequestDto taskRequest) {
         if (Objects.isNull(taskRequest)) {
             return true;
@@ -81,31 +302,77 @@ public class SchedulerTaskGivenServiceImpl extends ServiceImpl<SchedulerTaskGive
             return false;
         }
 
-        try {
-            String taskGivenExecuteStatus = taskRequest.getTaskGivenExecuteStatus();
-            LocalDateTime taskGivenLastExecuteTime = taskRequest.getTaskGivenLastExecuteTime();
-            Integer taskGivenRetryCount = taskRequest.getTaskGivenRetryCount();
+        String taskGivenExecuteStatus = taskRequest.getTaskGivenExecuteStatus();
+        LocalDateTime taskGivenLastExecuteTime = taskRequest.getTaskGivenLastExecuteTime();
+        Integer taskGivenRetryCount = taskRequest.getTaskGivenRetryCount();
 
-            SchedulerTaskGiven taskGiven = new SchedulerTaskGiven();
-            taskGiven.setTaskGivenId(taskRequest.getTaskGivenId());
-            taskGiven.setTaskGivenExecuteStatus(taskGivenExecuteStatus);
+        SchedulerTaskGiven taskGiven = new SchedulerTaskGiven();
+        taskGiven.setTaskGivenId(taskRequest.getTaskGivenId());
+        taskGiven.setTaskGivenExecuteStatus(taskGivenExecuteStatus);
 
-            if (Objects.nonNull(taskGivenLastExecuteTime)) {
-                taskGiven.setTaskGivenLastExecuteTime(taskGivenLastExecuteTime);
-            }
-            if (Objects.nonNull(taskGivenRetryCount) && taskGivenRetryCount > 0) {
-                taskGiven.setTaskGivenRetryCount(taskGivenRetryCount);
-            }
+        if (Objects.nonNull(taskGivenLastExecuteTime)) {
+            taskGiven.setTaskGivenLastExecuteTime(taskGivenLastExecuteTime);
+        }
+        if (Objects.nonNull(taskGivenRetryCount) && taskGivenRetryCount > 0) {
+            taskGiven.setTaskGivenRetryCount(taskGivenRetryCount);
+        }
 
-            return this.updateById(taskGiven);
-        } catch (Exception e) {
-            log.error(">>> 修改任务: {} 执行状态失败, 原因: {}", taskRequest.getTaskGivenId(), e.getLocalizedMessage(), e);
-            return false;
+        // 数据库异常不在这里吞掉, 调用方的事务才能回滚
+        return this.updateByIdWithDueTime(taskGiven);
+    }
+
+    @Override
+    public boolean updateGivenExecuteStatus(Collection<Integer> taskGivenIds, String updateStatus) {
+        if (CollectionUtils.isEmpty(taskGivenIds)) {
+            return true;
+        }
+
+        int update = taskGivenMapper.updateExecuteStatus(taskGivenIds, null, updateStatus, null);
+        this.syncDelayQueue(taskGivenIds);
+        taskCache.refresh(taskGivenIds);
+        return update == new HashSet<>(taskGivenIds).size();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+    public List<Integer> casGivenExecuteStatus(Collection<Integer> taskGivenIds, String expectStatus, String updateStatus, LocalDateTime lastExecuteTime) {
+        if (CollectionUtils.isEmpty(taskGivenIds)) {
+            return Lists.newArrayList();
+        }
+
+        // 行锁保证锁定到的任务在本事务提交前不会被其他 Leader 修改
+        List<Integer> lockedIds = taskGivenMapper.lockByExecuteStatus(taskGivenIds, expectStatus);
+        if (CollectionUtils.isEmpty(lockedIds)) {
+            return Lists.newArrayList();
+        }
+        taskGivenMapper.updateExecuteStatus(lockedIds, expectStatus, updateStatus, lastExecuteTime);
+
+        if (properties.isClusterGivenTaskRedisQueue()) {
+            delayQueue.remove(lockedIds);
+        }
+        taskCache.refresh(lockedIds);
+        return lockedIds;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+    public List<Integer> revertGivenExecuteStatus(Collection<Integer> taskGivenIds, String updateStatus) {
+        if (CollectionUtils.isEmpty(taskGivenIds)) {
+            return Lists.newArrayList();
+        }
+
+        List<Integer> lockedIds = taskGivenMapper.lockByExecuteStatus(taskGivenIds, Constants.TASK_EXECUTING);
+        if (CollectionUtils.isEmpty(lockedIds)) {
+            return Lists.newArrayList();
         }
+        taskGivenMapper.updateExecuteStatus(lockedIds, Constants.TASK_EXECUTING, updateStatus, null);
+        this.syncDelayQueue(lockedIds);
+        taskCache.refresh(lockedIds);
+        return lockedIds;
     }
 
     @Override
-    @CacheEvict(allEntries = true)
+    @Transactional(rollbackFor = Exception.class)
     public boolean givenTaskStatusUpdate(SchedulerTaskGivenRequestDto givenRequestDto) {
         if (Objects.isNull(givenRequestDto)) {
             return true;
@@ -160,24 +427,51 @@ public class SchedulerTaskGivenServiceImpl extends ServiceImpl<SchedulerTaskGive
             if (StringUtils.isNotBlank(executeStatus)) {
                 taskGiven.setTaskGivenExecuteStatus(executeStatus);
             }
-            return this.updateById(taskGiven);
+            return this.updateByIdWithDueTime(taskGiven);
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             log.error(">>> 修改given任务: {} ,运行状态失败, 原因: {}", givenRequestDto.getTaskGivenId(), e.getLocalizedMessage(), e);
             return false;
         }
     }
 
     @Override
-    @CacheEvict(allEntries = true)
     public boolean registryGivenTask(SchedulerTaskGivenRequestDto givenTask) {
         if (Objects.nonNull(givenTask)) {
             SchedulerTaskGiven given = new SchedulerTaskGiven();
             BeanUtils.copyProperties(givenTask, given);
-            return this.save(given);
+            given.setTaskGivenDueTime(this.dueTime(given));
+            boolean save = this.save(given);
+            if (save && properties.isClusterGivenTaskRedisQueue() && this.pending(given)) {
+                delayQueue.offer(given.getTaskGivenId(), this.toEpochMillis(given.getTaskGivenDueTime()));
+            }
+            if (save) {
+                taskCache.refresh(given.getTaskGivenId());
+            }
+            return save;
         }
         return false;
     }
 
+    /**
+     * 新增任务的可调度时间, 与 SchedulerTaskGivenMapper.xml 中的 dueTime 一致
+     *
+     * @param given
+     * @return
+     */
+    private LocalDateTime dueTime(SchedulerTaskGiven given) {
+        String executeStatus = given.getTaskGivenExecuteStatus();
+        if (Objects.deepEquals(executeStatus, Constants.TASK_WAIT_EXECUTE) && Objects.nonNull(given.getTaskGivenTime())) {
+            // task_given_delayed 是文本, 按 SQL 中 CAST 的规则解析, 非数字不会抛出异常
+            return given.getTaskGivenTime().plusSeconds(TimeUtils.delayedSeconds(given.getTaskGivenDelayed()));
+        }
+        if (Objects.deepEquals(executeStatus, Constants.TASK_WAIT_RETRY) && Objects.nonNull(given.getTaskGivenLastExecuteTime())) {
+            Integer retryDelayed = given.getTaskGivenRetryDelayed();
+            return given.getTaskGivenLastExecuteTime().plusSeconds(Objects.nonNull(retryDelayed) ? retryDelayed : 0);
+        }
+        return null;
+    }
+
     @Override
     public boolean delGivenTask(SchedulerTaskGivenRequestDto givenTask) {
         if (Objects.isNull(givenTask)) {
@@ -188,6 +482,10 @@ public class SchedulerTaskGivenServiceImpl extends ServiceImpl<SchedulerTaskGive
         if (!CollectionUtils.isEmpty(givenTasks)) {
             Set<Integer> ids = givenTasks.parallelStream().map(SchedulerTaskGivenRequestDto::getTaskGivenId).collect(Collectors.toSet());
             int i = this.baseMapper.deleteBatchIds(ids);
+            if (properties.isClusterGivenTaskRedisQueue()) {
+                delayQueue.remove(ids);
+            }
+            taskCache.refresh(ids);
             return i > 0 ? true : false;
         }
         return false;
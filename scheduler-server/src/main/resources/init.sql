@@ -62,6 +62,8 @@ CREATE TABLE `scheduler_task_cron` (
   `task_cron_status` char(1) DEFAULT '0' COMMENT '0: stop 1: running',
   `task_cron_create_time` datetime DEFAULT NULL COMMENT '任务生成时间',
   `task_cron_write_log` char(1) DEFAULT '0' COMMENT '0: 不写日志 1：写日志',
+  `task_cron_shard` char(1) DEFAULT '0' COMMENT '0: 单实例执行 1: 分片广播',
+  `task_cron_timeout` int(11) DEFAULT '0' COMMENT '执行超时秒数, 0: 不限制',
   PRIMARY KEY (`task_cron_id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=6 DEFAULT CHARSET=utf8mb4;
 
@@ -86,7 +88,11 @@ CREATE TABLE `scheduler_task_given` (
   `task_given_retry_max` int(13) DEFAULT '3' COMMENT '重试最大次数',
   `task_given_create_time` datetime DEFAULT NULL COMMENT '任务生成时间',
   `task_given_write_log` char(1) DEFAULT '0' COMMENT '0: 不写日志 1：写日志',
-  PRIMARY KEY (`task_given_id`)
+  `task_given_due_time` datetime DEFAULT NULL COMMENT '可调度时间, 未执行: 执行时间 + 延迟, 待重试: 最近一次执行时间 + 重试间隔',
+  `task_given_shard` char(1) DEFAULT '0' COMMENT '0: 单实例执行 1: 分片广播',
+  `task_given_timeout` int(11) DEFAULT '0' COMMENT '执行超时秒数, 0: 不限制',
+  PRIMARY KEY (`task_given_id`),
+  KEY `idx_task_given_due` (`task_given_status`,`task_given_execute_status`,`task_given_due_time`)
 ) ENGINE=InnoDB AUTO_INCREMENT=4 DEFAULT CHARSET=utf8mb4;
 
 /*Table structure for table `scheduler_task_log` */
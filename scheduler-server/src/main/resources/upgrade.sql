@@ -0,0 +1,28 @@
+/* 已有库升级脚本, 新库直接使用 init.sql */
+
+USE `scheduler`;
+
+/* 2020-11-05 指定时间任务增加可调度时间与索引, 扫描只查询已到期的任务 */
+ALTER TABLE `scheduler_task_given`
+  ADD COLUMN `task_given_due_time` datetime DEFAULT NULL COMMENT '可调度时间, 未执行: 执行时间 + 延迟, 待重试: 最近一次执行时间 + 重试间隔',
+  ADD KEY `idx_task_given_due` (`task_given_status`,`task_given_execute_status`,`task_given_due_time`);
+
+UPDATE `scheduler_task_given`
+SET `task_given_due_time` = CASE `task_given_execute_status`
+    WHEN '0' THEN DATE_ADD(`task_given_time`, INTERVAL CAST(IFNULL(`task_given_delayed`, '0') AS SIGNED) SECOND)
+    WHEN '2' THEN DATE_ADD(`task_given_last_execute_time`, INTERVAL IFNULL(`task_given_retry_delayed`, 0) SECOND)
+    ELSE NULL END;
+
+/* 2020-11-10 任务增加分片广播模式, 应用的每个在线实例执行一个分片 */
+ALTER TABLE `scheduler_task_cron`
+  ADD COLUMN `task_cron_shard` char(1) DEFAULT '0' COMMENT '0: 单实例执行 1: 分片广播';
+
+ALTER TABLE `scheduler_task_given`
+  ADD COLUMN `task_given_shard` char(1) DEFAULT '0' COMMENT '0: 单实例执行 1: 分片广播';
+
+/* 2020-11-10 任务增加执行超时, 超时后执行器中断执行线程 */
+ALTER TABLE `scheduler_task_cron`
+  ADD COLUMN `task_cron_timeout` int(11) DEFAULT '0' COMMENT '执行超时秒数, 0: 不限制';
+
+ALTER TABLE `scheduler_task_given`
+  ADD COLUMN `task_given_timeout` int(11) DEFAULT '0' COMMENT '执行超时秒数, 0: 不限制';
@@ -0,0 +1,214 @@
+package com.microservice.redis;
+
+import com.microservice.utils.Constants;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-06
+ * <p> Leader 每次扫描取出到期的指定时间任务: 数据库轮询 与 redis 延迟队列 的对比
+ * <p>
+ * pending 个待调度任务中有 due 个已到期, 其余在一小时后到期, 每十个任务有一个待重试.
+ * 数据库轮询按 dueTasks 的 keyset 分页分别查询未执行与待重试的任务;
+ * 延迟队列用 lua 脚本取出到期主键, 再按主键查询任务, 最后把取出的主键一次放回队列, 保持下一次调用的状态不变.
+ * 数据库使用 MySQL 模式的 H2 内存库, 索引与 idx_task_given_due 相同, redis 使用本地启动的实例
+ * <p>
+ * 运行: main 方法, 或 mvn test-compile 后使用 org.openjdk.jmh.Main
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GivenTaskClaimBenchmark {
+
+    private static final String DUE_TASKS_SQL = "SELECT * FROM scheduler_task_given t"
+            + " WHERE t.task_given_status = ? AND t.task_given_execute_status = ? AND t.task_given_due_time <= ?"
+            + " AND (t.task_given_due_time > ? OR (t.task_given_due_time = ? AND t.task_given_id > ?))"
+            + " ORDER BY t.task_given_due_time, t.task_given_id LIMIT ?";
+
+    @Param({"10000", "100000"})
+    private int pending;
+
+    @Param({"100"})
+    private int due;
+
+    @Param({"500"})
+    private int batchSize;
+
+    private RedisServer redisServer;
+    private JedisConnectionFactory connectionFactory;
+    private StringRedisTemplate template;
+    private RedisGivenTaskDelayQueue delayQueue;
+
+    private Connection connection;
+    private PreparedStatement dueTasks;
+
+    private long now;
+    private Map<Integer, Long> dueTimes;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        template = new StringRedisTemplate(connectionFactory);
+        delayQueue = new RedisGivenTaskDelayQueue();
+        ReflectionTestUtils.setField(delayQueue, "template", template);
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:given;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS scheduler_task_given");
+            statement.execute("CREATE TABLE scheduler_task_given ("
+                    + " task_given_id INT PRIMARY KEY,"
+                    + " task_given_app_name VARCHAR(100),"
+                    + " task_given_handler VARCHAR(100),"
+                    + " task_given_param TEXT,"
+                    + " task_given_status CHAR(1),"
+                    + " task_given_execute_status CHAR(1),"
+                    + " task_given_due_time TIMESTAMP)");
+            statement.execute("CREATE INDEX idx_task_given_due ON scheduler_task_given"
+                    + " (task_given_status, task_given_execute_status, task_given_due_time)");
+        }
+
+        now = System.currentTimeMillis() / 1000 * 1000;
+        dueTimes = new HashMap<>(pending * 2);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO scheduler_task_given VALUES (?, 'example-executor', 'demoJobHandler', '{}', ?, ?, ?)")) {
+            for (int id = 1; id <= pending; id++) {
+                long dueTime = id <= due ? now - id * 1000L : now + 3600_000L + id;
+                dueTimes.put(id, dueTime);
+                insert.setInt(1, id);
+                insert.setString(2, Constants.RUNNING);
+                insert.setString(3, id % 10 == 0 ? Constants.TASK_WAIT_RETRY : Constants.TASK_WAIT_EXECUTE);
+                insert.setTimestamp(4, new Timestamp(dueTime));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        dueTasks = connection.prepareStatement(DUE_TASKS_SQL);
+
+        template.delete(Constants.SCHEDULER_TASK_GIVEN_DELAY_QUEUE);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        dueTimes.forEach((id, dueTime) -> tuples.add(new DefaultTypedTuple<>(String.valueOf(id), (double) dueTime)));
+        template.opsForZSet().add(Constants.SCHEDULER_TASK_GIVEN_DELAY_QUEUE, tuples);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        dueTasks.close();
+        connection.close();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    /**
+     * 原扫描方式: 按索引轮询数据库
+     */
+    @Benchmark
+    public List<Integer> dbPolling() throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        this.dueTasks(Constants.TASK_WAIT_EXECUTE, ids);
+        this.dueTasks(Constants.TASK_WAIT_RETRY, ids);
+        return ids;
+    }
+
+    private void dueTasks(String executeStatus, List<Integer> ids) throws SQLException {
+        Timestamp lastDueTime = new Timestamp(0);
+        int lastId = 0;
+        while (true) {
+            dueTasks.setString(1, Constants.RUNNING);
+            dueTasks.setString(2, executeStatus);
+            dueTasks.setTimestamp(3, new Timestamp(now));
+            dueTasks.setTimestamp(4, lastDueTime);
+            dueTasks.setTimestamp(5, lastDueTime);
+            dueTasks.setInt(6, lastId);
+            dueTasks.setInt(7, batchSize);
+            int rows = 0;
+            try (ResultSet resultSet = dueTasks.executeQuery()) {
+                while (resultSet.next()) {
+                    lastId = resultSet.getInt("task_given_id");
+                    lastDueTime = resultSet.getTimestamp("task_given_due_time");
+                    ids.add(lastId);
+                    rows++;
+                }
+            }
+            if (rows < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 延迟队列: 取出到期主键后按主键查询任务
+     */
+    @Benchmark
+    public List<Integer> redisClaim() throws SQLException {
+        List<Integer> claimed = new ArrayList<>();
+        while (true) {
+            List<Integer> ids = delayQueue.claim(now, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            claimed.addAll(this.listByIds(ids));
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+
+        // 恢复队列, 不计入取出的语义, 但耗时计入本次调用
+        if (!claimed.isEmpty()) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = claimed.stream()
+                    .map(id -> new DefaultTypedTuple<>(String.valueOf(id), (double) dueTimes.get(id)))
+                    .collect(Collectors.toSet());
+            template.opsForZSet().add(Constants.SCHEDULER_TASK_GIVEN_DELAY_QUEUE, tuples);
+        }
+        return claimed;
+    }
+
+    private List<Integer> listByIds(List<Integer> ids) throws SQLException {
+        String in = ids.stream().map(f -> "?").collect(Collectors.joining(","));
+        List<Integer> found = new ArrayList<>(ids.size());
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT * FROM scheduler_task_given WHERE task_given_id IN (" + in + ")")) {
+            for (int i = 0; i < ids.size(); i++) {
+                select.setInt(i + 1, ids.get(i));
+            }
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    found.add(resultSet.getInt("task_given_id"));
+                }
+            }
+        }
+        return found;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(GivenTaskClaimBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
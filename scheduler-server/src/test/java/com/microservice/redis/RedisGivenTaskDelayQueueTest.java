@@ -0,0 +1,312 @@
+package com.microservice.redis;
+
+import com.microservice.bean.SchedulerConfigurationProperties;
+import com.microservice.dto.SchedulerTaskGivenRequestDto;
+import com.microservice.entity.SchedulerTaskGiven;
+import com.microservice.mapper.SchedulerTaskGivenMapper;
+import com.microservice.service.impl.SchedulerTaskGivenServiceImpl;
+import com.microservice.utils.Constants;
+import org.junit.*;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.lang.reflect.Proxy;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author zhangwei
+ * @date 2020-11-06
+ * <p> 指定时间任务延迟队列: 取出脚本与重建的行为检查
+ * <p>
+ * 使用本地启动的 redis, 不依赖外部环境; 重建与取出后的校验使用内存中的任务表代替 mapper
+ */
+public class RedisGivenTaskDelayQueueTest {
+
+    private static RedisServer redisServer;
+
+    private static JedisConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate template;
+
+    private RedisGivenTaskDelayQueue delayQueue;
+
+    private long now;
+
+    @BeforeClass
+    public static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        template = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterClass
+    public static void stopRedis() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        template.delete(Constants.SCHEDULER_TASK_GIVEN_DELAY_QUEUE);
+        delayQueue = new RedisGivenTaskDelayQueue();
+        ReflectionTestUtils.setField(delayQueue, "template", template);
+        now = System.currentTimeMillis();
+    }
+
+    @Test
+    public void claimReturnsOnlyDueTasksInDueOrder() {
+        delayQueue.offer(3, now - 1000);
+        delayQueue.offer(1, now - 3000);
+        delayQueue.offer(2, now);
+        delayQueue.offer(4, now + 1000);
+
+        assertEquals(Arrays.asList(1, 3, 2), delayQueue.claim(now, 10));
+        assertEquals(1, delayQueue.size());
+        assertEquals(Collections.singletonList(4), delayQueue.claim(now + 1000, 10));
+    }
+
+    @Test
+    public void claimRespectsLimitAndRemovesClaimedTasks() {
+        for (int id = 1; id <= 5; id++) {
+            delayQueue.offer(id, now - 10 + id);
+        }
+
+        assertEquals(Arrays.asList(1, 2), delayQueue.claim(now, 2));
+        assertEquals(Arrays.asList(3, 4), delayQueue.claim(now, 2));
+        assertEquals(Collections.singletonList(5), delayQueue.claim(now, 2));
+        assertTrue(delayQueue.claim(now, 2).isEmpty());
+        assertEquals(0, delayQueue.size());
+    }
+
+    @Test
+    public void concurrentClaimsHandOutEachTaskOnce() throws Exception {
+        int tasks = 2000;
+        for (int id = 1; id <= tasks; id++) {
+            delayQueue.offer(id, now - id);
+        }
+
+        int claimers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(claimers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < claimers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Integer> claimed = new ArrayList<>();
+                    List<Integer> ids;
+                    while (!(ids = delayQueue.claim(now, 16)).isEmpty()) {
+                        claimed.addAll(ids);
+                    }
+                    return claimed;
+                }));
+            }
+            start.countDown();
+
+            List<Integer> claimed = new ArrayList<>();
+            for (Future<List<Integer>> future : futures) {
+                claimed.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            assertEquals(tasks, claimed.size());
+            assertEquals(tasks, new HashSet<>(claimed).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void offerReschedulesWithoutDuplicating() {
+        delayQueue.offer(1, now + 60_000);
+        delayQueue.offer(1, now - 1000);
+
+        assertEquals(1, delayQueue.size());
+        assertEquals(Collections.singletonList(1), delayQueue.claim(now, 10));
+
+        delayQueue.offer(2, now - 1000);
+        delayQueue.offer(3, now - 1000);
+        delayQueue.remove(Collections.singletonList(2));
+        delayQueue.remove(Collections.emptyList());
+        assertEquals(Collections.singletonList(3), delayQueue.claim(now, 10));
+    }
+
+    @Test
+    public void rebuildEnqueuesEveryPendingTaskAcrossPages() {
+        Map<Integer, SchedulerTaskGiven> table = new LinkedHashMap<>();
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        for (int id = 1; id <= 7; id++) {
+            table.put(id, task(id, Constants.TASK_WAIT_EXECUTE, base.plusSeconds(id)));
+        }
+        table.put(8, task(8, Constants.TASK_WAIT_RETRY, base.minusSeconds(1)));
+        table.put(9, task(9, Constants.TASK_EXECUTING, null));
+        table.put(10, task(10, Constants.TASK_ALREADY_EXECUTE, null));
+        // 上一任 Leader 留下的队列: 9 已开始执行, 8 的可调度时间已变化
+        delayQueue.offer(8, epochMillis(base.plusHours(1)));
+
+        SchedulerTaskGivenServiceImpl taskGivenService = taskGivenService(table, 3);
+        taskGivenService.rebuildDelayQueue();
+
+        assertEquals(8, delayQueue.size());
+        List<Integer> claimed = delayQueue.claim(epochMillis(base.plusSeconds(7)), 100);
+        assertEquals(Arrays.asList(8, 1, 2, 3, 4, 5, 6, 7), claimed);
+    }
+
+    @Test
+    public void claimDueTasksSkipsStaleEntriesAndRequeuesMovedTasks() {
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        Map<Integer, SchedulerTaskGiven> table = new LinkedHashMap<>();
+        table.put(1, task(1, Constants.TASK_WAIT_EXECUTE, base.minusSeconds(2)));
+        table.put(2, task(2, Constants.TASK_WAIT_RETRY, base.minusSeconds(1)));
+        // 已被其他 Leader 开始执行
+        table.put(3, task(3, Constants.TASK_EXECUTING, null));
+        // 入队后可调度时间被推迟
+        table.put(4, task(4, Constants.TASK_WAIT_EXECUTE, base.plusMinutes(5)));
+        for (int id = 1; id <= 4; id++) {
+            delayQueue.offer(id, epochMillis(base.minusSeconds(3)));
+        }
+        // id 5 已被删除, 队列中残留
+        delayQueue.offer(5, epochMillis(base.minusSeconds(3)));
+
+        SchedulerTaskGivenServiceImpl taskGivenService = taskGivenService(table, 2);
+        List<Integer> due = taskGivenService.claimDueTasks(base).stream()
+                .map(SchedulerTaskGivenRequestDto::getTaskGivenId)
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(1, 2), due);
+        assertEquals(1, delayQueue.size());
+        assertTrue(delayQueue.claim(epochMillis(base.plusMinutes(5)) - 1, 10).isEmpty());
+        assertEquals(Collections.singletonList(4), delayQueue.claim(epochMillis(base.plusMinutes(5)), 10));
+    }
+
+    @Test
+    public void claimDueTasksRequeuesClaimedTasksWhenLookupFails() {
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        for (int id = 1; id <= 3; id++) {
+            delayQueue.offer(id, epochMillis(base.minusSeconds(10 - id)));
+        }
+
+        SchedulerTaskGivenServiceImpl taskGivenService = taskGivenService(new FailingTable(), 2);
+        try {
+            taskGivenService.claimDueTasks(base);
+            fail();
+        } catch (IllegalStateException expected) {
+            // 第二批查询失败
+        }
+
+        assertEquals(3, delayQueue.size());
+        assertEquals(Arrays.asList(1, 2, 3), delayQueue.claim(System.currentTimeMillis(), 10).stream().sorted()
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void requeueClaimedTasksMakesThemDueAgain() {
+        delayQueue.offer(1, now - 1000);
+        delayQueue.offer(2, now - 1000);
+        assertEquals(Arrays.asList(1, 2), delayQueue.claim(now, 10));
+
+        taskGivenService(new LinkedHashMap<>(), 10).requeueClaimedTasks(Arrays.asList(1, 2));
+        assertEquals(2, delayQueue.size());
+        assertEquals(2, delayQueue.claim(System.currentTimeMillis(), 10).size());
+    }
+
+    /**
+     * 第一次按主键查询返回空, 之后抛出异常
+     */
+    private static class FailingTable extends LinkedHashMap<Integer, SchedulerTaskGiven> {
+
+        private int lookups;
+
+        @Override
+        public SchedulerTaskGiven get(Object key) {
+            if (lookups++ >= 2) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 使用内存中的任务表创建服务, mapper 只实现 dueTasks 的 keyset 分页与主键查询
+     */
+    private SchedulerTaskGivenServiceImpl taskGivenService(Map<Integer, SchedulerTaskGiven> table, int batchSize) {
+        SchedulerTaskGivenMapper mapper = (SchedulerTaskGivenMapper) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{SchedulerTaskGivenMapper.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "dueTasks":
+                            return dueTasks(table, (String) args[0], (String) args[1], (LocalDateTime) args[2],
+                                    (LocalDateTime) args[3], (Integer) args[4], (Integer) args[5]);
+                        case "selectBatchIds":
+                            return ((Collection<?>) args[0]).stream().map(table::get)
+                                    .filter(Objects::nonNull).collect(Collectors.toList());
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+        SchedulerConfigurationProperties properties = new SchedulerConfigurationProperties();
+        properties.setClusterGivenTaskRedisQueue(true);
+        properties.setClusterGivenTaskScanningBatchSize(batchSize);
+
+        SchedulerTaskGivenServiceImpl taskGivenService = new SchedulerTaskGivenServiceImpl();
+        ReflectionTestUtils.setField(taskGivenService, "baseMapper", mapper);
+        ReflectionTestUtils.setField(taskGivenService, "taskGivenMapper", mapper);
+        ReflectionTestUtils.setField(taskGivenService, "properties", properties);
+        ReflectionTestUtils.setField(taskGivenService, "delayQueue", delayQueue);
+        return taskGivenService;
+    }
+
+    private static List<SchedulerTaskGivenRequestDto> dueTasks(Map<Integer, SchedulerTaskGiven> table,
+                                                               String taskGivenStatus, String executeStatus,
+                                                               LocalDateTime dueBefore, LocalDateTime lastDueTime,
+                                                               Integer lastId, int limit) {
+        return table.values().stream()
+                .filter(f -> taskGivenStatus.equals(f.getTaskGivenStatus()))
+                .filter(f -> executeStatus.equals(f.getTaskGivenExecuteStatus()))
+                .filter(f -> f.getTaskGivenDueTime() != null && !f.getTaskGivenDueTime().isAfter(dueBefore))
+                .filter(f -> lastDueTime == null || f.getTaskGivenDueTime().isAfter(lastDueTime)
+                        || (f.getTaskGivenDueTime().equals(lastDueTime) && f.getTaskGivenId() > lastId))
+                .sorted(Comparator.comparing(SchedulerTaskGiven::getTaskGivenDueTime)
+                        .thenComparing(SchedulerTaskGiven::getTaskGivenId))
+                .limit(limit)
+                .map(f -> {
+                    SchedulerTaskGivenRequestDto task = new SchedulerTaskGivenRequestDto();
+                    BeanUtils.copyProperties(f, task);
+                    return task;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static SchedulerTaskGiven task(int id, String executeStatus, LocalDateTime dueTime) {
+        SchedulerTaskGiven task = new SchedulerTaskGiven();
+        task.setTaskGivenId(id);
+        task.setTaskGivenStatus(Constants.RUNNING);
+        task.setTaskGivenExecuteStatus(executeStatus);
+        task.setTaskGivenDueTime(dueTime);
+        return task;
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}